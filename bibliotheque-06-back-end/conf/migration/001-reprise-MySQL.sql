@@ -0,0 +1,9 @@
+-- Migration 001 : points de reprise
+--
+-- Ajoute la table des points de reprise, où chaque commit enregistre la position de la dernière transaction traitée de chaque
+-- fichier de transactions (option --resume).
+
+CREATE TABLE reprise (fichier VARCHAR(255) NOT NULL,
+                      octet   BIGINT       NOT NULL,
+                      ligne   BIGINT       NOT NULL,
+                      CONSTRAINT clePrimaireReprise PRIMARY KEY (fichier));
@@ -0,0 +1,20 @@
+-- Migration 002 : allocation des ID par blocs
+--
+-- Ajoute les tables de séquences utilisées par le générateur d'ID par blocs de 50 (optimiseur pooled) des DTOs. Chaque séquence
+-- commence après le plus grand ID déjà attribué, pour qu'une base existante ne reçoive pas d'ID en double.
+
+CREATE TABLE membre_sequence (next_val BIGINT NOT NULL);
+
+INSERT INTO membre_sequence (next_val) SELECT COALESCE(MAX(idMembre), 0) + 1 FROM membre;
+
+CREATE TABLE livre_sequence (next_val BIGINT NOT NULL);
+
+INSERT INTO livre_sequence (next_val) SELECT COALESCE(MAX(idLivre), 0) + 1 FROM livre;
+
+CREATE TABLE pret_sequence (next_val BIGINT NOT NULL);
+
+INSERT INTO pret_sequence (next_val) SELECT COALESCE(MAX(idPret), 0) + 1 FROM pret;
+
+CREATE TABLE reservation_sequence (next_val BIGINT NOT NULL);
+
+INSERT INTO reservation_sequence (next_val) SELECT COALESCE(MAX(idReservation), 0) + 1 FROM reservation;
@@ -0,0 +1,12 @@
+-- Migration 002 : allocation des ID par blocs
+--
+-- Passe les séquences à un pas de 50, la taille des blocs d'ID du générateur des DTOs (optimiseur pooled). Les séquences
+-- reprennent à leur valeur courante : une base existante ne reçoit pas d'ID en double.
+
+ALTER SEQUENCE membre_sequence INCREMENT BY 50;
+
+ALTER SEQUENCE livre_sequence INCREMENT BY 50;
+
+ALTER SEQUENCE pret_sequence INCREMENT BY 50;
+
+ALTER SEQUENCE reservation_sequence INCREMENT BY 50;
@@ -0,0 +1,7 @@
+-- Migration 003 : index des dates de prêt
+--
+-- Ajoute les index des recherches de prêts par intervalle de dates de prêt ou de retour.
+
+CREATE INDEX indexPretDatePret ON pret (datePret);
+
+CREATE INDEX indexPretDateRetour ON pret (dateRetour);
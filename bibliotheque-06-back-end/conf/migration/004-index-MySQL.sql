@@ -0,0 +1,21 @@
+-- Migration 004 : index des chemins d'accès fréquents
+--
+-- Ajoute les index des chemins d'accès fréquents :
+-- - la recherche des prêts en cours d'un livre ou d'un membre (IDLIVRE ou IDMEMBRE, DATERETOUR IS NULL) ;
+-- - les réservations d'un livre, classées par date de réservation ;
+-- - la recherche des livres par titre et des membres par nom, classés par ID ;
+-- - les prêts en retard (DATERETOUR IS NULL, DATEPRET < ?), par l'index de DATERETOUR élargi à DATEPRET.
+
+CREATE INDEX indexMembreNom ON membre (nom, idMembre);
+
+CREATE INDEX indexLivreTitre ON livre (titre, idLivre);
+
+DROP INDEX indexPretDateRetour ON pret;
+
+CREATE INDEX indexPretDateRetour ON pret (dateRetour, datePret);
+
+CREATE INDEX indexPretLivreRetour ON pret (idLivre, dateRetour);
+
+CREATE INDEX indexPretMembreRetour ON pret (idMembre, dateRetour);
+
+CREATE INDEX indexReservationLivreDate ON reservation (idLivre, dateReservation);
@@ -0,0 +1,17 @@
+-- Annulation de la migration 004 : index des chemins d'accès fréquents
+--
+-- Remet les index d'une base dans l'état d'avant la migration 004. Sert à comparer les deux états (voir BenchmarkIndex).
+
+DROP INDEX indexReservationLivreDate ON reservation;
+
+DROP INDEX indexPretMembreRetour ON pret;
+
+DROP INDEX indexPretLivreRetour ON pret;
+
+DROP INDEX indexPretDateRetour ON pret;
+
+CREATE INDEX indexPretDateRetour ON pret (dateRetour);
+
+DROP INDEX indexLivreTitre ON livre;
+
+DROP INDEX indexMembreNom ON membre;
@@ -0,0 +1,17 @@
+-- Annulation de la migration 004 : index des chemins d'accès fréquents
+--
+-- Remet les index d'une base dans l'état d'avant la migration 004. Sert à comparer les deux états (voir BenchmarkIndex).
+
+DROP INDEX indexReservationLivreDate;
+
+DROP INDEX indexPretMembreRetour;
+
+DROP INDEX indexPretLivreRetour;
+
+DROP INDEX indexPretDateRetour;
+
+CREATE INDEX indexPretDateRetour ON pret (dateRetour);
+
+DROP INDEX indexLivreTitre;
+
+DROP INDEX indexMembreNom;
@@ -0,0 +1,21 @@
+-- Migration 005 : index en minuscules des titres et des noms
+--
+-- Les recherches de livres par titre et de membres par nom ne tiennent pas compte de la casse : elles comparent LOWER(titre) et
+-- LOWER(nom) à la valeur cherchée en minuscules. Les index (titre, idLivre) et (nom, idMembre) de la migration 004 ne peuvent servir à
+-- ces comparaisons ; ils sont remplacés par des index sur LOWER(titre) et LOWER(nom), toujours suivis de l'ID pour le classement.
+--
+-- MySQL n'indexe une expression qu'au travers d'une colonne générée (MySQL 5.7 et plus) : TITREMINUSCULE et NOMMINUSCULE sont calculées
+-- à la lecture (VIRTUAL) et ne sont pas lues par Hibernate. L'optimiseur utilise leur index pour toute condition écrite avec la même
+-- expression, LOWER(titre) ou LOWER(nom).
+
+DROP INDEX indexLivreTitre ON livre;
+
+DROP INDEX indexMembreNom ON membre;
+
+ALTER TABLE livre ADD titreMinuscule VARCHAR(50) AS (LOWER(titre)) VIRTUAL;
+
+ALTER TABLE membre ADD nomMinuscule VARCHAR(10) AS (LOWER(nom)) VIRTUAL;
+
+CREATE INDEX indexLivreTitreMinuscule ON livre (titreMinuscule, idLivre);
+
+CREATE INDEX indexMembreNomMinuscule ON membre (nomMinuscule, idMembre);
@@ -0,0 +1,14 @@
+-- Migration 005 : index en minuscules des titres et des noms
+--
+-- Les recherches de livres par titre et de membres par nom ne tiennent pas compte de la casse : elles comparent LOWER(titre) et
+-- LOWER(nom) à la valeur cherchée en minuscules. Les index (titre, idLivre) et (nom, idMembre) de la migration 004 ne peuvent servir à
+-- ces comparaisons ; ils sont remplacés par des index de fonction sur LOWER(titre) et LOWER(nom), toujours suivis de l'ID pour le
+-- classement.
+
+DROP INDEX indexLivreTitre;
+
+DROP INDEX indexMembreNom;
+
+CREATE INDEX indexLivreTitreMinuscule ON livre (LOWER(titre), idLivre);
+
+CREATE INDEX indexMembreNomMinuscule ON membre (LOWER(nom), idMembre);
@@ -0,0 +1,11 @@
+-- Annulation de la migration 005 : index en minuscules des titres et des noms
+--
+-- Remet les index d'une base dans l'état d'avant la migration 005. Sert à comparer les états (voir BenchmarkIndex).
+
+DROP INDEX indexMembreNomMinuscule;
+
+DROP INDEX indexLivreTitreMinuscule;
+
+CREATE INDEX indexMembreNom ON membre (nom, idMembre);
+
+CREATE INDEX indexLivreTitre ON livre (titre, idLivre);
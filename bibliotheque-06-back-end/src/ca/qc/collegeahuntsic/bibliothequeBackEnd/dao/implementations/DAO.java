@@ -5,25 +5,43 @@
 package ca.qc.collegeahuntsic.bibliothequeBackEnd.dao.implementations;
 
 import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.Date;
 import java.util.List;
 import ca.qc.collegeahuntsic.bibliothequeBackEnd.dao.interfaces.IDAO;
+import ca.qc.collegeahuntsic.bibliothequeBackEnd.dao.interfaces.IDTOHandler;
+import ca.qc.collegeahuntsic.bibliothequeBackEnd.dao.interfaces.IDTOStream;
 import ca.qc.collegeahuntsic.bibliothequeBackEnd.dto.DTO;
 import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.dao.DAOException;
 import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.dao.InvalidCriterionException;
 import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.dao.InvalidCriterionValueException;
+import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.dao.InvalidFetchPlanException;
 import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.dao.InvalidHibernateSessionException;
+import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.dao.InvalidPageRequestException;
 import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.dao.InvalidPrimaryKeyException;
 import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.dao.InvalidSortByPropertyException;
 import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.dto.InvalidDTOClassException;
 import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.dto.InvalidDTOException;
 import ca.qc.collegeahuntsic.bibliothequeBackEnd.util.BibliothequeDate;
+import ca.qc.collegeahuntsic.bibliothequeBackEnd.util.CacheNegatif;
+import ca.qc.collegeahuntsic.bibliothequeBackEnd.util.ContinuationToken;
+import ca.qc.collegeahuntsic.bibliothequeBackEnd.util.FetchPlan;
+import ca.qc.collegeahuntsic.bibliothequeBackEnd.util.Page;
 import org.hibernate.Criteria;
+import org.hibernate.EntityMode;
+import org.hibernate.FetchMode;
 import org.hibernate.HibernateException;
+import org.hibernate.Query;
+import org.hibernate.ScrollMode;
 import org.hibernate.Session;
+import org.hibernate.criterion.Criterion;
 import org.hibernate.criterion.Order;
+import org.hibernate.criterion.Projections;
 import org.hibernate.criterion.Restrictions;
+import org.hibernate.metadata.ClassMetadata;
+import org.hibernate.engine.SessionFactoryImplementor;
 
 /**
  * Classe de base pour tous les DAOs.
@@ -32,8 +50,15 @@ import org.hibernate.criterion.Restrictions;
  * @author Team PayDay
  */
 public class DAO implements IDAO {
+    /**
+     * Le nombre de lignes lues à la fois par les parcours quand <code>hibernate.jdbc.fetch_size</code> n'est pas configuré.
+     */
+    private static final int TAILLE_FETCH_PAR_DEFAUT = 100;
+
     private Class<? extends DTO> dtoClass;
 
+    private CacheNegatif cacheNegatif;
+
     /**
      * Crée un DAO.
      *
@@ -66,6 +91,25 @@ public class DAO implements IDAO {
     private void setDtoClass(Class<? extends DTO> dtoClass) {
         this.dtoClass = dtoClass;
     }
+
+    /**
+     * Getter de la variable d'instance <code>this.cacheNegatif</code>.
+     *
+     * @return La variable d'instance <code>this.cacheNegatif</code>
+     */
+    protected CacheNegatif getCacheNegatif() {
+        return this.cacheNegatif;
+    }
+
+    /**
+     * Setter de la variable d'instance <code>this.cacheNegatif</code>.
+     *
+     * @param cacheNegatif La valeur à utiliser pour la variable d'instance <code>this.cacheNegatif</code> ; <code>null</code> pour
+     *        toujours lire les clefs primaires dans la base de données
+     */
+    public void setCacheNegatif(CacheNegatif cacheNegatif) {
+        this.cacheNegatif = cacheNegatif;
+    }
     // EndRegion Getters and Setters
 
     /**
@@ -86,6 +130,8 @@ public class DAO implements IDAO {
             session.save(dto);
         } catch(HibernateException hibernateException) {
             throw new DAOException(hibernateException);
+        } finally {
+            effacerAbsents();
         }
     }
 
@@ -103,9 +149,48 @@ public class DAO implements IDAO {
         if(primaryKey == null) {
             throw new InvalidPrimaryKeyException("La clef primaire ne peut être null");
         }
+        if(isAbsent(primaryKey)) {
+            return null;
+        }
         try {
             final DTO dto = (DTO) session.get(getDtoClass(),
                 primaryKey);
+            if(dto == null) {
+                ajouterAbsent(primaryKey);
+            }
+            return dto;
+        } catch(HibernateException hibernateException) {
+            throw new DAOException(hibernateException);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public DTO get(Session session,
+        Serializable primaryKey,
+        FetchPlan fetchPlan) throws InvalidHibernateSessionException,
+        InvalidPrimaryKeyException,
+        InvalidFetchPlanException,
+        DAOException {
+        if(session == null) {
+            throw new InvalidHibernateSessionException("La session Hibernate ne peut être null");
+        }
+        if(primaryKey == null) {
+            throw new InvalidPrimaryKeyException("La clef primaire ne peut être null");
+        }
+        if(isAbsent(primaryKey)) {
+            return null;
+        }
+        try {
+            final Criteria criteria = createCriteria(session,
+                fetchPlan,
+                Restrictions.idEq(primaryKey));
+            final DTO dto = (DTO) criteria.uniqueResult();
+            if(dto == null) {
+                ajouterAbsent(primaryKey);
+            }
             return dto;
         } catch(HibernateException hibernateException) {
             throw new DAOException(hibernateException);
@@ -151,6 +236,8 @@ public class DAO implements IDAO {
             session.saveOrUpdate(dto);
         } catch(HibernateException hibernateException) {
             throw new DAOException(hibernateException);
+        } finally {
+            effacerAbsents();
         }
     }
 
@@ -175,6 +262,110 @@ public class DAO implements IDAO {
         }
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void addAll(Session session,
+        Collection<? extends DTO> dtos) throws InvalidHibernateSessionException,
+        InvalidDTOException,
+        DAOException {
+        if(session == null) {
+            throw new InvalidHibernateSessionException("La session Hibernate ne peut être null");
+        }
+        if(dtos == null) {
+            throw new InvalidDTOException("La collection de DTOs ne peut être null");
+        }
+        try {
+            final int tailleLot = DAO.getTailleLot(session);
+            final List<DTO> lot = new ArrayList<>(Math.min(tailleLot,
+                dtos.size()));
+            for(DTO dto : dtos) {
+                if(dto == null) {
+                    throw new InvalidDTOException("Le DTO ne peut être null");
+                }
+                session.save(dto);
+                lot.add(dto);
+                if(lot.size() == tailleLot) {
+                    DAO.evincerLot(session,
+                        lot);
+                }
+            }
+        } catch(HibernateException hibernateException) {
+            throw new DAOException(hibernateException);
+        } finally {
+            effacerAbsents();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void updateAll(Session session,
+        Collection<? extends DTO> dtos) throws InvalidHibernateSessionException,
+        InvalidDTOException,
+        DAOException {
+        if(session == null) {
+            throw new InvalidHibernateSessionException("La session Hibernate ne peut être null");
+        }
+        if(dtos == null) {
+            throw new InvalidDTOException("La collection de DTOs ne peut être null");
+        }
+        try {
+            final int tailleLot = DAO.getTailleLot(session);
+            final List<DTO> lot = new ArrayList<>(Math.min(tailleLot,
+                dtos.size()));
+            for(DTO dto : dtos) {
+                if(dto == null) {
+                    throw new InvalidDTOException("Le DTO ne peut être null");
+                }
+                session.update(dto);
+                lot.add(dto);
+                if(lot.size() == tailleLot) {
+                    DAO.evincerLot(session,
+                        lot);
+                }
+            }
+        } catch(HibernateException hibernateException) {
+            throw new DAOException(hibernateException);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void deleteAll(Session session,
+        Collection<? extends DTO> dtos) throws InvalidHibernateSessionException,
+        InvalidDTOException,
+        DAOException {
+        if(session == null) {
+            throw new InvalidHibernateSessionException("La session Hibernate ne peut être null");
+        }
+        if(dtos == null) {
+            throw new InvalidDTOException("La collection de DTOs ne peut être null");
+        }
+        try {
+            final int tailleLot = DAO.getTailleLot(session);
+            final List<DTO> lot = new ArrayList<>(Math.min(tailleLot,
+                dtos.size()));
+            for(DTO dto : dtos) {
+                if(dto == null) {
+                    throw new InvalidDTOException("Le DTO ne peut être null");
+                }
+                session.delete(dto);
+                lot.add(dto);
+                if(lot.size() == tailleLot) {
+                    DAO.evincerLot(session,
+                        lot);
+                }
+            }
+        } catch(HibernateException hibernateException) {
+            throw new DAOException(hibernateException);
+        }
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -200,6 +391,71 @@ public class DAO implements IDAO {
         }
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<? extends DTO> getAll(Session session,
+        String sortByPropertyName,
+        FetchPlan fetchPlan) throws InvalidHibernateSessionException,
+        InvalidSortByPropertyException,
+        InvalidFetchPlanException,
+        DAOException {
+        return findAll(session,
+            sortByPropertyName,
+            fetchPlan);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Page<? extends DTO> getAll(Session session,
+        String sortByPropertyName,
+        int pageSize,
+        String continuationToken) throws InvalidHibernateSessionException,
+        InvalidSortByPropertyException,
+        InvalidPageRequestException,
+        DAOException {
+        return findPage(session,
+            sortByPropertyName,
+            pageSize,
+            continuationToken);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public IDTOStream stream(Session session,
+        String sortByPropertyName) throws InvalidHibernateSessionException,
+        InvalidSortByPropertyException,
+        DAOException {
+        return scroll(session,
+            sortByPropertyName);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void forEach(Session session,
+        String sortByPropertyName,
+        IDTOHandler handler) throws InvalidHibernateSessionException,
+        InvalidSortByPropertyException,
+        DAOException {
+        if(handler == null) {
+            throw new DAOException("Le traitement ne peut être null");
+        }
+        try(
+            IDTOStream dtoStream = stream(session,
+                sortByPropertyName)) {
+            while(dtoStream.hasNext()) {
+                handler.handle(dtoStream.next());
+            }
+        }
+    }
+
     /**
      * Trouve les DTOs à partir d'une propriété <code>propertyName</code> étant égale à une valeur <code>value</code>. La liste est classée par
      * ordre croissant sur <code>sortByPropertyName</code>. Si aucun DTO n'est trouvé, une {@link List} vide est retournée.
@@ -255,6 +511,520 @@ public class DAO implements IDAO {
         }
     }
 
+    /**
+     * Compte les DTOs qui satisfont tous les critères <code>criterions</code>. Le compte est calculé par la base de données, sans charger
+     * les DTOs.
+     *
+     * @param session La session Hibernate à utiliser
+     * @param criterions Les critères à satisfaire
+     * @return Le nombre de DTOs correspondants
+     * @throws InvalidHibernateSessionException Si la session Hibernate est <code>null</code>
+     * @throws DAOException S'il y a une erreur avec la base de données
+     */
+    protected long count(Session session,
+        Criterion... criterions) throws InvalidHibernateSessionException,
+        DAOException {
+        if(session == null) {
+            throw new InvalidHibernateSessionException("La session Hibernate ne peut être null");
+        }
+        try {
+            final Criteria criteria = createCriteria(session,
+                criterions);
+            criteria.setProjection(Projections.rowCount());
+            return ((Number) criteria.uniqueResult()).longValue();
+        } catch(HibernateException hibernateException) {
+            throw new DAOException(hibernateException);
+        }
+    }
+
+    /**
+     * Vérifie s'il existe au moins un DTO qui satisfait tous les critères <code>criterions</code>. La requête ne lit que l'ID d'une seule
+     * ligne.
+     *
+     * @param session La session Hibernate à utiliser
+     * @param criterions Les critères à satisfaire
+     * @return <code>true</code> s'il existe un DTO correspondant, <code>false</code> sinon
+     * @throws InvalidHibernateSessionException Si la session Hibernate est <code>null</code>
+     * @throws DAOException S'il y a une erreur avec la base de données
+     */
+    protected boolean exists(Session session,
+        Criterion... criterions) throws InvalidHibernateSessionException,
+        DAOException {
+        if(session == null) {
+            throw new InvalidHibernateSessionException("La session Hibernate ne peut être null");
+        }
+        try {
+            final Criteria criteria = createCriteria(session,
+                criterions);
+            criteria.setProjection(Projections.id());
+            criteria.setMaxResults(1);
+            return !criteria.list().isEmpty();
+        } catch(HibernateException hibernateException) {
+            throw new DAOException(hibernateException);
+        }
+    }
+
+    /**
+     * Trouve le premier DTO qui satisfait tous les critères <code>criterions</code>, par ordre croissant sur
+     * <code>sortByPropertyName</code> puis sur l'ID. Seul ce DTO est chargé.
+     *
+     * @param session La session Hibernate à utiliser
+     * @param sortByPropertyName Le nom de la propriété à utiliser pour classer
+     * @param criterions Les critères à satisfaire
+     * @return Le premier DTO correspondant ; <code>null</code> sinon
+     * @throws InvalidHibernateSessionException Si la session Hibernate est <code>null</code>
+     * @throws InvalidSortByPropertyException Si la propriété à utiliser pour classer est <code>null</code>
+     * @throws DAOException S'il y a une erreur avec la base de données
+     */
+    protected DTO findFirst(Session session,
+        String sortByPropertyName,
+        Criterion... criterions) throws InvalidHibernateSessionException,
+        InvalidSortByPropertyException,
+        DAOException {
+        if(session == null) {
+            throw new InvalidHibernateSessionException("La session Hibernate ne peut être null");
+        }
+        if(sortByPropertyName == null) {
+            throw new InvalidSortByPropertyException("La propriété utilisée pour classer ne peut être null");
+        }
+        try {
+            final Criteria criteria = createCriteria(session,
+                criterions);
+            criteria.addOrder(Order.asc(sortByPropertyName));
+            criteria.addOrder(Order.asc(session.getSessionFactory().getClassMetadata(getDtoClass()).getIdentifierPropertyName()));
+            criteria.setMaxResults(1);
+            return (DTO) criteria.uniqueResult();
+        } catch(HibernateException hibernateException) {
+            throw new DAOException(hibernateException);
+        }
+    }
+
+    /**
+     * Trouve les DTOs qui satisfont tous les critères <code>criterions</code>. La liste est classée par ordre croissant sur
+     * <code>sortByPropertyName</code> puis sur l'ID. Si aucun DTO n'est trouvé, une {@link List} vide est retournée.
+     *
+     * @param session La session Hibernate à utiliser
+     * @param sortByPropertyName Le nom de la propriété à utiliser pour classer
+     * @param criterions Les critères à satisfaire
+     * @return La liste des DTOs correspondants ; une liste vide sinon
+     * @throws InvalidHibernateSessionException Si la session Hibernate est <code>null</code>
+     * @throws InvalidSortByPropertyException Si la propriété à utiliser pour classer est <code>null</code>
+     * @throws DAOException S'il y a une erreur avec la base de données
+     */
+    @SuppressWarnings("unchecked")
+    protected List<? extends DTO> findAll(Session session,
+        String sortByPropertyName,
+        Criterion... criterions) throws InvalidHibernateSessionException,
+        InvalidSortByPropertyException,
+        DAOException {
+        if(session == null) {
+            throw new InvalidHibernateSessionException("La session Hibernate ne peut être null");
+        }
+        if(sortByPropertyName == null) {
+            throw new InvalidSortByPropertyException("La propriété utilisée pour classer ne peut être null");
+        }
+        try {
+            final Criteria criteria = createCriteria(session,
+                criterions);
+            criteria.addOrder(Order.asc(sortByPropertyName));
+            criteria.addOrder(Order.asc(session.getSessionFactory().getClassMetadata(getDtoClass()).getIdentifierPropertyName()));
+            return criteria.list();
+        } catch(HibernateException hibernateException) {
+            throw new DAOException(hibernateException);
+        }
+    }
+
+    /**
+     * Trouve les DTOs qui satisfont tous les critères <code>criterions</code> et charge les associations du plan de chargement
+     * <code>fetchPlan</code> dans la même requête. La liste est classée par ordre croissant sur <code>sortByPropertyName</code> puis sur
+     * l'ID. Si aucun DTO n'est trouvé, une {@link List} vide est retournée.
+     *
+     * @param session La session Hibernate à utiliser
+     * @param sortByPropertyName Le nom de la propriété à utiliser pour classer
+     * @param fetchPlan Le plan de chargement à utiliser
+     * @param criterions Les critères à satisfaire
+     * @return La liste des DTOs correspondants ; une liste vide sinon
+     * @throws InvalidHibernateSessionException Si la session Hibernate est <code>null</code>
+     * @throws InvalidSortByPropertyException Si la propriété à utiliser pour classer est <code>null</code>
+     * @throws InvalidFetchPlanException Si le plan de chargement est <code>null</code> ou s'il est prévu pour une autre classe de DTO
+     * @throws DAOException S'il y a une erreur avec la base de données
+     */
+    @SuppressWarnings("unchecked")
+    protected List<? extends DTO> findAll(Session session,
+        String sortByPropertyName,
+        FetchPlan fetchPlan,
+        Criterion... criterions) throws InvalidHibernateSessionException,
+        InvalidSortByPropertyException,
+        InvalidFetchPlanException,
+        DAOException {
+        if(session == null) {
+            throw new InvalidHibernateSessionException("La session Hibernate ne peut être null");
+        }
+        if(sortByPropertyName == null) {
+            throw new InvalidSortByPropertyException("La propriété utilisée pour classer ne peut être null");
+        }
+        try {
+            final Criteria criteria = createCriteria(session,
+                fetchPlan,
+                criterions);
+            criteria.addOrder(Order.asc(sortByPropertyName));
+            criteria.addOrder(Order.asc(session.getSessionFactory().getClassMetadata(getDtoClass()).getIdentifierPropertyName()));
+            return criteria.list();
+        } catch(HibernateException hibernateException) {
+            throw new DAOException(hibernateException);
+        }
+    }
+
+    /**
+     * Trouve les DTOs dont la propriété <code>propertyName</code> est dans l'intervalle semi-ouvert <code>[from, to[</code> et qui
+     * satisfont tous les critères <code>criterions</code>. La liste est classée par ordre croissant sur <code>sortByPropertyName</code>
+     * puis sur l'ID. Si aucun DTO n'est trouvé, une {@link List} vide est retournée.
+     *
+     * La condition est écrite <code>propriété &gt;= ? AND propriété &lt; ?</code>, sans fonction appliquée à la colonne : la base de
+     * données peut parcourir un seul intervalle de l'index de la colonne, quelle que soit la longueur de l'intervalle. Deux intervalles
+     * consécutifs, comme deux mois, ne partagent aucune ligne.
+     *
+     * @param session La session Hibernate à utiliser
+     * @param propertyName Le nom de la propriété à utiliser
+     * @param from La borne inférieure, incluse
+     * @param to La borne supérieure, exclue
+     * @param sortByPropertyName Le nom de la propriété à utiliser pour classer
+     * @param criterions Les autres critères à satisfaire
+     * @return La liste des DTOs correspondants ; une liste vide sinon
+     * @throws InvalidHibernateSessionException Si la session Hibernate est <code>null</code>
+     * @throws InvalidCriterionException Si la propriété à utiliser est <code>null</code>
+     * @throws InvalidCriterionValueException Si une borne est <code>null</code> ou si la borne supérieure précède la borne inférieure
+     * @throws InvalidSortByPropertyException Si la propriété à utiliser pour classer est <code>null</code>
+     * @throws DAOException S'il y a une erreur avec la base de données
+     */
+    protected List<? extends DTO> findByRange(Session session,
+        String propertyName,
+        Date from,
+        Date to,
+        String sortByPropertyName,
+        Criterion... criterions) throws InvalidHibernateSessionException,
+        InvalidCriterionException,
+        InvalidCriterionValueException,
+        InvalidSortByPropertyException,
+        DAOException {
+        if(propertyName == null) {
+            throw new InvalidCriterionException("La propriété à utiliser ne peut être null");
+        }
+        if(from == null
+            || to == null) {
+            throw new InvalidCriterionValueException("Les bornes de l'intervalle ne peuvent être null");
+        }
+        if(to.before(from)) {
+            throw new InvalidCriterionValueException("La borne supérieure ne peut précéder la borne inférieure");
+        }
+        final Criterion[] criteresIntervalle = new Criterion[criterions.length + 2];
+        criteresIntervalle[0] = Restrictions.ge(propertyName,
+            from);
+        criteresIntervalle[1] = Restrictions.lt(propertyName,
+            to);
+        System.arraycopy(criterions,
+            0,
+            criteresIntervalle,
+            2,
+            criterions.length);
+        return findAll(session,
+            sortByPropertyName,
+            criteresIntervalle);
+    }
+
+    /**
+     * Exécute la requête HQL nommée <code>queryName</code>, déclarée dans le fichier de mapping d'un DTO, et retourne toutes ses lignes.
+     *
+     * Hibernate analyse et traduit en SQL les requêtes nommées à la création de la <code>SessionFactory</code>, qui échoue si l'une d'elles
+     * est invalide ; chaque appel réutilise ensuite la traduction, alors qu'une requête {@link Criteria} est reconstruite et traduite à
+     * chaque appel. Les paramètres sont liés dans l'ordre des <code>?</code> de la requête.
+     *
+     * @param session La session Hibernate à utiliser
+     * @param queryName Le nom de la requête
+     * @param parameters Les valeurs des paramètres
+     * @return Les lignes de la requête ; une liste vide sinon
+     * @throws InvalidHibernateSessionException Si la session Hibernate est <code>null</code>
+     * @throws DAOException Si la requête n'existe pas ou s'il y a une erreur avec la base de données
+     */
+    protected List<?> findByNamedQuery(Session session,
+        String queryName,
+        Object... parameters) throws InvalidHibernateSessionException,
+        DAOException {
+        if(session == null) {
+            throw new InvalidHibernateSessionException("La session Hibernate ne peut être null");
+        }
+        try {
+            return createNamedQuery(session,
+                queryName,
+                parameters).list();
+        } catch(HibernateException hibernateException) {
+            throw new DAOException(hibernateException);
+        }
+    }
+
+    /**
+     * Exécute la requête HQL nommée <code>queryName</code> et retourne sa première ligne. Seule cette ligne est lue ; la requête est décrite
+     * par {@link #findByNamedQuery(Session, String, Object...)}.
+     *
+     * @param session La session Hibernate à utiliser
+     * @param queryName Le nom de la requête
+     * @param parameters Les valeurs des paramètres
+     * @return La première ligne de la requête ; <code>null</code> sinon
+     * @throws InvalidHibernateSessionException Si la session Hibernate est <code>null</code>
+     * @throws DAOException Si la requête n'existe pas ou s'il y a une erreur avec la base de données
+     */
+    protected Object findFirstByNamedQuery(Session session,
+        String queryName,
+        Object... parameters) throws InvalidHibernateSessionException,
+        DAOException {
+        if(session == null) {
+            throw new InvalidHibernateSessionException("La session Hibernate ne peut être null");
+        }
+        try {
+            final Query query = createNamedQuery(session,
+                queryName,
+                parameters);
+            query.setMaxResults(1);
+            return query.uniqueResult();
+        } catch(HibernateException hibernateException) {
+            throw new DAOException(hibernateException);
+        }
+    }
+
+    /**
+     * Exécute la requête HQL nommée <code>queryName</code>, dont l'unique ligne est un compte (<code>select count(...)</code>), et retourne
+     * ce compte. La requête est décrite par {@link #findByNamedQuery(Session, String, Object...)}.
+     *
+     * @param session La session Hibernate à utiliser
+     * @param queryName Le nom de la requête
+     * @param parameters Les valeurs des paramètres
+     * @return Le compte
+     * @throws InvalidHibernateSessionException Si la session Hibernate est <code>null</code>
+     * @throws DAOException Si la requête n'existe pas ou s'il y a une erreur avec la base de données
+     */
+    protected long countByNamedQuery(Session session,
+        String queryName,
+        Object... parameters) throws InvalidHibernateSessionException,
+        DAOException {
+        if(session == null) {
+            throw new InvalidHibernateSessionException("La session Hibernate ne peut être null");
+        }
+        try {
+            return ((Number) createNamedQuery(session,
+                queryName,
+                parameters).uniqueResult()).longValue();
+        } catch(HibernateException hibernateException) {
+            throw new DAOException(hibernateException);
+        }
+    }
+
+    /**
+     * Trouve une page des DTOs qui satisfont tous les critères <code>criterions</code>, par ordre croissant sur
+     * <code>sortByPropertyName</code> puis sur l'ID.
+     *
+     * Avec un jeton par décalage, la requête saute les lignes des pages précédentes (<code>setFirstResult</code>) : son coût croît avec le
+     * numéro de la page. Avec un jeton par clef, elle ajoute la condition <code>(tri, ID) &gt; (dernier tri, dernier ID)</code>, écrite
+     * <code>tri &gt;= ? AND (tri &gt; ? OR ID &gt; ?)</code> pour que la base de données puisse parcourir un intervalle de l'index sur le
+     * tri, quel que soit le numéro de la page. Une ligne de plus que <code>pageSize</code> est lue pour savoir s'il existe une page suivante.
+     *
+     * @param session La session Hibernate à utiliser
+     * @param sortByPropertyName Le nom de la propriété à utiliser pour classer
+     * @param pageSize Le nombre maximal de DTOs de la page
+     * @param continuationToken Le jeton retourné avec la page précédente ; <code>null</code> pour la première page, par clef
+     * @param criterions Les critères à satisfaire
+     * @return La page de DTOs correspondants
+     * @throws InvalidHibernateSessionException Si la session Hibernate est <code>null</code>
+     * @throws InvalidSortByPropertyException Si la propriété à utiliser pour classer est <code>null</code>
+     * @throws InvalidPageRequestException Si la taille de la page n'est pas positive, si le jeton de continuation est invalide ou s'il a été
+     *         créé pour une autre propriété de tri
+     * @throws DAOException S'il y a une erreur avec la base de données
+     */
+    @SuppressWarnings("unchecked")
+    protected Page<? extends DTO> findPage(Session session,
+        String sortByPropertyName,
+        int pageSize,
+        String continuationToken,
+        Criterion... criterions) throws InvalidHibernateSessionException,
+        InvalidSortByPropertyException,
+        InvalidPageRequestException,
+        DAOException {
+        if(session == null) {
+            throw new InvalidHibernateSessionException("La session Hibernate ne peut être null");
+        }
+        if(sortByPropertyName == null) {
+            throw new InvalidSortByPropertyException("La propriété utilisée pour classer ne peut être null");
+        }
+        if(pageSize <= 0) {
+            throw new InvalidPageRequestException("La taille de la page doit être positive");
+        }
+        final ContinuationToken token = continuationToken == null ? ContinuationToken.ofKey(sortByPropertyName,
+            null,
+            null) : ContinuationToken.decode(continuationToken);
+        if(token.isKeyset()
+            && !sortByPropertyName.equals(token.getSortByPropertyName())) {
+            throw new InvalidPageRequestException("Le jeton de continuation a été créé pour la propriété de tri "
+                + token.getSortByPropertyName());
+        }
+        try {
+            final ClassMetadata classMetadata = session.getSessionFactory().getClassMetadata(getDtoClass());
+            final String idPropertyName = classMetadata.getIdentifierPropertyName();
+            final boolean triParId = sortByPropertyName.equals(idPropertyName);
+            final Criteria criteria = createCriteria(session,
+                criterions);
+            if(!token.isKeyset()) {
+                criteria.setFirstResult(token.getOffset());
+            } else if(token.getId() != null) {
+                if(triParId) {
+                    criteria.add(Restrictions.gt(idPropertyName,
+                        token.getId()));
+                } else {
+                    criteria.add(Restrictions.ge(sortByPropertyName,
+                        token.getSortValue()));
+                    criteria.add(Restrictions.or(Restrictions.gt(sortByPropertyName,
+                        token.getSortValue()),
+                        Restrictions.gt(idPropertyName,
+                            token.getId())));
+                }
+            }
+            criteria.addOrder(Order.asc(sortByPropertyName));
+            if(!triParId) {
+                criteria.addOrder(Order.asc(idPropertyName));
+            }
+            criteria.setMaxResults(pageSize + 1);
+            final List<DTO> dtos = criteria.list();
+            if(dtos.size() <= pageSize) {
+                return new Page<>(dtos,
+                    null);
+            }
+            final List<DTO> page = new ArrayList<>(dtos.subList(0,
+                pageSize));
+            final DTO dernier = page.get(pageSize - 1);
+            ContinuationToken suivant = null;
+            if(token.isKeyset()) {
+                final Serializable id = classMetadata.getIdentifier(dernier,
+                    EntityMode.POJO);
+                suivant = ContinuationToken.ofKey(sortByPropertyName,
+                    triParId ? id : classMetadata.getPropertyValue(dernier,
+                        sortByPropertyName,
+                        EntityMode.POJO),
+                    id);
+            } else {
+                suivant = ContinuationToken.ofOffset(token.getOffset()
+                    + pageSize);
+            }
+            return new Page<>(page,
+                suivant.encode());
+        } catch(HibernateException hibernateException) {
+            throw new DAOException(hibernateException);
+        }
+    }
+
+    /**
+     * Parcourt les DTOs qui satisfont tous les critères <code>criterions</code>, par ordre croissant sur <code>sortByPropertyName</code>. Les
+     * lignes sont lues par lots de <code>hibernate.jdbc.fetch_size</code> avec un curseur en avant seulement, et les DTOs retournés
+     * sont évincés de la session après chaque lot. Le parcours retourné doit être fermé.
+     *
+     * @param session La session Hibernate à utiliser
+     * @param sortByPropertyName Le nom de la propriété à utiliser pour classer
+     * @param criterions Les critères à satisfaire
+     * @return Le parcours des DTOs correspondants
+     * @throws InvalidHibernateSessionException Si la session Hibernate est <code>null</code>
+     * @throws InvalidSortByPropertyException Si la propriété à utiliser pour classer est <code>null</code>
+     * @throws DAOException S'il y a une erreur avec la base de données
+     */
+    protected IDTOStream scroll(Session session,
+        String sortByPropertyName,
+        Criterion... criterions) throws InvalidHibernateSessionException,
+        InvalidSortByPropertyException,
+        DAOException {
+        if(session == null) {
+            throw new InvalidHibernateSessionException("La session Hibernate ne peut être null");
+        }
+        if(sortByPropertyName == null) {
+            throw new InvalidSortByPropertyException("La propriété utilisée pour classer ne peut être null");
+        }
+        try {
+            final int tailleFetch = DAO.getTailleFetch(session);
+            final Criteria criteria = createCriteria(session,
+                criterions);
+            criteria.addOrder(Order.asc(sortByPropertyName));
+            criteria.setFetchSize(tailleFetch);
+            return new DTOStream(session,
+                criteria.scroll(ScrollMode.FORWARD_ONLY),
+                tailleFetch);
+        } catch(HibernateException hibernateException) {
+            throw new DAOException(hibernateException);
+        }
+    }
+
+    /**
+     * Crée une requête sur les DTOs qui satisfont tous les critères <code>criterions</code>.
+     *
+     * @param session La session Hibernate à utiliser
+     * @param criterions Les critères à satisfaire
+     * @return La requête
+     */
+    private Criteria createCriteria(Session session,
+        Criterion... criterions) {
+        final Criteria criteria = session.createCriteria(getDtoClass());
+        for(Criterion criterion : criterions) {
+            criteria.add(criterion);
+        }
+        return criteria;
+    }
+
+    /**
+     * Crée une requête sur la classe de DTO qui satisfait tous les critères <code>criterions</code> et charge par jointure les associations
+     * du plan de chargement <code>fetchPlan</code>. Une jointure sur une collection répète le DTO une fois par élément ; la requête ne
+     * retourne donc chaque DTO qu'une fois, dans l'ordre de sa première ligne.
+     *
+     * @param session La session Hibernate à utiliser
+     * @param fetchPlan Le plan de chargement à utiliser
+     * @param criterions Les critères à satisfaire
+     * @return La requête
+     * @throws InvalidFetchPlanException Si le plan de chargement est <code>null</code> ou s'il est prévu pour une autre classe de DTO
+     */
+    private Criteria createCriteria(Session session,
+        FetchPlan fetchPlan,
+        Criterion... criterions) throws InvalidFetchPlanException {
+        if(fetchPlan == null) {
+            throw new InvalidFetchPlanException("Le plan de chargement ne peut être null");
+        }
+        if(!fetchPlan.getDtoClass().equals(getDtoClass())) {
+            throw new InvalidFetchPlanException("Le plan de chargement "
+                + fetchPlan.getName()
+                + " ne s'applique pas à la classe "
+                + getDtoClass().getSimpleName());
+        }
+        final Criteria criteria = createCriteria(session,
+            criterions);
+        for(String associationPath : fetchPlan.getAssociationPaths()) {
+            criteria.setFetchMode(associationPath,
+                FetchMode.JOIN);
+        }
+        criteria.setResultTransformer(Criteria.DISTINCT_ROOT_ENTITY);
+        return criteria;
+    }
+
+    /**
+     * Crée une requête nommée et lie ses paramètres dans l'ordre.
+     *
+     * @param session La session Hibernate à utiliser
+     * @param queryName Le nom de la requête
+     * @param parameters Les valeurs des paramètres
+     * @return La requête
+     */
+    private static Query createNamedQuery(Session session,
+        String queryName,
+        Object... parameters) {
+        final Query query = session.getNamedQuery(queryName);
+        for(int index = 0 ; index < parameters.length ; index++) {
+            query.setParameter(index,
+                parameters[index]);
+        }
+        return query;
+    }
+
     /**
      * Trouve les DTOs à partir d'une propriété <code>propertyName</code> étant comprise entre la veille et le lendemain de la date
      * <code>date</code>. La liste est classée par ordre croissant sur <code>sortByPropertyName</code>. Si aucun DTO n'est trouvé, une
@@ -304,4 +1074,80 @@ public class DAO implements IDAO {
             throw new DAOException(hibernateException);
         }
     }
+
+    /**
+     * Envoie à la base de données les opérations d'un lot, puis évince ses DTOs de la session. Les autres DTOs de la session, que
+     * l'appelant peut encore utiliser, y restent attachés.
+     *
+     * @param session La session Hibernate à utiliser
+     * @param lot Les DTOs du lot ; la liste est vidée
+     * @throws HibernateException S'il y a une erreur avec la session
+     */
+    private static void evincerLot(Session session,
+        List<DTO> lot) throws HibernateException {
+        session.flush();
+        for(DTO dto : lot) {
+            session.evict(dto);
+        }
+        lot.clear();
+    }
+
+    /**
+     * Retourne le nombre d'opérations après lequel les méthodes par lots vident la session. C'est la taille des lots JDBC
+     * (<code>hibernate.jdbc.batch_size</code>), pour que chaque <code>flush</code> envoie des lots complets ; quand les lots JDBC sont
+     * désactivés, la session n'est jamais vidée en cours de route.
+     *
+     * @param session La session Hibernate à utiliser
+     * @return Le nombre d'opérations par lot
+     */
+    private static int getTailleLot(Session session) {
+        final int tailleLot = ((SessionFactoryImplementor) session.getSessionFactory()).getSettings().getJdbcBatchSize();
+        return tailleLot > 0 ? tailleLot : Integer.MAX_VALUE;
+    }
+
+    /**
+     * Retourne le nombre de lignes lues à la fois par les parcours : <code>hibernate.jdbc.fetch_size</code> s'il est configuré,
+     * {@link #TAILLE_FETCH_PAR_DEFAUT} sinon.
+     *
+     * @param session La session Hibernate à utiliser
+     * @return Le nombre de lignes lues à la fois
+     */
+    private static int getTailleFetch(Session session) {
+        final Integer tailleFetch = ((SessionFactoryImplementor) session.getSessionFactory()).getSettings().getJdbcFetchSize();
+        return tailleFetch != null
+            && tailleFetch.intValue() > 0 ? tailleFetch.intValue() : DAO.TAILLE_FETCH_PAR_DEFAUT;
+    }
+
+    /**
+     * Indique si une clef primaire est connue pour ne pas exister, selon le cache négatif.
+     *
+     * @param primaryKey La clef primaire
+     * @return <code>true</code> si la clef est dans le cache négatif, <code>false</code> sinon ou s'il n'y a pas de cache négatif
+     */
+    private boolean isAbsent(Serializable primaryKey) {
+        return getCacheNegatif() != null
+            && getCacheNegatif().isAbsent(getDtoClass(),
+                primaryKey);
+    }
+
+    /**
+     * Ajoute au cache négatif une clef primaire lue sans succès.
+     *
+     * @param primaryKey La clef primaire
+     */
+    private void ajouterAbsent(Serializable primaryKey) {
+        if(getCacheNegatif() != null) {
+            getCacheNegatif().ajouter(getDtoClass(),
+                primaryKey);
+        }
+    }
+
+    /**
+     * Efface du cache négatif les clefs primaires de la classe de DTO, après un ajout qui a pu créer l'une d'elles.
+     */
+    private void effacerAbsents() {
+        if(getCacheNegatif() != null) {
+            getCacheNegatif().effacer(getDtoClass());
+        }
+    }
 }
@@ -0,0 +1,178 @@
+// Fichier DTOStream.java
+// Auteur : Team PayDay
+// Date de création : 2026-10-18
+
+package ca.qc.collegeahuntsic.bibliothequeBackEnd.dao.implementations;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import ca.qc.collegeahuntsic.bibliothequeBackEnd.dao.interfaces.IDTOStream;
+import ca.qc.collegeahuntsic.bibliothequeBackEnd.dto.DTO;
+import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.dao.DAOException;
+import org.hibernate.HibernateException;
+import org.hibernate.ScrollableResults;
+import org.hibernate.Session;
+
+/**
+ * Parcours de DTOs appuyé sur des {@link ScrollableResults} en avant seulement.
+ *
+ * Chaque DTO lu reste dans la session Hibernate ; pour que la mémoire utilisée ne dépende pas du nombre de lignes, les DTOs retournés par
+ * le parcours sont évincés de la session (<code>evict</code>) chaque fois que <code>intervalleNettoyage</code> DTOs ont été parcourus, juste
+ * avant de lire le suivant. Les autres objets de la session ne sont pas touchés, et la session est d'abord synchronisée (<code>flush</code>)
+ * si elle contient des modifications, pour que celles apportées aux DTOs évincés ne soient pas perdues.
+ *
+ * @author Team PayDay
+ */
+class DTOStream implements IDTOStream {
+    private Session session;
+
+    private ScrollableResults results;
+
+    private int intervalleNettoyage;
+
+    private int nombreLus;
+
+    private DTO suivant;
+
+    private boolean suivantLu;
+
+    private final List<DTO> retournes;
+
+    /**
+     * Crée le parcours.
+     *
+     * @param session La session Hibernate qui a ouvert les résultats
+     * @param results Les résultats à parcourir
+     * @param intervalleNettoyage Le nombre de DTOs parcourus entre deux nettoyages de la session
+     */
+    DTOStream(Session session,
+        ScrollableResults results,
+        int intervalleNettoyage) {
+        super();
+        setSession(session);
+        setResults(results);
+        setIntervalleNettoyage(intervalleNettoyage);
+        this.retournes = new ArrayList<>(intervalleNettoyage);
+    }
+
+    // Region Getters and Setters
+    /**
+     * Getter de la variable d'instance <code>this.session</code>.
+     *
+     * @return La variable d'instance <code>this.session</code>
+     */
+    private Session getSession() {
+        return this.session;
+    }
+
+    /**
+     * Setter de la variable d'instance <code>this.session</code>.
+     *
+     * @param session La valeur à utiliser pour la variable d'instance <code>this.session</code>
+     */
+    private void setSession(Session session) {
+        this.session = session;
+    }
+
+    /**
+     * Getter de la variable d'instance <code>this.results</code>.
+     *
+     * @return La variable d'instance <code>this.results</code>
+     */
+    private ScrollableResults getResults() {
+        return this.results;
+    }
+
+    /**
+     * Setter de la variable d'instance <code>this.results</code>.
+     *
+     * @param results La valeur à utiliser pour la variable d'instance <code>this.results</code>
+     */
+    private void setResults(ScrollableResults results) {
+        this.results = results;
+    }
+
+    /**
+     * Getter de la variable d'instance <code>this.intervalleNettoyage</code>.
+     *
+     * @return La variable d'instance <code>this.intervalleNettoyage</code>
+     */
+    private int getIntervalleNettoyage() {
+        return this.intervalleNettoyage;
+    }
+
+    /**
+     * Setter de la variable d'instance <code>this.intervalleNettoyage</code>.
+     *
+     * @param intervalleNettoyage La valeur à utiliser pour la variable d'instance <code>this.intervalleNettoyage</code>
+     */
+    private void setIntervalleNettoyage(int intervalleNettoyage) {
+        this.intervalleNettoyage = intervalleNettoyage;
+    }
+    // EndRegion Getters and Setters
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean hasNext() throws DAOException {
+        if(!this.suivantLu) {
+            try {
+                if(this.nombreLus > 0
+                    && this.nombreLus % getIntervalleNettoyage() == 0) {
+                    evincer();
+                }
+                this.suivant = getResults().next() ? (DTO) getResults().get(0) : null;
+            } catch(HibernateException hibernateException) {
+                throw new DAOException(hibernateException);
+            }
+            this.suivantLu = true;
+        }
+        return this.suivant != null;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public DTO next() throws DAOException {
+        if(!hasNext()) {
+            throw new NoSuchElementException("Il ne reste aucun DTO à parcourir");
+        }
+        final DTO dto = this.suivant;
+        this.suivant = null;
+        this.suivantLu = false;
+        this.nombreLus++;
+        this.retournes.add(dto);
+        return dto;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void close() throws DAOException {
+        try {
+            getResults().close();
+        } catch(HibernateException hibernateException) {
+            throw new DAOException(hibernateException);
+        }
+    }
+
+    /**
+     * Évince de la session les DTOs retournés depuis le dernier nettoyage, après avoir synchronisé la session si elle contient des
+     * modifications.
+     *
+     * @throws HibernateException S'il y a une erreur avec la session
+     */
+    private void evincer() throws HibernateException {
+        if(getSession().isDirty()) {
+            getSession().flush();
+        }
+        for(DTO dto : this.retournes) {
+            getSession().evict(dto);
+        }
+        this.retournes.clear();
+    }
+}
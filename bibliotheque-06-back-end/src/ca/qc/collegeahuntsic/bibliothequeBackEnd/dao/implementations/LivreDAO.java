@@ -8,13 +8,23 @@ import java.util.Collections;
 import java.util.List;
 import ca.qc.collegeahuntsic.bibliothequeBackEnd.dao.interfaces.ILivreDAO;
 import ca.qc.collegeahuntsic.bibliothequeBackEnd.dto.LivreDTO;
+import ca.qc.collegeahuntsic.bibliothequeBackEnd.dto.LivreResumeDTO;
 import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.dao.DAOException;
 import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.dao.InvalidCriterionException;
 import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.dao.InvalidCriterionValueException;
 import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.dao.InvalidHibernateSessionException;
+import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.dao.InvalidPageRequestException;
 import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.dao.InvalidSortByPropertyException;
 import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.dto.InvalidDTOClassException;
+import ca.qc.collegeahuntsic.bibliothequeBackEnd.util.Page;
+import org.hibernate.Criteria;
+import org.hibernate.Hibernate;
+import org.hibernate.HibernateException;
 import org.hibernate.Session;
+import org.hibernate.criterion.Order;
+import org.hibernate.criterion.Projections;
+import org.hibernate.criterion.Restrictions;
+import org.hibernate.type.Type;
 
 /**
  * DAO pour effectuer des CRUDs avec la table <code>livre</code>.
@@ -22,6 +32,24 @@ import org.hibernate.Session;
  * @author Team PayDay
  */
 public class LivreDAO extends DAO implements ILivreDAO {
+    /**
+     * La sous-requête qui compte les prêts en cours d'un livre.
+     */
+    private static final String PRETS_ACTIFS_SQL = "(SELECT COUNT(*) FROM PRET p"
+        + " WHERE p.IDLIVRE = {alias}.IDLIVRE AND p.DATERETOUR IS NULL) AS pretsActifs";
+
+    private static final ProjectionTransformer RESUME_TRANSFORMER = new ProjectionTransformer() {
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        protected Object creerLigne(Object[] tuple) {
+            return new LivreResumeDTO((String) tuple[0],
+                (String) tuple[1],
+                (String) tuple[2],
+                ((Number) tuple[3]).longValue() == 0);
+        }
+    };
+
     /**
      * Crée le DAO de la table <code>livre</code>.
      *
@@ -54,11 +82,78 @@ public class LivreDAO extends DAO implements ILivreDAO {
             throw new InvalidSortByPropertyException("La propriété utilisée pour classer ne peut être null");
         }
         List<LivreDTO> livres = Collections.emptyList();
-        livres = (List<LivreDTO>) find(session,
-            LivreDTO.TITRE_COLUMN_NAME,
-            titre,
-            sortByPropertyName);
+        if(LivreDTO.TITRE_COLUMN_NAME.equals(sortByPropertyName)
+            || LivreDTO.ID_LIVRE_COLUMN_NAME.equals(sortByPropertyName)) {
+            livres = (List<LivreDTO>) findByNamedQuery(session,
+                LivreDTO.FIND_BY_TITRE_QUERY_NAME,
+                titre);
+        } else {
+            livres = (List<LivreDTO>) findAll(session,
+                sortByPropertyName,
+                Restrictions.eq(LivreDTO.TITRE_COLUMN_NAME,
+                    titre).ignoreCase());
+        }
 
         return livres;
     }
+
+    /**
+     * {@inheritDoc}
+     */
+    @SuppressWarnings("unchecked")
+    @Override
+    public Page<LivreDTO> findByTitre(Session session,
+        String titre,
+        String sortByPropertyName,
+        int pageSize,
+        String continuationToken) throws InvalidHibernateSessionException,
+        InvalidCriterionException,
+        InvalidSortByPropertyException,
+        InvalidPageRequestException,
+        DAOException {
+        if(session == null) {
+            throw new InvalidHibernateSessionException("La connexion ne peut être null");
+        }
+        if(titre == null) {
+            throw new InvalidCriterionException("Le titre ne peut être null");
+        }
+        return (Page<LivreDTO>) findPage(session,
+            sortByPropertyName,
+            pageSize,
+            continuationToken,
+            Restrictions.eq(LivreDTO.TITRE_COLUMN_NAME,
+                titre).ignoreCase());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @SuppressWarnings("unchecked")
+    @Override
+    public List<LivreResumeDTO> getAllResumes(Session session,
+        String sortByPropertyName) throws InvalidHibernateSessionException,
+        InvalidSortByPropertyException,
+        DAOException {
+        if(session == null) {
+            throw new InvalidHibernateSessionException("La session Hibernate ne peut être null");
+        }
+        if(sortByPropertyName == null) {
+            throw new InvalidSortByPropertyException("La propriété utilisée pour classer ne peut être null");
+        }
+        try {
+            final Criteria criteria = session.createCriteria(getDtoClass());
+            criteria.setProjection(Projections.projectionList()
+                .add(Projections.id())
+                .add(Projections.property(LivreDTO.TITRE_COLUMN_NAME))
+                .add(Projections.property(LivreDTO.AUTEUR_COLUMN_NAME))
+                .add(Projections.sqlProjection(LivreDAO.PRETS_ACTIFS_SQL,
+                    new String[] {"pretsActifs"},
+                    new Type[] {Hibernate.LONG})));
+            criteria.addOrder(Order.asc(sortByPropertyName));
+            criteria.setResultTransformer(LivreDAO.RESUME_TRANSFORMER);
+            return criteria.list();
+        } catch(HibernateException hibernateException) {
+            throw new DAOException(hibernateException);
+        }
+    }
 }
@@ -8,13 +8,23 @@ import java.util.Collections;
 import java.util.List;
 import ca.qc.collegeahuntsic.bibliothequeBackEnd.dao.interfaces.IMembreDAO;
 import ca.qc.collegeahuntsic.bibliothequeBackEnd.dto.MembreDTO;
+import ca.qc.collegeahuntsic.bibliothequeBackEnd.dto.MembreResumeDTO;
 import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.dao.DAOException;
 import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.dao.InvalidCriterionException;
 import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.dao.InvalidCriterionValueException;
 import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.dao.InvalidHibernateSessionException;
+import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.dao.InvalidPageRequestException;
 import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.dao.InvalidSortByPropertyException;
 import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.dto.InvalidDTOClassException;
+import ca.qc.collegeahuntsic.bibliothequeBackEnd.util.Page;
+import org.hibernate.Criteria;
+import org.hibernate.Hibernate;
+import org.hibernate.HibernateException;
 import org.hibernate.Session;
+import org.hibernate.criterion.Order;
+import org.hibernate.criterion.Projections;
+import org.hibernate.criterion.Restrictions;
+import org.hibernate.type.Type;
 
 /**
  * DAO pour effectuer des CRUDs avec la table <code>membre</code>.
@@ -22,6 +32,25 @@ import org.hibernate.Session;
  * @author Team PayDay
  */
 public class MembreDAO extends DAO implements IMembreDAO {
+    /**
+     * La sous-requête qui compte les prêts en cours d'un membre.
+     */
+    private static final String PRETS_ACTIFS_SQL = "(SELECT COUNT(*) FROM PRET p"
+        + " WHERE p.IDMEMBRE = {alias}.IDMEMBRE AND p.DATERETOUR IS NULL) AS pretsActifs";
+
+    private static final ProjectionTransformer RESUME_TRANSFORMER = new ProjectionTransformer() {
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        protected Object creerLigne(Object[] tuple) {
+            return new MembreResumeDTO((String) tuple[0],
+                (String) tuple[1],
+                (String) tuple[2],
+                (String) tuple[3],
+                ((Number) tuple[4]).longValue());
+        }
+    };
+
     /**
      * Crée le DAO de la table membre.
      *
@@ -54,14 +83,78 @@ public class MembreDAO extends DAO implements IMembreDAO {
             throw new InvalidSortByPropertyException("La propriété utilisée pour classer ne peut être null");
         }
         List<MembreDTO> membres = Collections.emptyList();
-        try {
-            membres = (List<MembreDTO>) find(session,
-                MembreDTO.NOM_COLUMN_NAME,
-                nom,
-                sortByPropertyName);
-        } catch(InvalidCriterionValueException InvalidCriterionValueException) {
-            throw new InvalidCriterionValueException(InvalidCriterionValueException);
+        if(MembreDTO.NOM_COLUMN_NAME.equals(sortByPropertyName)
+            || MembreDTO.ID_MEMBRE_COLUMN_NAME.equals(sortByPropertyName)) {
+            membres = (List<MembreDTO>) findByNamedQuery(session,
+                MembreDTO.FIND_BY_NOM_QUERY_NAME,
+                nom);
+        } else {
+            membres = (List<MembreDTO>) findAll(session,
+                sortByPropertyName,
+                Restrictions.eq(MembreDTO.NOM_COLUMN_NAME,
+                    nom).ignoreCase());
         }
         return membres;
     }
+
+    /**
+     * {@inheritDoc}
+     */
+    @SuppressWarnings("unchecked")
+    @Override
+    public Page<MembreDTO> findByNom(Session session,
+        String nom,
+        String sortByPropertyName,
+        int pageSize,
+        String continuationToken) throws InvalidHibernateSessionException,
+        InvalidCriterionException,
+        InvalidSortByPropertyException,
+        InvalidPageRequestException,
+        DAOException {
+        if(session == null) {
+            throw new InvalidHibernateSessionException("La connexion ne peut être null");
+        }
+        if(nom == null) {
+            throw new InvalidCriterionException("Le nom ne peut être null");
+        }
+        return (Page<MembreDTO>) findPage(session,
+            sortByPropertyName,
+            pageSize,
+            continuationToken,
+            Restrictions.eq(MembreDTO.NOM_COLUMN_NAME,
+                nom).ignoreCase());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @SuppressWarnings("unchecked")
+    @Override
+    public List<MembreResumeDTO> getAllResumes(Session session,
+        String sortByPropertyName) throws InvalidHibernateSessionException,
+        InvalidSortByPropertyException,
+        DAOException {
+        if(session == null) {
+            throw new InvalidHibernateSessionException("La session Hibernate ne peut être null");
+        }
+        if(sortByPropertyName == null) {
+            throw new InvalidSortByPropertyException("La propriété utilisée pour classer ne peut être null");
+        }
+        try {
+            final Criteria criteria = session.createCriteria(getDtoClass());
+            criteria.setProjection(Projections.projectionList()
+                .add(Projections.id())
+                .add(Projections.property(MembreDTO.NOM_COLUMN_NAME))
+                .add(Projections.property(MembreDTO.TELEPHONE_COLUMN_NAME))
+                .add(Projections.property(MembreDTO.LIMITE_PRET_COLUMN_NAME))
+                .add(Projections.sqlProjection(MembreDAO.PRETS_ACTIFS_SQL,
+                    new String[] {"pretsActifs"},
+                    new Type[] {Hibernate.LONG})));
+            criteria.addOrder(Order.asc(sortByPropertyName));
+            criteria.setResultTransformer(MembreDAO.RESUME_TRANSFORMER);
+            return criteria.list();
+        } catch(HibernateException hibernateException) {
+            throw new DAOException(hibernateException);
+        }
+    }
 }
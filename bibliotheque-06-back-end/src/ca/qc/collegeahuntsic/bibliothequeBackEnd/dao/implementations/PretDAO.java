@@ -8,14 +8,27 @@ import java.sql.Timestamp;
 import java.util.Collections;
 import java.util.List;
 import ca.qc.collegeahuntsic.bibliothequeBackEnd.dao.interfaces.IPretDAO;
+import ca.qc.collegeahuntsic.bibliothequeBackEnd.dto.LivreDTO;
+import ca.qc.collegeahuntsic.bibliothequeBackEnd.dto.MembreDTO;
+import ca.qc.collegeahuntsic.bibliothequeBackEnd.dto.PretActifDTO;
 import ca.qc.collegeahuntsic.bibliothequeBackEnd.dto.PretDTO;
 import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.dao.DAOException;
 import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.dao.InvalidCriterionException;
 import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.dao.InvalidCriterionValueException;
+import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.dao.InvalidFetchPlanException;
 import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.dao.InvalidHibernateSessionException;
+import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.dao.InvalidPageRequestException;
 import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.dao.InvalidSortByPropertyException;
 import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.dto.InvalidDTOClassException;
+import ca.qc.collegeahuntsic.bibliothequeBackEnd.util.BibliothequeDate;
+import ca.qc.collegeahuntsic.bibliothequeBackEnd.util.FetchPlan;
+import ca.qc.collegeahuntsic.bibliothequeBackEnd.util.Page;
+import org.hibernate.Criteria;
+import org.hibernate.HibernateException;
 import org.hibernate.Session;
+import org.hibernate.criterion.Order;
+import org.hibernate.criterion.Projections;
+import org.hibernate.criterion.Restrictions;
 
 /**
  * DAO pour effectuer des CRUDs avec la table <code>pret</code>.
@@ -23,6 +36,24 @@ import org.hibernate.Session;
  * @author Team PayDay
  */
 public class PretDAO extends DAO implements IPretDAO {
+    private static final String MEMBRE_ALIAS = "membre";
+
+    private static final String LIVRE_ALIAS = "livre";
+
+    private static final ProjectionTransformer ACTIF_TRANSFORMER = new ProjectionTransformer() {
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        protected Object creerLigne(Object[] tuple) {
+            return new PretActifDTO((String) tuple[0],
+                (Timestamp) tuple[1],
+                (String) tuple[2],
+                (String) tuple[3],
+                (String) tuple[4],
+                (String) tuple[5]);
+        }
+    };
+
     /**
      * Crée un DAO à partir d'une connexion à la base de données.
      *
@@ -69,6 +100,60 @@ public class PretDAO extends DAO implements IPretDAO {
         return prets;
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @SuppressWarnings("unchecked")
+    @Override
+    public Page<PretDTO> findByMembre(Session session,
+        String idMembre,
+        String sortByPropertyName,
+        int pageSize,
+        String continuationToken) throws InvalidHibernateSessionException,
+        InvalidCriterionException,
+        InvalidSortByPropertyException,
+        InvalidPageRequestException,
+        DAOException {
+        if(session == null) {
+            throw new InvalidHibernateSessionException("La connexion ne peut être null");
+        }
+        if(idMembre == null) {
+            throw new InvalidCriterionException("Le id de membre ne peut être null");
+        }
+        return (Page<PretDTO>) findPage(session,
+            sortByPropertyName,
+            pageSize,
+            continuationToken,
+            Restrictions.eq(PretDTO.MEMBRE_DTO_ID_COLUMN_NAME,
+                idMembre));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @SuppressWarnings("unchecked")
+    @Override
+    public List<PretDTO> findByMembre(Session session,
+        String idMembre,
+        String sortByPropertyName,
+        FetchPlan fetchPlan) throws InvalidHibernateSessionException,
+        InvalidCriterionException,
+        InvalidSortByPropertyException,
+        InvalidFetchPlanException,
+        DAOException {
+        if(session == null) {
+            throw new InvalidHibernateSessionException("La connexion ne peut être null");
+        }
+        if(idMembre == null) {
+            throw new InvalidCriterionException("Le id de membre ne peut être null");
+        }
+        return (List<PretDTO>) findAll(session,
+            sortByPropertyName,
+            fetchPlan,
+            Restrictions.eq(PretDTO.MEMBRE_DTO_ID_COLUMN_NAME,
+                idMembre));
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -106,6 +191,60 @@ public class PretDAO extends DAO implements IPretDAO {
         return prets;
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @SuppressWarnings("unchecked")
+    @Override
+    public Page<PretDTO> findByLivre(Session session,
+        String idLivre,
+        String sortByPropertyName,
+        int pageSize,
+        String continuationToken) throws InvalidHibernateSessionException,
+        InvalidCriterionException,
+        InvalidSortByPropertyException,
+        InvalidPageRequestException,
+        DAOException {
+        if(session == null) {
+            throw new InvalidHibernateSessionException("La connexion ne peut être null");
+        }
+        if(idLivre == null) {
+            throw new InvalidCriterionException("Le id de livre ne peut être null");
+        }
+        return (Page<PretDTO>) findPage(session,
+            sortByPropertyName,
+            pageSize,
+            continuationToken,
+            Restrictions.eq(PretDTO.LIVRE_DTO_ID_COLUMN_NAME,
+                idLivre));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @SuppressWarnings("unchecked")
+    @Override
+    public List<PretDTO> findByLivre(Session session,
+        String idLivre,
+        String sortByPropertyName,
+        FetchPlan fetchPlan) throws InvalidHibernateSessionException,
+        InvalidCriterionException,
+        InvalidSortByPropertyException,
+        InvalidFetchPlanException,
+        DAOException {
+        if(session == null) {
+            throw new InvalidHibernateSessionException("La connexion ne peut être null");
+        }
+        if(idLivre == null) {
+            throw new InvalidCriterionException("Le id de livre ne peut être null");
+        }
+        return (List<PretDTO>) findAll(session,
+            sortByPropertyName,
+            fetchPlan,
+            Restrictions.eq(PretDTO.LIVRE_DTO_ID_COLUMN_NAME,
+                idLivre));
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -144,6 +283,35 @@ public class PretDAO extends DAO implements IPretDAO {
         return prets;
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @SuppressWarnings("unchecked")
+    @Override
+    public Page<PretDTO> findByDatePret(Session session,
+        Timestamp datePret,
+        String sortByPropertyName,
+        int pageSize,
+        String continuationToken) throws InvalidHibernateSessionException,
+        InvalidCriterionException,
+        InvalidSortByPropertyException,
+        InvalidPageRequestException,
+        DAOException {
+        if(session == null) {
+            throw new InvalidHibernateSessionException("La connexion ne peut être null");
+        }
+        if(datePret == null) {
+            throw new InvalidCriterionException("La date de prêt ne peut être null");
+        }
+        return (Page<PretDTO>) findPage(session,
+            sortByPropertyName,
+            pageSize,
+            continuationToken,
+            Restrictions.between(PretDTO.DATE_PRET_COLUMN_NAME,
+                BibliothequeDate.getStartDate(datePret),
+                BibliothequeDate.getEndDate(datePret)));
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -181,4 +349,228 @@ public class PretDAO extends DAO implements IPretDAO {
 
         return prets;
     }
+
+    /**
+     * {@inheritDoc}
+     */
+    @SuppressWarnings("unchecked")
+    @Override
+    public Page<PretDTO> findByDateRetour(Session session,
+        Timestamp dateRetour,
+        String sortByPropertyName,
+        int pageSize,
+        String continuationToken) throws InvalidHibernateSessionException,
+        InvalidCriterionException,
+        InvalidSortByPropertyException,
+        InvalidPageRequestException,
+        DAOException {
+        if(session == null) {
+            throw new InvalidHibernateSessionException("La connexion ne peut être null");
+        }
+        if(dateRetour == null) {
+            throw new InvalidCriterionException("La date de retour ne peut être null");
+        }
+        return (Page<PretDTO>) findPage(session,
+            sortByPropertyName,
+            pageSize,
+            continuationToken,
+            Restrictions.between(PretDTO.DATE_RETOUR_COLUMN_NAME,
+                BibliothequeDate.getStartDate(dateRetour),
+                BibliothequeDate.getEndDate(dateRetour)));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @SuppressWarnings("unchecked")
+    @Override
+    public List<PretDTO> findByDatePretBetween(Session session,
+        Timestamp from,
+        Timestamp to,
+        String sortByPropertyName) throws InvalidHibernateSessionException,
+        InvalidCriterionValueException,
+        InvalidSortByPropertyException,
+        DAOException {
+        try {
+            return (List<PretDTO>) findByRange(session,
+                PretDTO.DATE_PRET_COLUMN_NAME,
+                from,
+                to,
+                sortByPropertyName);
+        } catch(InvalidCriterionException invalidCriterionException) {
+            throw new DAOException(invalidCriterionException);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @SuppressWarnings("unchecked")
+    @Override
+    public List<PretDTO> findByDateRetourBetween(Session session,
+        Timestamp from,
+        Timestamp to,
+        String sortByPropertyName) throws InvalidHibernateSessionException,
+        InvalidCriterionValueException,
+        InvalidSortByPropertyException,
+        DAOException {
+        try {
+            return (List<PretDTO>) findByRange(session,
+                PretDTO.DATE_RETOUR_COLUMN_NAME,
+                from,
+                to,
+                sortByPropertyName);
+        } catch(InvalidCriterionException invalidCriterionException) {
+            throw new DAOException(invalidCriterionException);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @SuppressWarnings("unchecked")
+    @Override
+    public List<PretDTO> findOverdueSince(Session session,
+        Timestamp dateLimite,
+        String sortByPropertyName) throws InvalidHibernateSessionException,
+        InvalidCriterionValueException,
+        InvalidSortByPropertyException,
+        DAOException {
+        if(dateLimite == null) {
+            throw new InvalidCriterionValueException("La date limite ne peut être null");
+        }
+        return (List<PretDTO>) findAll(session,
+            sortByPropertyName,
+            Restrictions.isNull(PretDTO.DATE_RETOUR_COLUMN_NAME),
+            Restrictions.lt(PretDTO.DATE_PRET_COLUMN_NAME,
+                dateLimite));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long countActiveByMembre(Session session,
+        String idMembre) throws InvalidHibernateSessionException,
+        InvalidCriterionException,
+        DAOException {
+        if(session == null) {
+            throw new InvalidHibernateSessionException("La connexion ne peut être null");
+        }
+        if(idMembre == null) {
+            throw new InvalidCriterionException("Le id de membre ne peut être null");
+        }
+        return countByNamedQuery(session,
+            PretDTO.COUNT_ACTIVE_BY_MEMBRE_QUERY_NAME,
+            idMembre);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean existsActiveByLivre(Session session,
+        String idLivre) throws InvalidHibernateSessionException,
+        InvalidCriterionException,
+        DAOException {
+        if(session == null) {
+            throw new InvalidHibernateSessionException("La connexion ne peut être null");
+        }
+        if(idLivre == null) {
+            throw new InvalidCriterionException("Le id de livre ne peut être null");
+        }
+        return findFirstByNamedQuery(session,
+            PretDTO.FIND_ACTIVE_IDS_BY_LIVRE_QUERY_NAME,
+            idLivre) != null;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean existsActiveByMembreAndLivre(Session session,
+        String idMembre,
+        String idLivre) throws InvalidHibernateSessionException,
+        InvalidCriterionException,
+        DAOException {
+        if(session == null) {
+            throw new InvalidHibernateSessionException("La connexion ne peut être null");
+        }
+        if(idMembre == null) {
+            throw new InvalidCriterionException("Le id de membre ne peut être null");
+        }
+        if(idLivre == null) {
+            throw new InvalidCriterionException("Le id de livre ne peut être null");
+        }
+        return exists(session,
+            Restrictions.eq(PretDTO.MEMBRE_DTO_ID_COLUMN_NAME,
+                idMembre),
+            Restrictions.eq(PretDTO.LIVRE_DTO_ID_COLUMN_NAME,
+                idLivre),
+            Restrictions.isNull(PretDTO.DATE_RETOUR_COLUMN_NAME));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public PretDTO findFirstActiveByLivre(Session session,
+        String idLivre) throws InvalidHibernateSessionException,
+        InvalidCriterionException,
+        DAOException {
+        if(session == null) {
+            throw new InvalidHibernateSessionException("La connexion ne peut être null");
+        }
+        if(idLivre == null) {
+            throw new InvalidCriterionException("Le id de livre ne peut être null");
+        }
+        return (PretDTO) findFirstByNamedQuery(session,
+            PretDTO.FIND_ACTIVE_BY_LIVRE_QUERY_NAME,
+            idLivre);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @SuppressWarnings("unchecked")
+    @Override
+    public List<PretActifDTO> getAllActifs(Session session,
+        String sortByPropertyName) throws InvalidHibernateSessionException,
+        InvalidSortByPropertyException,
+        DAOException {
+        if(session == null) {
+            throw new InvalidHibernateSessionException("La session Hibernate ne peut être null");
+        }
+        if(sortByPropertyName == null) {
+            throw new InvalidSortByPropertyException("La propriété utilisée pour classer ne peut être null");
+        }
+        try {
+            final Criteria criteria = session.createCriteria(getDtoClass());
+            criteria.createAlias("membreDTO",
+                PretDAO.MEMBRE_ALIAS);
+            criteria.createAlias("livreDTO",
+                PretDAO.LIVRE_ALIAS);
+            criteria.add(Restrictions.isNull(PretDTO.DATE_RETOUR_COLUMN_NAME));
+            criteria.setProjection(Projections.projectionList()
+                .add(Projections.id())
+                .add(Projections.property(PretDTO.DATE_PRET_COLUMN_NAME))
+                .add(Projections.property(PretDAO.MEMBRE_ALIAS
+                    + "."
+                    + MembreDTO.ID_MEMBRE_COLUMN_NAME))
+                .add(Projections.property(PretDAO.MEMBRE_ALIAS
+                    + "."
+                    + MembreDTO.NOM_COLUMN_NAME))
+                .add(Projections.property(PretDAO.LIVRE_ALIAS
+                    + "."
+                    + LivreDTO.ID_LIVRE_COLUMN_NAME))
+                .add(Projections.property(PretDAO.LIVRE_ALIAS
+                    + "."
+                    + LivreDTO.TITRE_COLUMN_NAME)));
+            criteria.addOrder(Order.asc(sortByPropertyName));
+            criteria.setResultTransformer(PretDAO.ACTIF_TRANSFORMER);
+            return criteria.list();
+        } catch(HibernateException hibernateException) {
+            throw new DAOException(hibernateException);
+        }
+    }
 }
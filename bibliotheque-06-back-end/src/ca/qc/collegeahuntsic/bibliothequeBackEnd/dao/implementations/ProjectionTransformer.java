@@ -0,0 +1,51 @@
+// Fichier ProjectionTransformer.java
+// Auteur : Team PayDay
+// Date de création : 2026-10-18
+
+package ca.qc.collegeahuntsic.bibliothequeBackEnd.dao.implementations;
+
+import java.util.List;
+import org.hibernate.transform.ResultTransformer;
+
+/**
+ * Classe de base des {@link ResultTransformer} qui créent une ligne immuable à partir des colonnes d'une projection. Les lignes créées ne
+ * sont pas des entités : la session Hibernate ne les suit pas et ne les vérifie pas au <code>flush</code>.
+ *
+ * @author Team PayDay
+ */
+abstract class ProjectionTransformer implements ResultTransformer {
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Crée le transformateur.
+     */
+    ProjectionTransformer() {
+        super();
+    }
+
+    /**
+     * Crée une ligne à partir des colonnes de la projection, dans l'ordre de la projection.
+     *
+     * @param tuple Les colonnes de la projection
+     * @return La ligne
+     */
+    protected abstract Object creerLigne(Object[] tuple);
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object transformTuple(Object[] tuple,
+        String[] aliases) {
+        return creerLigne(tuple);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @SuppressWarnings("rawtypes")
+    @Override
+    public List transformList(List collection) {
+        return collection;
+    }
+}
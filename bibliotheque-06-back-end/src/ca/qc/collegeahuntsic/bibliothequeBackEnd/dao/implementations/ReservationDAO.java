@@ -11,10 +11,15 @@ import ca.qc.collegeahuntsic.bibliothequeBackEnd.dto.ReservationDTO;
 import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.dao.DAOException;
 import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.dao.InvalidCriterionException;
 import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.dao.InvalidCriterionValueException;
+import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.dao.InvalidFetchPlanException;
 import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.dao.InvalidHibernateSessionException;
+import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.dao.InvalidPageRequestException;
 import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.dao.InvalidSortByPropertyException;
 import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.dto.InvalidDTOClassException;
+import ca.qc.collegeahuntsic.bibliothequeBackEnd.util.FetchPlan;
+import ca.qc.collegeahuntsic.bibliothequeBackEnd.util.Page;
 import org.hibernate.Session;
+import org.hibernate.criterion.Restrictions;
 
 /**
  * DAO pour effectuer des CRUDs avec la table <code>reservation</code>.
@@ -56,14 +61,74 @@ public class ReservationDAO extends DAO implements IReservationDAO {
         }
         List<ReservationDTO> reservations = Collections.emptyList();
 
-        reservations = (List<ReservationDTO>) find(session,
-            ReservationDTO.ID_LIVRE_COLUMN_NAME,
-            idLivre,
-            sortByPropertyName);
+        if(ReservationDTO.DATE_RESERVATION_COLUMN_NAME.equals(sortByPropertyName)) {
+            reservations = (List<ReservationDTO>) findByNamedQuery(session,
+                ReservationDTO.FIND_BY_LIVRE_QUERY_NAME,
+                idLivre);
+        } else {
+            reservations = (List<ReservationDTO>) find(session,
+                ReservationDTO.ID_LIVRE_COLUMN_NAME,
+                idLivre,
+                sortByPropertyName);
+        }
 
         return reservations;
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @SuppressWarnings("unchecked")
+    @Override
+    public Page<ReservationDTO> findByLivre(Session session,
+        String idLivre,
+        String sortByPropertyName,
+        int pageSize,
+        String continuationToken) throws InvalidHibernateSessionException,
+        InvalidCriterionException,
+        InvalidSortByPropertyException,
+        InvalidPageRequestException,
+        DAOException {
+        if(session == null) {
+            throw new InvalidHibernateSessionException("La connexion ne peut être null");
+        }
+        if(idLivre == null) {
+            throw new InvalidCriterionException("Le id de livre ne peut être null");
+        }
+        return (Page<ReservationDTO>) findPage(session,
+            sortByPropertyName,
+            pageSize,
+            continuationToken,
+            Restrictions.eq(ReservationDTO.LIVRE_DTO_ID_COLUMN_NAME,
+                idLivre));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @SuppressWarnings("unchecked")
+    @Override
+    public List<ReservationDTO> findByLivre(Session session,
+        String idLivre,
+        String sortByPropertyName,
+        FetchPlan fetchPlan) throws InvalidHibernateSessionException,
+        InvalidCriterionException,
+        InvalidSortByPropertyException,
+        InvalidFetchPlanException,
+        DAOException {
+        if(session == null) {
+            throw new InvalidHibernateSessionException("La session ne peut être null");
+        }
+        if(idLivre == null) {
+            throw new InvalidCriterionException("Le id du livre ne peut être null");
+        }
+        return (List<ReservationDTO>) findAll(session,
+            sortByPropertyName,
+            fetchPlan,
+            Restrictions.eq(ReservationDTO.LIVRE_DTO_ID_COLUMN_NAME,
+                idLivre));
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -94,4 +159,121 @@ public class ReservationDAO extends DAO implements IReservationDAO {
 
         return reservations;
     }
+
+    /**
+     * {@inheritDoc}
+     */
+    @SuppressWarnings("unchecked")
+    @Override
+    public Page<ReservationDTO> findByMembre(Session session,
+        String idMembre,
+        String sortByPropertyName,
+        int pageSize,
+        String continuationToken) throws InvalidHibernateSessionException,
+        InvalidCriterionException,
+        InvalidSortByPropertyException,
+        InvalidPageRequestException,
+        DAOException {
+        if(session == null) {
+            throw new InvalidHibernateSessionException("La connexion ne peut être null");
+        }
+        if(idMembre == null) {
+            throw new InvalidCriterionException("Le id de membre ne peut être null");
+        }
+        return (Page<ReservationDTO>) findPage(session,
+            sortByPropertyName,
+            pageSize,
+            continuationToken,
+            Restrictions.eq(ReservationDTO.MEMBRE_DTO_ID_COLUMN_NAME,
+                idMembre));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @SuppressWarnings("unchecked")
+    @Override
+    public List<ReservationDTO> findByMembre(Session session,
+        String idMembre,
+        String sortByPropertyName,
+        FetchPlan fetchPlan) throws InvalidHibernateSessionException,
+        InvalidCriterionException,
+        InvalidSortByPropertyException,
+        InvalidFetchPlanException,
+        DAOException {
+        if(session == null) {
+            throw new InvalidHibernateSessionException("La session ne peut être null");
+        }
+        if(idMembre == null) {
+            throw new InvalidCriterionException("Le id du membre ne peut être null");
+        }
+        return (List<ReservationDTO>) findAll(session,
+            sortByPropertyName,
+            fetchPlan,
+            Restrictions.eq(ReservationDTO.MEMBRE_DTO_ID_COLUMN_NAME,
+                idMembre));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public ReservationDTO findFirstReservationByLivre(Session session,
+        String idLivre) throws InvalidHibernateSessionException,
+        InvalidCriterionException,
+        DAOException {
+        if(session == null) {
+            throw new InvalidHibernateSessionException("La session ne peut être null");
+        }
+        if(idLivre == null) {
+            throw new InvalidCriterionException("Le id du livre ne peut être null");
+        }
+        return (ReservationDTO) findFirstByNamedQuery(session,
+            ReservationDTO.FIND_BY_LIVRE_QUERY_NAME,
+            idLivre);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean existsByMembre(Session session,
+        String idMembre) throws InvalidHibernateSessionException,
+        InvalidCriterionException,
+        DAOException {
+        if(session == null) {
+            throw new InvalidHibernateSessionException("La session ne peut être null");
+        }
+        if(idMembre == null) {
+            throw new InvalidCriterionException("Le id du membre ne peut être null");
+        }
+        return exists(session,
+            Restrictions.eq(ReservationDTO.MEMBRE_DTO_ID_COLUMN_NAME,
+                idMembre));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean existsByMembreAndLivre(Session session,
+        String idMembre,
+        String idLivre) throws InvalidHibernateSessionException,
+        InvalidCriterionException,
+        DAOException {
+        if(session == null) {
+            throw new InvalidHibernateSessionException("La session ne peut être null");
+        }
+        if(idMembre == null) {
+            throw new InvalidCriterionException("Le id du membre ne peut être null");
+        }
+        if(idLivre == null) {
+            throw new InvalidCriterionException("Le id du livre ne peut être null");
+        }
+        return exists(session,
+            Restrictions.eq(ReservationDTO.MEMBRE_DTO_ID_COLUMN_NAME,
+                idMembre),
+            Restrictions.eq(ReservationDTO.LIVRE_DTO_ID_COLUMN_NAME,
+                idLivre));
+    }
 }
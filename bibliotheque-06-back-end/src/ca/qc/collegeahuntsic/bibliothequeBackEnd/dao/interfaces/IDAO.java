@@ -5,13 +5,18 @@
 package ca.qc.collegeahuntsic.bibliothequeBackEnd.dao.interfaces;
 
 import java.io.Serializable;
+import java.util.Collection;
 import java.util.List;
 import ca.qc.collegeahuntsic.bibliothequeBackEnd.dto.DTO;
 import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.dao.DAOException;
+import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.dao.InvalidFetchPlanException;
 import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.dao.InvalidHibernateSessionException;
+import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.dao.InvalidPageRequestException;
 import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.dao.InvalidPrimaryKeyException;
 import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.dao.InvalidSortByPropertyException;
 import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.dto.InvalidDTOException;
+import ca.qc.collegeahuntsic.bibliothequeBackEnd.util.FetchPlan;
+import ca.qc.collegeahuntsic.bibliothequeBackEnd.util.Page;
 import org.hibernate.Session;
 
 /**
@@ -50,6 +55,26 @@ public interface IDAO {
         InvalidPrimaryKeyException,
         DAOException;
 
+    /**
+     * Lit un DTO et les associations du plan de chargement <code>fetchPlan</code> avec une seule requête. Si aucun DTO n'est trouvé,
+     * <code>null</code> est retourné.
+     *
+     * @param session La session Hibernate à utiliser
+     * @param primaryKey La clef primaire du DTO à lire
+     * @param fetchPlan Le plan de chargement à utiliser
+     * @return Le DTO lu ; <code>null</code> sinon
+     * @throws InvalidHibernateSessionException Si la session Hibernate est <code>null</code>
+     * @throws InvalidPrimaryKeyException Si la clef primaire du DTO est <code>null</code>
+     * @throws InvalidFetchPlanException Si le plan de chargement est <code>null</code> ou s'il est prévu pour une autre classe de DTO
+     * @throws DAOException S'il y a une erreur avec la base de données
+     */
+    DTO get(Session session,
+        Serializable primaryKey,
+        FetchPlan fetchPlan) throws InvalidHibernateSessionException,
+        InvalidPrimaryKeyException,
+        InvalidFetchPlanException,
+        DAOException;
+
     /**
      * Met à jour un DTO dans la base de données.
      *
@@ -92,6 +117,54 @@ public interface IDAO {
         InvalidDTOException,
         DAOException;
 
+    /**
+     * Ajoute de nouveaux DTOs dans la base de données, par lots JDBC de <code>hibernate.jdbc.batch_size</code> requêtes. La session est vidée
+     * (<code>flush</code>) après chaque lot, puis les DTOs du lot en sont évincés (<code>evict</code>) ; les autres DTOs de la session restent
+     * attachés.
+     *
+     * @param session La session Hibernate à utiliser
+     * @param dtos Les DTOs à ajouter
+     * @throws InvalidHibernateSessionException Si la session Hibernate est <code>null</code>
+     * @throws InvalidDTOException Si la collection de DTOs est <code>null</code> ou si un des DTOs est <code>null</code>
+     * @throws DAOException S'il y a une erreur avec la base de données
+     */
+    void addAll(Session session,
+        Collection<? extends DTO> dtos) throws InvalidHibernateSessionException,
+        InvalidDTOException,
+        DAOException;
+
+    /**
+     * Met à jour des DTOs dans la base de données, par lots JDBC de <code>hibernate.jdbc.batch_size</code> requêtes. La session est vidée
+     * (<code>flush</code>) après chaque lot, puis les DTOs du lot en sont évincés (<code>evict</code>) ; les autres DTOs de la session restent
+     * attachés.
+     *
+     * @param session La session Hibernate à utiliser
+     * @param dtos Les DTOs à mettre à jour
+     * @throws InvalidHibernateSessionException Si la session Hibernate est <code>null</code>
+     * @throws InvalidDTOException Si la collection de DTOs est <code>null</code> ou si un des DTOs est <code>null</code>
+     * @throws DAOException S'il y a une erreur avec la base de données
+     */
+    void updateAll(Session session,
+        Collection<? extends DTO> dtos) throws InvalidHibernateSessionException,
+        InvalidDTOException,
+        DAOException;
+
+    /**
+     * Supprime des DTOs de la base de données, par lots JDBC de <code>hibernate.jdbc.batch_size</code> requêtes. La session est vidée
+     * (<code>flush</code>) après chaque lot, puis les DTOs du lot en sont évincés (<code>evict</code>) ; les autres DTOs de la session restent
+     * attachés.
+     *
+     * @param session La session Hibernate à utiliser
+     * @param dtos Les DTOs à supprimer
+     * @throws InvalidHibernateSessionException Si la session Hibernate est <code>null</code>
+     * @throws InvalidDTOException Si la collection de DTOs est <code>null</code> ou si un des DTOs est <code>null</code>
+     * @throws DAOException S'il y a une erreur avec la base de données
+     */
+    void deleteAll(Session session,
+        Collection<? extends DTO> dtos) throws InvalidHibernateSessionException,
+        InvalidDTOException,
+        DAOException;
+
     /**
      * Trouve tous les DTOs de la base de données. La liste est classée par ordre croissant sur <code>sortByPropertyName</code>. Si aucun
      * DTO n'est trouvé, une {@link List} vide est retournée.
@@ -107,4 +180,81 @@ public interface IDAO {
         String sortByPropertyName) throws InvalidHibernateSessionException,
         InvalidSortByPropertyException,
         DAOException;
+
+    /**
+     * Trouve tous les DTOs de la base de données et les associations du plan de chargement <code>fetchPlan</code> avec une seule requête.
+     * La liste est classée par ordre croissant sur <code>sortByPropertyName</code> puis sur l'ID. Si aucun DTO n'est trouvé, une
+     * {@link List} vide est retournée.
+     *
+     * @param session La session Hibernate à utiliser
+     * @param sortByPropertyName Le nom de la propriété à utiliser pour classer
+     * @param fetchPlan Le plan de chargement à utiliser
+     * @return La liste de tous les DTOs ; une liste vide sinon
+     * @throws InvalidHibernateSessionException Si la session Hibernate est <code>null</code>
+     * @throws InvalidSortByPropertyException Si la propriété à utiliser pour classer est <code>null</code>
+     * @throws InvalidFetchPlanException Si le plan de chargement est <code>null</code> ou s'il est prévu pour une autre classe de DTO
+     * @throws DAOException S'il y a une erreur avec la base de données
+     */
+    List<? extends DTO> getAll(Session session,
+        String sortByPropertyName,
+        FetchPlan fetchPlan) throws InvalidHibernateSessionException,
+        InvalidSortByPropertyException,
+        InvalidFetchPlanException,
+        DAOException;
+
+    /**
+     * Trouve une page de tous les DTOs de la base de données. Les DTOs sont classés par ordre croissant sur <code>sortByPropertyName</code>
+     * puis sur l'ID. Sans jeton de continuation, la première page est retournée et la pagination se fait par clef (voir
+     * {@link ca.qc.collegeahuntsic.bibliothequeBackEnd.util.ContinuationToken}).
+     *
+     * @param session La session Hibernate à utiliser
+     * @param sortByPropertyName Le nom de la propriété à utiliser pour classer
+     * @param pageSize Le nombre maximal de DTOs de la page
+     * @param continuationToken Le jeton retourné avec la page précédente ; <code>null</code> pour la première page
+     * @return La page de DTOs
+     * @throws InvalidHibernateSessionException Si la session Hibernate est <code>null</code>
+     * @throws InvalidSortByPropertyException Si la propriété à utiliser pour classer est <code>null</code>
+     * @throws InvalidPageRequestException Si la taille de la page n'est pas positive ou si le jeton de continuation est invalide
+     * @throws DAOException S'il y a une erreur avec la base de données
+     */
+    Page<? extends DTO> getAll(Session session,
+        String sortByPropertyName,
+        int pageSize,
+        String continuationToken) throws InvalidHibernateSessionException,
+        InvalidSortByPropertyException,
+        InvalidPageRequestException,
+        DAOException;
+
+    /**
+     * Parcourt tous les DTOs de la base de données sans les charger tous en mémoire. Les DTOs sont classés par ordre croissant sur
+     * <code>sortByPropertyName</code>. Le parcours retourné doit être fermé.
+     *
+     * @param session La session Hibernate à utiliser
+     * @param sortByPropertyName Le nom de la propriété à utiliser pour classer
+     * @return Le parcours des DTOs
+     * @throws InvalidHibernateSessionException Si la session Hibernate est <code>null</code>
+     * @throws InvalidSortByPropertyException Si la propriété à utiliser pour classer est <code>null</code>
+     * @throws DAOException S'il y a une erreur avec la base de données
+     */
+    IDTOStream stream(Session session,
+        String sortByPropertyName) throws InvalidHibernateSessionException,
+        InvalidSortByPropertyException,
+        DAOException;
+
+    /**
+     * Applique un traitement à tous les DTOs de la base de données, un à la fois, sans les charger tous en mémoire. Les DTOs sont traités par
+     * ordre croissant sur <code>sortByPropertyName</code>.
+     *
+     * @param session La session Hibernate à utiliser
+     * @param sortByPropertyName Le nom de la propriété à utiliser pour classer
+     * @param handler Le traitement à appliquer
+     * @throws InvalidHibernateSessionException Si la session Hibernate est <code>null</code>
+     * @throws InvalidSortByPropertyException Si la propriété à utiliser pour classer est <code>null</code>
+     * @throws DAOException S'il y a une erreur avec la base de données ou si le traitement est <code>null</code>
+     */
+    void forEach(Session session,
+        String sortByPropertyName,
+        IDTOHandler handler) throws InvalidHibernateSessionException,
+        InvalidSortByPropertyException,
+        DAOException;
 }
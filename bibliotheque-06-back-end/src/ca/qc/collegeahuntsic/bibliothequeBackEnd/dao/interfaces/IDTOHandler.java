@@ -0,0 +1,23 @@
+// Fichier IDTOHandler.java
+// Auteur : Team PayDay
+// Date de création : 2026-10-18
+
+package ca.qc.collegeahuntsic.bibliothequeBackEnd.dao.interfaces;
+
+import ca.qc.collegeahuntsic.bibliothequeBackEnd.dto.DTO;
+import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.dao.DAOException;
+
+/**
+ * Traitement appliqué à chaque DTO par {@link IDAO#forEach(org.hibernate.Session, String, IDTOHandler)}.
+ *
+ * @author Team PayDay
+ */
+public interface IDTOHandler {
+    /**
+     * Traite un DTO. Le DTO ne doit pas être conservé après l'appel : la session Hibernate est nettoyée régulièrement pendant le parcours.
+     *
+     * @param dto Le DTO à traiter
+     * @throws DAOException S'il y a une erreur avec la base de données
+     */
+    void handle(DTO dto) throws DAOException;
+}
@@ -0,0 +1,44 @@
+// Fichier IDTOStream.java
+// Auteur : Team PayDay
+// Date de création : 2026-10-18
+
+package ca.qc.collegeahuntsic.bibliothequeBackEnd.dao.interfaces;
+
+import ca.qc.collegeahuntsic.bibliothequeBackEnd.dto.DTO;
+import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.dao.DAOException;
+
+/**
+ * Parcours en avant seulement des DTOs retournés par une requête. Les DTOs sont lus de la base de données au fur et à mesure, par lots
+ * de <code>hibernate.jdbc.fetch_size</code> lignes, au lieu d'être tous chargés en mémoire.
+ *
+ * Un DTO retourné par {@link #next()} ne doit plus être utilisé une fois le DTO suivant demandé : les DTOs retournés sont régulièrement
+ * évincés de la session Hibernate pendant le parcours. Le parcours doit être fermé, par exemple avec un bloc <code>try</code>-with-resources.
+ *
+ * @author Team PayDay
+ */
+public interface IDTOStream extends AutoCloseable {
+    /**
+     * Vérifie s'il reste un DTO à parcourir.
+     *
+     * @return <code>true</code> s'il reste un DTO, <code>false</code> sinon
+     * @throws DAOException S'il y a une erreur avec la base de données
+     */
+    boolean hasNext() throws DAOException;
+
+    /**
+     * Retourne le DTO suivant.
+     *
+     * @return Le DTO suivant
+     * @throws java.util.NoSuchElementException S'il ne reste aucun DTO
+     * @throws DAOException S'il y a une erreur avec la base de données
+     */
+    DTO next() throws DAOException;
+
+    /**
+     * Ferme le parcours et libère le curseur de la base de données.
+     *
+     * @throws DAOException S'il y a une erreur avec la base de données
+     */
+    @Override
+    void close() throws DAOException;
+}
@@ -6,11 +6,14 @@ package ca.qc.collegeahuntsic.bibliothequeBackEnd.dao.interfaces;
 
 import java.util.List;
 import ca.qc.collegeahuntsic.bibliothequeBackEnd.dto.LivreDTO;
+import ca.qc.collegeahuntsic.bibliothequeBackEnd.dto.LivreResumeDTO;
 import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.dao.DAOException;
 import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.dao.InvalidCriterionException;
 import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.dao.InvalidCriterionValueException;
 import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.dao.InvalidHibernateSessionException;
+import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.dao.InvalidPageRequestException;
 import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.dao.InvalidSortByPropertyException;
+import ca.qc.collegeahuntsic.bibliothequeBackEnd.util.Page;
 import org.hibernate.Session;
 
 /**
@@ -20,8 +23,8 @@ import org.hibernate.Session;
  */
 public interface ILivreDAO extends IDAO {
     /**
-     * Trouve les livres à partir d'un titre. La liste est classée par ordre croissant sur <code>sortByPropertyName</code>. Si aucun livre
-     * n'est trouvé, une {@link List} vide est retournée.
+     * Trouve les livres à partir d'un titre, sans tenir compte de la casse. La liste est classée par ordre croissant sur
+     * <code>sortByPropertyName</code>. Si aucun livre n'est trouvé, une {@link List} vide est retournée.
      *
      * @param session La session Hibernate à utiliser
      * @param titre Le titre à trouver
@@ -40,4 +43,47 @@ public interface ILivreDAO extends IDAO {
         InvalidCriterionValueException,
         InvalidSortByPropertyException,
         DAOException;
+
+    /**
+     * Trouve une page des livres à partir d'un titre, sans tenir compte de la casse. Les livres sont classés par ordre croissant sur
+     * <code>sortByPropertyName</code> puis sur l'ID ; la pagination est décrite par {@link IDAO#getAll(Session, String, int, String)}.
+     *
+     * @param session La session Hibernate à utiliser
+     * @param titre Le titre à trouver
+     * @param sortByPropertyName Le nom de la propriété à utiliser pour classer
+     * @param pageSize Le nombre maximal de livres de la page
+     * @param continuationToken Le jeton retourné avec la page précédente ; <code>null</code> pour la première page
+     * @return La page des livres correspondants
+     * @throws InvalidHibernateSessionException Si la session Hibernate est <code>null</code>
+     * @throws InvalidCriterionException Si le titre est <code>null</code>
+     * @throws InvalidSortByPropertyException Si la propriété à utiliser pour classer est <code>null</code>
+     * @throws InvalidPageRequestException Si la taille de la page n'est pas positive ou si le jeton de continuation est invalide
+     * @throws DAOException S'il y a une erreur avec la base de données
+     */
+    Page<LivreDTO> findByTitre(Session session,
+        String titre,
+        String sortByPropertyName,
+        int pageSize,
+        String continuationToken) throws InvalidHibernateSessionException,
+        InvalidCriterionException,
+        InvalidSortByPropertyException,
+        InvalidPageRequestException,
+        DAOException;
+
+    /**
+     * Trouve le résumé de tous les livres : l'ID, le titre, l'auteur et la disponibilité. Les résumés sont lus par une projection, sans
+     * charger les livres dans la session Hibernate. La liste est classée par ordre croissant sur <code>sortByPropertyName</code>. Si aucun
+     * livre n'est trouvé, une {@link List} vide est retournée.
+     *
+     * @param session La session Hibernate à utiliser
+     * @param sortByPropertyName Le nom de la propriété à utiliser pour classer
+     * @return La liste des résumés de livres ; une liste vide sinon
+     * @throws InvalidHibernateSessionException Si la session Hibernate est <code>null</code>
+     * @throws InvalidSortByPropertyException Si la propriété à utiliser pour classer est <code>null</code>
+     * @throws DAOException S'il y a une erreur avec la base de données
+     */
+    List<LivreResumeDTO> getAllResumes(Session session,
+        String sortByPropertyName) throws InvalidHibernateSessionException,
+        InvalidSortByPropertyException,
+        DAOException;
 }
@@ -6,11 +6,14 @@ package ca.qc.collegeahuntsic.bibliothequeBackEnd.dao.interfaces;
 
 import java.util.List;
 import ca.qc.collegeahuntsic.bibliothequeBackEnd.dto.MembreDTO;
+import ca.qc.collegeahuntsic.bibliothequeBackEnd.dto.MembreResumeDTO;
 import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.dao.DAOException;
 import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.dao.InvalidCriterionException;
 import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.dao.InvalidCriterionValueException;
 import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.dao.InvalidHibernateSessionException;
+import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.dao.InvalidPageRequestException;
 import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.dao.InvalidSortByPropertyException;
+import ca.qc.collegeahuntsic.bibliothequeBackEnd.util.Page;
 import org.hibernate.Session;
 
 /**
@@ -21,8 +24,8 @@ import org.hibernate.Session;
 public interface IMembreDAO extends IDAO {
     /**
      *
-     * Trouve les membres à partir d'un nom. La liste est classée par ordre croissant sur sortByPropertyName.
-     *      Si aucun membre n'est trouvé, une List vide est retournée.
+     * Trouve les membres à partir d'un nom, sans tenir compte de la casse. La liste est classée par ordre croissant sur
+     * sortByPropertyName. Si aucun membre n'est trouvé, une List vide est retournée.
      *
      * @param session La session Hibernate à utiliser
      * @param nom Le nom à trouver
@@ -42,4 +45,47 @@ public interface IMembreDAO extends IDAO {
         InvalidSortByPropertyException,
         DAOException;
 
+    /**
+     * Trouve une page des membres à partir d'un nom, sans tenir compte de la casse. Les membres sont classés par ordre croissant sur
+     * <code>sortByPropertyName</code> puis sur l'ID ; la pagination est décrite par {@link IDAO#getAll(Session, String, int, String)}.
+     *
+     * @param session La session Hibernate à utiliser
+     * @param nom Le nom à trouver
+     * @param sortByPropertyName Le nom de la propriété à utiliser pour classer
+     * @param pageSize Le nombre maximal de membres de la page
+     * @param continuationToken Le jeton retourné avec la page précédente ; <code>null</code> pour la première page
+     * @return La page des membres correspondants
+     * @throws InvalidHibernateSessionException Si la session Hibernate est <code>null</code>
+     * @throws InvalidCriterionException Si le nom est <code>null</code>
+     * @throws InvalidSortByPropertyException Si la propriété à utiliser pour classer est <code>null</code>
+     * @throws InvalidPageRequestException Si la taille de la page n'est pas positive ou si le jeton de continuation est invalide
+     * @throws DAOException S'il y a une erreur avec la base de données
+     */
+    Page<MembreDTO> findByNom(Session session,
+        String nom,
+        String sortByPropertyName,
+        int pageSize,
+        String continuationToken) throws InvalidHibernateSessionException,
+        InvalidCriterionException,
+        InvalidSortByPropertyException,
+        InvalidPageRequestException,
+        DAOException;
+
+
+    /**
+     * Trouve le résumé de tous les membres : l'ID, le nom, le téléphone, la limite de prêts et le nombre de prêts en cours. Les résumés sont lus
+     * par une projection, sans charger les membres dans la session Hibernate. La liste est classée par ordre croissant sur
+     * <code>sortByPropertyName</code>. Si aucun membre n'est trouvé, une {@link List} vide est retournée.
+     *
+     * @param session La session Hibernate à utiliser
+     * @param sortByPropertyName Le nom de la propriété à utiliser pour classer
+     * @return La liste des résumés de membres ; une liste vide sinon
+     * @throws InvalidHibernateSessionException Si la session Hibernate est <code>null</code>
+     * @throws InvalidSortByPropertyException Si la propriété à utiliser pour classer est <code>null</code>
+     * @throws DAOException S'il y a une erreur avec la base de données
+     */
+    List<MembreResumeDTO> getAllResumes(Session session,
+        String sortByPropertyName) throws InvalidHibernateSessionException,
+        InvalidSortByPropertyException,
+        DAOException;
 }
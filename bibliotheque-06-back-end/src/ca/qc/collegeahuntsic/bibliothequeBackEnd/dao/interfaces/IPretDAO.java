@@ -6,12 +6,17 @@ package ca.qc.collegeahuntsic.bibliothequeBackEnd.dao.interfaces;
 
 import java.sql.Timestamp;
 import java.util.List;
+import ca.qc.collegeahuntsic.bibliothequeBackEnd.dto.PretActifDTO;
 import ca.qc.collegeahuntsic.bibliothequeBackEnd.dto.PretDTO;
 import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.dao.DAOException;
 import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.dao.InvalidCriterionException;
 import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.dao.InvalidCriterionValueException;
+import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.dao.InvalidFetchPlanException;
 import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.dao.InvalidHibernateSessionException;
+import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.dao.InvalidPageRequestException;
 import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.dao.InvalidSortByPropertyException;
+import ca.qc.collegeahuntsic.bibliothequeBackEnd.util.FetchPlan;
+import ca.qc.collegeahuntsic.bibliothequeBackEnd.util.Page;
 import org.hibernate.Session;
 
 /**
@@ -41,6 +46,57 @@ public interface IPretDAO extends IDAO {
         InvalidSortByPropertyException,
         DAOException;
 
+    /**
+     * Trouve une page des prêts à partir de l'ID d'un membre. Les prêts sont classés par ordre croissant sur <code>sortByPropertyName</code>
+     * puis sur l'ID ; la pagination est décrite par {@link IDAO#getAll(Session, String, int, String)}.
+     *
+     * @param session La session Hibernate à utiliser
+     * @param idMembre L'ID du membre à trouver
+     * @param sortByPropertyName Le nom de la propriété à utiliser pour classer
+     * @param pageSize Le nombre maximal de prêts de la page
+     * @param continuationToken Le jeton retourné avec la page précédente ; <code>null</code> pour la première page
+     * @return La page des prêts correspondants
+     * @throws InvalidHibernateSessionException Si la session Hibernate est <code>null</code>
+     * @throws InvalidCriterionException Si l'ID du membre est <code>null</code>
+     * @throws InvalidSortByPropertyException Si la propriété à utiliser pour classer est <code>null</code>
+     * @throws InvalidPageRequestException Si la taille de la page n'est pas positive ou si le jeton de continuation est invalide
+     * @throws DAOException S'il y a une erreur avec la base de données
+     */
+    Page<PretDTO> findByMembre(Session session,
+        String idMembre,
+        String sortByPropertyName,
+        int pageSize,
+        String continuationToken) throws InvalidHibernateSessionException,
+        InvalidCriterionException,
+        InvalidSortByPropertyException,
+        InvalidPageRequestException,
+        DAOException;
+
+    /**
+     * Trouve les prêts d'un membre et les associations du plan de chargement <code>fetchPlan</code> avec une seule requête, par exemple
+     * {@link FetchPlan#LOAN_WITH_BOOK}. La liste est classée par ordre croissant sur <code>sortByPropertyName</code> puis sur l'ID. Si aucun
+     * prêt n'est trouvé, une {@link List} vide est retournée.
+     *
+     * @param session La session Hibernate à utiliser
+     * @param idMembre L'ID du membre
+     * @param sortByPropertyName Le nom de la propriété à utiliser pour classer
+     * @param fetchPlan Le plan de chargement à utiliser
+     * @return La liste des prêts correspondants ; une liste vide sinon
+     * @throws InvalidHibernateSessionException Si la session Hibernate est <code>null</code>
+     * @throws InvalidCriterionException Si l'ID du membre est <code>null</code>
+     * @throws InvalidSortByPropertyException Si la propriété à utiliser pour classer est <code>null</code>
+     * @throws InvalidFetchPlanException Si le plan de chargement est <code>null</code> ou s'il est prévu pour une autre classe de DTO
+     * @throws DAOException S'il y a une erreur avec la base de données
+     */
+    List<PretDTO> findByMembre(Session session,
+        String idMembre,
+        String sortByPropertyName,
+        FetchPlan fetchPlan) throws InvalidHibernateSessionException,
+        InvalidCriterionException,
+        InvalidSortByPropertyException,
+        InvalidFetchPlanException,
+        DAOException;
+
     /**
      * Trouve les prêts non retournés d'un livre. La liste est classée par ordre croissant sur sortByPropertyName. Si aucun prêt n'est trouvé, une List vide est retournée.
      *
@@ -62,6 +118,57 @@ public interface IPretDAO extends IDAO {
         InvalidSortByPropertyException,
         DAOException;
 
+    /**
+     * Trouve une page des prêts à partir de l'ID d'un livre. Les prêts sont classés par ordre croissant sur <code>sortByPropertyName</code>
+     * puis sur l'ID ; la pagination est décrite par {@link IDAO#getAll(Session, String, int, String)}.
+     *
+     * @param session La session Hibernate à utiliser
+     * @param idLivre L'ID du livre à trouver
+     * @param sortByPropertyName Le nom de la propriété à utiliser pour classer
+     * @param pageSize Le nombre maximal de prêts de la page
+     * @param continuationToken Le jeton retourné avec la page précédente ; <code>null</code> pour la première page
+     * @return La page des prêts correspondants
+     * @throws InvalidHibernateSessionException Si la session Hibernate est <code>null</code>
+     * @throws InvalidCriterionException Si l'ID du livre est <code>null</code>
+     * @throws InvalidSortByPropertyException Si la propriété à utiliser pour classer est <code>null</code>
+     * @throws InvalidPageRequestException Si la taille de la page n'est pas positive ou si le jeton de continuation est invalide
+     * @throws DAOException S'il y a une erreur avec la base de données
+     */
+    Page<PretDTO> findByLivre(Session session,
+        String idLivre,
+        String sortByPropertyName,
+        int pageSize,
+        String continuationToken) throws InvalidHibernateSessionException,
+        InvalidCriterionException,
+        InvalidSortByPropertyException,
+        InvalidPageRequestException,
+        DAOException;
+
+    /**
+     * Trouve les prêts d'un livre et les associations du plan de chargement <code>fetchPlan</code> avec une seule requête, par exemple
+     * {@link FetchPlan#LOAN_WITH_BOOK}. La liste est classée par ordre croissant sur <code>sortByPropertyName</code> puis sur l'ID. Si aucun
+     * prêt n'est trouvé, une {@link List} vide est retournée.
+     *
+     * @param session La session Hibernate à utiliser
+     * @param idLivre L'ID du livre
+     * @param sortByPropertyName Le nom de la propriété à utiliser pour classer
+     * @param fetchPlan Le plan de chargement à utiliser
+     * @return La liste des prêts correspondants ; une liste vide sinon
+     * @throws InvalidHibernateSessionException Si la session Hibernate est <code>null</code>
+     * @throws InvalidCriterionException Si l'ID du livre est <code>null</code>
+     * @throws InvalidSortByPropertyException Si la propriété à utiliser pour classer est <code>null</code>
+     * @throws InvalidFetchPlanException Si le plan de chargement est <code>null</code> ou s'il est prévu pour une autre classe de DTO
+     * @throws DAOException S'il y a une erreur avec la base de données
+     */
+    List<PretDTO> findByLivre(Session session,
+        String idLivre,
+        String sortByPropertyName,
+        FetchPlan fetchPlan) throws InvalidHibernateSessionException,
+        InvalidCriterionException,
+        InvalidSortByPropertyException,
+        InvalidFetchPlanException,
+        DAOException;
+
     /**
      * Trouve les prêts à partir d'une date de prêt. La liste est classée par ordre croissant sur sortByPropertyName. Si aucun prêt n'est trouvé, une List vide est retournée
      *
@@ -83,6 +190,32 @@ public interface IPretDAO extends IDAO {
         InvalidSortByPropertyException,
         DAOException;
 
+    /**
+     * Trouve une page des prêts à partir d'une date de prêt. Les prêts sont classés par ordre croissant sur <code>sortByPropertyName</code>
+     * puis sur l'ID ; la pagination est décrite par {@link IDAO#getAll(Session, String, int, String)}.
+     *
+     * @param session La session Hibernate à utiliser
+     * @param datePret La date de prêt à trouver
+     * @param sortByPropertyName Le nom de la propriété à utiliser pour classer
+     * @param pageSize Le nombre maximal de prêts de la page
+     * @param continuationToken Le jeton retourné avec la page précédente ; <code>null</code> pour la première page
+     * @return La page des prêts correspondants
+     * @throws InvalidHibernateSessionException Si la session Hibernate est <code>null</code>
+     * @throws InvalidCriterionException Si la date de prêt est <code>null</code>
+     * @throws InvalidSortByPropertyException Si la propriété à utiliser pour classer est <code>null</code>
+     * @throws InvalidPageRequestException Si la taille de la page n'est pas positive ou si le jeton de continuation est invalide
+     * @throws DAOException S'il y a une erreur avec la base de données
+     */
+    Page<PretDTO> findByDatePret(Session session,
+        Timestamp datePret,
+        String sortByPropertyName,
+        int pageSize,
+        String continuationToken) throws InvalidHibernateSessionException,
+        InvalidCriterionException,
+        InvalidSortByPropertyException,
+        InvalidPageRequestException,
+        DAOException;
+
     /**
      * Trouve les prêts à partir d'une date de retour. La liste est classée par ordre croissant sur sortByPropertyName. Si aucun prêt n'est trouvé, une List vide est retournée.
      *
@@ -103,4 +236,176 @@ public interface IPretDAO extends IDAO {
         InvalidCriterionValueException,
         InvalidSortByPropertyException,
         DAOException;
+
+    /**
+     * Trouve une page des prêts à partir d'une date de retour. Les prêts sont classés par ordre croissant sur <code>sortByPropertyName</code>
+     * puis sur l'ID ; la pagination est décrite par {@link IDAO#getAll(Session, String, int, String)}.
+     *
+     * @param session La session Hibernate à utiliser
+     * @param dateRetour La date de retour à trouver
+     * @param sortByPropertyName Le nom de la propriété à utiliser pour classer
+     * @param pageSize Le nombre maximal de prêts de la page
+     * @param continuationToken Le jeton retourné avec la page précédente ; <code>null</code> pour la première page
+     * @return La page des prêts correspondants
+     * @throws InvalidHibernateSessionException Si la session Hibernate est <code>null</code>
+     * @throws InvalidCriterionException Si la date de retour est <code>null</code>
+     * @throws InvalidSortByPropertyException Si la propriété à utiliser pour classer est <code>null</code>
+     * @throws InvalidPageRequestException Si la taille de la page n'est pas positive ou si le jeton de continuation est invalide
+     * @throws DAOException S'il y a une erreur avec la base de données
+     */
+    Page<PretDTO> findByDateRetour(Session session,
+        Timestamp dateRetour,
+        String sortByPropertyName,
+        int pageSize,
+        String continuationToken) throws InvalidHibernateSessionException,
+        InvalidCriterionException,
+        InvalidSortByPropertyException,
+        InvalidPageRequestException,
+        DAOException;
+
+    /**
+     * Trouve les prêts dont la date de prêt est dans l'intervalle semi-ouvert <code>[from, to[</code>, avec une seule requête. La liste est
+     * classée par ordre croissant sur <code>sortByPropertyName</code> puis sur l'ID. Si aucun prêt n'est trouvé, une {@link List} vide est
+     * retournée.
+     *
+     * @param session La session Hibernate à utiliser
+     * @param from La première date de prêt, incluse
+     * @param to La dernière date de prêt, exclue
+     * @param sortByPropertyName Le nom de la propriété à utiliser pour classer
+     * @return La liste des prêts correspondants ; une liste vide sinon
+     * @throws InvalidHibernateSessionException Si la session Hibernate est <code>null</code>
+     * @throws InvalidCriterionValueException Si une date est <code>null</code> ou si <code>to</code> précède <code>from</code>
+     * @throws InvalidSortByPropertyException Si la propriété à utiliser pour classer est <code>null</code>
+     * @throws DAOException S'il y a une erreur avec la base de données
+     */
+    List<PretDTO> findByDatePretBetween(Session session,
+        Timestamp from,
+        Timestamp to,
+        String sortByPropertyName) throws InvalidHibernateSessionException,
+        InvalidCriterionValueException,
+        InvalidSortByPropertyException,
+        DAOException;
+
+    /**
+     * Trouve les prêts dont la date de retour est dans l'intervalle semi-ouvert <code>[from, to[</code>, avec une seule requête. La liste
+     * est classée par ordre croissant sur <code>sortByPropertyName</code> puis sur l'ID. Si aucun prêt n'est trouvé, une {@link List} vide
+     * est retournée.
+     *
+     * @param session La session Hibernate à utiliser
+     * @param from La première date de retour, incluse
+     * @param to La dernière date de retour, exclue
+     * @param sortByPropertyName Le nom de la propriété à utiliser pour classer
+     * @return La liste des prêts correspondants ; une liste vide sinon
+     * @throws InvalidHibernateSessionException Si la session Hibernate est <code>null</code>
+     * @throws InvalidCriterionValueException Si une date est <code>null</code> ou si <code>to</code> précède <code>from</code>
+     * @throws InvalidSortByPropertyException Si la propriété à utiliser pour classer est <code>null</code>
+     * @throws DAOException S'il y a une erreur avec la base de données
+     */
+    List<PretDTO> findByDateRetourBetween(Session session,
+        Timestamp from,
+        Timestamp to,
+        String sortByPropertyName) throws InvalidHibernateSessionException,
+        InvalidCriterionValueException,
+        InvalidSortByPropertyException,
+        DAOException;
+
+    /**
+     * Trouve les prêts non terminés commencés avant une date limite, c'est-à-dire les prêts en retard si la date limite est la date du
+     * jour moins la durée d'un prêt. La liste est classée par ordre croissant sur <code>sortByPropertyName</code> puis sur l'ID. Si aucun
+     * prêt n'est trouvé, une {@link List} vide est retournée.
+     *
+     * @param session La session Hibernate à utiliser
+     * @param dateLimite La date de prêt limite, exclue
+     * @param sortByPropertyName Le nom de la propriété à utiliser pour classer
+     * @return La liste des prêts correspondants ; une liste vide sinon
+     * @throws InvalidHibernateSessionException Si la session Hibernate est <code>null</code>
+     * @throws InvalidCriterionValueException Si la date limite est <code>null</code>
+     * @throws InvalidSortByPropertyException Si la propriété à utiliser pour classer est <code>null</code>
+     * @throws DAOException S'il y a une erreur avec la base de données
+     */
+    List<PretDTO> findOverdueSince(Session session,
+        Timestamp dateLimite,
+        String sortByPropertyName) throws InvalidHibernateSessionException,
+        InvalidCriterionValueException,
+        InvalidSortByPropertyException,
+        DAOException;
+
+    /**
+     * Compte les prêts non terminés d'un membre, sans les charger.
+     *
+     * @param session La session Hibernate à utiliser
+     * @param idMembre L'ID du membre
+     * @return Le nombre de prêts en cours du membre
+     * @throws InvalidHibernateSessionException Si la session Hibernate est <code>null</code>
+     * @throws InvalidCriterionException Si l'ID du membre est <code>null</code>
+     * @throws DAOException S'il y a une erreur avec la base de données
+     */
+    long countActiveByMembre(Session session,
+        String idMembre) throws InvalidHibernateSessionException,
+        InvalidCriterionException,
+        DAOException;
+
+    /**
+     * Vérifie si un livre a un prêt non terminé, sans charger les prêts.
+     *
+     * @param session La session Hibernate à utiliser
+     * @param idLivre L'ID du livre
+     * @return <code>true</code> si le livre est prêté, <code>false</code> sinon
+     * @throws InvalidHibernateSessionException Si la session Hibernate est <code>null</code>
+     * @throws InvalidCriterionException Si l'ID du livre est <code>null</code>
+     * @throws DAOException S'il y a une erreur avec la base de données
+     */
+    boolean existsActiveByLivre(Session session,
+        String idLivre) throws InvalidHibernateSessionException,
+        InvalidCriterionException,
+        DAOException;
+
+    /**
+     * Vérifie si un livre est actuellement prêté à un membre, sans charger les prêts.
+     *
+     * @param session La session Hibernate à utiliser
+     * @param idMembre L'ID du membre
+     * @param idLivre L'ID du livre
+     * @return <code>true</code> si le membre a un prêt en cours du livre, <code>false</code> sinon
+     * @throws InvalidHibernateSessionException Si la session Hibernate est <code>null</code>
+     * @throws InvalidCriterionException Si l'ID du membre ou l'ID du livre est <code>null</code>
+     * @throws DAOException S'il y a une erreur avec la base de données
+     */
+    boolean existsActiveByMembreAndLivre(Session session,
+        String idMembre,
+        String idLivre) throws InvalidHibernateSessionException,
+        InvalidCriterionException,
+        DAOException;
+
+    /**
+     * Trouve le plus ancien prêt non terminé d'un livre. Seul ce prêt est chargé.
+     *
+     * @param session La session Hibernate à utiliser
+     * @param idLivre L'ID du livre
+     * @return Le prêt en cours du livre ; <code>null</code> si le livre n'est pas prêté
+     * @throws InvalidHibernateSessionException Si la session Hibernate est <code>null</code>
+     * @throws InvalidCriterionException Si l'ID du livre est <code>null</code>
+     * @throws DAOException S'il y a une erreur avec la base de données
+     */
+    PretDTO findFirstActiveByLivre(Session session,
+        String idLivre) throws InvalidHibernateSessionException,
+        InvalidCriterionException,
+        DAOException;
+
+    /**
+     * Trouve tous les prêts en cours, avec le nom du membre et le titre du livre. Les lignes sont lues par une projection sur une jointure,
+     * sans charger les prêts, les membres ni les livres dans la session Hibernate. La liste est classée par ordre croissant sur
+     * <code>sortByPropertyName</code>, une propriété du prêt. Si aucun prêt n'est en cours, une {@link List} vide est retournée.
+     *
+     * @param session La session Hibernate à utiliser
+     * @param sortByPropertyName Le nom de la propriété à utiliser pour classer
+     * @return La liste des prêts en cours ; une liste vide sinon
+     * @throws InvalidHibernateSessionException Si la session Hibernate est <code>null</code>
+     * @throws InvalidSortByPropertyException Si la propriété à utiliser pour classer est <code>null</code>
+     * @throws DAOException S'il y a une erreur avec la base de données
+     */
+    List<PretActifDTO> getAllActifs(Session session,
+        String sortByPropertyName) throws InvalidHibernateSessionException,
+        InvalidSortByPropertyException,
+        DAOException;
 }
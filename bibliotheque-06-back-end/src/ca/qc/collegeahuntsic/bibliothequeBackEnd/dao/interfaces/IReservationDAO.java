@@ -9,8 +9,12 @@ import ca.qc.collegeahuntsic.bibliothequeBackEnd.dto.ReservationDTO;
 import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.dao.DAOException;
 import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.dao.InvalidCriterionException;
 import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.dao.InvalidCriterionValueException;
+import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.dao.InvalidFetchPlanException;
 import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.dao.InvalidHibernateSessionException;
+import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.dao.InvalidPageRequestException;
 import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.dao.InvalidSortByPropertyException;
+import ca.qc.collegeahuntsic.bibliothequeBackEnd.util.FetchPlan;
+import ca.qc.collegeahuntsic.bibliothequeBackEnd.util.Page;
 import org.hibernate.Session;
 
 /**
@@ -41,6 +45,57 @@ public interface IReservationDAO extends IDAO {
         InvalidSortByPropertyException,
         DAOException;
 
+    /**
+     * Trouve une page des réservations à partir de l'ID d'un livre. Les réservations sont classés par ordre croissant sur <code>sortByPropertyName</code>
+     * puis sur l'ID ; la pagination est décrite par {@link IDAO#getAll(Session, String, int, String)}.
+     *
+     * @param session La session Hibernate à utiliser
+     * @param idLivre L'ID du livre à trouver
+     * @param sortByPropertyName Le nom de la propriété à utiliser pour classer
+     * @param pageSize Le nombre maximal de réservations de la page
+     * @param continuationToken Le jeton retourné avec la page précédente ; <code>null</code> pour la première page
+     * @return La page des réservations correspondants
+     * @throws InvalidHibernateSessionException Si la session Hibernate est <code>null</code>
+     * @throws InvalidCriterionException Si l'ID du livre est <code>null</code>
+     * @throws InvalidSortByPropertyException Si la propriété à utiliser pour classer est <code>null</code>
+     * @throws InvalidPageRequestException Si la taille de la page n'est pas positive ou si le jeton de continuation est invalide
+     * @throws DAOException S'il y a une erreur avec la base de données
+     */
+    Page<ReservationDTO> findByLivre(Session session,
+        String idLivre,
+        String sortByPropertyName,
+        int pageSize,
+        String continuationToken) throws InvalidHibernateSessionException,
+        InvalidCriterionException,
+        InvalidSortByPropertyException,
+        InvalidPageRequestException,
+        DAOException;
+
+    /**
+     * Trouve les réservations d'un livre et les associations du plan de chargement <code>fetchPlan</code> avec une seule requête, par exemple
+     * {@link FetchPlan#RESERVATION_WITH_MEMBER_AND_BOOK}. La liste est classée par ordre croissant sur <code>sortByPropertyName</code> puis sur l'ID. Si aucune
+     * réservation n'est trouvée, une {@link List} vide est retournée.
+     *
+     * @param session La session Hibernate à utiliser
+     * @param idLivre L'ID du livre
+     * @param sortByPropertyName Le nom de la propriété à utiliser pour classer
+     * @param fetchPlan Le plan de chargement à utiliser
+     * @return La liste des réservations correspondantes ; une liste vide sinon
+     * @throws InvalidHibernateSessionException Si la session Hibernate est <code>null</code>
+     * @throws InvalidCriterionException Si l'ID du livre est <code>null</code>
+     * @throws InvalidSortByPropertyException Si la propriété à utiliser pour classer est <code>null</code>
+     * @throws InvalidFetchPlanException Si le plan de chargement est <code>null</code> ou s'il est prévu pour une autre classe de DTO
+     * @throws DAOException S'il y a une erreur avec la base de données
+     */
+    List<ReservationDTO> findByLivre(Session session,
+        String idLivre,
+        String sortByPropertyName,
+        FetchPlan fetchPlan) throws InvalidHibernateSessionException,
+        InvalidCriterionException,
+        InvalidSortByPropertyException,
+        InvalidFetchPlanException,
+        DAOException;
+
     /**
      * Trouve les réservations d'un membre. La liste est classée par ordre croissant sur sortByPropertyName. Si aucune réservation n'est trouvée, une List vide est retournée.
      *
@@ -61,4 +116,102 @@ public interface IReservationDAO extends IDAO {
         InvalidCriterionValueException,
         InvalidSortByPropertyException,
         DAOException;
+
+    /**
+     * Trouve une page des réservations à partir de l'ID d'un membre. Les réservations sont classés par ordre croissant sur <code>sortByPropertyName</code>
+     * puis sur l'ID ; la pagination est décrite par {@link IDAO#getAll(Session, String, int, String)}.
+     *
+     * @param session La session Hibernate à utiliser
+     * @param idMembre L'ID du membre à trouver
+     * @param sortByPropertyName Le nom de la propriété à utiliser pour classer
+     * @param pageSize Le nombre maximal de réservations de la page
+     * @param continuationToken Le jeton retourné avec la page précédente ; <code>null</code> pour la première page
+     * @return La page des réservations correspondants
+     * @throws InvalidHibernateSessionException Si la session Hibernate est <code>null</code>
+     * @throws InvalidCriterionException Si l'ID du membre est <code>null</code>
+     * @throws InvalidSortByPropertyException Si la propriété à utiliser pour classer est <code>null</code>
+     * @throws InvalidPageRequestException Si la taille de la page n'est pas positive ou si le jeton de continuation est invalide
+     * @throws DAOException S'il y a une erreur avec la base de données
+     */
+    Page<ReservationDTO> findByMembre(Session session,
+        String idMembre,
+        String sortByPropertyName,
+        int pageSize,
+        String continuationToken) throws InvalidHibernateSessionException,
+        InvalidCriterionException,
+        InvalidSortByPropertyException,
+        InvalidPageRequestException,
+        DAOException;
+
+    /**
+     * Trouve les réservations d'un membre et les associations du plan de chargement <code>fetchPlan</code> avec une seule requête, par exemple
+     * {@link FetchPlan#RESERVATION_WITH_MEMBER_AND_BOOK}. La liste est classée par ordre croissant sur <code>sortByPropertyName</code> puis sur l'ID. Si aucune
+     * réservation n'est trouvée, une {@link List} vide est retournée.
+     *
+     * @param session La session Hibernate à utiliser
+     * @param idMembre L'ID du membre
+     * @param sortByPropertyName Le nom de la propriété à utiliser pour classer
+     * @param fetchPlan Le plan de chargement à utiliser
+     * @return La liste des réservations correspondantes ; une liste vide sinon
+     * @throws InvalidHibernateSessionException Si la session Hibernate est <code>null</code>
+     * @throws InvalidCriterionException Si l'ID du membre est <code>null</code>
+     * @throws InvalidSortByPropertyException Si la propriété à utiliser pour classer est <code>null</code>
+     * @throws InvalidFetchPlanException Si le plan de chargement est <code>null</code> ou s'il est prévu pour une autre classe de DTO
+     * @throws DAOException S'il y a une erreur avec la base de données
+     */
+    List<ReservationDTO> findByMembre(Session session,
+        String idMembre,
+        String sortByPropertyName,
+        FetchPlan fetchPlan) throws InvalidHibernateSessionException,
+        InvalidCriterionException,
+        InvalidSortByPropertyException,
+        InvalidFetchPlanException,
+        DAOException;
+
+    /**
+     * Trouve la plus ancienne réservation d'un livre, c'est-à-dire celle qui passe en premier. Seule cette réservation est chargée.
+     *
+     * @param session La session Hibernate à utiliser
+     * @param idLivre L'ID du livre
+     * @return La première réservation du livre ; <code>null</code> si le livre n'est pas réservé
+     * @throws InvalidHibernateSessionException Si la session Hibernate est <code>null</code>
+     * @throws InvalidCriterionException Si l'ID du livre est <code>null</code>
+     * @throws DAOException S'il y a une erreur avec la base de données
+     */
+    ReservationDTO findFirstReservationByLivre(Session session,
+        String idLivre) throws InvalidHibernateSessionException,
+        InvalidCriterionException,
+        DAOException;
+
+    /**
+     * Vérifie si un membre a au moins une réservation, sans charger les réservations.
+     *
+     * @param session La session Hibernate à utiliser
+     * @param idMembre L'ID du membre
+     * @return <code>true</code> si le membre a une réservation, <code>false</code> sinon
+     * @throws InvalidHibernateSessionException Si la session Hibernate est <code>null</code>
+     * @throws InvalidCriterionException Si l'ID du membre est <code>null</code>
+     * @throws DAOException S'il y a une erreur avec la base de données
+     */
+    boolean existsByMembre(Session session,
+        String idMembre) throws InvalidHibernateSessionException,
+        InvalidCriterionException,
+        DAOException;
+
+    /**
+     * Vérifie si un membre a réservé un livre, sans charger les réservations.
+     *
+     * @param session La session Hibernate à utiliser
+     * @param idMembre L'ID du membre
+     * @param idLivre L'ID du livre
+     * @return <code>true</code> si le membre a une réservation du livre, <code>false</code> sinon
+     * @throws InvalidHibernateSessionException Si la session Hibernate est <code>null</code>
+     * @throws InvalidCriterionException Si l'ID du membre ou l'ID du livre est <code>null</code>
+     * @throws DAOException S'il y a une erreur avec la base de données
+     */
+    boolean existsByMembreAndLivre(Session session,
+        String idMembre,
+        String idLivre) throws InvalidHibernateSessionException,
+        InvalidCriterionException,
+        DAOException;
 }
@@ -23,6 +23,12 @@ public final class LivreDTO extends DTO {
 
     public static final String DATE_ACQUISITION_COLUMN_NAME = "dateAcquisition";
 
+    public static final String PRETS_COLUMN_NAME = "prets";
+
+    public static final String RESERVATIONS_COLUMN_NAME = "reservations";
+
+    public static final String FIND_BY_TITRE_QUERY_NAME = "LivreDTO.findByTitre";
+
     private static final long serialVersionUID = 1L;
 
     private String idLivre;
@@ -0,0 +1,82 @@
+// Fichier LivreResumeDTO.java
+// Auteur : Team PayDay
+// Date de création : 2026-10-18
+
+package ca.qc.collegeahuntsic.bibliothequeBackEnd.dto;
+
+import java.io.Serializable;
+
+/**
+ * Ligne immuable d'une liste de livres : l'ID, le titre, l'auteur et la disponibilité d'un livre. Contrairement à {@link LivreDTO}, elle
+ * est lue par une projection : elle n'est pas suivie par la session Hibernate et n'a pas de collections de prêts et de réservations.
+ *
+ * @author Team PayDay
+ */
+public final class LivreResumeDTO implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    private final String idLivre;
+
+    private final String titre;
+
+    private final String auteur;
+
+    private final boolean disponible;
+
+    /**
+     * Crée la ligne.
+     *
+     * @param idLivre L'ID du livre
+     * @param titre Le titre du livre
+     * @param auteur L'auteur du livre
+     * @param disponible <code>true</code> si le livre n'est pas prêté, <code>false</code> sinon
+     */
+    public LivreResumeDTO(String idLivre,
+        String titre,
+        String auteur,
+        boolean disponible) {
+        super();
+        this.idLivre = idLivre;
+        this.titre = titre;
+        this.auteur = auteur;
+        this.disponible = disponible;
+    }
+
+    // Region Getters and Setters
+    /**
+     * Getter de la variable d'instance <code>this.idLivre</code>.
+     *
+     * @return La variable d'instance <code>this.idLivre</code>
+     */
+    public String getIdLivre() {
+        return this.idLivre;
+    }
+
+    /**
+     * Getter de la variable d'instance <code>this.titre</code>.
+     *
+     * @return La variable d'instance <code>this.titre</code>
+     */
+    public String getTitre() {
+        return this.titre;
+    }
+
+    /**
+     * Getter de la variable d'instance <code>this.auteur</code>.
+     *
+     * @return La variable d'instance <code>this.auteur</code>
+     */
+    public String getAuteur() {
+        return this.auteur;
+    }
+
+    /**
+     * Getter de la variable d'instance <code>this.disponible</code>.
+     *
+     * @return La variable d'instance <code>this.disponible</code>
+     */
+    public boolean isDisponible() {
+        return this.disponible;
+    }
+    // EndRegion Getters and Setters
+}
@@ -22,6 +22,12 @@ public class MembreDTO extends DTO {
 
     public static final String LIMITE_PRET_COLUMN_NAME = "limitePret";
 
+    public static final String PRETS_COLUMN_NAME = "prets";
+
+    public static final String RESERVATIONS_COLUMN_NAME = "reservations";
+
+    public static final String FIND_BY_NOM_QUERY_NAME = "MembreDTO.findByNom";
+
     private static final long serialVersionUID = 1L;
 
     private String idMembre;
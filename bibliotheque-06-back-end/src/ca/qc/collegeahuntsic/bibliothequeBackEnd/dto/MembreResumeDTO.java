@@ -0,0 +1,97 @@
+// Fichier MembreResumeDTO.java
+// Auteur : Team PayDay
+// Date de création : 2026-10-18
+
+package ca.qc.collegeahuntsic.bibliothequeBackEnd.dto;
+
+import java.io.Serializable;
+
+/**
+ * Ligne immuable d'une liste de membres : l'ID, le nom, le téléphone, la limite de prêts et le nombre de prêts en cours d'un membre.
+ * Contrairement à {@link MembreDTO}, elle est lue par une projection : elle n'est pas suivie par la session Hibernate et n'a pas de
+ * collections de prêts et de réservations.
+ *
+ * @author Team PayDay
+ */
+public final class MembreResumeDTO implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    private final String idMembre;
+
+    private final String nom;
+
+    private final String telephone;
+
+    private final String limitePret;
+
+    private final long nombrePretsActifs;
+
+    /**
+     * Crée la ligne.
+     *
+     * @param idMembre L'ID du membre
+     * @param nom Le nom du membre
+     * @param telephone Le téléphone du membre
+     * @param limitePret La limite de prêts du membre
+     * @param nombrePretsActifs Le nombre de prêts en cours du membre
+     */
+    public MembreResumeDTO(String idMembre,
+        String nom,
+        String telephone,
+        String limitePret,
+        long nombrePretsActifs) {
+        super();
+        this.idMembre = idMembre;
+        this.nom = nom;
+        this.telephone = telephone;
+        this.limitePret = limitePret;
+        this.nombrePretsActifs = nombrePretsActifs;
+    }
+
+    // Region Getters and Setters
+    /**
+     * Getter de la variable d'instance <code>this.idMembre</code>.
+     *
+     * @return La variable d'instance <code>this.idMembre</code>
+     */
+    public String getIdMembre() {
+        return this.idMembre;
+    }
+
+    /**
+     * Getter de la variable d'instance <code>this.nom</code>.
+     *
+     * @return La variable d'instance <code>this.nom</code>
+     */
+    public String getNom() {
+        return this.nom;
+    }
+
+    /**
+     * Getter de la variable d'instance <code>this.telephone</code>.
+     *
+     * @return La variable d'instance <code>this.telephone</code>
+     */
+    public String getTelephone() {
+        return this.telephone;
+    }
+
+    /**
+     * Getter de la variable d'instance <code>this.limitePret</code>.
+     *
+     * @return La variable d'instance <code>this.limitePret</code>
+     */
+    public String getLimitePret() {
+        return this.limitePret;
+    }
+
+    /**
+     * Getter de la variable d'instance <code>this.nombrePretsActifs</code>.
+     *
+     * @return La variable d'instance <code>this.nombrePretsActifs</code>
+     */
+    public long getNombrePretsActifs() {
+        return this.nombrePretsActifs;
+    }
+    // EndRegion Getters and Setters
+}
@@ -0,0 +1,111 @@
+// Fichier PretActifDTO.java
+// Auteur : Team PayDay
+// Date de création : 2026-10-18
+
+package ca.qc.collegeahuntsic.bibliothequeBackEnd.dto;
+
+import java.io.Serializable;
+import java.sql.Timestamp;
+
+/**
+ * Ligne immuable d'une liste de prêts en cours : le prêt, avec le nom du membre et le titre du livre. Contrairement à {@link PretDTO},
+ * elle est lue par une projection : ni le prêt, ni le membre, ni le livre ne sont chargés dans la session Hibernate.
+ *
+ * @author Team PayDay
+ */
+public final class PretActifDTO implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    private final String idPret;
+
+    private final Timestamp datePret;
+
+    private final String idMembre;
+
+    private final String nomMembre;
+
+    private final String idLivre;
+
+    private final String titreLivre;
+
+    /**
+     * Crée la ligne.
+     *
+     * @param idPret L'ID du prêt
+     * @param datePret La date du prêt
+     * @param idMembre L'ID du membre
+     * @param nomMembre Le nom du membre
+     * @param idLivre L'ID du livre
+     * @param titreLivre Le titre du livre
+     */
+    public PretActifDTO(String idPret,
+        Timestamp datePret,
+        String idMembre,
+        String nomMembre,
+        String idLivre,
+        String titreLivre) {
+        super();
+        this.idPret = idPret;
+        this.datePret = datePret == null ? null : (Timestamp) datePret.clone();
+        this.idMembre = idMembre;
+        this.nomMembre = nomMembre;
+        this.idLivre = idLivre;
+        this.titreLivre = titreLivre;
+    }
+
+    // Region Getters and Setters
+    /**
+     * Getter de la variable d'instance <code>this.idPret</code>.
+     *
+     * @return La variable d'instance <code>this.idPret</code>
+     */
+    public String getIdPret() {
+        return this.idPret;
+    }
+
+    /**
+     * Getter de la variable d'instance <code>this.datePret</code>.
+     *
+     * @return La variable d'instance <code>this.datePret</code>
+     */
+    public Timestamp getDatePret() {
+        return this.datePret == null ? null : (Timestamp) this.datePret.clone();
+    }
+
+    /**
+     * Getter de la variable d'instance <code>this.idMembre</code>.
+     *
+     * @return La variable d'instance <code>this.idMembre</code>
+     */
+    public String getIdMembre() {
+        return this.idMembre;
+    }
+
+    /**
+     * Getter de la variable d'instance <code>this.nomMembre</code>.
+     *
+     * @return La variable d'instance <code>this.nomMembre</code>
+     */
+    public String getNomMembre() {
+        return this.nomMembre;
+    }
+
+    /**
+     * Getter de la variable d'instance <code>this.idLivre</code>.
+     *
+     * @return La variable d'instance <code>this.idLivre</code>
+     */
+    public String getIdLivre() {
+        return this.idLivre;
+    }
+
+    /**
+     * Getter de la variable d'instance <code>this.titreLivre</code>.
+     *
+     * @return La variable d'instance <code>this.titreLivre</code>
+     */
+    public String getTitreLivre() {
+        return this.titreLivre;
+    }
+    // EndRegion Getters and Setters
+}
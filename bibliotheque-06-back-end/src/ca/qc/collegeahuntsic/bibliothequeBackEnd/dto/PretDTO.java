@@ -24,6 +24,20 @@ public class PretDTO extends DTO {
 
     public static final String ID_PRET_COLUMN_NAME = "idPret";
 
+    public static final String LIVRE_DTO_COLUMN_NAME = "livreDTO";
+
+    public static final String LIVRE_DTO_ID_COLUMN_NAME = "livreDTO.idLivre";
+
+    public static final String MEMBRE_DTO_COLUMN_NAME = "membreDTO";
+
+    public static final String MEMBRE_DTO_ID_COLUMN_NAME = "membreDTO.idMembre";
+
+    public static final String COUNT_ACTIVE_BY_MEMBRE_QUERY_NAME = "PretDTO.countActiveByMembre";
+
+    public static final String FIND_ACTIVE_BY_LIVRE_QUERY_NAME = "PretDTO.findActiveByLivre";
+
+    public static final String FIND_ACTIVE_IDS_BY_LIVRE_QUERY_NAME = "PretDTO.findActiveIdsByLivre";
+
     private static final long serialVersionUID = 1L;
 
     private String idPret;
@@ -22,6 +22,16 @@ public class ReservationDTO extends DTO {
 
     public static final String DATE_RESERVATION_COLUMN_NAME = "dateReservation";
 
+    public static final String LIVRE_DTO_COLUMN_NAME = "livreDTO";
+
+    public static final String LIVRE_DTO_ID_COLUMN_NAME = "livreDTO.idLivre";
+
+    public static final String MEMBRE_DTO_COLUMN_NAME = "membreDTO";
+
+    public static final String MEMBRE_DTO_ID_COLUMN_NAME = "membreDTO.idMembre";
+
+    public static final String FIND_BY_LIVRE_QUERY_NAME = "ReservationDTO.findByLivre";
+
     private static final long serialVersionUID = 1L;
 
     private String idReservation;
@@ -13,28 +13,39 @@ import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.facade.InvalidService
 import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.service.ServiceException;
 import ca.qc.collegeahuntsic.bibliothequeBackEnd.facade.interfaces.IFacade;
 import ca.qc.collegeahuntsic.bibliothequeBackEnd.service.interfaces.IService;
+import ca.qc.collegeahuntsic.bibliothequeBackEnd.util.CacheProximite;
 import org.hibernate.Session;
 
 /**
  * Classe de base pour toutes les façades.
  *
+ * Si un {@link CacheProximite} est configuré, {@link #get(Session, Serializable)} lit d'abord le cache, qui retourne des copies
+ * détachées. Les écritures rattachent ces copies à la session avant d'appeler le service, puis invalident les DTOs touchés.
+ *
  * @author Team PayDay
  */
 public class Facade implements IFacade {
     private IService service;
 
+    private Class<? extends DTO> dtoClass;
+
+    private CacheProximite cacheProximite;
+
     /**
      * Crée une façade.
      *
      * @param service Le service à utiliser
+     * @param dtoClass La classe des DTOs de la façade
      * @throws InvalidServiceException Si le service est <code>null</code>
      */
-    protected Facade(IService service) throws InvalidServiceException {
+    protected Facade(IService service,
+        Class<? extends DTO> dtoClass) throws InvalidServiceException {
         super();
         if(service == null) {
             throw new InvalidServiceException("Le service ne peut être null");
         }
         setService(service);
+        setDtoClass(dtoClass);
     }
 
     // Region Getters and Setters
@@ -55,6 +66,43 @@ public class Facade implements IFacade {
     private void setService(IService service) {
         this.service = service;
     }
+
+    /**
+     * Getter de la variable d'instance <code>this.dtoClass</code>.
+     *
+     * @return La variable d'instance <code>this.dtoClass</code>
+     */
+    protected Class<? extends DTO> getDtoClass() {
+        return this.dtoClass;
+    }
+
+    /**
+     * Setter de la variable d'instance <code>this.dtoClass</code>.
+     *
+     * @param dtoClass La valeur à utiliser pour la variable d'instance <code>this.dtoClass</code>
+     */
+    private void setDtoClass(Class<? extends DTO> dtoClass) {
+        this.dtoClass = dtoClass;
+    }
+
+    /**
+     * Getter de la variable d'instance <code>this.cacheProximite</code>.
+     *
+     * @return La variable d'instance <code>this.cacheProximite</code>
+     */
+    protected CacheProximite getCacheProximite() {
+        return this.cacheProximite;
+    }
+
+    /**
+     * Setter de la variable d'instance <code>this.cacheProximite</code>.
+     *
+     * @param cacheProximite La valeur à utiliser pour la variable d'instance <code>this.cacheProximite</code> ; <code>null</code> pour
+     *        lire sans cache
+     */
+    public void setCacheProximite(CacheProximite cacheProximite) {
+        this.cacheProximite = cacheProximite;
+    }
     // EndRegion Getters and Setters
 
     /**
@@ -71,12 +119,65 @@ public class Facade implements IFacade {
         if(primaryKey == null) {
             throw new InvalidPrimaryKeyException("La clef primaire ne peut être null");
         }
+        final CacheProximite cache = getCacheProximite();
         try {
+            if(cache == null
+                || !cache.isActif()) {
+                final DTO dto = getService().get(session,
+                    primaryKey);
+                return dto;
+            }
+            final DTO copie = cache.get(session,
+                getDtoClass(),
+                primaryKey);
+            if(copie != null) {
+                return copie;
+            }
+            final long generation = cache.getGeneration();
             final DTO dto = getService().get(session,
                 primaryKey);
-            return dto;
+            return cache.put(session,
+                dto,
+                generation);
         } catch(ServiceException serviceException) {
             throw new FacadeException(serviceException);
         }
     }
+
+    /**
+     * Retourne l'instance d'un DTO gérée par la session, pour qu'une écriture ne porte pas sur une copie du cache de proximité. Sans
+     * cache, le DTO est retourné tel quel.
+     *
+     * @param <T> Le type du DTO
+     * @param session La session Hibernate ; le DTO est retourné tel quel si elle est <code>null</code>
+     * @param dto Le DTO
+     * @return L'instance gérée par la session, ou <code>dto</code>
+     */
+    @SuppressWarnings("unchecked")
+    protected <T extends DTO> T rattacher(Session session,
+        T dto) {
+        final CacheProximite cache = getCacheProximite();
+        if(cache == null
+            || session == null) {
+            return dto;
+        }
+        return (T) cache.rattacher(session,
+            dto);
+    }
+
+    /**
+     * Retire des DTOs du cache de proximité après une écriture.
+     *
+     * @param session La session Hibernate ; rien n'est retiré si elle est <code>null</code>
+     * @param dtos Les DTOs touchés par l'écriture ; les DTOs <code>null</code> sont ignorés
+     */
+    protected void invalider(Session session,
+        DTO... dtos) {
+        final CacheProximite cache = getCacheProximite();
+        if(cache != null
+            && session != null) {
+            cache.invalider(session,
+                dtos);
+        }
+    }
 }
@@ -30,7 +30,8 @@ public class LivreFacade extends Facade implements ILivreFacade {
      * @throws InvalidServiceException Si le service de livres est <code>null</code>
      */
     LivreFacade(ILivreService livreService) throws InvalidServiceException {
-        super(livreService);
+        super(livreService,
+            LivreDTO.class);
 
     }
 
@@ -51,6 +52,9 @@ public class LivreFacade extends Facade implements ILivreFacade {
                 livreDTO);
         } catch(ServiceException serviceException) {
             throw new FacadeException(serviceException);
+        } finally {
+            invalider(session,
+                livreDTO);
         }
     }
 
@@ -64,11 +68,16 @@ public class LivreFacade extends Facade implements ILivreFacade {
         ExistingLoanException,
         ExistingReservationException,
         FacadeException {
+        final LivreDTO instance = rattacher(session,
+            livreDTO);
         try {
             ((ILivreService) getService()).vendre(session,
-                livreDTO);
+                instance);
         } catch(ServiceException serviceException) {
             throw new FacadeException(serviceException);
+        } finally {
+            invalider(session,
+                instance);
         }
     }
 }
@@ -29,7 +29,8 @@ public class MembreFacade extends Facade implements IMembreFacade {
      * @throws InvalidServiceException Si le service de membres est null
      */
     public MembreFacade(IMembreService membreService) throws InvalidServiceException {
-        super(membreService);
+        super(membreService,
+            MembreDTO.class);
     }
 
     /**
@@ -42,11 +43,16 @@ public class MembreFacade extends Facade implements IMembreFacade {
         ExistingLoanException,
         ExistingReservationException,
         FacadeException {
+        final MembreDTO instance = rattacher(session,
+            membreDTO);
         try {
             ((IMembreService) getService()).desinscrire(session,
-                membreDTO);
+                instance);
         } catch(ServiceException serviceException) {
             throw new FacadeException(serviceException);
+        } finally {
+            invalider(session,
+                instance);
         }
 
     }
@@ -64,6 +70,9 @@ public class MembreFacade extends Facade implements IMembreFacade {
                 membreDTO);
         } catch(ServiceException serviceException) {
             throw new FacadeException(serviceException);
+        } finally {
+            invalider(session,
+                membreDTO);
         }
 
     }
@@ -33,7 +33,8 @@ public class PretFacade extends Facade implements IPretFacade {
      * @throws InvalidServiceException Si le service de prêts est null
      */
     public PretFacade(IPretService pretService) throws InvalidServiceException {
-        super(pretService);
+        super(pretService,
+            PretDTO.class);
 
     }
 
@@ -48,11 +49,24 @@ public class PretFacade extends Facade implements IPretFacade {
         InvalidLoanLimitException,
         ExistingReservationException,
         FacadeException {
+        if(pretDTO != null) {
+            pretDTO.setMembreDTO(rattacher(session,
+                pretDTO.getMembreDTO()));
+            pretDTO.setLivreDTO(rattacher(session,
+                pretDTO.getLivreDTO()));
+        }
         try {
             ((IPretService) getService()).commencer(session,
                 pretDTO);
         } catch(ServiceException serviceException) {
             throw new FacadeException(serviceException);
+        } finally {
+            if(pretDTO != null) {
+                invalider(session,
+                    pretDTO,
+                    pretDTO.getMembreDTO(),
+                    pretDTO.getLivreDTO());
+            }
         }
     }
 
@@ -66,11 +80,20 @@ public class PretFacade extends Facade implements IPretFacade {
         MissingLoanException,
         ExistingReservationException,
         FacadeException {
+        final PretDTO instance = rattacher(session,
+            pretDTO);
         try {
             ((IPretService) getService()).renouveler(session,
-                pretDTO);
+                instance);
         } catch(ServiceException serviceException) {
             throw new FacadeException(serviceException);
+        } finally {
+            if(instance != null) {
+                invalider(session,
+                    instance,
+                    instance.getMembreDTO(),
+                    instance.getLivreDTO());
+            }
         }
     }
 
@@ -83,11 +106,20 @@ public class PretFacade extends Facade implements IPretFacade {
         InvalidDTOException,
         MissingLoanException,
         FacadeException {
+        final PretDTO instance = rattacher(session,
+            pretDTO);
         try {
             ((IPretService) getService()).terminer(session,
-                pretDTO);
+                instance);
         } catch(ServiceException serviceException) {
             throw new FacadeException(serviceException);
+        } finally {
+            if(instance != null) {
+                invalider(session,
+                    instance,
+                    instance.getMembreDTO(),
+                    instance.getLivreDTO());
+            }
         }
     }
 
@@ -31,7 +31,8 @@ public class ReservationFacade extends Facade implements IReservationFacade {
      * @throws InvalidServiceException Si le service de réservations est <code>null</code>
      */
     ReservationFacade(IReservationService reservationService) throws InvalidServiceException {
-        super(reservationService);
+        super(reservationService,
+            ReservationDTO.class);
     }
 
     /**
@@ -45,11 +46,24 @@ public class ReservationFacade extends Facade implements IReservationFacade {
         ExistingLoanException,
         ExistingReservationException,
         FacadeException {
+        if(reservationDTO != null) {
+            reservationDTO.setMembreDTO(rattacher(session,
+                reservationDTO.getMembreDTO()));
+            reservationDTO.setLivreDTO(rattacher(session,
+                reservationDTO.getLivreDTO()));
+        }
         try {
             ((IReservationService) getService()).placer(session,
                 reservationDTO);
         } catch(ServiceException serviceException) {
             throw new FacadeException(serviceException);
+        } finally {
+            if(reservationDTO != null) {
+                invalider(session,
+                    reservationDTO,
+                    reservationDTO.getMembreDTO(),
+                    reservationDTO.getLivreDTO());
+            }
         }
     }
 
@@ -64,11 +78,20 @@ public class ReservationFacade extends Facade implements IReservationFacade {
         ExistingLoanException,
         InvalidLoanLimitException,
         FacadeException {
+        final ReservationDTO instance = rattacher(session,
+            reservationDTO);
         try {
             ((IReservationService) getService()).utiliser(session,
-                reservationDTO);
+                instance);
         } catch(ServiceException serviceException) {
             throw new FacadeException(serviceException);
+        } finally {
+            if(instance != null) {
+                invalider(session,
+                    instance,
+                    instance.getMembreDTO(),
+                    instance.getLivreDTO());
+            }
         }
     }
 
@@ -80,11 +103,20 @@ public class ReservationFacade extends Facade implements IReservationFacade {
         final ReservationDTO reservationDTO) throws InvalidHibernateSessionException,
         InvalidDTOException,
         FacadeException {
+        final ReservationDTO instance = rattacher(session,
+            reservationDTO);
         try {
             ((IReservationService) getService()).annuler(session,
-                reservationDTO);
+                instance);
         } catch(ServiceException serviceException) {
             throw new FacadeException(serviceException);
+        } finally {
+            if(instance != null) {
+                invalider(session,
+                    instance,
+                    instance.getMembreDTO(),
+                    instance.getLivreDTO());
+            }
         }
 
     }
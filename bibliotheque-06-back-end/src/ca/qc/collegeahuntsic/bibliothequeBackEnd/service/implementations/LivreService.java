@@ -4,10 +4,11 @@
 
 package ca.qc.collegeahuntsic.bibliothequeBackEnd.service.implementations;
 
-import java.util.ArrayList;
 import java.util.List;
 import ca.qc.collegeahuntsic.bibliothequeBackEnd.dao.implementations.LivreDAO;
 import ca.qc.collegeahuntsic.bibliothequeBackEnd.dao.interfaces.ILivreDAO;
+import ca.qc.collegeahuntsic.bibliothequeBackEnd.dao.interfaces.IPretDAO;
+import ca.qc.collegeahuntsic.bibliothequeBackEnd.dao.interfaces.IReservationDAO;
 import ca.qc.collegeahuntsic.bibliothequeBackEnd.dto.LivreDTO;
 import ca.qc.collegeahuntsic.bibliothequeBackEnd.dto.MembreDTO;
 import ca.qc.collegeahuntsic.bibliothequeBackEnd.dto.PretDTO;
@@ -31,17 +32,71 @@ import org.hibernate.Session;
  * @author Team PayDay
  */
 public class LivreService extends Service implements ILivreService {
+    private IPretDAO pretDAO;
+
+    private IReservationDAO reservationDAO;
+
     /**
      * Crée le service de la table <code>livre</code>.
      *
      * @param livreDAO Le DAO de la table <code>livre</code>
+     * @param pretDAO Le DAO de la table <code>pret</code>
+     * @param reservationDAO Le DAO de la table <code>reservation</code>
      * @throws InvalidDAOException Si le DAO de livre est <code>null</code>, si le DAO de membre est <code>null</code>, si le DAO de prêt est
      *         <code>null</code> ou si le DAO de réservation est <code>null</code>
      */
-    LivreService(ILivreDAO livreDAO) throws InvalidDAOException {
+    LivreService(ILivreDAO livreDAO,
+        IPretDAO pretDAO,
+        IReservationDAO reservationDAO) throws InvalidDAOException {
         super(livreDAO);
+        if(pretDAO == null) {
+            throw new InvalidDAOException("Le DAO de prêt ne peut être null");
+        }
+        if(reservationDAO == null) {
+            throw new InvalidDAOException("Le DAO de réservation ne peut être null");
+        }
+        setPretDAO(pretDAO);
+        setReservationDAO(reservationDAO);
+    }
+
+    // Region Getters and Setters
+    /**
+     * Getter de la variable d'instance <code>this.pretDAO</code>.
+     *
+     * @return La variable d'instance <code>this.pretDAO</code>
+     */
+    private IPretDAO getPretDAO() {
+        return this.pretDAO;
+    }
+
+    /**
+     * Setter de la variable d'instance <code>this.pretDAO</code>.
+     *
+     * @param pretDAO La valeur à utiliser pour la variable d'instance <code>this.pretDAO</code>
+     */
+    private void setPretDAO(IPretDAO pretDAO) {
+        this.pretDAO = pretDAO;
     }
 
+    /**
+     * Getter de la variable d'instance <code>this.reservationDAO</code>.
+     *
+     * @return La variable d'instance <code>this.reservationDAO</code>
+     */
+    private IReservationDAO getReservationDAO() {
+        return this.reservationDAO;
+    }
+
+    /**
+     * Setter de la variable d'instance <code>this.reservationDAO</code>.
+     *
+     * @param reservationDAO La valeur à utiliser pour la variable d'instance <code>this.reservationDAO</code>
+     */
+    private void setReservationDAO(IReservationDAO reservationDAO) {
+        this.reservationDAO = reservationDAO;
+    }
+    // EndRegion Getters and Setters
+
     /**
      * {@inheritDoc}
      */
@@ -107,34 +162,40 @@ public class LivreService extends Service implements ILivreService {
             throw new InvalidDTOException("Le livre ne peut être null");
         }
 
-        final List<PretDTO> prets = new ArrayList<>(livreDTO.getPrets());
-        if(!prets.isEmpty()) {
-            final PretDTO pretDTO = prets.get(0);
-            final MembreDTO emprunteur = pretDTO.getMembreDTO();
-            throw new ExistingLoanException("Le livre "
-                + livreDTO.getTitre()
-                + " (ID de livre : "
-                + livreDTO.getIdLivre()
-                + ") a été prêté à "
-                + emprunteur.getNom()
-                + " (ID de membre : "
-                + emprunteur.getIdMembre()
-                + ")");
-        }
+        try {
+            final PretDTO pretDTO = getPretDAO().findFirstActiveByLivre(session,
+                livreDTO.getIdLivre());
+            if(pretDTO != null) {
+                final MembreDTO emprunteur = pretDTO.getMembreDTO();
+                throw new ExistingLoanException("Le livre "
+                    + livreDTO.getTitre()
+                    + " (ID de livre : "
+                    + livreDTO.getIdLivre()
+                    + ") a été prêté à "
+                    + emprunteur.getNom()
+                    + " (ID de membre : "
+                    + emprunteur.getIdMembre()
+                    + ")");
+            }
 
-        final List<ReservationDTO> reservations = new ArrayList<>(livreDTO.getReservations());
-        if(!reservations.isEmpty()) {
-            final ReservationDTO reservationDTO = reservations.get(0);
-            final MembreDTO booker = reservationDTO.getMembreDTO();
-            throw new ExistingReservationException("Le livre "
-                + livreDTO.getTitre()
-                + " (ID de livre : "
-                + livreDTO.getIdLivre()
-                + ") est réservé pour "
-                + booker.getNom()
-                + " (ID de membre : "
-                + booker.getIdMembre()
-                + ")");
+            final ReservationDTO reservationDTO = getReservationDAO().findFirstReservationByLivre(session,
+                livreDTO.getIdLivre());
+            if(reservationDTO != null) {
+                final MembreDTO booker = reservationDTO.getMembreDTO();
+                throw new ExistingReservationException("Le livre "
+                    + livreDTO.getTitre()
+                    + " (ID de livre : "
+                    + livreDTO.getIdLivre()
+                    + ") est réservé pour "
+                    + booker.getNom()
+                    + " (ID de membre : "
+                    + booker.getIdMembre()
+                    + ")");
+            }
+        } catch(
+            InvalidCriterionException
+            | DAOException exception) {
+            throw new ServiceException(exception);
         }
 
         delete(session,
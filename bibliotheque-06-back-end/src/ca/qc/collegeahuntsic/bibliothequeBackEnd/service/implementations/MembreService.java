@@ -4,13 +4,12 @@
 
 package ca.qc.collegeahuntsic.bibliothequeBackEnd.service.implementations;
 
-import java.util.ArrayList;
 import java.util.List;
 import ca.qc.collegeahuntsic.bibliothequeBackEnd.dao.implementations.MembreDAO;
 import ca.qc.collegeahuntsic.bibliothequeBackEnd.dao.interfaces.IMembreDAO;
+import ca.qc.collegeahuntsic.bibliothequeBackEnd.dao.interfaces.IPretDAO;
+import ca.qc.collegeahuntsic.bibliothequeBackEnd.dao.interfaces.IReservationDAO;
 import ca.qc.collegeahuntsic.bibliothequeBackEnd.dto.MembreDTO;
-import ca.qc.collegeahuntsic.bibliothequeBackEnd.dto.PretDTO;
-import ca.qc.collegeahuntsic.bibliothequeBackEnd.dto.ReservationDTO;
 import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.dao.DAOException;
 import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.dao.InvalidCriterionException;
 import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.dao.InvalidCriterionValueException;
@@ -30,16 +29,70 @@ import org.hibernate.Session;
  * @author Team PayDay
  */
 public class MembreService extends Service implements IMembreService {
+    private IPretDAO pretDAO;
+
+    private IReservationDAO reservationDAO;
+
     /**
      * Crée le service de la table <code>membre</code>.
      *
      * @param membreDAO Le DAO de la table <code>membre</code>
-     * @throws InvalidDAOException Si le DAO de membre est null ou si le DAO de réservation est null
+     * @param pretDAO Le DAO de la table <code>pret</code>
+     * @param reservationDAO Le DAO de la table <code>reservation</code>
+     * @throws InvalidDAOException Si le DAO de membre est null, si le DAO de prêt est null ou si le DAO de réservation est null
      */
-    MembreService(IMembreDAO membreDAO) throws InvalidDAOException {
+    MembreService(IMembreDAO membreDAO,
+        IPretDAO pretDAO,
+        IReservationDAO reservationDAO) throws InvalidDAOException {
         super(membreDAO);
+        if(pretDAO == null) {
+            throw new InvalidDAOException("Le DAO de prêt ne peut être null");
+        }
+        if(reservationDAO == null) {
+            throw new InvalidDAOException("Le DAO de réservation ne peut être null");
+        }
+        setPretDAO(pretDAO);
+        setReservationDAO(reservationDAO);
+    }
+
+    // Region Getters and Setters
+    /**
+     * Getter de la variable d'instance <code>this.pretDAO</code>.
+     *
+     * @return La variable d'instance <code>this.pretDAO</code>
+     */
+    private IPretDAO getPretDAO() {
+        return this.pretDAO;
+    }
+
+    /**
+     * Setter de la variable d'instance <code>this.pretDAO</code>.
+     *
+     * @param pretDAO La valeur à utiliser pour la variable d'instance <code>this.pretDAO</code>
+     */
+    private void setPretDAO(IPretDAO pretDAO) {
+        this.pretDAO = pretDAO;
     }
 
+    /**
+     * Getter de la variable d'instance <code>this.reservationDAO</code>.
+     *
+     * @return La variable d'instance <code>this.reservationDAO</code>
+     */
+    private IReservationDAO getReservationDAO() {
+        return this.reservationDAO;
+    }
+
+    /**
+     * Setter de la variable d'instance <code>this.reservationDAO</code>.
+     *
+     * @param reservationDAO La valeur à utiliser pour la variable d'instance <code>this.reservationDAO</code>
+     */
+    private void setReservationDAO(IReservationDAO reservationDAO) {
+        this.reservationDAO = reservationDAO;
+    }
+    // EndRegion Getters and Setters
+
     /**
      * {@inheritDoc}
      */
@@ -107,22 +160,28 @@ public class MembreService extends Service implements IMembreService {
             throw new InvalidDTOException("Le DTO ne peut être null");
         }
 
-        final ArrayList<PretDTO> prets = new ArrayList<>(membreDTO.getPrets());
-        if(!prets.isEmpty()) {
-            throw new ExistingLoanException("Le membre "
-                + membreDTO.getNom()
-                + " (ID : "
-                + membreDTO.getIdMembre()
-                + ") a des prêts en cours.");
-        }
+        try {
+            if(getPretDAO().countActiveByMembre(session,
+                membreDTO.getIdMembre()) > 0) {
+                throw new ExistingLoanException("Le membre "
+                    + membreDTO.getNom()
+                    + " (ID : "
+                    + membreDTO.getIdMembre()
+                    + ") a des prêts en cours.");
+            }
 
-        final ArrayList<ReservationDTO> reservations = new ArrayList<>(membreDTO.getReservations());
-        if(!reservations.isEmpty()) {
-            throw new ExistingReservationException("Le membre "
-                + membreDTO.getNom()
-                + " (ID de membre : "
-                + membreDTO.getIdMembre()
-                + ") a des réservations");
+            if(getReservationDAO().existsByMembre(session,
+                membreDTO.getIdMembre())) {
+                throw new ExistingReservationException("Le membre "
+                    + membreDTO.getNom()
+                    + " (ID de membre : "
+                    + membreDTO.getIdMembre()
+                    + ") a des réservations");
+            }
+        } catch(
+            InvalidCriterionException
+            | DAOException exception) {
+            throw new ServiceException(exception);
         }
         delete(session,
             membreDTO);
@@ -5,10 +5,10 @@
 package ca.qc.collegeahuntsic.bibliothequeBackEnd.service.implementations;
 
 import java.sql.Timestamp;
-import java.util.ArrayList;
 import java.util.List;
 import ca.qc.collegeahuntsic.bibliothequeBackEnd.dao.implementations.PretDAO;
 import ca.qc.collegeahuntsic.bibliothequeBackEnd.dao.interfaces.IPretDAO;
+import ca.qc.collegeahuntsic.bibliothequeBackEnd.dao.interfaces.IReservationDAO;
 import ca.qc.collegeahuntsic.bibliothequeBackEnd.dto.LivreDTO;
 import ca.qc.collegeahuntsic.bibliothequeBackEnd.dto.MembreDTO;
 import ca.qc.collegeahuntsic.bibliothequeBackEnd.dto.PretDTO;
@@ -34,15 +34,43 @@ import org.hibernate.Session;
  * @author Team PayDay
  */
 public class PretService extends Service implements IPretService {
+    private IReservationDAO reservationDAO;
+
     /**
      * Crée le service de la table <code>pret</code>.
      *
      * @param pretDAO Le DAO de la table <code>pret</code>
+     * @param reservationDAO Le DAO de la table <code>reservation</code>
      * @throws InvalidDAOException Si le DAO de prêt est null, si le DAO de membre est null, si le DAO de livre est null ou si le DAO de réservation est null
      */
-    PretService(IPretDAO pretDAO) throws InvalidDAOException {
+    PretService(IPretDAO pretDAO,
+        IReservationDAO reservationDAO) throws InvalidDAOException {
         super(pretDAO);
+        if(reservationDAO == null) {
+            throw new InvalidDAOException("Le DAO de réservation ne peut être null");
+        }
+        setReservationDAO(reservationDAO);
+    }
+
+    // Region Getters and Setters
+    /**
+     * Getter de la variable d'instance <code>this.reservationDAO</code>.
+     *
+     * @return La variable d'instance <code>this.reservationDAO</code>
+     */
+    private IReservationDAO getReservationDAO() {
+        return this.reservationDAO;
+    }
+
+    /**
+     * Setter de la variable d'instance <code>this.reservationDAO</code>.
+     *
+     * @param reservationDAO La valeur à utiliser pour la variable d'instance <code>this.reservationDAO</code>
+     */
+    private void setReservationDAO(IReservationDAO reservationDAO) {
+        this.reservationDAO = reservationDAO;
     }
+    // EndRegion Getters and Setters
 
     /**
      * {@inheritDoc}
@@ -122,46 +150,53 @@ public class PretService extends Service implements IPretService {
         if(pretDTO == null) {
             throw new InvalidDTOException("le pret ne peut etre null");
         }
-        List<PretDTO> prets = new ArrayList<>(pretDTO.getLivreDTO().getPrets());
+        try {
+            final PretDTO unPretDTO = ((IPretDAO) getDao()).findFirstActiveByLivre(session,
+                pretDTO.getLivreDTO().getIdLivre());
 
-        if(!prets.isEmpty()) {
-            final PretDTO unPretDTO = prets.get(0);
-            final MembreDTO emprunteur = unPretDTO.getMembreDTO();
-            throw new ExistingLoanException("Le livre "
-                + pretDTO.getLivreDTO().getTitre()
-                + " (ID de livre : "
-                + pretDTO.getLivreDTO().getIdLivre()
-                + ") a déjà été prêté à "
-                + emprunteur.getNom()
-                + " (ID de membre : "
-                + emprunteur.getIdMembre()
-                + ")");
+            if(unPretDTO != null) {
+                final MembreDTO emprunteur = unPretDTO.getMembreDTO();
+                throw new ExistingLoanException("Le livre "
+                    + pretDTO.getLivreDTO().getTitre()
+                    + " (ID de livre : "
+                    + pretDTO.getLivreDTO().getIdLivre()
+                    + ") a déjà été prêté à "
+                    + emprunteur.getNom()
+                    + " (ID de membre : "
+                    + emprunteur.getIdMembre()
+                    + ")");
 
-        }
-        prets = new ArrayList<>(pretDTO.getMembreDTO().getPrets());
+            }
+            final long nombrePrets = ((IPretDAO) getDao()).countActiveByMembre(session,
+                pretDTO.getMembreDTO().getIdMembre());
 
-        if(Integer.parseInt(pretDTO.getMembreDTO().getLimitePret()) <= prets.size()) {
-            throw new InvalidLoanLimitException("Le membre "
-                + pretDTO.getMembreDTO().getNom()
-                + " (ID de membre : "
-                + pretDTO.getMembreDTO().getIdMembre()
-                + ") a atteint sa limite de prêt ("
-                + pretDTO.getMembreDTO().getLimitePret()
-                + " emprunt(s) maximum)");
-        }
-        final List<ReservationDTO> reservations = new ArrayList<>(pretDTO.getLivreDTO().getReservations());
-        if(!reservations.isEmpty()) {
-            final ReservationDTO uneReservationDTO = reservations.get(0);
-            final MembreDTO booker = uneReservationDTO.getMembreDTO();
-            throw new ExistingReservationException("Le livre "
-                + pretDTO.getLivreDTO().getTitre()
-                + " (ID de livre : "
-                + pretDTO.getLivreDTO().getIdLivre()
-                + ") est réservé pour "
-                + booker.getNom()
-                + " (ID de membre : "
-                + booker.getIdMembre()
-                + ")");
+            if(Integer.parseInt(pretDTO.getMembreDTO().getLimitePret()) <= nombrePrets) {
+                throw new InvalidLoanLimitException("Le membre "
+                    + pretDTO.getMembreDTO().getNom()
+                    + " (ID de membre : "
+                    + pretDTO.getMembreDTO().getIdMembre()
+                    + ") a atteint sa limite de prêt ("
+                    + pretDTO.getMembreDTO().getLimitePret()
+                    + " emprunt(s) maximum)");
+            }
+            final ReservationDTO uneReservationDTO = getReservationDAO().findFirstReservationByLivre(session,
+                pretDTO.getLivreDTO().getIdLivre());
+            if(uneReservationDTO != null) {
+                final MembreDTO booker = uneReservationDTO.getMembreDTO();
+                throw new ExistingReservationException("Le livre "
+                    + pretDTO.getLivreDTO().getTitre()
+                    + " (ID de livre : "
+                    + pretDTO.getLivreDTO().getIdLivre()
+                    + ") est réservé pour "
+                    + booker.getNom()
+                    + " (ID de membre : "
+                    + booker.getIdMembre()
+                    + ")");
+            }
+        } catch(
+            InvalidCriterionException
+            | DAOException exception) {
+            throw new ServiceException(exception);
         }
         pretDTO.setDatePret(new Timestamp(System.currentTimeMillis()));
         pretDTO.setDateRetour(null);
@@ -188,50 +223,50 @@ public class PretService extends Service implements IPretService {
         }
         final MembreDTO unMembreDTO = pretDTO.getMembreDTO();
         final LivreDTO unLivreDTO = pretDTO.getLivreDTO();
-        final List<PretDTO> prets = new ArrayList<>(unMembreDTO.getPrets());
-
-        if(prets.isEmpty()) {
-            throw new MissingLoanException("Le livre "
-                + unLivreDTO.getTitre()
-                + " (ID de livre : "
-                + unLivreDTO.getIdLivre()
-                + ") n'est pas encore prêté."
-                + "De plus, le membre #"
-                + unMembreDTO.getIdMembre()
-                + " n'a aucun prêts");
-        }
-        boolean aEteEmprunteParMembre = false;
-        for(PretDTO pretDTODuMembre : prets) {
-            if(unLivreDTO.equals(pretDTODuMembre.getLivreDTO())) {
-                aEteEmprunteParMembre = true;
-                break;
+        try {
+            // Le compte des prêts du membre ne sert qu'à choisir le message d'erreur
+            if(!((IPretDAO) getDao()).existsActiveByMembreAndLivre(session,
+                unMembreDTO.getIdMembre(),
+                unLivreDTO.getIdLivre())) {
+                if(((IPretDAO) getDao()).countActiveByMembre(session,
+                    unMembreDTO.getIdMembre()) == 0) {
+                    throw new MissingLoanException("Le livre "
+                        + unLivreDTO.getTitre()
+                        + " (ID de livre : "
+                        + unLivreDTO.getIdLivre()
+                        + ") n'est pas encore prêté."
+                        + "De plus, le membre #"
+                        + unMembreDTO.getIdMembre()
+                        + " n'a aucun prêts");
+                }
+                throw new MissingLoanException("Le livre "
+                    + unLivreDTO.getTitre()
+                    + " (ID de livre : "
+                    + unLivreDTO.getIdLivre()
+                    + ") n'est pas actuellement prêté à "
+                    + unMembreDTO.getNom()
+                    + " (ID de membre : "
+                    + unMembreDTO.getIdMembre()
+                    + ")");
             }
-
-        }
-        if(!aEteEmprunteParMembre) {
-            throw new MissingLoanException("Le livre "
-                + unLivreDTO.getTitre()
-                + " (ID de livre : "
-                + unLivreDTO.getIdLivre()
-                + ") n'est pas actuellement prêté à "
-                + unMembreDTO.getNom()
-                + " (ID de membre : "
-                + unMembreDTO.getIdMembre()
-                + ")");
-        }
-        final List<ReservationDTO> reservations = new ArrayList<>(unLivreDTO.getReservations());
-        if(!reservations.isEmpty()) {
-            final ReservationDTO uneReservationDTO = reservations.get(0);
-            final MembreDTO booker = uneReservationDTO.getMembreDTO();
-            throw new ExistingReservationException("Le livre "
-                + unLivreDTO.getTitre()
-                + " (ID de livre : "
-                + unLivreDTO.getIdLivre()
-                + ") est réservé pour "
-                + booker.getNom()
-                + " (ID de membre : "
-                + booker.getIdMembre()
-                + ")");
+            final ReservationDTO uneReservationDTO = getReservationDAO().findFirstReservationByLivre(session,
+                unLivreDTO.getIdLivre());
+            if(uneReservationDTO != null) {
+                final MembreDTO booker = uneReservationDTO.getMembreDTO();
+                throw new ExistingReservationException("Le livre "
+                    + unLivreDTO.getTitre()
+                    + " (ID de livre : "
+                    + unLivreDTO.getIdLivre()
+                    + ") est réservé pour "
+                    + booker.getNom()
+                    + " (ID de membre : "
+                    + booker.getIdMembre()
+                    + ")");
+            }
+        } catch(
+            InvalidCriterionException
+            | DAOException exception) {
+            throw new ServiceException(exception);
         }
         pretDTO.setDatePret(new Timestamp(System.currentTimeMillis()));
         pretDTO.setDateRetour(null);
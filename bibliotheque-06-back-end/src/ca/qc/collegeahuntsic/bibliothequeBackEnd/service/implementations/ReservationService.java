@@ -5,8 +5,6 @@
 package ca.qc.collegeahuntsic.bibliothequeBackEnd.service.implementations;
 
 import java.sql.Timestamp;
-import java.util.ArrayList;
-import java.util.List;
 import ca.qc.collegeahuntsic.bibliothequeBackEnd.dao.interfaces.IPretDAO;
 import ca.qc.collegeahuntsic.bibliothequeBackEnd.dao.interfaces.IReservationDAO;
 import ca.qc.collegeahuntsic.bibliothequeBackEnd.dto.LivreDTO;
@@ -14,6 +12,7 @@ import ca.qc.collegeahuntsic.bibliothequeBackEnd.dto.MembreDTO;
 import ca.qc.collegeahuntsic.bibliothequeBackEnd.dto.PretDTO;
 import ca.qc.collegeahuntsic.bibliothequeBackEnd.dto.ReservationDTO;
 import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.dao.DAOException;
+import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.dao.InvalidCriterionException;
 import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.dao.InvalidHibernateSessionException;
 import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.dto.InvalidDTOException;
 import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.service.ExistingLoanException;
@@ -100,29 +99,31 @@ public class ReservationService extends Service implements IReservationService {
                 + reservationDTO.getLivreDTO().getIdLivre()
                 + " n'existe pas");
         }
-        final List<PretDTO> prets = new ArrayList<>(unLivreDTO.getPrets());
-        if(prets.isEmpty()) {
-            throw new MissingLoanException("Le livre "
-                + unLivreDTO.getTitre()
-                + " (ID de livre : "
-                + unLivreDTO.getIdLivre()
-                + ") n'est pas encore prêté");
-        }
-        final MembreDTO emprunteur = prets.get(0).getMembreDTO();
-        if(unMembreDTO.getIdMembre() == emprunteur.getIdMembre()) {
-            throw new ExistingLoanException("Le livre "
-                + unLivreDTO.getTitre()
-                + " (ID de livre : "
-                + unLivreDTO.getIdLivre()
-                + ") est déjà prêté à "
-                + emprunteur.getNom()
-                + " (ID de membre : "
-                + emprunteur.getIdMembre()
-                + ")");
-        }
-        final List<ReservationDTO> reservations = new ArrayList<>(unMembreDTO.getReservations());
-        for(ReservationDTO uneAutreReservationDTO : reservations) {
-            if(uneAutreReservationDTO.getLivreDTO().getIdLivre() == unLivreDTO.getIdLivre()) {
+        try {
+            final PretDTO unPretDTO = getPretDAO().findFirstActiveByLivre(session,
+                unLivreDTO.getIdLivre());
+            if(unPretDTO == null) {
+                throw new MissingLoanException("Le livre "
+                    + unLivreDTO.getTitre()
+                    + " (ID de livre : "
+                    + unLivreDTO.getIdLivre()
+                    + ") n'est pas encore prêté");
+            }
+            final MembreDTO emprunteur = unPretDTO.getMembreDTO();
+            if(unMembreDTO.getIdMembre().equals(emprunteur.getIdMembre())) {
+                throw new ExistingLoanException("Le livre "
+                    + unLivreDTO.getTitre()
+                    + " (ID de livre : "
+                    + unLivreDTO.getIdLivre()
+                    + ") est déjà prêté à "
+                    + emprunteur.getNom()
+                    + " (ID de membre : "
+                    + emprunteur.getIdMembre()
+                    + ")");
+            }
+            if(((IReservationDAO) getDao()).existsByMembreAndLivre(session,
+                unMembreDTO.getIdMembre(),
+                unLivreDTO.getIdLivre())) {
                 throw new ExistingReservationException("Le livre "
                     + unLivreDTO.getTitre()
                     + " (ID de livre : "
@@ -133,6 +134,10 @@ public class ReservationService extends Service implements IReservationService {
                     + emprunteur.getIdMembre()
                     + ")");
             }
+        } catch(
+            InvalidCriterionException
+            | DAOException exception) {
+            throw new ServiceException(exception);
         }
         reservationDTO.setDateReservation(new Timestamp(System.currentTimeMillis()));
         add(session,
@@ -160,9 +165,9 @@ public class ReservationService extends Service implements IReservationService {
         try {
             final LivreDTO unLivreDTO = reservationDTO.getLivreDTO();
             final MembreDTO unMembreDTO = reservationDTO.getMembreDTO();
-            final List<ReservationDTO> reservationsTrouvees = new ArrayList<>(unLivreDTO.getReservations());
-            if(!reservationsTrouvees.isEmpty()) {
-                final ReservationDTO premiereReservationDTO = reservationsTrouvees.get(0);
+            final ReservationDTO premiereReservationDTO = ((IReservationDAO) getDao()).findFirstReservationByLivre(session,
+                unLivreDTO.getIdLivre());
+            if(premiereReservationDTO != null) {
                 if(!premiereReservationDTO.equals(reservationDTO)) {
                     final MembreDTO booker = premiereReservationDTO.getMembreDTO();
                     throw new ExistingReservationException("Le livre "
@@ -176,12 +181,14 @@ public class ReservationService extends Service implements IReservationService {
                         + ")");
                 }
             }
-            if(!unLivreDTO.getPrets().isEmpty()) {
+            if(getPretDAO().existsActiveByLivre(session,
+                unLivreDTO.getIdLivre())) {
                 throw new ExistingReservationException("ID de livre : "
                     + unLivreDTO.getIdLivre()
                     + " est deja prêté");
             }
-            if(unMembreDTO.getPrets().size() == Integer.parseInt(unMembreDTO.getLimitePret())) {
+            if(getPretDAO().countActiveByMembre(session,
+                unMembreDTO.getIdMembre()) == Integer.parseInt(unMembreDTO.getLimitePret())) {
                 throw new InvalidLoanLimitException("Le membre "
                     + unMembreDTO.getNom()
                     + " (ID de membre : "
@@ -200,8 +207,10 @@ public class ReservationService extends Service implements IReservationService {
                 newPretDTO);
             annuler(session,
                 reservationDTO);
-        } catch(DAOException daoException) {
-            throw new ServiceException(daoException);
+        } catch(
+            InvalidCriterionException
+            | DAOException exception) {
+            throw new ServiceException(exception);
         }
 
     }
@@ -24,8 +24,8 @@ import org.hibernate.Session;
  */
 public interface ILivreService extends IService {
     /**
-     * Trouve les livres à partir d'un titre. La liste est classée par ordre croissant sur <code>sortByPropertyName</code>. Si aucun livre
-     * n'est trouvé, une {@link List} vide est retournée.
+     * Trouve les livres à partir d'un titre, sans tenir compte de la casse. La liste est classée par ordre croissant sur
+     * <code>sortByPropertyName</code>. Si aucun livre n'est trouvé, une {@link List} vide est retournée.
      *
      * @param session  La session Hibernate à utiliser
      * @param titre Le titre à trouver
@@ -24,8 +24,8 @@ import org.hibernate.Session;
  */
 public interface IMembreService extends IService {
     /**
-     * Trouve les membres à partir d'un nom. La liste est classée par ordre croissant sur sortByPropertyName.
-     *      Si aucun membre n'est trouvé, une List vide est retournée.
+     * Trouve les membres à partir d'un nom, sans tenir compte de la casse. La liste est classée par ordre croissant sur
+     * sortByPropertyName. Si aucun membre n'est trouvé, une List vide est retournée.
      *
      * @param session La session Hibernate à utiliser
      * @param nom Le nom à trouver
@@ -0,0 +1,442 @@
+// Fichier CacheNegatif.java
+// Auteur : Team PayDay
+// Date de création : 2026-10-18
+
+package ca.qc.collegeahuntsic.bibliothequeBackEnd.util;
+
+import java.io.Serializable;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Cache des clefs primaires connues pour ne pas exister, par classe de DTO. Une clef lue sans succès par un DAO y est ajoutée pour
+ * {@link #getDureeVie()} secondes ; une nouvelle lecture de la clef est alors rejetée sans aller à la base de données.
+ *
+ * Chaque classe de DTO a un ensemble exact des clefs absentes, avec leur date d'expiration, et un filtre de Bloom de ces clefs. Le filtre
+ * est consulté sans verrou : une clef qu'il ne contient pas, le cas de toutes les clefs valides, n'est jamais cherchée dans l'ensemble.
+ * Seul l'ensemble décide du rejet, de sorte qu'un faux positif du filtre ne rejette jamais une clef existante. Le filtre ne permettant pas
+ * de retirer une clef, il est reconstruit à partir de l'ensemble lorsque trop de clefs y ont été ajoutées.
+ *
+ * L'ajout d'un DTO efface le cache de sa classe, puisque la clef ajoutée pouvait y être. Une clef ajoutée par un autre programme est
+ * rejetée au plus {@link #getDureeVie()} secondes.
+ *
+ * @author Team PayDay
+ */
+public class CacheNegatif implements CacheNegatifMBean {
+    /**
+     * Le nombre de bits du filtre de Bloom par clef de l'ensemble, pour environ 1 % de faux positifs.
+     */
+    public static final int BITS_PAR_CLEF = 10;
+
+    /**
+     * Le nombre de fonctions de hachage du filtre de Bloom.
+     */
+    public static final int NOMBRE_HACHAGES = 7;
+
+    private static final int DUREE_VIE_PAR_DEFAUT = 60;
+
+    private static final long MILLISECONDES_PAR_SECONDE = 1000L;
+
+    private final ConcurrentMap<Class<?>, Filtre> filtres;
+
+    private final AtomicLong nombreVerifications;
+
+    private final AtomicLong nombreRejets;
+
+    private final AtomicLong nombreFauxPositifs;
+
+    private final AtomicLong nombreEffacements;
+
+    private volatile int capacite;
+
+    private volatile int dureeVie;
+
+    /**
+     * Crée un cache vide, désactivé tant que sa capacité est nulle.
+     */
+    public CacheNegatif() {
+        super();
+        this.filtres = new ConcurrentHashMap<>();
+        this.nombreVerifications = new AtomicLong();
+        this.nombreRejets = new AtomicLong();
+        this.nombreFauxPositifs = new AtomicLong();
+        this.nombreEffacements = new AtomicLong();
+        this.dureeVie = CacheNegatif.DUREE_VIE_PAR_DEFAUT;
+    }
+
+    // Region Getters and Setters
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getCapacite() {
+        return this.capacite;
+    }
+
+    /**
+     * Setter de la variable d'instance <code>this.capacite</code>. Le cache est vidé.
+     *
+     * @param capacite Le nombre maximal de clefs absentes par classe de DTO ; <code>0</code> pour désactiver le cache
+     */
+    public void setCapacite(int capacite) {
+        if(capacite < 0) {
+            throw new IllegalArgumentException("La capacité ne peut être négative : "
+                + capacite);
+        }
+        this.capacite = capacite;
+        vider();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getDureeVie() {
+        return this.dureeVie;
+    }
+
+    /**
+     * Setter de la variable d'instance <code>this.dureeVie</code>.
+     *
+     * @param dureeVie Le nombre de secondes pendant lesquelles une clef absente est rejetée
+     */
+    public void setDureeVie(int dureeVie) {
+        if(dureeVie <= 0) {
+            throw new IllegalArgumentException("La durée de vie doit être positive : "
+                + dureeVie);
+        }
+        this.dureeVie = dureeVie;
+    }
+    // EndRegion Getters and Setters
+
+    /**
+     * Indique si une clef primaire est connue pour ne pas exister.
+     *
+     * @param dtoClass La classe du DTO
+     * @param primaryKey La clef primaire
+     * @return <code>true</code> si la clef a été lue sans succès il y a moins de {@link #getDureeVie()} secondes et qu'aucun DTO de la
+     *         classe n'a été ajouté depuis, <code>false</code> sinon
+     */
+    public boolean isAbsent(Class<?> dtoClass,
+        Serializable primaryKey) {
+        final Filtre filtre = this.filtres.get(dtoClass);
+        if(filtre == null) {
+            return false;
+        }
+        this.nombreVerifications.incrementAndGet();
+        if(!filtre.peutContenir(primaryKey)) {
+            return false;
+        }
+        if(!filtre.contient(primaryKey,
+            System.currentTimeMillis())) {
+            this.nombreFauxPositifs.incrementAndGet();
+            return false;
+        }
+        this.nombreRejets.incrementAndGet();
+        return true;
+    }
+
+    /**
+     * Ajoute une clef primaire lue sans succès. Rien n'est ajouté si le cache est désactivé.
+     *
+     * @param dtoClass La classe du DTO
+     * @param primaryKey La clef primaire
+     */
+    public void ajouter(Class<?> dtoClass,
+        Serializable primaryKey) {
+        final int capaciteFiltre = this.capacite;
+        if(capaciteFiltre == 0) {
+            return;
+        }
+        Filtre filtre = this.filtres.get(dtoClass);
+        if(filtre == null) {
+            final Filtre nouveau = new Filtre(capaciteFiltre);
+            filtre = this.filtres.putIfAbsent(dtoClass,
+                nouveau);
+            if(filtre == null) {
+                filtre = nouveau;
+            }
+        }
+        final long maintenant = System.currentTimeMillis();
+        filtre.ajouter(primaryKey,
+            maintenant,
+            maintenant
+                + this.dureeVie
+                    * CacheNegatif.MILLISECONDES_PAR_SECONDE);
+    }
+
+    /**
+     * Efface les clefs absentes d'une classe de DTO, après l'ajout d'un DTO de cette classe.
+     *
+     * @param dtoClass La classe du DTO
+     */
+    public void effacer(Class<?> dtoClass) {
+        final Filtre filtre = this.filtres.get(dtoClass);
+        if(filtre != null
+            && filtre.effacer()) {
+            this.nombreEffacements.incrementAndGet();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getTaille() {
+        int taille = 0;
+        for(Filtre filtre : this.filtres.values()) {
+            taille += filtre.getTaille();
+        }
+        return taille;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long getNombreVerifications() {
+        return this.nombreVerifications.get();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long getNombreRejets() {
+        return this.nombreRejets.get();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long getNombreFauxPositifs() {
+        return this.nombreFauxPositifs.get();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long getNombreEffacements() {
+        return this.nombreEffacements.get();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void reinitialiser() {
+        this.nombreVerifications.set(0L);
+        this.nombreRejets.set(0L);
+        this.nombreFauxPositifs.set(0L);
+        this.nombreEffacements.set(0L);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void vider() {
+        this.filtres.clear();
+    }
+
+    /**
+     * Clefs absentes d'une classe de DTO : un ensemble exact, ordonné par date d'expiration, et son filtre de Bloom.
+     *
+     * @author Team PayDay
+     */
+    private static final class Filtre {
+        private final int capacite;
+
+        private final int nombreBits;
+
+        private final AtomicLongArray bits;
+
+        private final LinkedHashMap<Serializable, Long> absents;
+
+        private int ajoutsDepuisReconstruction;
+
+        /**
+         * Crée un filtre vide.
+         *
+         * @param capacite Le nombre maximal de clefs de l'ensemble
+         */
+        Filtre(int capacite) {
+            super();
+            this.capacite = capacite;
+            this.nombreBits = capacite
+                * CacheNegatif.BITS_PAR_CLEF;
+            this.bits = new AtomicLongArray((this.nombreBits + Long.SIZE - 1)
+                / Long.SIZE);
+            this.absents = new LinkedHashMap<>();
+        }
+
+        /**
+         * Indique si le filtre de Bloom peut contenir une clef. Ne prend pas de verrou.
+         *
+         * @param primaryKey La clef primaire
+         * @return <code>false</code> si la clef n'est certainement pas dans l'ensemble, <code>true</code> sinon
+         */
+        boolean peutContenir(Serializable primaryKey) {
+            final int hachage1 = Filtre.melanger(primaryKey.hashCode());
+            final int hachage2 = Filtre.melanger(hachage1) | 1;
+            for(int index = 0 ; index < CacheNegatif.NOMBRE_HACHAGES ; index++) {
+                final int bit = position(hachage1
+                    + index
+                        * hachage2);
+                if((this.bits.get(bit / Long.SIZE) & 1L << bit % Long.SIZE) == 0L) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        /**
+         * Indique si l'ensemble contient une clef non expirée. Une clef expirée est retirée.
+         *
+         * @param primaryKey La clef primaire
+         * @param maintenant L'heure courante, en millisecondes
+         * @return <code>true</code> si la clef est dans l'ensemble, <code>false</code> sinon
+         */
+        synchronized boolean contient(Serializable primaryKey,
+            long maintenant) {
+            final Long expiration = this.absents.get(primaryKey);
+            if(expiration == null) {
+                return false;
+            }
+            if(expiration.longValue() <= maintenant) {
+                this.absents.remove(primaryKey);
+                return false;
+            }
+            return true;
+        }
+
+        /**
+         * Ajoute une clef à l'ensemble et au filtre de Bloom. Les clefs expirées sont retirées, puis la plus ancienne si l'ensemble est
+         * plein.
+         *
+         * @param primaryKey La clef primaire
+         * @param maintenant L'heure courante, en millisecondes
+         * @param expiration L'heure d'expiration de la clef, en millisecondes
+         */
+        synchronized void ajouter(Serializable primaryKey,
+            long maintenant,
+            long expiration) {
+            final Iterator<Map.Entry<Serializable, Long>> iterateur = this.absents.entrySet().iterator();
+            while(iterateur.hasNext()) {
+                final Map.Entry<Serializable, Long> absent = iterateur.next();
+                if(absent.getValue().longValue() > maintenant
+                    && this.absents.size() < this.capacite) {
+                    break;
+                }
+                iterateur.remove();
+            }
+            this.absents.remove(primaryKey);
+            this.absents.put(primaryKey,
+                Long.valueOf(expiration));
+            this.ajoutsDepuisReconstruction++;
+            if(this.ajoutsDepuisReconstruction > 2 * this.capacite) {
+                reconstruire();
+            } else {
+                marquer(primaryKey);
+            }
+        }
+
+        /**
+         * Vide l'ensemble et le filtre de Bloom.
+         *
+         * @return <code>true</code> si l'ensemble contenait au moins une clef, <code>false</code> sinon
+         */
+        synchronized boolean effacer() {
+            final boolean efface = !this.absents.isEmpty();
+            this.absents.clear();
+            effacerBits();
+            this.ajoutsDepuisReconstruction = 0;
+            return efface;
+        }
+
+        /**
+         * Retourne le nombre de clefs de l'ensemble, expirées comprises.
+         *
+         * @return Le nombre de clefs
+         */
+        synchronized int getTaille() {
+            return this.absents.size();
+        }
+
+        /**
+         * Reconstruit le filtre de Bloom à partir de l'ensemble, pour en retirer les clefs qui ne sont plus dans l'ensemble.
+         */
+        private void reconstruire() {
+            effacerBits();
+            for(Serializable primaryKey : this.absents.keySet()) {
+                marquer(primaryKey);
+            }
+            this.ajoutsDepuisReconstruction = this.absents.size();
+        }
+
+        /**
+         * Met à zéro tous les bits du filtre de Bloom.
+         */
+        private void effacerBits() {
+            for(int index = 0 ; index < this.bits.length() ; index++) {
+                this.bits.set(index,
+                    0L);
+            }
+        }
+
+        /**
+         * Met à un les bits d'une clef dans le filtre de Bloom.
+         *
+         * @param primaryKey La clef primaire
+         */
+        private void marquer(Serializable primaryKey) {
+            final int hachage1 = Filtre.melanger(primaryKey.hashCode());
+            final int hachage2 = Filtre.melanger(hachage1) | 1;
+            for(int index = 0 ; index < CacheNegatif.NOMBRE_HACHAGES ; index++) {
+                final int bit = position(hachage1
+                    + index
+                        * hachage2);
+                long ancien;
+                do {
+                    ancien = this.bits.get(bit / Long.SIZE);
+                } while(!this.bits.compareAndSet(bit / Long.SIZE,
+                    ancien,
+                    ancien | 1L << bit % Long.SIZE));
+            }
+        }
+
+        /**
+         * Retourne la position d'un bit du filtre de Bloom.
+         *
+         * @param hachage Le hachage
+         * @return La position, entre <code>0</code> et le nombre de bits exclu
+         */
+        private int position(int hachage) {
+            return (hachage & Integer.MAX_VALUE)
+                % this.nombreBits;
+        }
+
+        /**
+         * Mélange les bits d'un hachage, pour que des clefs proches, comme des IDs consécutifs, donnent des positions éloignées.
+         *
+         * @param hachage Le hachage
+         * @return Le hachage mélangé
+         */
+        private static int melanger(int hachage) {
+            int resultat = hachage;
+            resultat ^= resultat >>> 16;
+            resultat *= 0x85ebca6b;
+            resultat ^= resultat >>> 13;
+            resultat *= 0xc2b2ae35;
+            resultat ^= resultat >>> 16;
+            return resultat;
+        }
+    }
+}
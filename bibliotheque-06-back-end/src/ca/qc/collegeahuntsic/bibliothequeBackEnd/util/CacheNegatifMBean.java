@@ -0,0 +1,71 @@
+// Fichier CacheNegatifMBean.java
+// Auteur : Team PayDay
+// Date de création : 2026-10-18
+
+package ca.qc.collegeahuntsic.bibliothequeBackEnd.util;
+
+/**
+ * Interface JMX des {@link CacheNegatif}.
+ *
+ * @author Team PayDay
+ */
+public interface CacheNegatifMBean {
+    /**
+     * Retourne le nombre maximal de clefs absentes par classe de DTO.
+     *
+     * @return La capacité ; <code>0</code> si le cache est désactivé
+     */
+    int getCapacite();
+
+    /**
+     * Retourne le nombre de secondes pendant lesquelles une clef absente est rejetée.
+     *
+     * @return La durée de vie
+     */
+    int getDureeVie();
+
+    /**
+     * Retourne le nombre de clefs absentes, toutes classes de DTO confondues.
+     *
+     * @return La taille du cache
+     */
+    int getTaille();
+
+    /**
+     * Retourne le nombre de clefs vérifiées.
+     *
+     * @return Le nombre de vérifications
+     */
+    long getNombreVerifications();
+
+    /**
+     * Retourne le nombre de clefs rejetées sans lecture de la base de données.
+     *
+     * @return Le nombre de rejets
+     */
+    long getNombreRejets();
+
+    /**
+     * Retourne le nombre de clefs retenues par le filtre de Bloom mais absentes de l'ensemble exact, ou expirées.
+     *
+     * @return Le nombre de faux positifs
+     */
+    long getNombreFauxPositifs();
+
+    /**
+     * Retourne le nombre de fois où les clefs d'une classe de DTO ont été effacées par un ajout.
+     *
+     * @return Le nombre d'effacements
+     */
+    long getNombreEffacements();
+
+    /**
+     * Vide les statistiques. Le contenu du cache est conservé.
+     */
+    void reinitialiser();
+
+    /**
+     * Vide le cache.
+     */
+    void vider();
+}
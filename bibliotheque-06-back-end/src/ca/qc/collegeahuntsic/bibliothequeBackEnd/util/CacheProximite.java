@@ -0,0 +1,597 @@
+// Fichier CacheProximite.java
+// Auteur : Team PayDay
+// Date de création : 2026-10-18
+
+package ca.qc.collegeahuntsic.bibliothequeBackEnd.util;
+
+import java.io.Serializable;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import ca.qc.collegeahuntsic.bibliothequeBackEnd.dto.DTO;
+import org.hibernate.EntityMode;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.engine.SessionFactoryImplementor;
+import org.hibernate.metadata.ClassMetadata;
+import org.hibernate.proxy.HibernateProxy;
+import org.hibernate.type.EntityType;
+import org.hibernate.type.Type;
+
+/**
+ * Cache de proximité des DTOs lus par les façades, indexé par classe de DTO et clef primaire.
+ *
+ * Le cache conserve des copies détachées : chaque lecture retourne une nouvelle copie, qui ne dépend d'aucune session et que
+ * l'appelant peut modifier sans toucher au cache. Une copie contient les propriétés du DTO et, pour chaque association, un DTO qui
+ * ne porte que l'identifiant de l'entité associée ; ses collections sont <code>null</code>. La copie ne charge donc ni les associations
+ * ni les collections que le mapping laisse paresseuses. Un appelant qui en a besoin les lit sur l'instance gérée par sa session, que
+ * les écritures des façades obtiennent par {@link #rattacher(Session, DTO)}.
+ *
+ * Le cache est désactivé par défaut ; il est activé en lui donnant une capacité positive.
+ *
+ * Le cache est borné à {@link #getCapacite()} DTOs. Chaque DTO a une fréquence d'accès, divisée par deux toutes les
+ * <code>10 × capacité</code> opérations pour oublier les accès anciens. Lorsque le cache est plein, le DTO évincé est le moins
+ * fréquemment lu parmi les {@link #ECHANTILLON} DTOs les moins récemment lus : un DTO lu souvent reste dans le cache même après une
+ * rafale de lectures uniques.
+ *
+ * Une écriture invalide les clefs touchées. Chaque invalidation incrémente un numéro de génération ; une copie lue avant une invalidation
+ * n'est pas ajoutée, de sorte qu'une lecture concurrente d'une écriture ne remette pas l'ancien état dans le cache.
+ *
+ * @author Team PayDay
+ */
+public class CacheProximite implements CacheProximiteMBean {
+    /**
+     * Le nombre de DTOs parmi les moins récemment lus examinés pour choisir le DTO évincé.
+     */
+    public static final int ECHANTILLON = 8;
+
+    private static final int FREQUENCE_MAXIMALE = 15;
+
+    private static final int PERIODE_VIEILLISSEMENT = 10;
+
+    private final LinkedHashMap<Cle, Entree> entrees;
+
+    private final AtomicLong generation;
+
+    private final AtomicLong nombreSucces;
+
+    private final AtomicLong nombreEchecs;
+
+    private final AtomicLong nombreEvictions;
+
+    private final AtomicLong nombreInvalidations;
+
+    private int capacite;
+
+    private long operations;
+
+    /**
+     * Crée un cache vide, désactivé tant que sa capacité est nulle.
+     */
+    public CacheProximite() {
+        super();
+        this.entrees = new LinkedHashMap<>(16,
+            0.75f,
+            true);
+        this.generation = new AtomicLong();
+        this.nombreSucces = new AtomicLong();
+        this.nombreEchecs = new AtomicLong();
+        this.nombreEvictions = new AtomicLong();
+        this.nombreInvalidations = new AtomicLong();
+    }
+
+    // Region Getters and Setters
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public synchronized int getCapacite() {
+        return this.capacite;
+    }
+
+    /**
+     * Setter de la variable d'instance <code>this.capacite</code>. Les DTOs en trop sont évincés.
+     *
+     * @param capacite Le nombre maximal de DTOs du cache ; <code>0</code> pour désactiver le cache
+     */
+    public synchronized void setCapacite(int capacite) {
+        if(capacite < 0) {
+            throw new IllegalArgumentException("La capacité ne peut être négative : "
+                + capacite);
+        }
+        this.capacite = capacite;
+        while(this.entrees.size() > capacite) {
+            evincer();
+        }
+    }
+    // EndRegion Getters and Setters
+
+    /**
+     * Indique si le cache est actif.
+     *
+     * @return <code>true</code> si la capacité du cache est positive, <code>false</code> sinon
+     */
+    public synchronized boolean isActif() {
+        return this.capacite > 0;
+    }
+
+    /**
+     * Retourne le numéro de génération courant. Il doit être lu avant de lire le DTO à ajouter au cache.
+     *
+     * @return Le numéro de génération
+     */
+    public long getGeneration() {
+        return this.generation.get();
+    }
+
+    /**
+     * Retourne une copie du DTO d'une classe et d'une clef primaire.
+     *
+     * @param session La session Hibernate, utilisée pour lire les métadonnées des DTOs
+     * @param dtoClass La classe du DTO
+     * @param primaryKey La clef primaire du DTO
+     * @return Une copie du DTO ; <code>null</code> s'il n'est pas dans le cache
+     */
+    public DTO get(Session session,
+        Class<? extends DTO> dtoClass,
+        Serializable primaryKey) {
+        final DTO dto;
+        synchronized(this) {
+            final Entree entree = this.entrees.get(new Cle(dtoClass,
+                primaryKey));
+            if(entree == null) {
+                this.nombreEchecs.incrementAndGet();
+                return null;
+            }
+            entree.lire();
+            vieillir();
+            dto = entree.getDto();
+        }
+        this.nombreSucces.incrementAndGet();
+        return CacheProximite.copier(session.getSessionFactory(),
+            dto);
+    }
+
+    /**
+     * Ajoute au cache une copie d'un DTO lu dans une session, sauf si une clef a été invalidée depuis la génération
+     * <code>generation</code>.
+     *
+     * @param session La session qui a lu le DTO
+     * @param dto Le DTO ; ignoré s'il est <code>null</code>
+     * @param generation Le numéro de génération lu avant de lire le DTO
+     * @return Une copie du DTO, à retourner à l'appelant ; <code>null</code> si le DTO est <code>null</code>
+     */
+    public DTO put(Session session,
+        DTO dto,
+        long generation) {
+        if(dto == null) {
+            return null;
+        }
+        final SessionFactory sessionFactory = session.getSessionFactory();
+        final DTO copie = CacheProximite.copier(sessionFactory,
+            dto);
+        final Cle cle = CacheProximite.getCle(sessionFactory,
+            copie);
+        synchronized(this) {
+            if(this.capacite > 0
+                && generation == this.generation.get()) {
+                if(this.entrees.get(cle) == null) {
+                    while(this.entrees.size() >= this.capacite) {
+                        evincer();
+                    }
+                }
+                this.entrees.put(cle,
+                    new Entree(copie));
+                vieillir();
+            }
+        }
+        return CacheProximite.copier(sessionFactory,
+            copie);
+    }
+
+    /**
+     * Retire du cache les DTOs <code>dtos</code>. Les DTOs <code>null</code> ou sans clef primaire sont ignorés.
+     *
+     * @param session La session Hibernate, utilisée pour lire les métadonnées des DTOs
+     * @param dtos Les DTOs
+     */
+    public void invalider(Session session,
+        DTO... dtos) {
+        final SessionFactory sessionFactory = session.getSessionFactory();
+        for(DTO dto : dtos) {
+            if(dto != null) {
+                final Cle cle = CacheProximite.getCle(sessionFactory,
+                    dto);
+                if(cle.getPrimaryKey() != null) {
+                    invalider(cle.getDtoClass(),
+                        cle.getPrimaryKey());
+                }
+            }
+        }
+    }
+
+    /**
+     * Retire du cache le DTO d'une classe et d'une clef primaire.
+     *
+     * @param dtoClass La classe du DTO
+     * @param primaryKey La clef primaire du DTO
+     */
+    public void invalider(Class<?> dtoClass,
+        Serializable primaryKey) {
+        this.generation.incrementAndGet();
+        this.nombreInvalidations.incrementAndGet();
+        synchronized(this) {
+            this.entrees.remove(new Cle(dtoClass,
+                primaryKey));
+        }
+    }
+
+    /**
+     * Retourne l'instance d'un DTO gérée par une session, pour qu'une écriture porte sur l'état courant du DTO et non sur une copie
+     * du cache. Les DTOs sans clef primaire, déjà gérés par la session ou absents de la base de données sont retournés tels quels.
+     *
+     * @param session La session Hibernate
+     * @param dto Le DTO, qui peut être une copie du cache
+     * @return L'instance gérée par la session ; <code>dto</code> si le DTO n'a pas d'instance à rattacher
+     */
+    public DTO rattacher(Session session,
+        DTO dto) {
+        if(dto == null
+            || session.contains(dto)) {
+            return dto;
+        }
+        final Cle cle = CacheProximite.getCle(session.getSessionFactory(),
+            dto);
+        if(cle.getPrimaryKey() == null) {
+            return dto;
+        }
+        final DTO instance = (DTO) session.get(cle.getDtoClass(),
+            cle.getPrimaryKey());
+        return instance == null ? dto : instance;
+    }
+
+    /**
+     * Retourne la clef primaire d'un DTO.
+     *
+     * @param session La session Hibernate, utilisée pour lire les métadonnées des DTOs
+     * @param dto Le DTO
+     * @return La clef primaire du DTO
+     */
+    public Serializable getPrimaryKey(Session session,
+        DTO dto) {
+        return CacheProximite.getCle(session.getSessionFactory(),
+            dto).getPrimaryKey();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public synchronized int getTaille() {
+        return this.entrees.size();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long getNombreSucces() {
+        return this.nombreSucces.get();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long getNombreEchecs() {
+        return this.nombreEchecs.get();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long getNombreEvictions() {
+        return this.nombreEvictions.get();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long getNombreInvalidations() {
+        return this.nombreInvalidations.get();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public double getTauxSucces() {
+        final long succes = getNombreSucces();
+        final long lectures = succes
+            + getNombreEchecs();
+        return lectures == 0 ? 0.0 : (double) succes
+            / lectures;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void reinitialiser() {
+        this.nombreSucces.set(0L);
+        this.nombreEchecs.set(0L);
+        this.nombreEvictions.set(0L);
+        this.nombreInvalidations.set(0L);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void vider() {
+        this.generation.incrementAndGet();
+        synchronized(this) {
+            this.entrees.clear();
+        }
+    }
+
+    /**
+     * Évince le moins fréquemment lu des {@link #ECHANTILLON} DTOs les moins récemment lus. Doit être appelée avec le verrou du cache.
+     */
+    private void evincer() {
+        final Iterator<Map.Entry<Cle, Entree>> iterateur = this.entrees.entrySet().iterator();
+        Cle victime = null;
+        int frequenceVictime = Integer.MAX_VALUE;
+        for(int index = 0 ; index < CacheProximite.ECHANTILLON
+            && iterateur.hasNext() ; index++) {
+            final Map.Entry<Cle, Entree> entree = iterateur.next();
+            if(entree.getValue().getFrequence() < frequenceVictime) {
+                victime = entree.getKey();
+                frequenceVictime = entree.getValue().getFrequence();
+            }
+        }
+        if(victime != null) {
+            this.entrees.remove(victime);
+            this.nombreEvictions.incrementAndGet();
+        }
+    }
+
+    /**
+     * Divise par deux la fréquence de chaque DTO toutes les <code>10 × capacité</code> opérations. Doit être appelée avec le verrou du
+     * cache.
+     */
+    private void vieillir() {
+        this.operations++;
+        if(this.operations < (long) this.capacite
+            * CacheProximite.PERIODE_VIEILLISSEMENT) {
+            return;
+        }
+        this.operations = 0L;
+        for(Entree entree : this.entrees.values()) {
+            entree.vieillir();
+        }
+    }
+
+    /**
+     * Retourne la clef d'un DTO.
+     *
+     * @param sessionFactory La fabrique de sessions qui contient les métadonnées des DTOs
+     * @param dto Le DTO
+     * @return La clef du DTO
+     */
+    private static Cle getCle(SessionFactory sessionFactory,
+        DTO dto) {
+        final Object instance = CacheProximite.deproxifier(dto);
+        final Class<?> dtoClass = instance.getClass();
+        return new Cle(dtoClass,
+            sessionFactory.getClassMetadata(dtoClass).getIdentifier(instance,
+                EntityMode.POJO));
+    }
+
+    /**
+     * Copie un DTO. Les propriétés sont copiées en profondeur ; chaque association est remplacée par un DTO qui ne porte que l'identifiant
+     * de l'entité associée, lu sans initialiser son proxy, et les collections sont <code>null</code>.
+     *
+     * @param sessionFactory La fabrique de sessions qui contient les métadonnées des DTOs
+     * @param dto Le DTO, qui peut être un proxy Hibernate
+     * @return La copie
+     */
+    private static DTO copier(SessionFactory sessionFactory,
+        Object dto) {
+        final Object instance = CacheProximite.deproxifier(dto);
+        final ClassMetadata classMetadata = sessionFactory.getClassMetadata(instance.getClass());
+        final Type[] types = classMetadata.getPropertyTypes();
+        final Object[] valeurs = classMetadata.getPropertyValues(instance,
+            EntityMode.POJO);
+        for(int index = 0 ; index < types.length ; index++) {
+            if(valeurs[index] == null) {
+                continue;
+            }
+            if(types[index].isEntityType()) {
+                valeurs[index] = CacheProximite.copierIdentifiant(sessionFactory,
+                    (EntityType) types[index],
+                    valeurs[index]);
+            } else if(types[index].isCollectionType()) {
+                valeurs[index] = null;
+            } else {
+                valeurs[index] = types[index].deepCopy(valeurs[index],
+                    EntityMode.POJO,
+                    (SessionFactoryImplementor) sessionFactory);
+            }
+        }
+        final DTO copie = (DTO) classMetadata.instantiate(classMetadata.getIdentifier(instance,
+            EntityMode.POJO),
+            EntityMode.POJO);
+        classMetadata.setPropertyValues(copie,
+            valeurs,
+            EntityMode.POJO);
+        return copie;
+    }
+
+    /**
+     * Crée un DTO qui ne porte que l'identifiant d'une entité associée. L'identifiant d'un proxy est lu sans l'initialiser.
+     *
+     * @param sessionFactory La fabrique de sessions qui contient les métadonnées des DTOs
+     * @param type Le type de l'association
+     * @param associe L'entité associée, qui peut être un proxy Hibernate
+     * @return Le DTO de l'entité associée, sans autre propriété que son identifiant
+     */
+    private static Object copierIdentifiant(SessionFactory sessionFactory,
+        EntityType type,
+        Object associe) {
+        final ClassMetadata classMetadata = sessionFactory.getClassMetadata(type.getAssociatedEntityName());
+        final Serializable identifiant;
+        if(associe instanceof HibernateProxy) {
+            identifiant = ((HibernateProxy) associe).getHibernateLazyInitializer().getIdentifier();
+        } else {
+            identifiant = classMetadata.getIdentifier(associe,
+                EntityMode.POJO);
+        }
+        return classMetadata.instantiate(identifiant,
+            EntityMode.POJO);
+    }
+
+    /**
+     * Retourne l'instance derrière un proxy Hibernate, en l'initialisant au besoin.
+     *
+     * @param dto Le DTO ou son proxy
+     * @return L'instance du DTO
+     */
+    private static Object deproxifier(Object dto) {
+        if(dto instanceof HibernateProxy) {
+            return ((HibernateProxy) dto).getHibernateLazyInitializer().getImplementation();
+        }
+        return dto;
+    }
+
+    /**
+     * Clef d'un DTO du cache.
+     *
+     * @author Team PayDay
+     */
+    private static final class Cle {
+        private final Class<?> dtoClass;
+
+        private final Serializable primaryKey;
+
+        /**
+         * Crée une clef.
+         *
+         * @param dtoClass La classe du DTO
+         * @param primaryKey La clef primaire du DTO
+         */
+        Cle(Class<?> dtoClass,
+            Serializable primaryKey) {
+            super();
+            this.dtoClass = dtoClass;
+            this.primaryKey = primaryKey;
+        }
+
+        // Region Getters and Setters
+        /**
+         * Getter de la variable d'instance <code>this.dtoClass</code>.
+         *
+         * @return La variable d'instance <code>this.dtoClass</code>
+         */
+        Class<?> getDtoClass() {
+            return this.dtoClass;
+        }
+
+        /**
+         * Getter de la variable d'instance <code>this.primaryKey</code>.
+         *
+         * @return La variable d'instance <code>this.primaryKey</code>
+         */
+        Serializable getPrimaryKey() {
+            return this.primaryKey;
+        }
+        // EndRegion Getters and Setters
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public boolean equals(Object obj) {
+            if(this == obj) {
+                return true;
+            }
+            if(!(obj instanceof Cle)) {
+                return false;
+            }
+            final Cle autre = (Cle) obj;
+            return this.dtoClass.equals(autre.dtoClass)
+                && this.primaryKey.equals(autre.primaryKey);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public int hashCode() {
+            return 31
+                * this.dtoClass.hashCode()
+                + this.primaryKey.hashCode();
+        }
+    }
+
+    /**
+     * DTO du cache, avec sa fréquence d'accès.
+     *
+     * @author Team PayDay
+     */
+    private static final class Entree {
+        private final DTO dto;
+
+        private int frequence;
+
+        /**
+         * Crée une entrée lue une fois.
+         *
+         * @param dto La copie du DTO
+         */
+        Entree(DTO dto) {
+            super();
+            this.dto = dto;
+            this.frequence = 1;
+        }
+
+        /**
+         * Compte une lecture.
+         */
+        void lire() {
+            if(this.frequence < CacheProximite.FREQUENCE_MAXIMALE) {
+                this.frequence++;
+            }
+        }
+
+        /**
+         * Divise la fréquence par deux.
+         */
+        void vieillir() {
+            this.frequence >>= 1;
+        }
+
+        // Region Getters and Setters
+        /**
+         * Getter de la variable d'instance <code>this.dto</code>.
+         *
+         * @return La variable d'instance <code>this.dto</code>
+         */
+        DTO getDto() {
+            return this.dto;
+        }
+
+        /**
+         * Getter de la variable d'instance <code>this.frequence</code>.
+         *
+         * @return La variable d'instance <code>this.frequence</code>
+         */
+        int getFrequence() {
+            return this.frequence;
+        }
+        // EndRegion Getters and Setters
+    }
+}
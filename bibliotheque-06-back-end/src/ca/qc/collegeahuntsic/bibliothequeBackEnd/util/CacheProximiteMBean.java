@@ -0,0 +1,71 @@
+// Fichier CacheProximiteMBean.java
+// Auteur : Team PayDay
+// Date de création : 2026-10-18
+
+package ca.qc.collegeahuntsic.bibliothequeBackEnd.util;
+
+/**
+ * Interface JMX des {@link CacheProximite}.
+ *
+ * @author Team PayDay
+ */
+public interface CacheProximiteMBean {
+    /**
+     * Retourne le nombre maximal de DTOs du cache.
+     *
+     * @return La capacité ; <code>0</code> si le cache est désactivé
+     */
+    int getCapacite();
+
+    /**
+     * Retourne le nombre de DTOs du cache.
+     *
+     * @return La taille du cache
+     */
+    int getTaille();
+
+    /**
+     * Retourne le nombre de lectures qui ont trouvé leur DTO.
+     *
+     * @return Le nombre de succès
+     */
+    long getNombreSucces();
+
+    /**
+     * Retourne le nombre de lectures qui n'ont pas trouvé leur DTO.
+     *
+     * @return Le nombre d'échecs
+     */
+    long getNombreEchecs();
+
+    /**
+     * Retourne le nombre de DTOs retirés pour faire de la place.
+     *
+     * @return Le nombre d'évictions
+     */
+    long getNombreEvictions();
+
+    /**
+     * Retourne le nombre de clefs invalidées par une écriture.
+     *
+     * @return Le nombre d'invalidations
+     */
+    long getNombreInvalidations();
+
+    /**
+     * Retourne la proportion des lectures qui ont trouvé leur DTO.
+     *
+     * @return Le taux de succès, entre <code>0</code> et <code>1</code> ; <code>0</code> s'il n'y a eu aucune lecture
+     */
+    double getTauxSucces();
+
+    /**
+     * Vide les statistiques. Le contenu du cache est conservé.
+     */
+    void reinitialiser();
+
+    /**
+     * Vide le cache.
+     */
+    void vider();
+}
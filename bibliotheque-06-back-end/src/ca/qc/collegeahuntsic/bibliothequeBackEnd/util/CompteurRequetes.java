@@ -0,0 +1,129 @@
+// Fichier CompteurRequetes.java
+// Auteur : Team PayDay
+// Date de création : 2026-10-18
+
+package ca.qc.collegeahuntsic.bibliothequeBackEnd.util;
+
+import java.io.Serializable;
+import java.util.Iterator;
+import org.hibernate.EmptyInterceptor;
+import org.hibernate.type.Type;
+
+/**
+ * Intercepteur Hibernate qui compte, pour chaque thread, les requêtes SQL préparées, les entités chargées de la base de données, les
+ * collections initialisées et les flushes.
+ *
+ * Les statistiques de Hibernate (<code>hibernate.generate_statistics</code>) sont globales à la <code>SessionFactory</code> : elles ne
+ * permettent pas d'attribuer une requête à l'appel qui l'a exécutée dès que plusieurs threads travaillent en même temps. Ici, chaque
+ * thread a ses propres compteurs, que l'{@link IntercepteurRequetes} lit avant et après chaque appel. Les collections initialisées sont
+ * comptées par l'{@link EcouteurChargementCollection}.
+ *
+ * @author Team PayDay
+ */
+public class CompteurRequetes extends EmptyInterceptor {
+    /**
+     * L'index du nombre de requêtes SQL préparées.
+     */
+    public static final int REQUETES = 0;
+
+    /**
+     * L'index du nombre d'entités chargées de la base de données.
+     */
+    public static final int ENTITES = 1;
+
+    /**
+     * L'index du nombre de collections initialisées.
+     */
+    public static final int COLLECTIONS = 2;
+
+    /**
+     * L'index du nombre de flushes.
+     */
+    public static final int FLUSHES = 3;
+
+    /**
+     * Le nombre de compteurs.
+     */
+    public static final int NOMBRE_COMPTEURS = 4;
+
+    private static final long serialVersionUID = 1L;
+
+    private final transient ThreadLocal<long[]> compteurs;
+
+    /**
+     * Crée le compteur.
+     */
+    public CompteurRequetes() {
+        super();
+        this.compteurs = new ThreadLocal<long[]>() {
+            @Override
+            protected long[] initialValue() {
+                return new long[CompteurRequetes.NOMBRE_COMPTEURS];
+            }
+        };
+    }
+
+    /**
+     * Incrémente un compteur du thread courant.
+     *
+     * @param compteur L'index du compteur
+     */
+    public void compter(int compteur) {
+        this.compteurs.get()[compteur]++;
+    }
+
+    /**
+     * Retourne une copie des compteurs du thread courant.
+     *
+     * @return Les compteurs, par index
+     */
+    public long[] lire() {
+        return this.compteurs.get().clone();
+    }
+
+    /**
+     * Calcule l'écart entre les compteurs du thread courant et une copie antérieure.
+     *
+     * @param avant La copie antérieure, retournée par {@link #lire()}
+     * @param ecart Le tableau où écrire l'écart de chaque compteur
+     */
+    public void ecart(long[] avant,
+        long[] ecart) {
+        final long[] courants = this.compteurs.get();
+        for(int index = 0 ; index < CompteurRequetes.NOMBRE_COMPTEURS ; index++) {
+            ecart[index] = courants[index]
+                - avant[index];
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String onPrepareStatement(String sql) {
+        compter(CompteurRequetes.REQUETES);
+        return sql;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean onLoad(Object entity,
+        Serializable id,
+        Object[] state,
+        String[] propertyNames,
+        Type[] types) {
+        compter(CompteurRequetes.ENTITES);
+        return false;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @SuppressWarnings("rawtypes")
+    @Override
+    public void preFlush(Iterator entities) {
+        compter(CompteurRequetes.FLUSHES);
+    }
+}
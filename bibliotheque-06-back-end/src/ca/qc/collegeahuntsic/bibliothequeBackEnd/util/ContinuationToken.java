@@ -0,0 +1,356 @@
+// Fichier ContinuationToken.java
+// Auteur : Team PayDay
+// Date de création : 2026-10-18
+
+package ca.qc.collegeahuntsic.bibliothequeBackEnd.util;
+
+import java.io.Serializable;
+import java.nio.charset.Charset;
+import java.sql.Timestamp;
+import java.util.Date;
+import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.dao.InvalidPageRequestException;
+
+/**
+ * Jeton de continuation des finders paginés. Un jeton désigne la page suivante de deux façons :
+ *
+ * <ul>
+ * <li>par décalage : le nombre de lignes à sauter ({@link #ofOffset(int)}) ;</li>
+ * <li>par clef : la valeur de la propriété de tri et l'ID de la dernière ligne lue ({@link #ofKey(String, Object, Serializable)}). La page
+ * suivante commence à la première ligne dont le couple <code>(tri, ID)</code> est plus grand ; la base de données peut alors parcourir un
+ * intervalle d'index au lieu de relire et de sauter toutes les lignes précédentes.</li>
+ * </ul>
+ *
+ * Un finder paginé appelé sans jeton retourne la première page par clef ; pour paginer par décalage, il suffit de lui passer
+ * <code>ofOffset(0).encode()</code>. Les pages suivantes gardent le mode du jeton reçu.
+ *
+ * Le jeton encodé est une chaîne opaque : chaque champ est écrit en hexadécimal.
+ *
+ * @author Team PayDay
+ */
+public final class ContinuationToken {
+    private static final Charset UTF_8 = Charset.forName("UTF-8");
+
+    private static final String SEPARATEUR = ".";
+
+    private static final String MODE_DECALAGE = "o";
+
+    private static final String MODE_CLEF = "k";
+
+    private static final char TYPE_STRING = 's';
+
+    private static final char TYPE_LONG = 'l';
+
+    private static final char TYPE_INTEGER = 'i';
+
+    private static final char TYPE_TIMESTAMP = 't';
+
+    private static final char TYPE_DATE = 'd';
+
+    private int offset;
+
+    private String sortByPropertyName;
+
+    private Object sortValue;
+
+    private Serializable id;
+
+    /**
+     * Crée un jeton.
+     *
+     * @param offset Le nombre de lignes à sauter ; <code>-1</code> pour un jeton par clef
+     * @param sortByPropertyName Le nom de la propriété de tri
+     * @param sortValue La valeur de la propriété de tri de la dernière ligne lue
+     * @param id L'ID de la dernière ligne lue
+     */
+    private ContinuationToken(int offset,
+        String sortByPropertyName,
+        Object sortValue,
+        Serializable id) {
+        super();
+        setOffset(offset);
+        setSortByPropertyName(sortByPropertyName);
+        setSortValue(sortValue);
+        setId(id);
+    }
+
+    // Region Getters and Setters
+    /**
+     * Getter de la variable d'instance <code>this.offset</code>.
+     *
+     * @return La variable d'instance <code>this.offset</code>
+     */
+    public int getOffset() {
+        return this.offset;
+    }
+
+    /**
+     * Setter de la variable d'instance <code>this.offset</code>.
+     *
+     * @param offset La valeur à utiliser pour la variable d'instance <code>this.offset</code>
+     */
+    private void setOffset(int offset) {
+        this.offset = offset;
+    }
+
+    /**
+     * Getter de la variable d'instance <code>this.sortByPropertyName</code>.
+     *
+     * @return La variable d'instance <code>this.sortByPropertyName</code>
+     */
+    public String getSortByPropertyName() {
+        return this.sortByPropertyName;
+    }
+
+    /**
+     * Setter de la variable d'instance <code>this.sortByPropertyName</code>.
+     *
+     * @param sortByPropertyName La valeur à utiliser pour la variable d'instance <code>this.sortByPropertyName</code>
+     */
+    private void setSortByPropertyName(String sortByPropertyName) {
+        this.sortByPropertyName = sortByPropertyName;
+    }
+
+    /**
+     * Getter de la variable d'instance <code>this.sortValue</code>.
+     *
+     * @return La variable d'instance <code>this.sortValue</code>
+     */
+    public Object getSortValue() {
+        return this.sortValue;
+    }
+
+    /**
+     * Setter de la variable d'instance <code>this.sortValue</code>.
+     *
+     * @param sortValue La valeur à utiliser pour la variable d'instance <code>this.sortValue</code>
+     */
+    private void setSortValue(Object sortValue) {
+        this.sortValue = sortValue;
+    }
+
+    /**
+     * Getter de la variable d'instance <code>this.id</code>.
+     *
+     * @return La variable d'instance <code>this.id</code>
+     */
+    public Serializable getId() {
+        return this.id;
+    }
+
+    /**
+     * Setter de la variable d'instance <code>this.id</code>.
+     *
+     * @param id La valeur à utiliser pour la variable d'instance <code>this.id</code>
+     */
+    private void setId(Serializable id) {
+        this.id = id;
+    }
+    // EndRegion Getters and Setters
+
+    /**
+     * Crée un jeton par décalage.
+     *
+     * @param offset Le nombre de lignes à sauter
+     * @return Le jeton
+     */
+    public static ContinuationToken ofOffset(int offset) {
+        return new ContinuationToken(offset,
+            null,
+            null,
+            null);
+    }
+
+    /**
+     * Crée un jeton par clef.
+     *
+     * @param sortByPropertyName Le nom de la propriété de tri
+     * @param sortValue La valeur de la propriété de tri de la dernière ligne lue
+     * @param id L'ID de la dernière ligne lue
+     * @return Le jeton
+     */
+    public static ContinuationToken ofKey(String sortByPropertyName,
+        Object sortValue,
+        Serializable id) {
+        return new ContinuationToken(-1,
+            sortByPropertyName,
+            sortValue,
+            id);
+    }
+
+    /**
+     * Vérifie s'il s'agit d'un jeton par clef.
+     *
+     * @return <code>true</code> pour un jeton par clef, <code>false</code> pour un jeton par décalage
+     */
+    public boolean isKeyset() {
+        return getOffset() < 0;
+    }
+
+    /**
+     * Encode le jeton.
+     *
+     * @return Le jeton encodé
+     * @throws InvalidPageRequestException Si la valeur de tri ou l'ID est <code>null</code> ou d'un type non supporté
+     */
+    public String encode() throws InvalidPageRequestException {
+        if(!isKeyset()) {
+            return ContinuationToken.MODE_DECALAGE
+                + ContinuationToken.SEPARATEUR
+                + ContinuationToken.hex(Integer.toString(getOffset()));
+        }
+        return ContinuationToken.MODE_CLEF
+            + ContinuationToken.SEPARATEUR
+            + ContinuationToken.hex(getSortByPropertyName())
+            + ContinuationToken.SEPARATEUR
+            + ContinuationToken.hex(ContinuationToken.ecrireValeur(getSortValue()))
+            + ContinuationToken.SEPARATEUR
+            + ContinuationToken.hex(ContinuationToken.ecrireValeur(getId()));
+    }
+
+    /**
+     * Décode un jeton.
+     *
+     * @param encodedToken Le jeton encodé
+     * @return Le jeton
+     * @throws InvalidPageRequestException Si le jeton est mal formé
+     */
+    public static ContinuationToken decode(String encodedToken) throws InvalidPageRequestException {
+        final String[] champs = encodedToken.split("\\"
+            + ContinuationToken.SEPARATEUR);
+        try {
+            if(champs.length == 2
+                && ContinuationToken.MODE_DECALAGE.equals(champs[0])) {
+                final int offset = Integer.parseInt(ContinuationToken.unhex(champs[1]));
+                if(offset < 0) {
+                    throw new InvalidPageRequestException("Le décalage du jeton de continuation ne peut être négatif");
+                }
+                return ContinuationToken.ofOffset(offset);
+            }
+            if(champs.length == 4
+                && ContinuationToken.MODE_CLEF.equals(champs[0])) {
+                return ContinuationToken.ofKey(ContinuationToken.unhex(champs[1]),
+                    ContinuationToken.lireValeur(ContinuationToken.unhex(champs[2])),
+                    (Serializable) ContinuationToken.lireValeur(ContinuationToken.unhex(champs[3])));
+            }
+        } catch(IllegalArgumentException illegalArgumentException) {
+            throw new InvalidPageRequestException("Le jeton de continuation est mal formé : "
+                + encodedToken,
+                illegalArgumentException);
+        }
+        throw new InvalidPageRequestException("Le jeton de continuation est mal formé : "
+            + encodedToken);
+    }
+
+    /**
+     * Écrit une valeur de tri ou un ID, précédé de son type.
+     *
+     * @param valeur La valeur à écrire
+     * @return La valeur écrite
+     * @throws InvalidPageRequestException Si la valeur est <code>null</code> ou d'un type non supporté
+     */
+    private static String ecrireValeur(Object valeur) throws InvalidPageRequestException {
+        if(valeur instanceof String) {
+            return ContinuationToken.TYPE_STRING
+                + (String) valeur;
+        }
+        if(valeur instanceof Long) {
+            return ContinuationToken.TYPE_LONG
+                + valeur.toString();
+        }
+        if(valeur instanceof Integer) {
+            return ContinuationToken.TYPE_INTEGER
+                + valeur.toString();
+        }
+        if(valeur instanceof Timestamp) {
+            final Timestamp timestamp = (Timestamp) valeur;
+            return ContinuationToken.TYPE_TIMESTAMP
+                + Long.toString(timestamp.getTime())
+                + ContinuationToken.SEPARATEUR
+                + Integer.toString(timestamp.getNanos());
+        }
+        if(valeur instanceof Date) {
+            return ContinuationToken.TYPE_DATE
+                + Long.toString(((Date) valeur).getTime());
+        }
+        if(valeur == null) {
+            throw new InvalidPageRequestException("La pagination par clef ne supporte pas les valeurs de tri null");
+        }
+        throw new InvalidPageRequestException("La pagination par clef ne supporte pas les valeurs de type "
+            + valeur.getClass().getName());
+    }
+
+    /**
+     * Lit une valeur de tri ou un ID écrit par {@link #ecrireValeur(Object)}.
+     *
+     * @param valeur La valeur écrite
+     * @return La valeur lue
+     */
+    private static Object lireValeur(String valeur) {
+        if(valeur.isEmpty()) {
+            throw new IllegalArgumentException("Valeur vide");
+        }
+        final String texte = valeur.substring(1);
+        switch(valeur.charAt(0)) {
+            case TYPE_STRING:
+                return texte;
+            case TYPE_LONG:
+                return Long.valueOf(texte);
+            case TYPE_INTEGER:
+                return Integer.valueOf(texte);
+            case TYPE_TIMESTAMP:
+                final int separateur = texte.indexOf(ContinuationToken.SEPARATEUR);
+                final Timestamp timestamp = new Timestamp(Long.parseLong(texte.substring(0,
+                    separateur)));
+                timestamp.setNanos(Integer.parseInt(texte.substring(separateur + 1)));
+                return timestamp;
+            case TYPE_DATE:
+                return new Date(Long.parseLong(texte));
+            default:
+                throw new IllegalArgumentException("Type inconnu : "
+                    + valeur.charAt(0));
+        }
+    }
+
+    /**
+     * Écrit une chaîne en hexadécimal.
+     *
+     * @param texte La chaîne à écrire
+     * @return La chaîne en hexadécimal
+     */
+    private static String hex(String texte) {
+        final StringBuilder hex = new StringBuilder();
+        for(byte octet : texte.getBytes(ContinuationToken.UTF_8)) {
+            hex.append(Character.forDigit((octet >> 4) & 0xF,
+                16));
+            hex.append(Character.forDigit(octet & 0xF,
+                16));
+        }
+        return hex.toString();
+    }
+
+    /**
+     * Lit une chaîne écrite par {@link #hex(String)}.
+     *
+     * @param hex La chaîne en hexadécimal
+     * @return La chaîne lue
+     */
+    private static String unhex(String hex) {
+        if(hex.length() % 2 != 0) {
+            throw new IllegalArgumentException("Longueur impaire");
+        }
+        final byte[] octets = new byte[hex.length() / 2];
+        for(int index = 0 ; index < octets.length ; index++) {
+            final int haut = Character.digit(hex.charAt(2 * index),
+                16);
+            final int bas = Character.digit(hex.charAt(2 * index + 1),
+                16);
+            if(haut < 0
+                || bas < 0) {
+                throw new IllegalArgumentException("Caractère non hexadécimal");
+            }
+            octets[index] = (byte) ((haut << 4) | bas);
+        }
+        return new String(octets,
+            ContinuationToken.UTF_8);
+    }
+}
@@ -0,0 +1,59 @@
+// Fichier EcouteurChargementCollection.java
+// Auteur : Team PayDay
+// Date de création : 2026-10-18
+
+package ca.qc.collegeahuntsic.bibliothequeBackEnd.util;
+
+import org.hibernate.HibernateException;
+import org.hibernate.event.InitializeCollectionEvent;
+import org.hibernate.event.def.DefaultInitializeCollectionEventListener;
+
+/**
+ * Écouteur Hibernate de l'événement <code>load-collection</code> qui compte les collections paresseuses initialisées dans le
+ * {@link CompteurRequetes}, puis les initialise comme l'écouteur par défaut.
+ *
+ * @author Team PayDay
+ */
+public class EcouteurChargementCollection extends DefaultInitializeCollectionEventListener {
+    private static final long serialVersionUID = 1L;
+
+    private CompteurRequetes compteurRequetes;
+
+    /**
+     * Crée l'écouteur.
+     */
+    public EcouteurChargementCollection() {
+        super();
+    }
+
+    // Region Getters and Setters
+    /**
+     * Getter de la variable d'instance <code>this.compteurRequetes</code>.
+     *
+     * @return La variable d'instance <code>this.compteurRequetes</code>
+     */
+    public CompteurRequetes getCompteurRequetes() {
+        return this.compteurRequetes;
+    }
+
+    /**
+     * Setter de la variable d'instance <code>this.compteurRequetes</code>.
+     *
+     * @param compteurRequetes La valeur à utiliser pour la variable d'instance <code>this.compteurRequetes</code>
+     */
+    public void setCompteurRequetes(CompteurRequetes compteurRequetes) {
+        this.compteurRequetes = compteurRequetes;
+    }
+    // EndRegion Getters and Setters
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void onInitializeCollection(InitializeCollectionEvent event) throws HibernateException {
+        if(!event.getCollection().wasInitialized()) {
+            getCompteurRequetes().compter(CompteurRequetes.COLLECTIONS);
+        }
+        super.onInitializeCollection(event);
+    }
+}
@@ -0,0 +1,61 @@
+// Fichier EcouteurChargementLectureSeule.java
+// Auteur : Team PayDay
+// Date de création : 2026-10-18
+
+package ca.qc.collegeahuntsic.bibliothequeBackEnd.util;
+
+import org.hibernate.event.PostLoadEvent;
+import org.hibernate.event.def.DefaultPostLoadEventListener;
+
+/**
+ * Écouteur Hibernate de l'événement <code>post-load</code> qui marque en lecture seule les entités chargées pendant un appel en lecture
+ * seule de l'{@link IntercepteurLectureSeule}, après le traitement de l'écouteur par défaut.
+ *
+ * Une entité en lecture seule n'a plus de copie de son état chargé et n'est pas vérifiée au flush.
+ *
+ * @author Team PayDay
+ */
+public class EcouteurChargementLectureSeule extends DefaultPostLoadEventListener {
+    private static final long serialVersionUID = 1L;
+
+    private IntercepteurLectureSeule intercepteurLectureSeule;
+
+    /**
+     * Crée l'écouteur.
+     */
+    public EcouteurChargementLectureSeule() {
+        super();
+    }
+
+    // Region Getters and Setters
+    /**
+     * Getter de la variable d'instance <code>this.intercepteurLectureSeule</code>.
+     *
+     * @return La variable d'instance <code>this.intercepteurLectureSeule</code>
+     */
+    public IntercepteurLectureSeule getIntercepteurLectureSeule() {
+        return this.intercepteurLectureSeule;
+    }
+
+    /**
+     * Setter de la variable d'instance <code>this.intercepteurLectureSeule</code>.
+     *
+     * @param intercepteurLectureSeule La valeur à utiliser pour la variable d'instance <code>this.intercepteurLectureSeule</code>
+     */
+    public void setIntercepteurLectureSeule(IntercepteurLectureSeule intercepteurLectureSeule) {
+        this.intercepteurLectureSeule = intercepteurLectureSeule;
+    }
+    // EndRegion Getters and Setters
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void onPostLoad(PostLoadEvent event) {
+        super.onPostLoad(event);
+        if(getIntercepteurLectureSeule().isLectureSeule(event.getSession())) {
+            event.getSession().setReadOnly(event.getEntity(),
+                true);
+        }
+    }
+}
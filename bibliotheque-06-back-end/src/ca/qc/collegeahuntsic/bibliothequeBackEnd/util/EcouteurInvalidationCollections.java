@@ -0,0 +1,216 @@
+// Fichier EcouteurInvalidationCollections.java
+// Auteur : Team PayDay
+// Date de création : 2026-10-18
+
+package ca.qc.collegeahuntsic.bibliothequeBackEnd.util;
+
+import java.io.Serializable;
+import ca.qc.collegeahuntsic.bibliothequeBackEnd.dto.LivreDTO;
+import ca.qc.collegeahuntsic.bibliothequeBackEnd.dto.MembreDTO;
+import ca.qc.collegeahuntsic.bibliothequeBackEnd.dto.PretDTO;
+import ca.qc.collegeahuntsic.bibliothequeBackEnd.dto.ReservationDTO;
+import org.hibernate.EntityMode;
+import org.hibernate.SessionFactory;
+import org.hibernate.event.PostDeleteEvent;
+import org.hibernate.event.PostDeleteEventListener;
+import org.hibernate.event.PostInsertEvent;
+import org.hibernate.event.PostInsertEventListener;
+import org.hibernate.event.PostUpdateEvent;
+import org.hibernate.event.PostUpdateEventListener;
+import org.hibernate.persister.entity.EntityPersister;
+
+/**
+ * Écouteur Hibernate des événements <code>post-commit-insert</code>, <code>post-commit-update</code> et <code>post-commit-delete</code>
+ * qui retire du cache de second niveau les collections <code>prets</code> et <code>reservations</code> du membre et du livre d'un prêt
+ * ou d'une réservation modifié.
+ *
+ * Hibernate ne met à jour une collection en cache que lorsque la collection elle-même est modifiée. Les services créent, retournent et
+ * suppriment les prêts et les réservations sans passer par les collections de leur membre et de leur livre : sans cet écouteur, ces
+ * collections resteraient en cache avec leur ancien contenu jusqu'à leur expiration. Un prêt ou une réservation ne change jamais de
+ * membre ni de livre ; seuls les propriétaires courants sont donc retirés.
+ *
+ * Si un {@link CacheProximite} est configuré, l'entité modifiée et les propriétaires de ses collections en sont aussi retirés. Les
+ * façades invalident déjà ces DTOs après chaque écriture, mais avant la validation de la transaction : une lecture concurrente peut
+ * remettre l'ancien état dans le cache entre les deux, et seule l'invalidation après la validation la corrige.
+ *
+ * Si un {@link CacheNegatif} est configuré, un ajout validé en efface aussi les clefs de la classe de l'entité ajoutée : une clef lue
+ * comme absente par une autre transaction avant la validation ne reste pas rejetée.
+ *
+ * @author Team PayDay
+ */
+public class EcouteurInvalidationCollections implements PostInsertEventListener,
+    PostUpdateEventListener,
+    PostDeleteEventListener {
+    private static final long serialVersionUID = 1L;
+
+    private static final String PRETS_MEMBRE = MembreDTO.class.getName()
+        + "."
+        + MembreDTO.PRETS_COLUMN_NAME;
+
+    private static final String RESERVATIONS_MEMBRE = MembreDTO.class.getName()
+        + "."
+        + MembreDTO.RESERVATIONS_COLUMN_NAME;
+
+    private static final String PRETS_LIVRE = LivreDTO.class.getName()
+        + "."
+        + LivreDTO.PRETS_COLUMN_NAME;
+
+    private static final String RESERVATIONS_LIVRE = LivreDTO.class.getName()
+        + "."
+        + LivreDTO.RESERVATIONS_COLUMN_NAME;
+
+    private transient CacheProximite cacheProximite;
+
+    private transient CacheNegatif cacheNegatif;
+
+    /**
+     * Crée l'écouteur.
+     */
+    public EcouteurInvalidationCollections() {
+        super();
+    }
+
+    // Region Getters and Setters
+    /**
+     * Getter de la variable d'instance <code>this.cacheProximite</code>.
+     *
+     * @return La variable d'instance <code>this.cacheProximite</code>
+     */
+    private CacheProximite getCacheProximite() {
+        return this.cacheProximite;
+    }
+
+    /**
+     * Setter de la variable d'instance <code>this.cacheProximite</code>.
+     *
+     * @param cacheProximite La valeur à utiliser pour la variable d'instance <code>this.cacheProximite</code>
+     */
+    public void setCacheProximite(CacheProximite cacheProximite) {
+        this.cacheProximite = cacheProximite;
+    }
+
+    /**
+     * Getter de la variable d'instance <code>this.cacheNegatif</code>.
+     *
+     * @return La variable d'instance <code>this.cacheNegatif</code>
+     */
+    private CacheNegatif getCacheNegatif() {
+        return this.cacheNegatif;
+    }
+
+    /**
+     * Setter de la variable d'instance <code>this.cacheNegatif</code>.
+     *
+     * @param cacheNegatif La valeur à utiliser pour la variable d'instance <code>this.cacheNegatif</code>
+     */
+    public void setCacheNegatif(CacheNegatif cacheNegatif) {
+        this.cacheNegatif = cacheNegatif;
+    }
+    // EndRegion Getters and Setters
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void onPostInsert(PostInsertEvent event) {
+        if(getCacheNegatif() != null) {
+            getCacheNegatif().effacer(event.getPersister().getMappedClass(EntityMode.POJO));
+        }
+        invalider(event.getSession().getSessionFactory(),
+            event.getPersister(),
+            event.getId(),
+            event.getEntity());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void onPostUpdate(PostUpdateEvent event) {
+        invalider(event.getSession().getSessionFactory(),
+            event.getPersister(),
+            event.getId(),
+            event.getEntity());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void onPostDelete(PostDeleteEvent event) {
+        invalider(event.getSession().getSessionFactory(),
+            event.getPersister(),
+            event.getId(),
+            event.getEntity());
+    }
+
+    /**
+     * Retire une entité modifiée du cache de proximité, et les collections du membre et du livre d'un prêt ou d'une réservation du cache
+     * de second niveau.
+     *
+     * @param sessionFactory La fabrique de sessions qui contient le cache
+     * @param entityPersister Le persister de l'entité modifiée
+     * @param id L'ID de l'entité modifiée
+     * @param entite L'entité modifiée
+     */
+    private void invalider(SessionFactory sessionFactory,
+        EntityPersister entityPersister,
+        Serializable id,
+        Object entite) {
+        if(getCacheProximite() != null) {
+            getCacheProximite().invalider(entityPersister.getMappedClass(EntityMode.POJO),
+                id);
+        }
+        if(entite instanceof PretDTO) {
+            final PretDTO pretDTO = (PretDTO) entite;
+            if(pretDTO.getMembreDTO() != null) {
+                invalider(sessionFactory,
+                    MembreDTO.class,
+                    EcouteurInvalidationCollections.PRETS_MEMBRE,
+                    pretDTO.getMembreDTO().getIdMembre());
+            }
+            if(pretDTO.getLivreDTO() != null) {
+                invalider(sessionFactory,
+                    LivreDTO.class,
+                    EcouteurInvalidationCollections.PRETS_LIVRE,
+                    pretDTO.getLivreDTO().getIdLivre());
+            }
+        } else if(entite instanceof ReservationDTO) {
+            final ReservationDTO reservationDTO = (ReservationDTO) entite;
+            if(reservationDTO.getMembreDTO() != null) {
+                invalider(sessionFactory,
+                    MembreDTO.class,
+                    EcouteurInvalidationCollections.RESERVATIONS_MEMBRE,
+                    reservationDTO.getMembreDTO().getIdMembre());
+            }
+            if(reservationDTO.getLivreDTO() != null) {
+                invalider(sessionFactory,
+                    LivreDTO.class,
+                    EcouteurInvalidationCollections.RESERVATIONS_LIVRE,
+                    reservationDTO.getLivreDTO().getIdLivre());
+            }
+        }
+    }
+
+    /**
+     * Retire du cache de second niveau une collection d'un propriétaire, et le propriétaire du cache de proximité.
+     *
+     * @param sessionFactory La fabrique de sessions qui contient le cache
+     * @param classeProprietaire La classe du propriétaire
+     * @param role Le rôle de la collection
+     * @param idProprietaire L'ID du propriétaire ; ignoré s'il est <code>null</code>
+     */
+    private void invalider(SessionFactory sessionFactory,
+        Class<?> classeProprietaire,
+        String role,
+        Serializable idProprietaire) {
+        if(idProprietaire != null) {
+            sessionFactory.evictCollection(role,
+                idProprietaire);
+            if(getCacheProximite() != null) {
+                getCacheProximite().invalider(classeProprietaire,
+                    idProprietaire);
+            }
+        }
+    }
+}
@@ -0,0 +1,138 @@
+// Fichier FetchPlan.java
+// Auteur : Team PayDay
+// Date de création : 2026-10-18
+
+package ca.qc.collegeahuntsic.bibliothequeBackEnd.util;
+
+import ca.qc.collegeahuntsic.bibliothequeBackEnd.dto.DTO;
+import ca.qc.collegeahuntsic.bibliothequeBackEnd.dto.MembreDTO;
+import ca.qc.collegeahuntsic.bibliothequeBackEnd.dto.PretDTO;
+import ca.qc.collegeahuntsic.bibliothequeBackEnd.dto.ReservationDTO;
+
+/**
+ * Un plan de chargement : les associations d'un DTO à charger par jointure dans la requête même qui lit les DTOs.
+ *
+ * Sans plan, les associations <code>many-to-one</code> et les collections sont paresseuses ; parcourir une liste de DTOs et lire leurs
+ * associations lance alors une requête par ligne, ou par groupe de <code>hibernate.default_batch_fetch_size</code> lignes. Avec un plan,
+ * le DAO ajoute une jointure par association du plan : la liste et ses associations sont lues en un seul aller-retour, quel que soit
+ * le nombre de lignes. Un chemin peut traverser plusieurs associations (<code>prets.livreDTO</code>), dans la limite de
+ * <code>hibernate.max_fetch_depth</code>.
+ *
+ * @author Team PayDay
+ */
+public final class FetchPlan {
+    /**
+     * Les prêts avec leur livre.
+     */
+    public static final FetchPlan LOAN_WITH_BOOK = new FetchPlan("loan-with-book",
+        PretDTO.class,
+        PretDTO.LIVRE_DTO_COLUMN_NAME);
+
+    /**
+     * Les réservations avec leur membre et leur livre.
+     */
+    public static final FetchPlan RESERVATION_WITH_MEMBER_AND_BOOK = new FetchPlan("reservation-with-member-and-book",
+        ReservationDTO.class,
+        ReservationDTO.MEMBRE_DTO_COLUMN_NAME,
+        ReservationDTO.LIVRE_DTO_COLUMN_NAME);
+
+    /**
+     * Les membres avec leurs prêts en cours, leurs réservations et le livre de chacun.
+     */
+    public static final FetchPlan MEMBER_DASHBOARD = new FetchPlan("member-dashboard",
+        MembreDTO.class,
+        MembreDTO.PRETS_COLUMN_NAME,
+        MembreDTO.PRETS_COLUMN_NAME
+            + "."
+            + PretDTO.LIVRE_DTO_COLUMN_NAME,
+        MembreDTO.RESERVATIONS_COLUMN_NAME,
+        MembreDTO.RESERVATIONS_COLUMN_NAME
+            + "."
+            + ReservationDTO.LIVRE_DTO_COLUMN_NAME);
+
+    private String name;
+
+    private Class<? extends DTO> dtoClass;
+
+    private String[] associationPaths;
+
+    /**
+     * Crée un plan de chargement.
+     *
+     * @param name Le nom du plan
+     * @param dtoClass La classe des DTOs lus avec le plan
+     * @param associationPaths Les chemins des associations à charger, à partir du DTO
+     */
+    public FetchPlan(String name,
+        Class<? extends DTO> dtoClass,
+        String... associationPaths) {
+        super();
+        setName(name);
+        setDtoClass(dtoClass);
+        setAssociationPaths(associationPaths.clone());
+    }
+
+    // Region Getters and Setters
+    /**
+     * Getter de la variable d'instance <code>this.name</code>.
+     *
+     * @return La variable d'instance <code>this.name</code>
+     */
+    public String getName() {
+        return this.name;
+    }
+
+    /**
+     * Setter de la variable d'instance <code>this.name</code>.
+     *
+     * @param name La valeur à utiliser pour la variable d'instance <code>this.name</code>
+     */
+    private void setName(String name) {
+        this.name = name;
+    }
+
+    /**
+     * Getter de la variable d'instance <code>this.dtoClass</code>.
+     *
+     * @return La variable d'instance <code>this.dtoClass</code>
+     */
+    public Class<? extends DTO> getDtoClass() {
+        return this.dtoClass;
+    }
+
+    /**
+     * Setter de la variable d'instance <code>this.dtoClass</code>.
+     *
+     * @param dtoClass La valeur à utiliser pour la variable d'instance <code>this.dtoClass</code>
+     */
+    private void setDtoClass(Class<? extends DTO> dtoClass) {
+        this.dtoClass = dtoClass;
+    }
+
+    /**
+     * Getter de la variable d'instance <code>this.associationPaths</code>.
+     *
+     * @return Une copie de la variable d'instance <code>this.associationPaths</code>
+     */
+    public String[] getAssociationPaths() {
+        return this.associationPaths.clone();
+    }
+
+    /**
+     * Setter de la variable d'instance <code>this.associationPaths</code>.
+     *
+     * @param associationPaths La valeur à utiliser pour la variable d'instance <code>this.associationPaths</code>
+     */
+    private void setAssociationPaths(String[] associationPaths) {
+        this.associationPaths = associationPaths;
+    }
+    // EndRegion Getters and Setters
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String toString() {
+        return getName();
+    }
+}
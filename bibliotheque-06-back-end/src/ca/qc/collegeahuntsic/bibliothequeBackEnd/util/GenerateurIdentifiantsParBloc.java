@@ -0,0 +1,59 @@
+// Fichier GenerateurIdentifiantsParBloc.java
+// Auteur : Team PayDay
+// Date de création : 2026-10-18
+
+package ca.qc.collegeahuntsic.bibliothequeBackEnd.util;
+
+import java.io.Serializable;
+import java.util.Properties;
+import org.hibernate.Hibernate;
+import org.hibernate.HibernateException;
+import org.hibernate.MappingException;
+import org.hibernate.dialect.Dialect;
+import org.hibernate.engine.SessionImplementor;
+import org.hibernate.id.enhanced.SequenceStyleGenerator;
+import org.hibernate.type.Type;
+
+/**
+ * Générateur Hibernate qui réserve les IDs par blocs de <code>increment_size</code> valeurs.
+ *
+ * La source des blocs est une séquence quand le dialecte les supporte (Oracle) et une table d'une seule ligne sinon (MySQL). Avec
+ * l'optimiseur <code>pooled</code>, la source avance de <code>increment_size</code> à chaque bloc : un seul aller-retour suffit pour
+ * <code>increment_size</code> IDs, et un autre programme qui lit la source obtient toujours des IDs libres. Contrairement au générateur
+ * <code>identity</code>, l'ID est connu avant l'insertion, ce qui permet à Hibernate de regrouper les insertions en lots JDBC.
+ *
+ * Les générateurs de {@link SequenceStyleGenerator} ne produisent que des nombres ; les IDs des DTOs sont des {@link String}, d'où la
+ * conversion faite ici.
+ *
+ * @author Team PayDay
+ */
+public class GenerateurIdentifiantsParBloc extends SequenceStyleGenerator {
+    /**
+     * Crée le générateur.
+     */
+    public GenerateurIdentifiantsParBloc() {
+        super();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void configure(Type type,
+        Properties params,
+        Dialect dialect) throws MappingException {
+        super.configure(Hibernate.LONG,
+            params,
+            dialect);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Serializable generate(SessionImplementor session,
+        Object object) throws HibernateException {
+        return super.generate(session,
+            object).toString();
+    }
+}
@@ -0,0 +1,247 @@
+// Fichier HistogrammeLatence.java
+// Auteur : Team PayDay
+// Date de création : 2026-10-18
+
+package ca.qc.collegeahuntsic.bibliothequeBackEnd.util;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Histogramme de latences à intervalles logarithmiques.
+ *
+ * Chaque puissance de deux est découpée en 64 sous-intervalles, ce qui donne une précision relative d'environ 1,5 % sur toute la plage
+ * des <code>long</code> avec un tableau de taille fixe. L'enregistrement ne fait aucune allocation et peut être appelé par plusieurs
+ * threads à la fois.
+ *
+ * @author Team PayDay
+ */
+public class HistogrammeLatence {
+    private static final int SOUS_INTERVALLES_BITS = 6;
+
+    private static final int SOUS_INTERVALLES = 1 << HistogrammeLatence.SOUS_INTERVALLES_BITS;
+
+    private static final int NOMBRE_INTERVALLES = (Long.SIZE
+        - HistogrammeLatence.SOUS_INTERVALLES_BITS)
+        * HistogrammeLatence.SOUS_INTERVALLES;
+
+    private static final double CENT = 100.0;
+
+    private final AtomicLongArray compteurs;
+
+    private final AtomicLong nombre;
+
+    private final AtomicLong somme;
+
+    private final AtomicLong maximum;
+
+    private final AtomicLong minimum;
+
+    /**
+     * Crée un histogramme vide.
+     */
+    public HistogrammeLatence() {
+        super();
+        this.compteurs = new AtomicLongArray(HistogrammeLatence.NOMBRE_INTERVALLES);
+        this.nombre = new AtomicLong();
+        this.somme = new AtomicLong();
+        this.maximum = new AtomicLong(Long.MIN_VALUE);
+        this.minimum = new AtomicLong(Long.MAX_VALUE);
+    }
+
+    /**
+     * Enregistre une valeur. Les valeurs négatives sont ramenées à zéro.
+     *
+     * @param valeur La valeur à enregistrer (typiquement une durée en nanosecondes)
+     */
+    public void enregistrer(long valeur) {
+        final long valeurPositive = Math.max(0L,
+            valeur);
+        this.compteurs.incrementAndGet(HistogrammeLatence.indexDe(valeurPositive));
+        this.nombre.incrementAndGet();
+        this.somme.addAndGet(valeurPositive);
+        long courant = this.maximum.get();
+        while(valeurPositive > courant
+            && !this.maximum.compareAndSet(courant,
+                valeurPositive)) {
+            courant = this.maximum.get();
+        }
+        courant = this.minimum.get();
+        while(valeurPositive < courant
+            && !this.minimum.compareAndSet(courant,
+                valeurPositive)) {
+            courant = this.minimum.get();
+        }
+    }
+
+    /**
+     * Ajoute toutes les valeurs d'un autre histogramme à celui-ci.
+     *
+     * @param autre L'histogramme à ajouter
+     */
+    public void ajouter(HistogrammeLatence autre) {
+        for(int index = 0 ; index < HistogrammeLatence.NOMBRE_INTERVALLES ; index++) {
+            final long compteur = autre.compteurs.get(index);
+            if(compteur != 0) {
+                this.compteurs.addAndGet(index,
+                    compteur);
+            }
+        }
+        this.nombre.addAndGet(autre.getNombre());
+        this.somme.addAndGet(autre.somme.get());
+        if(autre.getNombre() > 0) {
+            long courant = this.maximum.get();
+            while(autre.getMaximum() > courant
+                && !this.maximum.compareAndSet(courant,
+                    autre.getMaximum())) {
+                courant = this.maximum.get();
+            }
+            courant = this.minimum.get();
+            while(autre.getMinimum() < courant
+                && !this.minimum.compareAndSet(courant,
+                    autre.getMinimum())) {
+                courant = this.minimum.get();
+            }
+        }
+    }
+
+    /**
+     * Vide l'histogramme.
+     */
+    public void reinitialiser() {
+        for(int index = 0 ; index < HistogrammeLatence.NOMBRE_INTERVALLES ; index++) {
+            this.compteurs.set(index,
+                0L);
+        }
+        this.nombre.set(0L);
+        this.somme.set(0L);
+        this.maximum.set(Long.MIN_VALUE);
+        this.minimum.set(Long.MAX_VALUE);
+    }
+
+    /**
+     * Retourne le nombre de valeurs enregistrées.
+     *
+     * @return Le nombre de valeurs enregistrées
+     */
+    public long getNombre() {
+        return this.nombre.get();
+    }
+
+    /**
+     * Retourne la plus grande valeur enregistrée.
+     *
+     * @return La plus grande valeur ; <code>0</code> si l'histogramme est vide
+     */
+    public long getMaximum() {
+        return getNombre() == 0 ? 0L : this.maximum.get();
+    }
+
+    /**
+     * Retourne la plus petite valeur enregistrée.
+     *
+     * @return La plus petite valeur ; <code>0</code> si l'histogramme est vide
+     */
+    public long getMinimum() {
+        return getNombre() == 0 ? 0L : this.minimum.get();
+    }
+
+    /**
+     * Retourne la moyenne des valeurs enregistrées.
+     *
+     * @return La moyenne ; <code>0</code> si l'histogramme est vide
+     */
+    public double getMoyenne() {
+        final long total = getNombre();
+        return total == 0 ? 0.0 : (double) this.somme.get()
+            / total;
+    }
+
+    /**
+     * Retourne la valeur sous laquelle se trouve le pourcentage <code>percentile</code> des valeurs enregistrées.
+     *
+     * @param percentile Le percentile voulu, entre <code>0</code> et <code>100</code>
+     * @return La valeur du percentile ; <code>0</code> si l'histogramme est vide
+     */
+    public long getPercentile(double percentile) {
+        final long total = getNombre();
+        if(total == 0) {
+            return 0L;
+        }
+        final double borne = Math.min(HistogrammeLatence.CENT,
+            Math.max(0.0,
+                percentile));
+        final long rang = Math.max(1L,
+            (long) Math.ceil(borne
+                / HistogrammeLatence.CENT
+                * total));
+        long cumul = 0L;
+        for(int index = 0 ; index < HistogrammeLatence.NOMBRE_INTERVALLES ; index++) {
+            cumul += this.compteurs.get(index);
+            if(cumul >= rang) {
+                return Math.min(HistogrammeLatence.valeurMaximaleDe(index),
+                    getMaximum());
+            }
+        }
+        return getMaximum();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String toString() {
+        return "n="
+            + getNombre()
+            + " moy="
+            + (long) getMoyenne()
+            + " p50="
+            + getPercentile(50.0)
+            + " p90="
+            + getPercentile(90.0)
+            + " p99="
+            + getPercentile(99.0)
+            + " max="
+            + getMaximum();
+    }
+
+    /**
+     * Calcule l'intervalle d'une valeur.
+     *
+     * @param valeur La valeur positive
+     * @return L'index de l'intervalle
+     */
+    private static int indexDe(long valeur) {
+        if(valeur < HistogrammeLatence.SOUS_INTERVALLES) {
+            return (int) valeur;
+        }
+        final int exposant = Long.SIZE
+            - 1
+            - Long.numberOfLeadingZeros(valeur);
+        final int decalage = exposant
+            - HistogrammeLatence.SOUS_INTERVALLES_BITS;
+        final int sousIndex = (int) (valeur >>> decalage)
+            - HistogrammeLatence.SOUS_INTERVALLES;
+        return (decalage + 1)
+            * HistogrammeLatence.SOUS_INTERVALLES
+            + sousIndex;
+    }
+
+    /**
+     * Calcule la plus grande valeur qui tombe dans un intervalle.
+     *
+     * @param index L'index de l'intervalle
+     * @return La borne supérieure de l'intervalle
+     */
+    private static long valeurMaximaleDe(int index) {
+        if(index < HistogrammeLatence.SOUS_INTERVALLES) {
+            return index;
+        }
+        final int decalage = index
+            / HistogrammeLatence.SOUS_INTERVALLES
+            - 1;
+        final long sousIndex = index
+            % HistogrammeLatence.SOUS_INTERVALLES;
+        return ((HistogrammeLatence.SOUS_INTERVALLES + sousIndex + 1) << decalage) - 1;
+    }
+}
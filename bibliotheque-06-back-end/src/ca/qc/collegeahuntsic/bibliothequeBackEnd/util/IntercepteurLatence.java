@@ -0,0 +1,305 @@
+// Fichier IntercepteurLatence.java
+// Auteur : Team PayDay
+// Date de création : 2026-10-18
+
+package ca.qc.collegeahuntsic.bibliothequeBackEnd.util;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+/**
+ * Intercepteur Spring qui mesure la durée de chaque appel d'une méthode d'interface d'un DAO, d'un service ou d'une façade.
+ *
+ * Chaque méthode d'interface a son propre {@link HistogrammeLatence} et son compteur d'exceptions. Un appel ne coûte que deux lectures de
+ * l'horloge, une recherche dans une table concurrente et quelques opérations atomiques : l'intercepteur peut rester actif en production.
+ * Comme il est placé devant l'intercepteur de transaction, la durée d'un appel comprend celle des couches inférieures et de la
+ * transaction Spring.
+ *
+ * Les statistiques sont consultables par JMX ({@link IntercepteurLatenceMBean}) et peuvent être journalisées avec {@link #journaliser()}.
+ *
+ * @author Team PayDay
+ */
+public class IntercepteurLatence implements MethodInterceptor,
+    IntercepteurLatenceMBean {
+    private static final Log LOGGER = LogFactory.getLog(IntercepteurLatence.class);
+
+    private static final double NANOSECONDES_PAR_MICROSECONDE = 1000.0;
+
+    private final ConcurrentMap<Method, StatistiquesMethode> statistiques;
+
+    /**
+     * Crée l'intercepteur.
+     */
+    public IntercepteurLatence() {
+        super();
+        this.statistiques = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        final long debut = System.nanoTime();
+        boolean succes = false;
+        try {
+            final Object resultat = invocation.proceed();
+            succes = true;
+            return resultat;
+        } finally {
+            getStatistiques(invocation.getMethod()).enregistrer(System.nanoTime()
+                - debut,
+                succes);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String[] getMethodes() {
+        return trier().keySet().toArray(new String[0]);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String[] getRapport() {
+        final List<String> rapport = new ArrayList<>();
+        for(Map.Entry<String, StatistiquesMethode> entree : trier().entrySet()) {
+            final HistogrammeLatence latences = entree.getValue().getLatences();
+            rapport.add(String.format("%-60s n=%-10d exceptions=%-8d moy=%-10.1f p50=%-10.1f p90=%-10.1f p99=%-10.1f max=%.1f µs",
+                entree.getKey(),
+                Long.valueOf(latences.getNombre()),
+                Long.valueOf(entree.getValue().getNombreExceptions()),
+                Double.valueOf(latences.getMoyenne()
+                    / IntercepteurLatence.NANOSECONDES_PAR_MICROSECONDE),
+                Double.valueOf(latences.getPercentile(50.0)
+                    / IntercepteurLatence.NANOSECONDES_PAR_MICROSECONDE),
+                Double.valueOf(latences.getPercentile(90.0)
+                    / IntercepteurLatence.NANOSECONDES_PAR_MICROSECONDE),
+                Double.valueOf(latences.getPercentile(99.0)
+                    / IntercepteurLatence.NANOSECONDES_PAR_MICROSECONDE),
+                Double.valueOf(latences.getMaximum()
+                    / IntercepteurLatence.NANOSECONDES_PAR_MICROSECONDE)));
+        }
+        return rapport.toArray(new String[0]);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long getNombre(String methode) {
+        final StatistiquesMethode statistiquesMethode = trier().get(methode);
+        return statistiquesMethode == null ? 0L : statistiquesMethode.getLatences().getNombre();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long getNombreExceptions(String methode) {
+        final StatistiquesMethode statistiquesMethode = trier().get(methode);
+        return statistiquesMethode == null ? 0L : statistiquesMethode.getNombreExceptions();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public double getMoyenne(String methode) {
+        final StatistiquesMethode statistiquesMethode = trier().get(methode);
+        return statistiquesMethode == null ? 0.0 : statistiquesMethode.getLatences().getMoyenne()
+            / IntercepteurLatence.NANOSECONDES_PAR_MICROSECONDE;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public double getPercentile(String methode,
+        double percentile) {
+        final StatistiquesMethode statistiquesMethode = trier().get(methode);
+        return statistiquesMethode == null ? 0.0 : statistiquesMethode.getLatences().getPercentile(percentile)
+            / IntercepteurLatence.NANOSECONDES_PAR_MICROSECONDE;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public double getMaximum(String methode) {
+        final StatistiquesMethode statistiquesMethode = trier().get(methode);
+        return statistiquesMethode == null ? 0.0 : statistiquesMethode.getLatences().getMaximum()
+            / IntercepteurLatence.NANOSECONDES_PAR_MICROSECONDE;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void reinitialiser() {
+        for(StatistiquesMethode statistiquesMethode : this.statistiques.values()) {
+            statistiquesMethode.reinitialiser();
+        }
+    }
+
+    /**
+     * Journalise une ligne de statistiques par méthode appelée.
+     */
+    public void journaliser() {
+        final String[] rapport = getRapport();
+        if(rapport.length == 0) {
+            return;
+        }
+        IntercepteurLatence.LOGGER.info("=== Latences par méthode ===");
+        for(String ligne : rapport) {
+            IntercepteurLatence.LOGGER.info(ligne);
+        }
+    }
+
+    /**
+     * Retourne les statistiques d'une méthode, en les créant au premier appel.
+     *
+     * @param methode La méthode d'interface
+     * @return Les statistiques de la méthode
+     */
+    private StatistiquesMethode getStatistiques(Method methode) {
+        StatistiquesMethode statistiquesMethode = this.statistiques.get(methode);
+        if(statistiquesMethode == null) {
+            final StatistiquesMethode nouvelles = new StatistiquesMethode(IntercepteurLatence.nommer(methode));
+            statistiquesMethode = this.statistiques.putIfAbsent(methode,
+                nouvelles);
+            if(statistiquesMethode == null) {
+                statistiquesMethode = nouvelles;
+            }
+        }
+        return statistiquesMethode;
+    }
+
+    /**
+     * Retourne les statistiques des méthodes triées par nom.
+     *
+     * @return Les statistiques par nom de méthode
+     */
+    private SortedMap<String, StatistiquesMethode> trier() {
+        final SortedMap<String, StatistiquesMethode> triees = new TreeMap<>();
+        for(StatistiquesMethode statistiquesMethode : this.statistiques.values()) {
+            triees.put(statistiquesMethode.getNom(),
+                statistiquesMethode);
+        }
+        return triees;
+    }
+
+    /**
+     * Calcule le nom court d'une méthode : le nom simple de l'interface, celui de la méthode et les noms simples des types de ses
+     * paramètres, pour distinguer les surcharges.
+     *
+     * @param methode La méthode
+     * @return Le nom court
+     */
+    static String nommer(Method methode) {
+        final StringBuilder nom = new StringBuilder(methode.getDeclaringClass().getSimpleName());
+        nom.append('.');
+        nom.append(methode.getName());
+        nom.append('(');
+        final Class<?>[] parametres = methode.getParameterTypes();
+        for(int index = 0 ; index < parametres.length ; index++) {
+            if(index > 0) {
+                nom.append(',');
+            }
+            nom.append(parametres[index].getSimpleName());
+        }
+        nom.append(')');
+        return nom.toString();
+    }
+
+    /**
+     * Statistiques d'une méthode d'interface.
+     *
+     * @author Team PayDay
+     */
+    private static final class StatistiquesMethode {
+        private final String nom;
+
+        private final HistogrammeLatence latences;
+
+        private final AtomicLong nombreExceptions;
+
+        /**
+         * Crée les statistiques vides d'une méthode.
+         *
+         * @param nom Le nom court de la méthode
+         */
+        StatistiquesMethode(String nom) {
+            super();
+            this.nom = nom;
+            this.latences = new HistogrammeLatence();
+            this.nombreExceptions = new AtomicLong();
+        }
+
+        /**
+         * Enregistre un appel.
+         *
+         * @param duree La durée de l'appel, en nanosecondes
+         * @param succes <code>false</code> si l'appel a levé une exception
+         */
+        void enregistrer(long duree,
+            boolean succes) {
+            this.latences.enregistrer(duree);
+            if(!succes) {
+                this.nombreExceptions.incrementAndGet();
+            }
+        }
+
+        /**
+         * Vide les statistiques.
+         */
+        void reinitialiser() {
+            this.latences.reinitialiser();
+            this.nombreExceptions.set(0L);
+        }
+
+        // Region Getters and Setters
+        /**
+         * Getter de la variable d'instance <code>this.nom</code>.
+         *
+         * @return La variable d'instance <code>this.nom</code>
+         */
+        String getNom() {
+            return this.nom;
+        }
+
+        /**
+         * Getter de la variable d'instance <code>this.latences</code>.
+         *
+         * @return La variable d'instance <code>this.latences</code>
+         */
+        HistogrammeLatence getLatences() {
+            return this.latences;
+        }
+
+        /**
+         * Retourne le nombre d'appels qui ont levé une exception.
+         *
+         * @return Le nombre d'exceptions
+         */
+        long getNombreExceptions() {
+            return this.nombreExceptions.get();
+        }
+        // EndRegion Getters and Setters
+    }
+}
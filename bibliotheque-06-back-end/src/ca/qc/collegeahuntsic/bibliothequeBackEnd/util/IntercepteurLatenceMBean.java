@@ -0,0 +1,76 @@
+// Fichier IntercepteurLatenceMBean.java
+// Auteur : Team PayDay
+// Date de création : 2026-10-18
+
+package ca.qc.collegeahuntsic.bibliothequeBackEnd.util;
+
+/**
+ * Interface JMX de l'{@link IntercepteurLatence}. Les méthodes sont désignées par leur nom court, par exemple
+ * <code>ILivreFacade.acquerir(Session,LivreDTO)</code>, tel que retourné par {@link #getMethodes()}.
+ *
+ * Les durées sont en microsecondes.
+ *
+ * @author Team PayDay
+ */
+public interface IntercepteurLatenceMBean {
+    /**
+     * Retourne les méthodes appelées au moins une fois, triées par nom.
+     *
+     * @return Les noms des méthodes
+     */
+    String[] getMethodes();
+
+    /**
+     * Retourne une ligne de statistiques par méthode appelée, triées par nom.
+     *
+     * @return Les lignes du rapport
+     */
+    String[] getRapport();
+
+    /**
+     * Retourne le nombre d'appels d'une méthode.
+     *
+     * @param methode Le nom de la méthode
+     * @return Le nombre d'appels ; <code>0</code> si la méthode n'a pas été appelée
+     */
+    long getNombre(String methode);
+
+    /**
+     * Retourne le nombre d'appels d'une méthode qui ont levé une exception.
+     *
+     * @param methode Le nom de la méthode
+     * @return Le nombre d'exceptions ; <code>0</code> si la méthode n'a pas été appelée
+     */
+    long getNombreExceptions(String methode);
+
+    /**
+     * Retourne la durée moyenne des appels d'une méthode.
+     *
+     * @param methode Le nom de la méthode
+     * @return La moyenne ; <code>0</code> si la méthode n'a pas été appelée
+     */
+    double getMoyenne(String methode);
+
+    /**
+     * Retourne un percentile de la durée des appels d'une méthode.
+     *
+     * @param methode Le nom de la méthode
+     * @param percentile Le percentile voulu, entre <code>0</code> et <code>100</code>
+     * @return La valeur du percentile ; <code>0</code> si la méthode n'a pas été appelée
+     */
+    double getPercentile(String methode,
+        double percentile);
+
+    /**
+     * Retourne la durée du plus long appel d'une méthode.
+     *
+     * @param methode Le nom de la méthode
+     * @return Le maximum ; <code>0</code> si la méthode n'a pas été appelée
+     */
+    double getMaximum(String methode);
+
+    /**
+     * Vide les statistiques de toutes les méthodes.
+     */
+    void reinitialiser();
+}
@@ -0,0 +1,117 @@
+// Fichier IntercepteurLectureSeule.java
+// Auteur : Team PayDay
+// Date de création : 2026-10-18
+
+package ca.qc.collegeahuntsic.bibliothequeBackEnd.util;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.hibernate.FlushMode;
+import org.hibernate.Session;
+import org.hibernate.engine.EntityEntry;
+import org.hibernate.engine.PersistenceContext;
+import org.hibernate.engine.SessionImplementor;
+import org.hibernate.engine.Status;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Intercepteur Spring qui passe la {@link Session} reçue en premier paramètre en mode lecture seule pendant les appels faits dans une
+ * transaction Spring <code>readOnly</code>.
+ *
+ * Pendant un tel appel, la session est en {@link FlushMode#MANUAL} : aucune requête ne déclenche de flush automatique. Les entités
+ * chargées sont marquées en lecture seule par l'{@link EcouteurChargementLectureSeule}, ce qui libère leur copie de l'état chargé et
+ * les exclut de la vérification des modifications au flush. Hibernate 3.2 n'a pas de mode lecture seule par défaut pour une session ;
+ * l'écouteur le remplace.
+ *
+ * Une session qui a servi à des lectures peut ensuite servir à une transaction en écriture. Au début d'un tel appel, l'intercepteur
+ * remet en état géré les entités marquées en lecture seule, afin que leurs modifications soient de nouveau détectées.
+ *
+ * L'intercepteur est placé après l'intercepteur de transaction : il voit la transaction de l'appel. Les appels imbriqués dans un appel
+ * en lecture seule ne changent rien.
+ *
+ * @author Team PayDay
+ */
+public class IntercepteurLectureSeule implements MethodInterceptor {
+    private final ThreadLocal<Session> sessionLectureSeule;
+
+    private final Map<Session, Boolean> sessionsAvecEntitesLectureSeule;
+
+    /**
+     * Crée l'intercepteur.
+     */
+    public IntercepteurLectureSeule() {
+        super();
+        this.sessionLectureSeule = new ThreadLocal<>();
+        this.sessionsAvecEntitesLectureSeule = Collections.synchronizedMap(new WeakHashMap<Session, Boolean>());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        final Object[] arguments = invocation.getArguments();
+        if(this.sessionLectureSeule.get() != null
+            || arguments.length == 0
+            || !(arguments[0] instanceof Session)) {
+            return invocation.proceed();
+        }
+        final Session session = (Session) arguments[0];
+        if(!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            if(this.sessionsAvecEntitesLectureSeule.remove(session) != null) {
+                IntercepteurLectureSeule.reactiver(session);
+            }
+            return invocation.proceed();
+        }
+        final FlushMode flushMode = session.getFlushMode();
+        session.setFlushMode(FlushMode.MANUAL);
+        this.sessionLectureSeule.set(session);
+        try {
+            return invocation.proceed();
+        } finally {
+            this.sessionLectureSeule.remove();
+            session.setFlushMode(flushMode);
+        }
+    }
+
+    /**
+     * Indique si une session est en mode lecture seule dans le thread courant. Si c'est le cas, la session est notée comme contenant des
+     * entités en lecture seule.
+     *
+     * @param session La session de l'entité chargée
+     * @return <code>true</code> si les entités chargées par la session doivent être en lecture seule, <code>false</code> sinon
+     */
+    public boolean isLectureSeule(Session session) {
+        if(session != this.sessionLectureSeule.get()) {
+            return false;
+        }
+        this.sessionsAvecEntitesLectureSeule.put(session,
+            Boolean.TRUE);
+        return true;
+    }
+
+    /**
+     * Remet en état géré les entités en lecture seule d'une session.
+     *
+     * @param session La session
+     */
+    private static void reactiver(Session session) {
+        final PersistenceContext persistenceContext = ((SessionImplementor) session).getPersistenceContext();
+        final List<Object> entites = new ArrayList<>();
+        for(Object entree : persistenceContext.getEntityEntries().entrySet()) {
+            final Map.Entry<?, ?> entreeEntite = (Map.Entry<?, ?>) entree;
+            if(((EntityEntry) entreeEntite.getValue()).getStatus() == Status.READ_ONLY) {
+                entites.add(entreeEntite.getKey());
+            }
+        }
+        for(Object entite : entites) {
+            session.setReadOnly(entite,
+                false);
+        }
+    }
+}
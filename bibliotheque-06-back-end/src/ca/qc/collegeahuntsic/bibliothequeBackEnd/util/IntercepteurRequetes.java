@@ -0,0 +1,450 @@
+// Fichier IntercepteurRequetes.java
+// Auteur : Team PayDay
+// Date de création : 2026-10-18
+
+package ca.qc.collegeahuntsic.bibliothequeBackEnd.util;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.service.StatementBudgetException;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+/**
+ * Intercepteur Spring qui compte les requêtes SQL, les entités chargées, les collections initialisées et les flushes de chaque appel d'un
+ * service, à partir des compteurs par thread du {@link CompteurRequetes}.
+ *
+ * Chaque méthode peut avoir un budget de requêtes, défini par le nom simple de son interface et son nom, par exemple
+ * <code>IPretService.commencer</code>. Un appel réussi qui dépasse son budget est journalisé ou, en mode {@link #MODE_ECHOUER}, fait
+ * échouer l'appel avec une {@link StatementBudgetException}, de sorte qu'une régression de type N+1 soit visible dans les tests. Les
+ * requêtes exécutées plus tard, au flush de la transaction, ne sont pas attribuées à l'appel.
+ *
+ * @author Team PayDay
+ */
+public class IntercepteurRequetes implements MethodInterceptor,
+    IntercepteurRequetesMBean {
+    /**
+     * Les budgets ne sont pas vérifiés.
+     */
+    public static final String MODE_AUCUN = "aucun";
+
+    /**
+     * Les dépassements de budget sont journalisés.
+     */
+    public static final String MODE_JOURNALISER = "journaliser";
+
+    /**
+     * Les dépassements de budget font échouer l'appel.
+     */
+    public static final String MODE_ECHOUER = "echouer";
+
+    /**
+     * La valeur d'un budget illimité.
+     */
+    public static final int SANS_BUDGET = -1;
+
+    private static final Log LOGGER = LogFactory.getLog(IntercepteurRequetes.class);
+
+    private final ConcurrentMap<Method, StatistiquesMethode> statistiques;
+
+    private final AtomicLong nombreDepassements;
+
+    private CompteurRequetes compteurRequetes;
+
+    private Properties budgets;
+
+    private int budgetParDefaut;
+
+    private volatile String modeBudget;
+
+    /**
+     * Crée l'intercepteur, sans budget.
+     */
+    public IntercepteurRequetes() {
+        super();
+        this.statistiques = new ConcurrentHashMap<>();
+        this.nombreDepassements = new AtomicLong();
+        setBudgets(new Properties());
+        setBudgetParDefaut(IntercepteurRequetes.SANS_BUDGET);
+        setModeBudget(IntercepteurRequetes.MODE_JOURNALISER);
+    }
+
+    // Region Getters and Setters
+    /**
+     * Getter de la variable d'instance <code>this.compteurRequetes</code>.
+     *
+     * @return La variable d'instance <code>this.compteurRequetes</code>
+     */
+    public CompteurRequetes getCompteurRequetes() {
+        return this.compteurRequetes;
+    }
+
+    /**
+     * Setter de la variable d'instance <code>this.compteurRequetes</code>.
+     *
+     * @param compteurRequetes La valeur à utiliser pour la variable d'instance <code>this.compteurRequetes</code>
+     */
+    public void setCompteurRequetes(CompteurRequetes compteurRequetes) {
+        this.compteurRequetes = compteurRequetes;
+    }
+
+    /**
+     * Getter de la variable d'instance <code>this.budgets</code>.
+     *
+     * @return La variable d'instance <code>this.budgets</code>
+     */
+    public Properties getBudgets() {
+        return this.budgets;
+    }
+
+    /**
+     * Setter de la variable d'instance <code>this.budgets</code>. Chaque clef est le nom simple d'une interface suivi du nom d'une méthode,
+     * par exemple <code>IPretService.commencer</code> ; chaque valeur est le nombre maximal de requêtes d'un appel.
+     *
+     * @param budgets La valeur à utiliser pour la variable d'instance <code>this.budgets</code>
+     */
+    public void setBudgets(Properties budgets) {
+        this.budgets = budgets;
+    }
+
+    /**
+     * Getter de la variable d'instance <code>this.budgetParDefaut</code>.
+     *
+     * @return La variable d'instance <code>this.budgetParDefaut</code>
+     */
+    public int getBudgetParDefaut() {
+        return this.budgetParDefaut;
+    }
+
+    /**
+     * Setter de la variable d'instance <code>this.budgetParDefaut</code>.
+     *
+     * @param budgetParDefaut Le budget des méthodes absentes de <code>budgets</code> ; {@link #SANS_BUDGET} pour ne pas les limiter
+     */
+    public void setBudgetParDefaut(int budgetParDefaut) {
+        this.budgetParDefaut = budgetParDefaut;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String getModeBudget() {
+        return this.modeBudget;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void setModeBudget(String modeBudget) {
+        if(!IntercepteurRequetes.MODE_AUCUN.equals(modeBudget)
+            && !IntercepteurRequetes.MODE_JOURNALISER.equals(modeBudget)
+            && !IntercepteurRequetes.MODE_ECHOUER.equals(modeBudget)) {
+            throw new IllegalArgumentException("Mode de budget inconnu : "
+                + modeBudget);
+        }
+        this.modeBudget = modeBudget;
+    }
+    // EndRegion Getters and Setters
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        final StatistiquesMethode statistiquesMethode = getStatistiques(invocation.getMethod());
+        final long[] avant = getCompteurRequetes().lire();
+        final long[] ecart = new long[CompteurRequetes.NOMBRE_COMPTEURS];
+        final Object resultat;
+        try {
+            resultat = invocation.proceed();
+        } finally {
+            getCompteurRequetes().ecart(avant,
+                ecart);
+            statistiquesMethode.enregistrer(ecart);
+        }
+        verifierBudget(statistiquesMethode,
+            ecart);
+        return resultat;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long getNombreDepassements() {
+        return this.nombreDepassements.get();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String[] getRapport() {
+        final SortedMap<String, StatistiquesMethode> triees = new TreeMap<>();
+        for(StatistiquesMethode statistiquesMethode : this.statistiques.values()) {
+            triees.put(statistiquesMethode.getNom(),
+                statistiquesMethode);
+        }
+        final List<String> rapport = new ArrayList<>();
+        for(StatistiquesMethode statistiquesMethode : triees.values()) {
+            final HistogrammeLatence requetes = statistiquesMethode.getRequetes();
+            final long nombre = requetes.getNombre();
+            rapport.add(String.format("%-60s n=%-10d requêtes moy=%-6.1f p99=%-4d max=%-4d entités=%-6.1f collections=%-6.1f flushes=%-6.1f budget=%-4s dépassements=%d",
+                statistiquesMethode.getNom(),
+                Long.valueOf(nombre),
+                Double.valueOf(requetes.getMoyenne()),
+                Long.valueOf(requetes.getPercentile(99.0)),
+                Long.valueOf(requetes.getMaximum()),
+                Double.valueOf(IntercepteurRequetes.moyenne(statistiquesMethode.getEntites(),
+                    nombre)),
+                Double.valueOf(IntercepteurRequetes.moyenne(statistiquesMethode.getCollections(),
+                    nombre)),
+                Double.valueOf(IntercepteurRequetes.moyenne(statistiquesMethode.getFlushes(),
+                    nombre)),
+                statistiquesMethode.getBudget() == IntercepteurRequetes.SANS_BUDGET ? "-" : Integer.toString(statistiquesMethode.getBudget()),
+                Long.valueOf(statistiquesMethode.getDepassements())));
+        }
+        return rapport.toArray(new String[0]);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void reinitialiser() {
+        for(StatistiquesMethode statistiquesMethode : this.statistiques.values()) {
+            statistiquesMethode.reinitialiser();
+        }
+        this.nombreDepassements.set(0L);
+    }
+
+    /**
+     * Journalise une ligne de statistiques par méthode appelée.
+     */
+    public void journaliser() {
+        final String[] rapport = getRapport();
+        if(rapport.length == 0) {
+            return;
+        }
+        IntercepteurRequetes.LOGGER.info("=== Requêtes par appel de service ===");
+        for(String ligne : rapport) {
+            IntercepteurRequetes.LOGGER.info(ligne);
+        }
+    }
+
+    /**
+     * Vérifie qu'un appel n'a pas dépassé le budget de sa méthode.
+     *
+     * @param statistiquesMethode Les statistiques de la méthode
+     * @param ecart Les compteurs de l'appel
+     * @throws StatementBudgetException Si le budget est dépassé en mode {@link #MODE_ECHOUER}
+     */
+    private void verifierBudget(StatistiquesMethode statistiquesMethode,
+        long[] ecart) throws StatementBudgetException {
+        final String mode = getModeBudget();
+        if(statistiquesMethode.getBudget() == IntercepteurRequetes.SANS_BUDGET
+            || ecart[CompteurRequetes.REQUETES] <= statistiquesMethode.getBudget()
+            || IntercepteurRequetes.MODE_AUCUN.equals(mode)) {
+            return;
+        }
+        statistiquesMethode.depasser();
+        this.nombreDepassements.incrementAndGet();
+        final String message = statistiquesMethode.getNom()
+            + " a exécuté "
+            + ecart[CompteurRequetes.REQUETES]
+            + " requêtes (budget : "
+            + statistiquesMethode.getBudget()
+            + ") : "
+            + ecart[CompteurRequetes.ENTITES]
+            + " entités chargées, "
+            + ecart[CompteurRequetes.COLLECTIONS]
+            + " collections initialisées, "
+            + ecart[CompteurRequetes.FLUSHES]
+            + " flushes";
+        if(IntercepteurRequetes.MODE_ECHOUER.equals(mode)) {
+            throw new StatementBudgetException(message);
+        }
+        IntercepteurRequetes.LOGGER.warn(message);
+    }
+
+    /**
+     * Retourne les statistiques d'une méthode, en les créant au premier appel.
+     *
+     * @param methode La méthode d'interface
+     * @return Les statistiques de la méthode
+     */
+    private StatistiquesMethode getStatistiques(Method methode) {
+        StatistiquesMethode statistiquesMethode = this.statistiques.get(methode);
+        if(statistiquesMethode == null) {
+            final String budget = getBudgets().getProperty(methode.getDeclaringClass().getSimpleName()
+                + "."
+                + methode.getName());
+            final StatistiquesMethode nouvelles = new StatistiquesMethode(IntercepteurLatence.nommer(methode),
+                budget == null ? getBudgetParDefaut() : Integer.parseInt(budget.trim()));
+            statistiquesMethode = this.statistiques.putIfAbsent(methode,
+                nouvelles);
+            if(statistiquesMethode == null) {
+                statistiquesMethode = nouvelles;
+            }
+        }
+        return statistiquesMethode;
+    }
+
+    /**
+     * Calcule une moyenne par appel.
+     *
+     * @param total Le total
+     * @param nombre Le nombre d'appels
+     * @return La moyenne ; <code>0</code> s'il n'y a aucun appel
+     */
+    private static double moyenne(long total,
+        long nombre) {
+        return nombre == 0 ? 0.0 : (double) total
+            / nombre;
+    }
+
+    /**
+     * Statistiques des appels d'une méthode de service.
+     *
+     * @author Team PayDay
+     */
+    private static final class StatistiquesMethode {
+        private final String nom;
+
+        private final int budget;
+
+        private final HistogrammeLatence requetes;
+
+        private final AtomicLong entites;
+
+        private final AtomicLong collections;
+
+        private final AtomicLong flushes;
+
+        private final AtomicLong depassements;
+
+        /**
+         * Crée les statistiques vides d'une méthode.
+         *
+         * @param nom Le nom court de la méthode
+         * @param budget Le nombre maximal de requêtes d'un appel ; {@link IntercepteurRequetes#SANS_BUDGET} s'il n'est pas limité
+         */
+        StatistiquesMethode(String nom,
+            int budget) {
+            super();
+            this.nom = nom;
+            this.budget = budget;
+            this.requetes = new HistogrammeLatence();
+            this.entites = new AtomicLong();
+            this.collections = new AtomicLong();
+            this.flushes = new AtomicLong();
+            this.depassements = new AtomicLong();
+        }
+
+        /**
+         * Enregistre les compteurs d'un appel.
+         *
+         * @param ecart Les compteurs de l'appel
+         */
+        void enregistrer(long[] ecart) {
+            this.requetes.enregistrer(ecart[CompteurRequetes.REQUETES]);
+            this.entites.addAndGet(ecart[CompteurRequetes.ENTITES]);
+            this.collections.addAndGet(ecart[CompteurRequetes.COLLECTIONS]);
+            this.flushes.addAndGet(ecart[CompteurRequetes.FLUSHES]);
+        }
+
+        /**
+         * Compte un dépassement de budget.
+         */
+        void depasser() {
+            this.depassements.incrementAndGet();
+        }
+
+        /**
+         * Vide les statistiques.
+         */
+        void reinitialiser() {
+            this.requetes.reinitialiser();
+            this.entites.set(0L);
+            this.collections.set(0L);
+            this.flushes.set(0L);
+            this.depassements.set(0L);
+        }
+
+        // Region Getters and Setters
+        /**
+         * Getter de la variable d'instance <code>this.nom</code>.
+         *
+         * @return La variable d'instance <code>this.nom</code>
+         */
+        String getNom() {
+            return this.nom;
+        }
+
+        /**
+         * Getter de la variable d'instance <code>this.budget</code>.
+         *
+         * @return La variable d'instance <code>this.budget</code>
+         */
+        int getBudget() {
+            return this.budget;
+        }
+
+        /**
+         * Getter de la variable d'instance <code>this.requetes</code>.
+         *
+         * @return La variable d'instance <code>this.requetes</code>
+         */
+        HistogrammeLatence getRequetes() {
+            return this.requetes;
+        }
+
+        /**
+         * Retourne le nombre total d'entités chargées.
+         *
+         * @return Le nombre d'entités
+         */
+        long getEntites() {
+            return this.entites.get();
+        }
+
+        /**
+         * Retourne le nombre total de collections initialisées.
+         *
+         * @return Le nombre de collections
+         */
+        long getCollections() {
+            return this.collections.get();
+        }
+
+        /**
+         * Retourne le nombre total de flushes.
+         *
+         * @return Le nombre de flushes
+         */
+        long getFlushes() {
+            return this.flushes.get();
+        }
+
+        /**
+         * Retourne le nombre d'appels qui ont dépassé le budget.
+         *
+         * @return Le nombre de dépassements
+         */
+        long getDepassements() {
+            return this.depassements.get();
+        }
+        // EndRegion Getters and Setters
+    }
+}
@@ -0,0 +1,46 @@
+// Fichier IntercepteurRequetesMBean.java
+// Auteur : Team PayDay
+// Date de création : 2026-10-18
+
+package ca.qc.collegeahuntsic.bibliothequeBackEnd.util;
+
+/**
+ * Interface JMX de l'{@link IntercepteurRequetes}.
+ *
+ * @author Team PayDay
+ */
+public interface IntercepteurRequetesMBean {
+    /**
+     * Retourne le mode de vérification des budgets : {@link IntercepteurRequetes#MODE_AUCUN},
+     * {@link IntercepteurRequetes#MODE_JOURNALISER} ou {@link IntercepteurRequetes#MODE_ECHOUER}.
+     *
+     * @return Le mode de vérification
+     */
+    String getModeBudget();
+
+    /**
+     * Change le mode de vérification des budgets.
+     *
+     * @param modeBudget Le mode de vérification
+     */
+    void setModeBudget(String modeBudget);
+
+    /**
+     * Retourne le nombre d'appels qui ont dépassé leur budget.
+     *
+     * @return Le nombre de dépassements
+     */
+    long getNombreDepassements();
+
+    /**
+     * Retourne une ligne de statistiques par méthode appelée, triées par nom.
+     *
+     * @return Les lignes du rapport
+     */
+    String[] getRapport();
+
+    /**
+     * Vide les statistiques de toutes les méthodes.
+     */
+    void reinitialiser();
+}
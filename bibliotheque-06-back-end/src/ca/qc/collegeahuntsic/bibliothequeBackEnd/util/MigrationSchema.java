@@ -0,0 +1,556 @@
+// Fichier MigrationSchema.java
+// Auteur : Team PayDay
+// Date de création : 2026-10-18
+
+package ca.qc.collegeahuntsic.bibliothequeBackEnd.util;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.CRC32;
+import javax.sql.DataSource;
+import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.util.MigrationException;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+/**
+ * Applique les migrations du schéma de la base de données qui ne l'ont pas encore été.
+ *
+ * Une migration est un script SQL du classpath nommé <code>&lt;version&gt;-&lt;description&gt;.sql</code>, par exemple
+ * <code>004-index-MySQL.sql</code>. Les scripts sont propres à une base de données et sont donnés dans l'ordre de leurs versions. Les
+ * instructions d'un script sont séparées par des points-virgules ; les lignes qui commencent par <code>--</code> sont des commentaires.
+ *
+ * Chaque migration appliquée est enregistrée dans la table <code>version_schema</code> avec la somme de contrôle CRC32 de son script. Une
+ * migration déjà appliquée n'est jamais exécutée de nouveau ; si son script a changé depuis, la migration échoue plutôt que de laisser le
+ * schéma diverger d'une base à l'autre. Toute modification du schéma passe donc par une nouvelle migration.
+ *
+ * Une base créée avant les migrations n'a pas de table <code>version_schema</code>. Si elle contient la table de référence, elle est marquée
+ * à la version de référence sans en exécuter le script, puis reçoit les migrations suivantes.
+ *
+ * @author Team PayDay
+ */
+public class MigrationSchema {
+    private static final Log LOGGER = LogFactory.getLog(MigrationSchema.class);
+
+    private static final String SEPARATEUR_VERSION = "-";
+
+    private static final String EXTENSION = ".sql";
+
+    private static final String COMMENTAIRE = "--";
+
+    private static final String SEPARATEUR = ";";
+
+    private static final String CREER_VERSION_REQUEST = "CREATE TABLE version_schema (version         VARCHAR(20)  NOT NULL, "
+        + "description     VARCHAR(100) NOT NULL, "
+        + "sommeControle   NUMERIC(19)  NOT NULL, "
+        + "dateApplication TIMESTAMP    NOT NULL, "
+        + "CONSTRAINT cleVersionSchema PRIMARY KEY (version))";
+
+    private static final String LIRE_VERSIONS_REQUEST = "SELECT version, sommeControle "
+        + "FROM version_schema";
+
+    private static final String AJOUTER_VERSION_REQUEST = "INSERT INTO version_schema (version, description, sommeControle, dateApplication) "
+        + "VALUES (?, ?, ?, ?)";
+
+    private static final String EXISTE_TABLE_REQUEST = "SELECT COUNT(*) FROM %s WHERE 1 = 0";
+
+    private DataSource dataSource;
+
+    private List<String> scripts;
+
+    private String versionReference;
+
+    private String tableReference;
+
+    private volatile boolean migre;
+
+    /**
+     * Crée le gestionnaire des migrations, sans migration.
+     */
+    public MigrationSchema() {
+        super();
+        setScripts(Collections.<String> emptyList());
+    }
+
+    // Region Getters and Setters
+    /**
+     * Getter de la variable d'instance <code>this.dataSource</code>.
+     *
+     * @return La variable d'instance <code>this.dataSource</code>
+     */
+    public DataSource getDataSource() {
+        return this.dataSource;
+    }
+
+    /**
+     * Setter de la variable d'instance <code>this.dataSource</code>.
+     *
+     * @param dataSource La valeur à utiliser pour la variable d'instance <code>this.dataSource</code>
+     */
+    public void setDataSource(DataSource dataSource) {
+        this.dataSource = dataSource;
+    }
+
+    /**
+     * Getter de la variable d'instance <code>this.scripts</code>.
+     *
+     * @return La variable d'instance <code>this.scripts</code>
+     */
+    public List<String> getScripts() {
+        return this.scripts;
+    }
+
+    /**
+     * Setter de la variable d'instance <code>this.scripts</code>.
+     *
+     * @param scripts Les noms des ressources des scripts de migration, dans l'ordre de leurs versions
+     */
+    public void setScripts(List<String> scripts) {
+        this.scripts = scripts;
+    }
+
+    /**
+     * Getter de la variable d'instance <code>this.versionReference</code>.
+     *
+     * @return La variable d'instance <code>this.versionReference</code>
+     */
+    public String getVersionReference() {
+        return this.versionReference;
+    }
+
+    /**
+     * Setter de la variable d'instance <code>this.versionReference</code>.
+     *
+     * @param versionReference La version à laquelle est marquée une base créée avant les migrations ; <code>null</code> pour exécuter toutes
+     *        les migrations sur une telle base
+     */
+    public void setVersionReference(String versionReference) {
+        this.versionReference = versionReference;
+    }
+
+    /**
+     * Getter de la variable d'instance <code>this.tableReference</code>.
+     *
+     * @return La variable d'instance <code>this.tableReference</code>
+     */
+    public String getTableReference() {
+        return this.tableReference;
+    }
+
+    /**
+     * Setter de la variable d'instance <code>this.tableReference</code>.
+     *
+     * @param tableReference Une table créée par la migration de référence, dont la présence indique une base créée avant les migrations
+     */
+    public void setTableReference(String tableReference) {
+        this.tableReference = tableReference;
+    }
+    // EndRegion Getters and Setters
+
+    /**
+     * Applique les migrations qui ne l'ont pas encore été, dans l'ordre de leurs versions. Chaque migration est validée avec son
+     * enregistrement dans <code>version_schema</code> ; une migration en erreur est annulée dans la mesure où la base de données le permet,
+     * ses instructions de définition étant validées implicitement par MySQL et Oracle. Les appels suivants ne font rien.
+     *
+     * @throws MigrationException Si un script est introuvable ou mal nommé, si un script appliqué a été modifié ou si une migration échoue
+     */
+    public synchronized void migrer() throws MigrationException {
+        if(this.migre) {
+            return;
+        }
+        final List<Migration> migrations = lireMigrations();
+        try(
+            Connection connection = getDataSource().getConnection()) {
+            connection.setAutoCommit(false);
+            Map<String, Long> appliquees = lireVersions(connection);
+            if(appliquees == null) {
+                appliquees = creerTableVersions(connection,
+                    migrations);
+            }
+            int nombreAppliquees = 0;
+            for(Migration migration : migrations) {
+                final Long sommeControle = appliquees.remove(migration.getVersion());
+                if(sommeControle == null) {
+                    appliquer(connection,
+                        migration);
+                    nombreAppliquees++;
+                } else if(sommeControle.longValue() != migration.getSommeControle()) {
+                    throw new MigrationException("La migration "
+                        + migration.getScript()
+                        + " a été modifiée depuis son application ; le schéma doit être modifié par une nouvelle migration");
+                }
+            }
+            for(String version : appliquees.keySet()) {
+                MigrationSchema.LOGGER.warn("La version "
+                    + version
+                    + " du schéma a été appliquée par une version plus récente de l'application");
+            }
+            MigrationSchema.LOGGER.info("Schéma à jour : "
+                + nombreAppliquees
+                + " migration(s) appliquée(s) sur "
+                + migrations.size());
+        } catch(SQLException sqlException) {
+            throw new MigrationException(sqlException);
+        }
+        this.migre = true;
+    }
+
+    /**
+     * Lit les instructions d'un script SQL du classpath.
+     *
+     * @param script Le nom de la ressource du script
+     * @return Les instructions, sans leur point-virgule final
+     * @throws MigrationException Si le script est introuvable ou ne peut être lu
+     */
+    public static List<String> lireInstructions(String script) throws MigrationException {
+        return MigrationSchema.decouper(MigrationSchema.lireScript(script));
+    }
+
+    /**
+     * Lit et vérifie les migrations.
+     *
+     * @return Les migrations, dans l'ordre de leurs versions
+     * @throws MigrationException Si un script est introuvable, mal nommé ou hors d'ordre
+     */
+    private List<Migration> lireMigrations() throws MigrationException {
+        final List<Migration> migrations = new ArrayList<>();
+        String versionPrecedente = null;
+        for(String script : getScripts()) {
+            final String nom = script.substring(script.lastIndexOf('/') + 1);
+            final int separateur = nom.indexOf(MigrationSchema.SEPARATEUR_VERSION);
+            if(separateur <= 0
+                || !nom.endsWith(MigrationSchema.EXTENSION)) {
+                throw new MigrationException("Le script "
+                    + script
+                    + " doit être nommé <version>-<description>.sql");
+            }
+            final String version = nom.substring(0,
+                separateur);
+            if(versionPrecedente != null
+                && version.compareTo(versionPrecedente) <= 0) {
+                throw new MigrationException("La version du script "
+                    + script
+                    + " doit suivre la version "
+                    + versionPrecedente);
+            }
+            final String contenu = MigrationSchema.lireScript(script);
+            final CRC32 crc32 = new CRC32();
+            crc32.update(contenu.getBytes(StandardCharsets.UTF_8));
+            migrations.add(new Migration(script,
+                version,
+                nom.substring(separateur + 1,
+                    nom.length()
+                        - MigrationSchema.EXTENSION.length()),
+                crc32.getValue(),
+                MigrationSchema.decouper(contenu)));
+            versionPrecedente = version;
+        }
+        return migrations;
+    }
+
+    /**
+     * Lit les versions appliquées.
+     *
+     * @param connection La connexion
+     * @return Les sommes de contrôle des migrations appliquées, par version ; <code>null</code> si la table <code>version_schema</code>
+     *         n'existe pas
+     * @throws SQLException S'il y a une erreur avec la base de données
+     */
+    private static Map<String, Long> lireVersions(Connection connection) throws SQLException {
+        final Map<String, Long> appliquees = new LinkedHashMap<>();
+        try(
+            Statement statement = connection.createStatement();
+            ResultSet resultSet = statement.executeQuery(MigrationSchema.LIRE_VERSIONS_REQUEST)) {
+            while(resultSet.next()) {
+                appliquees.put(resultSet.getString(1),
+                    Long.valueOf(resultSet.getLong(2)));
+            }
+        } catch(SQLException sqlException) {
+            connection.rollback();
+            if(MigrationSchema.existeTable(connection,
+                "version_schema")) {
+                throw sqlException;
+            }
+            return null;
+        }
+        connection.commit();
+        return appliquees;
+    }
+
+    /**
+     * Crée la table <code>version_schema</code>. Si la base a été créée avant les migrations, elle est marquée à la version de référence.
+     *
+     * @param connection La connexion
+     * @param migrations Les migrations
+     * @return Les sommes de contrôle des migrations marquées comme appliquées, par version
+     * @throws SQLException S'il y a une erreur avec la base de données
+     * @throws MigrationException Si la version de référence n'est pas une des migrations
+     */
+    private Map<String, Long> creerTableVersions(Connection connection,
+        List<Migration> migrations) throws SQLException,
+        MigrationException {
+        final Map<String, Long> appliquees = new LinkedHashMap<>();
+        final boolean reference = getVersionReference() != null
+            && getTableReference() != null
+            && MigrationSchema.existeTable(connection,
+                getTableReference());
+        try(
+            Statement statement = connection.createStatement()) {
+            statement.execute(MigrationSchema.CREER_VERSION_REQUEST);
+        }
+        if(reference) {
+            for(Migration migration : migrations) {
+                if(migration.getVersion().equals(getVersionReference())) {
+                    MigrationSchema.enregistrer(connection,
+                        migration);
+                    connection.commit();
+                    MigrationSchema.LOGGER.info("Base existante marquée à la version de référence "
+                        + migration.getVersion());
+                    appliquees.put(migration.getVersion(),
+                        Long.valueOf(migration.getSommeControle()));
+                    return appliquees;
+                }
+            }
+            throw new MigrationException("La version de référence "
+                + getVersionReference()
+                + " ne correspond à aucune migration");
+        }
+        connection.commit();
+        return appliquees;
+    }
+
+    /**
+     * Exécute une migration et l'enregistre.
+     *
+     * @param connection La connexion
+     * @param migration La migration
+     * @throws MigrationException Si une instruction échoue
+     * @throws SQLException Si l'annulation de la migration échoue
+     */
+    private static void appliquer(Connection connection,
+        Migration migration) throws MigrationException,
+        SQLException {
+        final long debut = System.currentTimeMillis();
+        String instructionCourante = null;
+        try(
+            Statement statement = connection.createStatement()) {
+            for(String instruction : migration.getInstructions()) {
+                instructionCourante = instruction;
+                statement.execute(instruction);
+            }
+            instructionCourante = null;
+            MigrationSchema.enregistrer(connection,
+                migration);
+            connection.commit();
+        } catch(SQLException sqlException) {
+            connection.rollback();
+            throw new MigrationException("La migration "
+                + migration.getScript()
+                + " a échoué"
+                + (instructionCourante == null ? "" : " à l'instruction : "
+                    + instructionCourante),
+                sqlException);
+        }
+        MigrationSchema.LOGGER.info("Migration "
+            + migration.getScript()
+            + " appliquée en "
+            + (System.currentTimeMillis()
+                - debut)
+            + " ms");
+    }
+
+    /**
+     * Enregistre une migration dans <code>version_schema</code>.
+     *
+     * @param connection La connexion
+     * @param migration La migration
+     * @throws SQLException S'il y a une erreur avec la base de données
+     */
+    private static void enregistrer(Connection connection,
+        Migration migration) throws SQLException {
+        try(
+            PreparedStatement ajouterVersion = connection.prepareStatement(MigrationSchema.AJOUTER_VERSION_REQUEST)) {
+            ajouterVersion.setString(1,
+                migration.getVersion());
+            ajouterVersion.setString(2,
+                migration.getDescription());
+            ajouterVersion.setLong(3,
+                migration.getSommeControle());
+            ajouterVersion.setTimestamp(4,
+                new Timestamp(System.currentTimeMillis()));
+            ajouterVersion.executeUpdate();
+        }
+    }
+
+    /**
+     * Indique si une table existe.
+     *
+     * @param connection La connexion
+     * @param table Le nom de la table
+     * @return <code>true</code> si la table existe, <code>false</code> sinon
+     * @throws SQLException Si l'annulation de la requête en erreur échoue
+     */
+    private static boolean existeTable(Connection connection,
+        String table) throws SQLException {
+        try(
+            Statement statement = connection.createStatement()) {
+            statement.executeQuery(String.format(MigrationSchema.EXISTE_TABLE_REQUEST,
+                table)).close();
+            return true;
+        } catch(SQLException sqlException) {
+            connection.rollback();
+            return false;
+        }
+    }
+
+    /**
+     * Lit un script SQL du classpath. Les fins de ligne sont normalisées pour que la somme de contrôle ne dépende pas de l'environnement
+     * qui a extrait le script.
+     *
+     * @param script Le nom de la ressource du script
+     * @return Le contenu du script
+     * @throws MigrationException Si le script est introuvable ou ne peut être lu
+     */
+    private static String lireScript(String script) throws MigrationException {
+        final InputStream inputStream = MigrationSchema.class.getClassLoader().getResourceAsStream(script.startsWith("/")
+            ? script.substring(1)
+            : script);
+        if(inputStream == null) {
+            throw new MigrationException("Le script "
+                + script
+                + " est introuvable");
+        }
+        final StringBuilder contenu = new StringBuilder();
+        try(
+            BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream,
+                StandardCharsets.UTF_8))) {
+            String ligne = reader.readLine();
+            while(ligne != null) {
+                contenu.append(ligne).append('\n');
+                ligne = reader.readLine();
+            }
+        } catch(IOException ioException) {
+            throw new MigrationException(ioException);
+        }
+        return contenu.toString();
+    }
+
+    /**
+     * Découpe un script SQL en instructions.
+     *
+     * @param contenu Le contenu du script
+     * @return Les instructions, sans commentaires ni point-virgule final
+     */
+    private static List<String> decouper(String contenu) {
+        final StringBuilder sansCommentaires = new StringBuilder();
+        for(String ligne : contenu.split("\n")) {
+            if(!ligne.trim().startsWith(MigrationSchema.COMMENTAIRE)) {
+                sansCommentaires.append(ligne).append('\n');
+            }
+        }
+        final List<String> instructions = new ArrayList<>();
+        for(String instruction : sansCommentaires.toString().split(MigrationSchema.SEPARATEUR)) {
+            if(!instruction.trim().isEmpty()) {
+                instructions.add(instruction.trim());
+            }
+        }
+        return instructions;
+    }
+
+    /**
+     * Une migration lue de son script.
+     *
+     * @author Team PayDay
+     */
+    private static final class Migration {
+        private final String script;
+
+        private final String version;
+
+        private final String description;
+
+        private final long sommeControle;
+
+        private final List<String> instructions;
+
+        /**
+         * Crée une migration.
+         *
+         * @param script Le nom de la ressource du script
+         * @param version La version
+         * @param description La description
+         * @param sommeControle La somme de contrôle CRC32 du script
+         * @param instructions Les instructions du script
+         */
+        Migration(String script,
+            String version,
+            String description,
+            long sommeControle,
+            List<String> instructions) {
+            super();
+            this.script = script;
+            this.version = version;
+            this.description = description;
+            this.sommeControle = sommeControle;
+            this.instructions = instructions;
+        }
+
+        /**
+         * Retourne le nom de la ressource du script.
+         *
+         * @return Le script
+         */
+        String getScript() {
+            return this.script;
+        }
+
+        /**
+         * Retourne la version.
+         *
+         * @return La version
+         */
+        String getVersion() {
+            return this.version;
+        }
+
+        /**
+         * Retourne la description.
+         *
+         * @return La description
+         */
+        String getDescription() {
+            return this.description;
+        }
+
+        /**
+         * Retourne la somme de contrôle CRC32 du script.
+         *
+         * @return La somme de contrôle
+         */
+        long getSommeControle() {
+            return this.sommeControle;
+        }
+
+        /**
+         * Retourne les instructions du script.
+         *
+         * @return Les instructions
+         */
+        List<String> getInstructions() {
+            return this.instructions;
+        }
+    }
+}
@@ -0,0 +1,83 @@
+// Fichier Page.java
+// Auteur : Team PayDay
+// Date de création : 2026-10-18
+
+package ca.qc.collegeahuntsic.bibliothequeBackEnd.util;
+
+import java.io.Serializable;
+import java.util.List;
+import ca.qc.collegeahuntsic.bibliothequeBackEnd.dto.DTO;
+
+/**
+ * Une page de DTOs retournée par un finder paginé, avec le jeton à utiliser pour demander la page suivante.
+ *
+ * @param <T> Le type des DTOs de la page
+ * @author Team PayDay
+ */
+public final class Page<T extends DTO> implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    private List<T> dtos;
+
+    private String continuationToken;
+
+    /**
+     * Crée une page.
+     *
+     * @param dtos Les DTOs de la page
+     * @param continuationToken Le jeton de la page suivante ; <code>null</code> s'il s'agit de la dernière page
+     */
+    public Page(List<T> dtos,
+        String continuationToken) {
+        super();
+        setDtos(dtos);
+        setContinuationToken(continuationToken);
+    }
+
+    // Region Getters and Setters
+    /**
+     * Getter de la variable d'instance <code>this.dtos</code>.
+     *
+     * @return La variable d'instance <code>this.dtos</code>
+     */
+    public List<T> getDtos() {
+        return this.dtos;
+    }
+
+    /**
+     * Setter de la variable d'instance <code>this.dtos</code>.
+     *
+     * @param dtos La valeur à utiliser pour la variable d'instance <code>this.dtos</code>
+     */
+    private void setDtos(List<T> dtos) {
+        this.dtos = dtos;
+    }
+
+    /**
+     * Getter de la variable d'instance <code>this.continuationToken</code>.
+     *
+     * @return La variable d'instance <code>this.continuationToken</code>
+     */
+    public String getContinuationToken() {
+        return this.continuationToken;
+    }
+
+    /**
+     * Setter de la variable d'instance <code>this.continuationToken</code>.
+     *
+     * @param continuationToken La valeur à utiliser pour la variable d'instance <code>this.continuationToken</code>
+     */
+    private void setContinuationToken(String continuationToken) {
+        this.continuationToken = continuationToken;
+    }
+    // EndRegion Getters and Setters
+
+    /**
+     * Vérifie s'il existe une page suivante.
+     *
+     * @return <code>true</code> s'il existe une page suivante, <code>false</code> sinon
+     */
+    public boolean hasNextPage() {
+        return getContinuationToken() != null;
+    }
+}
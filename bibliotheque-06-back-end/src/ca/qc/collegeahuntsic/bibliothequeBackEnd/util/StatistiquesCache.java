@@ -0,0 +1,300 @@
+// Fichier StatistiquesCache.java
+// Auteur : Team PayDay
+// Date de création : 2026-10-18
+
+package ca.qc.collegeahuntsic.bibliothequeBackEnd.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import net.sf.ehcache.CacheManager;
+import net.sf.ehcache.Ehcache;
+import net.sf.ehcache.Element;
+import net.sf.ehcache.Statistics;
+import net.sf.ehcache.event.CacheEventListener;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+/**
+ * Statistiques par région du cache de second niveau : lectures trouvées et manquées, évictions, expirations et taille.
+ *
+ * Les lectures sont comptées par EHCache lui-même. Les évictions (élément retiré pour faire de la place, selon
+ * <code>maxElementsInMemory</code>) et les expirations (élément plus vieux que <code>timeToLiveSeconds</code> ou inutilisé depuis
+ * <code>timeToIdleSeconds</code>) sont comptées par un écouteur enregistré sur chaque région. Contrairement aux statistiques
+ * d'Hibernate, ces compteurs ne demandent pas <code>hibernate.generate_statistics</code>.
+ *
+ * Les régions sont celles du {@link CacheManager} unique d'EHCache, partagé avec Hibernate par le fournisseur
+ * <code>SingletonEhCacheProvider</code>. Le bean doit être démarré après la fabrique de sessions, qui crée les régions.
+ *
+ * @author Team PayDay
+ */
+public class StatistiquesCache implements StatistiquesCacheMBean {
+    private static final Log LOGGER = LogFactory.getLog(StatistiquesCache.class);
+
+    private final ConcurrentMap<String, CompteurEvictions> compteurs;
+
+    /**
+     * Crée les statistiques.
+     */
+    public StatistiquesCache() {
+        super();
+        this.compteurs = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Enregistre l'écouteur qui compte les évictions et les expirations sur chaque région existante.
+     */
+    public void demarrer() {
+        for(Ehcache cache : getRegions()) {
+            getCompteur(cache);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public double getTauxSucces() {
+        long succes = 0L;
+        long echecs = 0L;
+        for(Ehcache cache : getRegions()) {
+            final Statistics statistics = cache.getStatistics();
+            succes += statistics.getCacheHits();
+            echecs += statistics.getCacheMisses();
+        }
+        return StatistiquesCache.taux(succes,
+            echecs);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String[] getRapport() {
+        final List<String> rapport = new ArrayList<>();
+        for(Ehcache cache : getRegions()) {
+            final Statistics statistics = cache.getStatistics();
+            final CompteurEvictions compteur = getCompteur(cache);
+            rapport.add(String.format("%-70s succès=%-10d échecs=%-10d taux=%-6.3f évictions=%-8d expirations=%-8d taille=%d/%d ttl=%ds tti=%ds",
+                cache.getName(),
+                Integer.valueOf(statistics.getCacheHits()),
+                Integer.valueOf(statistics.getCacheMisses()),
+                Double.valueOf(StatistiquesCache.taux(statistics.getCacheHits(),
+                    statistics.getCacheMisses())),
+                Long.valueOf(compteur.getEvictions()),
+                Long.valueOf(compteur.getExpirations()),
+                Long.valueOf(cache.getMemoryStoreSize()),
+                Integer.valueOf(cache.getMaxElementsInMemory()),
+                Long.valueOf(cache.getTimeToLiveSeconds()),
+                Long.valueOf(cache.getTimeToIdleSeconds())));
+        }
+        return rapport.toArray(new String[0]);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void reinitialiser() {
+        for(Ehcache cache : getRegions()) {
+            cache.clearStatistics();
+            getCompteur(cache).reinitialiser();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void vider() {
+        CacheManager.getInstance().clearAll();
+    }
+
+    /**
+     * Journalise une ligne de statistiques par région du cache.
+     */
+    public void journaliser() {
+        final String[] rapport = getRapport();
+        if(rapport.length == 0) {
+            return;
+        }
+        StatistiquesCache.LOGGER.info("=== Cache de second niveau ===");
+        for(String ligne : rapport) {
+            StatistiquesCache.LOGGER.info(ligne);
+        }
+    }
+
+    /**
+     * Retourne les régions du cache, triées par nom.
+     *
+     * @return Les régions
+     */
+    private static List<Ehcache> getRegions() {
+        final CacheManager cacheManager = CacheManager.getInstance();
+        final String[] noms = cacheManager.getCacheNames();
+        Arrays.sort(noms);
+        final List<Ehcache> regions = new ArrayList<>();
+        for(String nom : noms) {
+            final Ehcache cache = cacheManager.getEhcache(nom);
+            if(cache != null) {
+                regions.add(cache);
+            }
+        }
+        return regions;
+    }
+
+    /**
+     * Retourne le compteur d'évictions d'une région, en l'enregistrant sur la région au premier appel.
+     *
+     * @param cache La région
+     * @return Le compteur de la région
+     */
+    private CompteurEvictions getCompteur(Ehcache cache) {
+        CompteurEvictions compteur = this.compteurs.get(cache.getName());
+        if(compteur == null) {
+            final CompteurEvictions nouveau = new CompteurEvictions();
+            compteur = this.compteurs.putIfAbsent(cache.getName(),
+                nouveau);
+            if(compteur == null) {
+                compteur = nouveau;
+                cache.getCacheEventNotificationService().registerListener(compteur);
+            }
+        }
+        return compteur;
+    }
+
+    /**
+     * Calcule un taux de succès.
+     *
+     * @param succes Le nombre de lectures trouvées
+     * @param echecs Le nombre de lectures manquées
+     * @return Le taux de succès ; <code>0</code> s'il n'y a eu aucune lecture
+     */
+    private static double taux(long succes,
+        long echecs) {
+        final long lectures = succes
+            + echecs;
+        return lectures == 0 ? 0.0 : (double) succes
+            / lectures;
+    }
+
+    /**
+     * Écouteur EHCache qui compte les évictions et les expirations d'une région.
+     *
+     * @author Team PayDay
+     */
+    private static final class CompteurEvictions implements CacheEventListener {
+        private final AtomicLong evictions;
+
+        private final AtomicLong expirations;
+
+        /**
+         * Crée un compteur à zéro.
+         */
+        CompteurEvictions() {
+            super();
+            this.evictions = new AtomicLong();
+            this.expirations = new AtomicLong();
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void notifyElementEvicted(Ehcache cache,
+            Element element) {
+            this.evictions.incrementAndGet();
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void notifyElementExpired(Ehcache cache,
+            Element element) {
+            this.expirations.incrementAndGet();
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void notifyElementRemoved(Ehcache cache,
+            Element element) {
+            // Les retraits explicites ne sont pas comptés
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void notifyElementPut(Ehcache cache,
+            Element element) {
+            // Les ajouts ne sont pas comptés
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void notifyElementUpdated(Ehcache cache,
+            Element element) {
+            // Les mises à jour ne sont pas comptées
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void notifyRemoveAll(Ehcache cache) {
+            // Les vidages ne sont pas comptés
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void dispose() {
+            // Rien à libérer
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public Object clone() throws CloneNotSupportedException {
+            throw new CloneNotSupportedException("Un compteur n'appartient qu'à une région");
+        }
+
+        /**
+         * Vide les compteurs.
+         */
+        void reinitialiser() {
+            this.evictions.set(0L);
+            this.expirations.set(0L);
+        }
+
+        // Region Getters and Setters
+        /**
+         * Retourne le nombre d'évictions.
+         *
+         * @return Le nombre d'évictions
+         */
+        long getEvictions() {
+            return this.evictions.get();
+        }
+
+        /**
+         * Retourne le nombre d'expirations.
+         *
+         * @return Le nombre d'expirations
+         */
+        long getExpirations() {
+            return this.expirations.get();
+        }
+        // EndRegion Getters and Setters
+    }
+}
@@ -0,0 +1,36 @@
+// Fichier StatistiquesCacheMBean.java
+// Auteur : Team PayDay
+// Date de création : 2026-10-18
+
+package ca.qc.collegeahuntsic.bibliothequeBackEnd.util;
+
+/**
+ * Interface JMX des {@link StatistiquesCache}.
+ *
+ * @author Team PayDay
+ */
+public interface StatistiquesCacheMBean {
+    /**
+     * Retourne la proportion des lectures du cache, toutes régions confondues, qui ont trouvé leur élément.
+     *
+     * @return Le taux de succès, entre <code>0</code> et <code>1</code> ; <code>0</code> s'il n'y a eu aucune lecture
+     */
+    double getTauxSucces();
+
+    /**
+     * Retourne une ligne de statistiques par région du cache, triées par nom.
+     *
+     * @return Les lignes du rapport
+     */
+    String[] getRapport();
+
+    /**
+     * Vide les statistiques de toutes les régions. Le contenu du cache est conservé.
+     */
+    void reinitialiser();
+
+    /**
+     * Vide toutes les régions du cache.
+     */
+    void vider();
+}
@@ -4,16 +4,32 @@
 
 package ca.qc.collegeahuntsic.bibliotheque;
 
-import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.InputStream;
-import java.io.InputStreamReader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.sql.SQLException;
 import java.sql.Timestamp;
-import java.text.ParseException;
-import java.util.StringTokenizer;
+import ca.qc.collegeahuntsic.bibliotheque.benchmark.StatistiquesReplay;
 import ca.qc.collegeahuntsic.bibliotheque.exception.BibliothequeException;
+import ca.qc.collegeahuntsic.bibliotheque.simulation.RapportSimulation;
+import ca.qc.collegeahuntsic.bibliotheque.simulation.SimulateurBibliotheque;
+import ca.qc.collegeahuntsic.bibliotheque.transaction.Commande;
+import ca.qc.collegeahuntsic.bibliotheque.transaction.CompilateurTransactions;
+import ca.qc.collegeahuntsic.bibliotheque.transaction.ExecuteurTransaction;
+import ca.qc.collegeahuntsic.bibliotheque.transaction.JournalTransactions;
+import ca.qc.collegeahuntsic.bibliotheque.transaction.LecteurTransactions;
+import ca.qc.collegeahuntsic.bibliotheque.transaction.LecteurTransactionsBinaire;
+import ca.qc.collegeahuntsic.bibliotheque.transaction.LecteurTransactionsMappe;
+import ca.qc.collegeahuntsic.bibliotheque.transaction.LecteurTransactionsTexte;
+import ca.qc.collegeahuntsic.bibliotheque.transaction.OrdonnanceurParallele;
+import ca.qc.collegeahuntsic.bibliotheque.transaction.PipelineTransactions;
+import ca.qc.collegeahuntsic.bibliotheque.transaction.PointReprise;
+import ca.qc.collegeahuntsic.bibliotheque.transaction.TypeCommande;
 import ca.qc.collegeahuntsic.bibliotheque.util.BibliothequeCreateur;
-import ca.qc.collegeahuntsic.bibliotheque.util.FormatteurDate;
 import ca.qc.collegeahuntsic.bibliothequeBackEnd.dto.LivreDTO;
 import ca.qc.collegeahuntsic.bibliothequeBackEnd.dto.MembreDTO;
 import ca.qc.collegeahuntsic.bibliothequeBackEnd.dto.PretDTO;
@@ -38,7 +54,19 @@ import org.apache.commons.logging.LogFactory;
  * {@link Bibliotheque#afficherAide() afficherAide()}.
  *
  * Paramètres :
- * 0 - fichier de transaction
+ * 0 - fichier de transaction, texte ou compilé par {@link CompilateurTransactions}
+ * 1 - <code>--replay</code> (optionnel) : rejoue le fichier en mesurant le débit, la latence et le taux d'erreur des transactions
+ * 1 - <code>--lot=N</code> (optionnel) : regroupe jusqu'à N transactions dans une même transaction de base de données
+ * 1 - <code>--delai=T</code> (optionnel) : commit le lot en cours après T millisecondes
+ * 1 - <code>--nettoyage=K</code> (optionnel) : vide le cache de la session toutes les K transactions d'un lot (100 par défaut)
+ * 1 - <code>--parallele=N</code> (optionnel) : exécute les transactions indépendantes sur N sessions en parallèle, en conservant l'ordre des
+ *     transactions qui touchent le même membre ou le même livre ; chaque transaction est alors commitée individuellement
+ * 1 - <code>--pipeline[=C]</code> (optionnel) : lit, exécute et journalise les transactions dans trois étapes reliées par des files de C
+ *     commandes (1024 par défaut)
+ * 1 - <code>--resume</code> (optionnel) : enregistre dans la base de données, à chaque commit, la position de la dernière transaction
+ *     commitée et reprend le fichier juste après la position enregistrée par une exécution précédente ; ignoré en mode parallèle
+ * 1 - <code>--dry-run[=R]</code> (optionnel) : n'exécute pas les transactions, mais simule leurs règles métier en mémoire à partir de l'état
+ *     de la base de données et produit le rapport des lignes qui seraient rejetées, détaillé dans le fichier R s'il est donné
  *
  * Pré-condition :
  *   La base de données de la bibliothèque doit exister
@@ -49,10 +77,42 @@ import org.apache.commons.logging.LogFactory;
  * @author Team PayDay
  */
 public final class Bibliotheque {
-    private static BibliothequeCreateur gestionnaireBibliotheque;
+    private static final ThreadLocal<BibliothequeCreateur> GESTIONNAIRES_BIBLIOTHEQUE = new ThreadLocal<>();
 
     private static final Log LOGGER = LogFactory.getLog(Bibliotheque.class);
 
+    private static final String OPTION_REPLAY = "--replay";
+
+    private static final String OPTION_LOT = "--lot=";
+
+    private static final String OPTION_DELAI = "--delai=";
+
+    private static final String OPTION_NETTOYAGE = "--nettoyage=";
+
+    private static final String OPTION_PARALLELE = "--parallele=";
+
+    private static final String OPTION_PIPELINE = "--pipeline";
+
+    private static final String OPTION_RESUME = "--resume";
+
+    private static final String OPTION_DRY_RUN = "--dry-run";
+
+    private static final String OPTION_LATENCES = "--latences";
+
+    private static final String OPTION_REQUETES = "--requetes";
+
+    private static final String OPTION_CACHE = "--cache";
+
+    private static final int NETTOYAGE_PAR_DEFAUT = 100;
+
+    private static final int CAPACITE_PIPELINE_PAR_DEFAUT = 1024;
+
+    private static StatistiquesReplay statistiques;
+
+    private static int nombreThreads;
+
+    private static int capacitePipeline;
+
     /**
      * Constructeur privé pour empêcher toute instanciation.
      */
@@ -69,113 +129,453 @@ public final class Bibliotheque {
     public static void main(final String[] arguments) throws Exception {
         // Validation du nombre de paramètres
         if(arguments.length < 1) {
-            Bibliotheque.LOGGER.info("Usage: java Bibliotheque  <fichier-transactions>");
+            Bibliotheque.LOGGER.info("Usage: java Bibliotheque  <fichier-transactions> ["
+                + Bibliotheque.OPTION_REPLAY
+                + "] ["
+                + Bibliotheque.OPTION_LOT
+                + "N] ["
+                + Bibliotheque.OPTION_DELAI
+                + "T] ["
+                + Bibliotheque.OPTION_NETTOYAGE
+                + "K] ["
+                + Bibliotheque.OPTION_PARALLELE
+                + "N] ["
+                + Bibliotheque.OPTION_PIPELINE
+                + "[=C]] ["
+                + Bibliotheque.OPTION_RESUME
+                + "] ["
+                + Bibliotheque.OPTION_DRY_RUN
+                + "[=R]] ["
+                + Bibliotheque.OPTION_LATENCES
+                + "] ["
+                + Bibliotheque.OPTION_REQUETES
+                + "] ["
+                + Bibliotheque.OPTION_CACHE
+                + "]");
             return;
         }
+        int tailleLot = 1;
+        long delaiLot = 0L;
+        int intervalleNettoyage = Bibliotheque.NETTOYAGE_PAR_DEFAUT;
+        boolean reprise = false;
+        boolean simulation = false;
+        boolean latences = false;
+        boolean requetes = false;
+        boolean cache = false;
+        String rapportSimulation = null;
+        for(int index = 1 ; index < arguments.length ; index++) {
+            if(Bibliotheque.OPTION_REPLAY.equals(arguments[index])) {
+                Bibliotheque.statistiques = new StatistiquesReplay();
+            } else if(arguments[index].startsWith(Bibliotheque.OPTION_LOT)) {
+                tailleLot = Integer.parseInt(arguments[index].substring(Bibliotheque.OPTION_LOT.length()));
+            } else if(arguments[index].startsWith(Bibliotheque.OPTION_DELAI)) {
+                delaiLot = Long.parseLong(arguments[index].substring(Bibliotheque.OPTION_DELAI.length()));
+            } else if(arguments[index].startsWith(Bibliotheque.OPTION_NETTOYAGE)) {
+                intervalleNettoyage = Integer.parseInt(arguments[index].substring(Bibliotheque.OPTION_NETTOYAGE.length()));
+            } else if(arguments[index].startsWith(Bibliotheque.OPTION_PARALLELE)) {
+                Bibliotheque.nombreThreads = Integer.parseInt(arguments[index].substring(Bibliotheque.OPTION_PARALLELE.length()));
+            } else if(Bibliotheque.OPTION_PIPELINE.equals(arguments[index])) {
+                Bibliotheque.capacitePipeline = Bibliotheque.CAPACITE_PIPELINE_PAR_DEFAUT;
+            } else if(arguments[index].startsWith(Bibliotheque.OPTION_PIPELINE
+                + "=")) {
+                Bibliotheque.capacitePipeline = Integer.parseInt(arguments[index].substring(Bibliotheque.OPTION_PIPELINE.length()
+                    + 1));
+            } else if(Bibliotheque.OPTION_RESUME.equals(arguments[index])) {
+                reprise = true;
+            } else if(Bibliotheque.OPTION_DRY_RUN.equals(arguments[index])) {
+                simulation = true;
+            } else if(arguments[index].startsWith(Bibliotheque.OPTION_DRY_RUN
+                + "=")) {
+                simulation = true;
+                rapportSimulation = arguments[index].substring(Bibliotheque.OPTION_DRY_RUN.length()
+                    + 1);
+            } else if(Bibliotheque.OPTION_LATENCES.equals(arguments[index])) {
+                latences = true;
+            } else if(Bibliotheque.OPTION_REQUETES.equals(arguments[index])) {
+                requetes = true;
+            } else if(Bibliotheque.OPTION_CACHE.equals(arguments[index])) {
+                cache = true;
+            }
+        }
+        if(Bibliotheque.nombreThreads > 0
+            && (tailleLot > 1
+                || delaiLot > 0L)) {
+            Bibliotheque.LOGGER.warn("Le regroupement en lots est ignoré en mode parallèle");
+            tailleLot = 1;
+            delaiLot = 0L;
+        }
+        if(Bibliotheque.nombreThreads > 0
+            && reprise) {
+            // Les transactions parallèles sont commitées dans le désordre : aucune position ne sépare les transactions commitées des autres
+            Bibliotheque.LOGGER.warn("La reprise est ignorée en mode parallèle");
+            reprise = false;
+        }
 
         try {
             // Ouverture du fichier de transactions
-            final InputStream sourceTransaction = Bibliotheque.class.getResourceAsStream("/"
-                + arguments[0]);
             try(
-                BufferedReader reader = new BufferedReader(new InputStreamReader(sourceTransaction))) {
-
-                Bibliotheque.gestionnaireBibliotheque = new BibliothequeCreateur();
-                Bibliotheque.traiterTransactions(reader);
+                LecteurTransactions lecteur = Bibliotheque.ouvrirFichier(arguments[0])) {
+
+                // La simulation ne modifie pas la base de données, pas même son schéma
+                Bibliotheque.GESTIONNAIRES_BIBLIOTHEQUE.set(new BibliothequeCreateur(!simulation));
+                if(simulation) {
+                    Bibliotheque.simulerTransactions(lecteur,
+                        rapportSimulation);
+                    return;
+                }
+                Bibliotheque.getGestionnaireBibliotheque().configurerLot(tailleLot,
+                    delaiLot,
+                    intervalleNettoyage);
+                if(reprise) {
+                    Bibliotheque.reprendre(lecteur,
+                        arguments[0]);
+                }
+                Bibliotheque.traiterTransactions(lecteur);
+                Bibliotheque.getGestionnaireBibliotheque().terminerLot();
             }
         } catch(IOException ioException) {
             Bibliotheque.LOGGER.error(" *** "
                 + ioException.getMessage());
         } catch(BibliothequeException bibliothequeException) {
-            Bibliotheque.gestionnaireBibliotheque.rollbackTransaction();
+            Bibliotheque.getGestionnaireBibliotheque().rollbackTransaction(bibliothequeException);
+            // En mode lot, les transactions déjà réussies du lot en cours sont conservées, sauf si le lot a été abandonné
+            Bibliotheque.getGestionnaireBibliotheque().terminerLot();
             Bibliotheque.LOGGER.error(" *** "
                 + bibliothequeException.getMessage());
+        } finally {
+            if(Bibliotheque.statistiques != null) {
+                Bibliotheque.statistiques.journaliserRapport();
+            }
+            if(latences) {
+                BibliothequeCreateur.getIntercepteurLatence().journaliser();
+            }
+            if(requetes) {
+                BibliothequeCreateur.getIntercepteurRequetes().journaliser();
+            }
+            if(cache) {
+                BibliothequeCreateur.getStatistiquesCache().journaliser();
+            }
         }
     }
 
     /**
-     * Traite le fichier de transactions.
+     * Retourne le gestionnaire de la bibliothèque du thread courant. En mode parallèle, chaque thread a son propre gestionnaire, et donc sa
+     * propre session ; il est créé à la première transaction du thread.
      *
-     * @param reader Le flux d'entrée à lire
+     * @return Le gestionnaire de la bibliothèque
+     * @throws BibliothequeException S'il y a une erreur avec la base de données
+     */
+    private static BibliothequeCreateur getGestionnaireBibliotheque() throws BibliothequeException {
+        BibliothequeCreateur gestionnaireBibliotheque = Bibliotheque.GESTIONNAIRES_BIBLIOTHEQUE.get();
+        if(gestionnaireBibliotheque == null) {
+            gestionnaireBibliotheque = new BibliothequeCreateur();
+            Bibliotheque.GESTIONNAIRES_BIBLIOTHEQUE.set(gestionnaireBibliotheque);
+        }
+        return gestionnaireBibliotheque;
+    }
+
+    /**
+     * Ouvre le fichier de transactions. Le fichier est d'abord cherché dans le classpath, puis dans le système de fichiers, ce qui permet
+     * de rejouer de gros fichiers sans les copier dans <code>resources</code>. Un fichier du système de fichiers est lu par projection en
+     * mémoire, ou décodé directement s'il a été compilé par {@link CompilateurTransactions}.
+     *
+     * @param fichier Le nom du fichier
+     * @return Le lecteur du fichier
+     * @throws IOException Si le fichier est introuvable
+     */
+    private static LecteurTransactions ouvrirFichier(final String fichier) throws IOException {
+        final InputStream ressource = Bibliotheque.class.getResourceAsStream("/"
+            + fichier);
+        if(ressource != null) {
+            return new LecteurTransactionsTexte(ressource);
+        }
+        final Path chemin = Paths.get(fichier);
+        if(LecteurTransactionsBinaire.isCompile(chemin)) {
+            return new LecteurTransactionsBinaire(chemin);
+        }
+        return new LecteurTransactionsMappe(chemin);
+    }
+
+    /**
+     * Active l'enregistrement du point de reprise et positionne le lecteur juste après la dernière transaction commitée par une exécution
+     * précédente, s'il y en a une.
+     *
+     * @param lecteur Le lecteur du fichier de transactions
+     * @param fichier Le nom du fichier de transactions
+     * @throws BibliothequeException Si le point de reprise ne peut être lu ou ne correspond pas au fichier
+     */
+    private static void reprendre(final LecteurTransactions lecteur,
+        final String fichier) throws BibliothequeException {
+        Bibliotheque.getGestionnaireBibliotheque().activerReprise(fichier);
+        final PointReprise pointReprise = Bibliotheque.getGestionnaireBibliotheque().chargerReprise();
+        if(pointReprise != null) {
+            lecteur.reprendre(pointReprise);
+            Bibliotheque.LOGGER.info("Reprise après la "
+                + pointReprise);
+        }
+    }
+
+    /**
+     * Simule le fichier de transactions sans modifier la base de données. L'état de la base de données est chargé une seule fois dans un
+     * {@link SimulateurBibliotheque}, puis chaque transaction est vérifiée et appliquée en mémoire. Comme une exécution réelle, la
+     * simulation s'arrête à la première ligne mal formée.
+     *
+     * @param lecteur Le lecteur du fichier de transactions
+     * @param rapport Le fichier où écrire les lignes rejetées ; <code>null</code> pour ne journaliser que les premières
+     * @throws BibliothequeException S'il y a une erreur avec la base de données ou si une ligne est mal formée
+     * @throws IOException Si le rapport ne peut être écrit
+     */
+    private static void simulerTransactions(final LecteurTransactions lecteur,
+        final String rapport) throws BibliothequeException,
+        IOException {
+        final long debutChargement = System.nanoTime();
+        final SimulateurBibliotheque simulateur = new SimulateurBibliotheque();
+        Bibliotheque.getGestionnaireBibliotheque().beginTransaction();
+        try {
+            simulateur.charger(Bibliotheque.getGestionnaireBibliotheque().getConnection());
+        } catch(SQLException sqlException) {
+            throw new BibliothequeException(sqlException);
+        } finally {
+            Bibliotheque.getGestionnaireBibliotheque().rollbackTransaction();
+        }
+        Bibliotheque.LOGGER.info(String.format("État chargé en %.1f s : %d membres, %d livres, %d prêts, %d réservations",
+            Double.valueOf((System.nanoTime()
+                - debutChargement)
+                / 1e9),
+            Integer.valueOf(simulateur.getNombreMembres()),
+            Integer.valueOf(simulateur.getNombreLivres()),
+            Integer.valueOf(simulateur.getNombrePrets()),
+            Integer.valueOf(simulateur.getNombreReservations())));
+        final long debut = System.nanoTime();
+        try(
+            Writer detail = rapport == null ? null : Files.newBufferedWriter(Paths.get(rapport),
+                StandardCharsets.UTF_8)) {
+            final RapportSimulation rapportSimulation = new RapportSimulation(detail);
+            try {
+                Commande commande = Bibliotheque.lireTransaction(lecteur);
+                while(commande != null) {
+                    rapportSimulation.enregistrer(commande,
+                        simulateur.simuler(commande));
+                    commande = Bibliotheque.lireTransaction(lecteur);
+                }
+            } finally {
+                rapportSimulation.journaliser(System.nanoTime()
+                    - debut);
+            }
+        }
+    }
+
+    /**
+     * Traite le fichier de transactions. En mode parallèle, les transactions sont soumises à un {@link OrdonnanceurParallele} ; en mode
+     * pipeline, la lecture et la journalisation sont confiées à un {@link PipelineTransactions}.
+     *
+     * @param lecteur Le lecteur du fichier de transactions
      * @throws Exception Si une erreur survient
      */
-    private static void traiterTransactions(final BufferedReader reader) throws Exception {
-        Bibliotheque.afficherAide();
-        Bibliotheque.LOGGER.info("\n\n\n");
-        String transaction = Bibliotheque.lireTransaction(reader);
-        while(!Bibliotheque.finTransaction(transaction)) {
-            final StringTokenizer tokenizer = new StringTokenizer(transaction,
-                " ");
-            if(tokenizer.hasMoreTokens()) {
-                Bibliotheque.executerTransaction(tokenizer);
+    private static void traiterTransactions(final LecteurTransactions lecteur) throws Exception {
+        if(Bibliotheque.statistiques == null) {
+            Bibliotheque.afficherAide();
+            Bibliotheque.LOGGER.info("\n\n\n");
+        }
+        OrdonnanceurParallele ordonnanceur = null;
+        if(Bibliotheque.nombreThreads > 0) {
+            ordonnanceur = new OrdonnanceurParallele(Bibliotheque.nombreThreads,
+                Bibliotheque.getGestionnaireBibliotheque(),
+                new ExecuteurTransaction() {
+                    @Override
+                    public boolean executer(Commande commande) throws BibliothequeException {
+                        try {
+                            return Bibliotheque.traiterTransaction(commande);
+                        } catch(BibliothequeException bibliothequeException) {
+                            Bibliotheque.getGestionnaireBibliotheque().rollbackTransaction(bibliothequeException);
+                            throw bibliothequeException;
+                        }
+                    }
+                });
+        }
+        try {
+            if(Bibliotheque.capacitePipeline > 0) {
+                Bibliotheque.traiterTransactionsPipeline(lecteur,
+                    ordonnanceur);
+            } else {
+                Commande commande = Bibliotheque.lireTransaction(lecteur);
+                while(commande != null) {
+                    Bibliotheque.echoTransaction(commande);
+                    Bibliotheque.soumettreTransaction(commande,
+                        ordonnanceur);
+                    commande = Bibliotheque.lireTransaction(lecteur);
+                }
+            }
+        } finally {
+            if(ordonnanceur != null) {
+                ordonnanceur.terminer();
             }
-            transaction = Bibliotheque.lireTransaction(reader);
         }
     }
 
+    /**
+     * Traite le fichier de transactions avec un {@link PipelineTransactions}. L'écho d'une transaction est journalisé après son exécution,
+     * par le thread du journal, suivi de ses lignes d'erreur.
+     *
+     * @param lecteur Le lecteur du fichier de transactions
+     * @param ordonnanceur L'ordonnanceur du mode parallèle ; <code>null</code> en mode séquentiel
+     * @throws BibliothequeException Si une erreur survient
+     */
+    private static void traiterTransactionsPipeline(final LecteurTransactions lecteur,
+        final OrdonnanceurParallele ordonnanceur) throws BibliothequeException {
+        final PipelineTransactions pipeline = new PipelineTransactions(lecteur,
+            new ExecuteurTransaction() {
+                @Override
+                public boolean executer(Commande commande) throws BibliothequeException {
+                    return Bibliotheque.soumettreTransaction(commande,
+                        ordonnanceur);
+                }
+            },
+            new JournalTransactions() {
+                @Override
+                public void journaliser(Commande commande,
+                    boolean succes,
+                    String erreur) {
+                    Bibliotheque.echoTransaction(commande);
+                    if(erreur != null) {
+                        Bibliotheque.LOGGER.error(erreur);
+                    }
+                }
+            },
+            Bibliotheque.capacitePipeline);
+        pipeline.executer();
+    }
+
+    /**
+     * Exécute une transaction, ou la soumet à l'ordonnanceur en mode parallèle.
+     *
+     * @param commande La commande de la transaction
+     * @param ordonnanceur L'ordonnanceur du mode parallèle ; <code>null</code> en mode séquentiel
+     * @return <code>true</code> si la transaction a réussi ou a été soumise, <code>false</code> sinon
+     * @throws BibliothequeException Si une erreur survient
+     */
+    private static boolean soumettreTransaction(final Commande commande,
+        final OrdonnanceurParallele ordonnanceur) throws BibliothequeException {
+        if(ordonnanceur == null) {
+            return Bibliotheque.traiterTransaction(commande);
+        }
+        ordonnanceur.soumettre(commande);
+        return true;
+    }
+
+    /**
+     * Traite une transaction. Le point de reprise est avancé à la transaction ; en mode rejeu, la transaction est chronométrée et son
+     * résultat est comptabilisé.
+     *
+     * @param commande La commande de la transaction
+     * @return <code>true</code> si la transaction a réussi, <code>false</code> sinon
+     * @throws BibliothequeException Si une erreur survient
+     */
+    private static boolean traiterTransaction(final Commande commande) throws BibliothequeException {
+        Bibliotheque.getGestionnaireBibliotheque().avancerReprise(commande.getPosition(),
+            commande.getNumeroLigne());
+        // Les commentaires ne sont pas comptabilisés
+        if(Bibliotheque.statistiques == null
+            || commande.getType() == TypeCommande.COMMENTAIRE) {
+            return Bibliotheque.executerTransaction(commande);
+        }
+        final long debut = System.nanoTime();
+        final boolean succes = Bibliotheque.executerTransaction(commande);
+        Bibliotheque.statistiques.enregistrer(commande.getType().getMotClef(),
+            System.nanoTime()
+                - debut,
+            succes);
+        return succes;
+    }
+
     /**
      * Lit une transaction.
      *
-     * @param reader Le flux d'entrée à lire
-     * @return La transaction lue
-     * @throws IOException Si une erreur de lecture survient
+     * @param lecteur Le lecteur du fichier de transactions
+     * @return La commande lue ; <code>null</code> à la fin des transactions
+     * @throws BibliothequeException Si la transaction ne peut être lue ou décodée
      */
-    private static String lireTransaction(final BufferedReader reader) throws IOException {
-        final String transaction = reader.readLine();
-        if(transaction != null) {
+    private static Commande lireTransaction(final LecteurTransactions lecteur) throws BibliothequeException {
+        return lecteur.lire();
+    }
+
+    /**
+     * Journalise l'écho d'une transaction. En mode rejeu, l'écho n'est journalisé qu'au niveau <code>DEBUG</code>.
+     *
+     * @param commande La commande de la transaction
+     */
+    private static void echoTransaction(final Commande commande) {
+        if(Bibliotheque.statistiques == null) {
             Bibliotheque.LOGGER.info("> "
-                + transaction);
+                + commande);
+        } else if(Bibliotheque.LOGGER.isDebugEnabled()) {
+            Bibliotheque.LOGGER.debug("> "
+                + commande);
+        }
+    }
+
+    /**
+     * Journalise une ligne d'erreur d'une transaction. En mode pipeline, la ligne est transmise au journal avec le résultat de la
+     * transaction, qui l'écrit après l'écho.
+     *
+     * @param ligne La ligne d'erreur
+     */
+    private static void erreurTransaction(final String ligne) {
+        if(!PipelineTransactions.differerErreur(ligne)) {
+            Bibliotheque.LOGGER.error(ligne);
         }
-        return transaction;
     }
 
     /**
-     * Décode et traite une transaction.
+     * Traite une transaction décodée.
      *
-     * @param tokenizer L'entrée à décoder
+     * @param commande La commande de la transaction
+     * @return <code>true</code> si la transaction a réussi, <code>false</code> sinon
      * @throws BibliothequeException Si une erreur survient
      */
-    private static void executerTransaction(final StringTokenizer tokenizer) throws BibliothequeException {
-        final String command = tokenizer.nextToken();
-        switch(command) {
-            case "aide":
+    private static boolean executerTransaction(final Commande commande) throws BibliothequeException {
+        boolean succes = true;
+        switch(commande.getType()) {
+            case AIDE:
                 Bibliotheque.afficherAide();
                 break;
-            case "inscrire":
-                Bibliotheque.inscrireMembre(tokenizer);
+            case INSCRIRE:
+                succes = Bibliotheque.inscrireMembre(commande);
                 break;
-            case "desinscrire":
-                Bibliotheque.desinscrireMembre(tokenizer);
+            case DESINSCRIRE:
+                succes = Bibliotheque.desinscrireMembre(commande);
                 break;
-            case "acquerir":
-                Bibliotheque.acquerirLivre(tokenizer);
+            case ACQUERIR:
+                succes = Bibliotheque.acquerirLivre(commande);
                 break;
-            case "vendre":
-                Bibliotheque.vendreLivre(tokenizer);
+            case VENDRE:
+                succes = Bibliotheque.vendreLivre(commande);
                 break;
-            case "preter":
-                Bibliotheque.commencerPret(tokenizer);
+            case PRETER:
+                succes = Bibliotheque.commencerPret(commande);
                 break;
-            case "renouveler":
-                Bibliotheque.renouvelerPret(tokenizer);
+            case RENOUVELER:
+                succes = Bibliotheque.renouvelerPret(commande);
                 break;
-            case "retourner":
-                Bibliotheque.terminerPret(tokenizer);
+            case RETOURNER:
+                succes = Bibliotheque.terminerPret(commande);
                 break;
-            case "reserver":
-                Bibliotheque.placerReservation(tokenizer);
+            case RESERVER:
+                succes = Bibliotheque.placerReservation(commande);
                 break;
-            case "utiliser":
-                Bibliotheque.utiliserReservation(tokenizer);
+            case UTILISER:
+                succes = Bibliotheque.utiliserReservation(commande);
                 break;
-            case "annuler":
-                Bibliotheque.annulerReservation(tokenizer);
+            case ANNULER:
+                succes = Bibliotheque.annulerReservation(commande);
                 break;
-            case "--":
+            case COMMENTAIRE:
                 break;
             default:
-                Bibliotheque.LOGGER.error("  Transactions non reconnue.  Essayer \"aide\"");
+                Bibliotheque.erreurTransaction("  Transactions non reconnue.  Essayer \"aide\"");
+                succes = false;
         }
+        return succes;
     }
 
     /**
@@ -204,41 +604,45 @@ public final class Bibliotheque {
     /**
      * Inscrit un membre.
      *
-     * @param tokenizer Le tokenizer à utiliser
+     * @param commande La commande à traiter
+     * @return <code>true</code> si la transaction a réussi, <code>false</code> sinon
      * @throws BibliothequeException S'il y a une erreur
      */
-    private static void inscrireMembre(StringTokenizer tokenizer) throws BibliothequeException {
+    private static boolean inscrireMembre(final Commande commande) throws BibliothequeException {
         try {
-            Bibliotheque.gestionnaireBibliotheque.beginTransaction();
+            Bibliotheque.getGestionnaireBibliotheque().beginTransaction();
             final MembreDTO membreDTO = new MembreDTO();
-            membreDTO.setNom(Bibliotheque.readString(tokenizer));
-            membreDTO.setTelephone(Bibliotheque.readString(tokenizer));
-            membreDTO.setLimitePret(Bibliotheque.readString(tokenizer));
-            Bibliotheque.gestionnaireBibliotheque.getMembreFacade().inscrire(Bibliotheque.gestionnaireBibliotheque.getSession(),
+            membreDTO.setNom(commande.getNom());
+            membreDTO.setTelephone(commande.getTelephone());
+            membreDTO.setLimitePret(commande.getLimitePret());
+            Bibliotheque.getGestionnaireBibliotheque().getMembreFacade().inscrire(Bibliotheque.getGestionnaireBibliotheque().getSession(),
                 membreDTO);
-            Bibliotheque.gestionnaireBibliotheque.commitTransaction();
+            Bibliotheque.getGestionnaireBibliotheque().commitTransaction();
+            return true;
         } catch(
             InvalidHibernateSessionException
             | InvalidDTOException
             | FacadeException exception) {
-            Bibliotheque.LOGGER.error("**** "
+            Bibliotheque.erreurTransaction("**** "
                 + exception.getMessage());
-            Bibliotheque.gestionnaireBibliotheque.rollbackTransaction();
+            Bibliotheque.getGestionnaireBibliotheque().rollbackTransaction(exception);
+            return false;
         }
     }
 
     /**
      * Désinscrire un membre.
      *
-     * @param tokenizer Le tokenizer à utiliser
+     * @param commande La commande à traiter
+     * @return <code>true</code> si la transaction a réussi, <code>false</code> sinon
      * @throws BibliothequeException S'il y a une erreur
      */
-    private static void desinscrireMembre(final StringTokenizer tokenizer) throws BibliothequeException {
+    private static boolean desinscrireMembre(final Commande commande) throws BibliothequeException {
         try {
-            Bibliotheque.gestionnaireBibliotheque.beginTransaction();
-            final String idMembre = Bibliotheque.readString(tokenizer);
-            final MembreDTO membreDTO = (MembreDTO) Bibliotheque.gestionnaireBibliotheque.getMembreFacade().get(
-                Bibliotheque.gestionnaireBibliotheque.getSession(),
+            Bibliotheque.getGestionnaireBibliotheque().beginTransaction();
+            final String idMembre = commande.getIdMembre();
+            final MembreDTO membreDTO = (MembreDTO) Bibliotheque.getGestionnaireBibliotheque().getMembreFacade().get(
+                Bibliotheque.getGestionnaireBibliotheque().getSession(),
                 idMembre);
             if(membreDTO == null) {
                 throw new MissingDTOException("Le membre "
@@ -246,9 +650,10 @@ public final class Bibliotheque {
                     + " n'existe pas");
             }
 
-            Bibliotheque.gestionnaireBibliotheque.getMembreFacade().desinscrire(Bibliotheque.gestionnaireBibliotheque.getSession(),
+            Bibliotheque.getGestionnaireBibliotheque().getMembreFacade().desinscrire(Bibliotheque.getGestionnaireBibliotheque().getSession(),
                 membreDTO);
-            Bibliotheque.gestionnaireBibliotheque.commitTransaction();
+            Bibliotheque.getGestionnaireBibliotheque().commitTransaction();
+            return true;
         } catch(
             InvalidHibernateSessionException
             | InvalidPrimaryKeyException
@@ -257,9 +662,10 @@ public final class Bibliotheque {
             | ExistingLoanException
             | ExistingReservationException
             | MissingDTOException exception) {
-            Bibliotheque.LOGGER.error(" *** "
+            Bibliotheque.erreurTransaction(" *** "
                 + exception.getMessage());
-            Bibliotheque.gestionnaireBibliotheque.rollbackTransaction();
+            Bibliotheque.getGestionnaireBibliotheque().rollbackTransaction(exception);
+            return false;
         }
     }
 
@@ -267,31 +673,34 @@ public final class Bibliotheque {
      *
      * Permet d'acquérir un livre.
      *
-     * @param tokenizer Le tokenizer à utiliser
+     * @param commande La commande à traiter
+     * @return <code>true</code> si la transaction a réussi, <code>false</code> sinon
      * @throws BibliothequeException Si la connexion avec la base de données ne peut être faite ou que la transaction Hibernate ne peut être créée
      */
-    private static void acquerirLivre(final StringTokenizer tokenizer) throws BibliothequeException {
+    private static boolean acquerirLivre(final Commande commande) throws BibliothequeException {
         try {
-            Bibliotheque.gestionnaireBibliotheque.beginTransaction();
+            Bibliotheque.getGestionnaireBibliotheque().beginTransaction();
             final LivreDTO livreDTO = new LivreDTO();
 
-            final String titre = Bibliotheque.readString(tokenizer);
-            final String auteur = Bibliotheque.readString(tokenizer);
-            final Timestamp dateAcquisition = Bibliotheque.readDate(tokenizer);
+            final String titre = commande.getTitre();
+            final String auteur = commande.getAuteur();
+            final Timestamp dateAcquisition = new Timestamp(commande.getDateAcquisition());
             livreDTO.setTitre(titre);
             livreDTO.setAuteur(auteur);
             livreDTO.setDateAcquisition(dateAcquisition);
 
-            Bibliotheque.gestionnaireBibliotheque.getLivreFacade().acquerir(Bibliotheque.gestionnaireBibliotheque.getSession(),
+            Bibliotheque.getGestionnaireBibliotheque().getLivreFacade().acquerir(Bibliotheque.getGestionnaireBibliotheque().getSession(),
                 livreDTO);
-            Bibliotheque.gestionnaireBibliotheque.commitTransaction();
+            Bibliotheque.getGestionnaireBibliotheque().commitTransaction();
+            return true;
         } catch(
             InvalidHibernateSessionException
             | InvalidDTOException
             | FacadeException exception) {
-            Bibliotheque.LOGGER.info(" *** "
+            Bibliotheque.erreurTransaction(" *** "
                 + exception.getMessage());
-            Bibliotheque.gestionnaireBibliotheque.rollbackTransaction();
+            Bibliotheque.getGestionnaireBibliotheque().rollbackTransaction(exception);
+            return false;
         }
 
     }
@@ -300,23 +709,25 @@ public final class Bibliotheque {
     *
     * Permet de vendre un livre.
     *
-    * @param tokenizer Le tokenizer à utiliser
+    * @param commande La commande à traiter
+    * @return <code>true</code> si la transaction a réussi, <code>false</code> sinon
     * @throws BibliothequeException Si la connexion avec la base de données ne peut être faite ou que la transaction Hibernate ne peut être créée
      */
-    private static void vendreLivre(final StringTokenizer tokenizer) throws BibliothequeException {
+    private static boolean vendreLivre(final Commande commande) throws BibliothequeException {
         try {
-            Bibliotheque.gestionnaireBibliotheque.beginTransaction();
-            final String idLivre = Bibliotheque.readString(tokenizer);
-            final LivreDTO livreDTO = (LivreDTO) Bibliotheque.gestionnaireBibliotheque.getLivreFacade().get(Bibliotheque.gestionnaireBibliotheque.getSession(),
+            Bibliotheque.getGestionnaireBibliotheque().beginTransaction();
+            final String idLivre = commande.getIdLivre();
+            final LivreDTO livreDTO = (LivreDTO) Bibliotheque.getGestionnaireBibliotheque().getLivreFacade().get(Bibliotheque.getGestionnaireBibliotheque().getSession(),
                 idLivre);
             if(livreDTO == null) {
                 throw new MissingDTOException("Le livre "
                     + idLivre
                     + " n'existe pas");
             }
-            Bibliotheque.gestionnaireBibliotheque.getLivreFacade().vendre(Bibliotheque.gestionnaireBibliotheque.getSession(),
+            Bibliotheque.getGestionnaireBibliotheque().getLivreFacade().vendre(Bibliotheque.getGestionnaireBibliotheque().getSession(),
                 livreDTO);
-            Bibliotheque.gestionnaireBibliotheque.commitTransaction();
+            Bibliotheque.getGestionnaireBibliotheque().commitTransaction();
+            return true;
         } catch(
             InvalidHibernateSessionException
             | InvalidDTOException
@@ -325,32 +736,34 @@ public final class Bibliotheque {
             | FacadeException
             | MissingDTOException
             | InvalidPrimaryKeyException exception) {
-            Bibliotheque.LOGGER.error(" *** "
+            Bibliotheque.erreurTransaction(" *** "
                 + exception.getMessage());
-            Bibliotheque.gestionnaireBibliotheque.rollbackTransaction();
+            Bibliotheque.getGestionnaireBibliotheque().rollbackTransaction(exception);
+            return false;
         }
     }
 
     /**
      * Preter un livre.
      *
-     * @param tokenizer Le tokenizer à utiliser
+     * @param commande La commande à traiter
+     * @return <code>true</code> si la transaction a réussi, <code>false</code> sinon
      * @throws BibliothequeException S'il y a une erreur
      */
-    private static void commencerPret(final StringTokenizer tokenizer) throws BibliothequeException {
+    private static boolean commencerPret(final Commande commande) throws BibliothequeException {
         try {
-            Bibliotheque.gestionnaireBibliotheque.beginTransaction();
-            final String idMembre = Bibliotheque.readString(tokenizer);
-            final MembreDTO membreDTO = (MembreDTO) Bibliotheque.gestionnaireBibliotheque.getMembreFacade().get(
-                Bibliotheque.gestionnaireBibliotheque.getSession(),
+            Bibliotheque.getGestionnaireBibliotheque().beginTransaction();
+            final String idMembre = commande.getIdMembre();
+            final MembreDTO membreDTO = (MembreDTO) Bibliotheque.getGestionnaireBibliotheque().getMembreFacade().get(
+                Bibliotheque.getGestionnaireBibliotheque().getSession(),
                 idMembre);
             if(membreDTO == null) {
                 throw new MissingDTOException("Le membre "
                     + idMembre
                     + " n'existe pas");
             }
-            final String idLivre = readString(tokenizer);
-            final LivreDTO livreDTO = (LivreDTO) Bibliotheque.gestionnaireBibliotheque.getLivreFacade().get(Bibliotheque.gestionnaireBibliotheque.getSession(),
+            final String idLivre = commande.getIdLivre();
+            final LivreDTO livreDTO = (LivreDTO) Bibliotheque.getGestionnaireBibliotheque().getLivreFacade().get(Bibliotheque.getGestionnaireBibliotheque().getSession(),
                 idLivre);
             if(livreDTO == null) {
                 throw new MissingDTOException("Le livre "
@@ -362,9 +775,10 @@ public final class Bibliotheque {
             pretDTO.setLivreDTO(livreDTO);
             pretDTO.setMembreDTO(membreDTO);
 
-            Bibliotheque.gestionnaireBibliotheque.getPretFacade().commencer(Bibliotheque.gestionnaireBibliotheque.getSession(),
+            Bibliotheque.getGestionnaireBibliotheque().getPretFacade().commencer(Bibliotheque.getGestionnaireBibliotheque().getSession(),
                 pretDTO);
-            Bibliotheque.gestionnaireBibliotheque.commitTransaction();
+            Bibliotheque.getGestionnaireBibliotheque().commitTransaction();
+            return true;
         } catch(
             InvalidHibernateSessionException
             | MissingDTOException
@@ -374,32 +788,35 @@ public final class Bibliotheque {
             | ExistingLoanException
             | InvalidLoanLimitException
             | ExistingReservationException exception) {
-            Bibliotheque.LOGGER.error(" *** "
+            Bibliotheque.erreurTransaction(" *** "
                 + exception.getMessage());
-            Bibliotheque.gestionnaireBibliotheque.rollbackTransaction();
+            Bibliotheque.getGestionnaireBibliotheque().rollbackTransaction(exception);
+            return false;
         }
     }
 
     /**
      * Renouveler un prêt.
      *
-     * @param tokenizer Le tokenizer a utiliser
+     * @param commande La commande à traiter
+     * @return <code>true</code> si la transaction a réussi, <code>false</code> sinon
      * @throws BibliothequeException S'il y a une erreur
      */
-    private static void renouvelerPret(final StringTokenizer tokenizer) throws BibliothequeException {
+    private static boolean renouvelerPret(final Commande commande) throws BibliothequeException {
         try {
-            Bibliotheque.gestionnaireBibliotheque.beginTransaction();
-            final String idPret = Bibliotheque.readString(tokenizer);
-            final PretDTO pretDTO = (PretDTO) Bibliotheque.gestionnaireBibliotheque.getPretFacade().get(Bibliotheque.gestionnaireBibliotheque.getSession(),
+            Bibliotheque.getGestionnaireBibliotheque().beginTransaction();
+            final String idPret = commande.getIdPret();
+            final PretDTO pretDTO = (PretDTO) Bibliotheque.getGestionnaireBibliotheque().getPretFacade().get(Bibliotheque.getGestionnaireBibliotheque().getSession(),
                 idPret);
             if(pretDTO == null) {
                 throw new MissingDTOException("Le prêt "
                     + idPret
                     + " n'existe pas");
             }
-            Bibliotheque.gestionnaireBibliotheque.getPretFacade().renouveler(Bibliotheque.gestionnaireBibliotheque.getSession(),
+            Bibliotheque.getGestionnaireBibliotheque().getPretFacade().renouveler(Bibliotheque.getGestionnaireBibliotheque().getSession(),
                 pretDTO);
-            Bibliotheque.gestionnaireBibliotheque.commitTransaction();
+            Bibliotheque.getGestionnaireBibliotheque().commitTransaction();
+            return true;
         } catch(
             InvalidHibernateSessionException
             | InvalidDTOException
@@ -408,32 +825,35 @@ public final class Bibliotheque {
             | ExistingReservationException
             | InvalidPrimaryKeyException
             | MissingDTOException exception) {
-            Bibliotheque.LOGGER.error(" *** "
+            Bibliotheque.erreurTransaction(" *** "
                 + exception.getMessage());
-            Bibliotheque.gestionnaireBibliotheque.rollbackTransaction();
+            Bibliotheque.getGestionnaireBibliotheque().rollbackTransaction(exception);
+            return false;
         }
     }
 
     /**
      * Terminer un prêt.
      *
-     * @param tokenizer Le tokenizer à utiliser
+     * @param commande La commande à traiter
+     * @return <code>true</code> si la transaction a réussi, <code>false</code> sinon
      * @throws BibliothequeException S'il y a une erreur
      */
-    private static void terminerPret(final StringTokenizer tokenizer) throws BibliothequeException {
+    private static boolean terminerPret(final Commande commande) throws BibliothequeException {
         try {
-            Bibliotheque.gestionnaireBibliotheque.beginTransaction();
-            final String idPret = Bibliotheque.readString(tokenizer);
-            final PretDTO pretDTO = (PretDTO) Bibliotheque.gestionnaireBibliotheque.getPretFacade().get(Bibliotheque.gestionnaireBibliotheque.getSession(),
+            Bibliotheque.getGestionnaireBibliotheque().beginTransaction();
+            final String idPret = commande.getIdPret();
+            final PretDTO pretDTO = (PretDTO) Bibliotheque.getGestionnaireBibliotheque().getPretFacade().get(Bibliotheque.getGestionnaireBibliotheque().getSession(),
                 idPret);
             if(pretDTO == null) {
                 throw new MissingDTOException("Le prêt "
                     + idPret
                     + " n'existe pas");
             }
-            Bibliotheque.gestionnaireBibliotheque.getPretFacade().terminer(Bibliotheque.gestionnaireBibliotheque.getSession(),
+            Bibliotheque.getGestionnaireBibliotheque().getPretFacade().terminer(Bibliotheque.getGestionnaireBibliotheque().getSession(),
                 pretDTO);
-            Bibliotheque.gestionnaireBibliotheque.commitTransaction();
+            Bibliotheque.getGestionnaireBibliotheque().commitTransaction();
+            return true;
         } catch(
             InvalidHibernateSessionException
             | InvalidDTOException
@@ -441,32 +861,34 @@ public final class Bibliotheque {
             | MissingLoanException
             | InvalidPrimaryKeyException
             | MissingDTOException exception) {
-            Bibliotheque.LOGGER.error(" *** "
+            Bibliotheque.erreurTransaction(" *** "
                 + exception.getMessage());
-            Bibliotheque.gestionnaireBibliotheque.rollbackTransaction();
+            Bibliotheque.getGestionnaireBibliotheque().rollbackTransaction(exception);
+            return false;
         }
     }
 
     /**
      * Place une réservation.
      *
-     * @param tokenizer Le tokenizer à utiliser
+     * @param commande La commande à traiter
+     * @return <code>true</code> si la transaction a réussi, <code>false</code> sinon
      * @throws BibliothequeException S'il y a une erreur
      */
-    private static void placerReservation(final StringTokenizer tokenizer) throws BibliothequeException {
+    private static boolean placerReservation(final Commande commande) throws BibliothequeException {
         try {
-            Bibliotheque.gestionnaireBibliotheque.beginTransaction();
-            final String idMembre = Bibliotheque.readString(tokenizer);
-            final MembreDTO membreDTO = (MembreDTO) Bibliotheque.gestionnaireBibliotheque.getMembreFacade().get(
-                Bibliotheque.gestionnaireBibliotheque.getSession(),
+            Bibliotheque.getGestionnaireBibliotheque().beginTransaction();
+            final String idMembre = commande.getIdMembre();
+            final MembreDTO membreDTO = (MembreDTO) Bibliotheque.getGestionnaireBibliotheque().getMembreFacade().get(
+                Bibliotheque.getGestionnaireBibliotheque().getSession(),
                 idMembre);
             if(membreDTO == null) {
                 throw new MissingDTOException("Le membre "
                     + idMembre
                     + " n'existe pas");
             }
-            final String idLivre = Bibliotheque.readString(tokenizer);
-            final LivreDTO livreDTO = (LivreDTO) Bibliotheque.gestionnaireBibliotheque.getLivreFacade().get(Bibliotheque.gestionnaireBibliotheque.getSession(),
+            final String idLivre = commande.getIdLivre();
+            final LivreDTO livreDTO = (LivreDTO) Bibliotheque.getGestionnaireBibliotheque().getLivreFacade().get(Bibliotheque.getGestionnaireBibliotheque().getSession(),
                 idLivre);
             if(livreDTO == null) {
                 throw new MissingDTOException("Le livre "
@@ -477,9 +899,10 @@ public final class Bibliotheque {
             reservationDTO.setMembreDTO(membreDTO);
             reservationDTO.setLivreDTO(livreDTO);
 
-            Bibliotheque.gestionnaireBibliotheque.getReservationFacade().placer(Bibliotheque.gestionnaireBibliotheque.getSession(),
+            Bibliotheque.getGestionnaireBibliotheque().getReservationFacade().placer(Bibliotheque.getGestionnaireBibliotheque().getSession(),
                 reservationDTO);
-            Bibliotheque.gestionnaireBibliotheque.commitTransaction();
+            Bibliotheque.getGestionnaireBibliotheque().commitTransaction();
+            return true;
         } catch(
             InvalidHibernateSessionException
             | InvalidDTOException
@@ -489,24 +912,26 @@ public final class Bibliotheque {
             | ExistingReservationException
             | ExistingLoanException
             | MissingLoanException exception) {
-            Bibliotheque.LOGGER.error(" *** "
+            Bibliotheque.erreurTransaction(" *** "
                 + exception.getMessage());
-            Bibliotheque.gestionnaireBibliotheque.rollbackTransaction();
+            Bibliotheque.getGestionnaireBibliotheque().rollbackTransaction(exception);
+            return false;
         }
     }
 
     /**
      * Utilise une réservation.
      *
-     * @param tokenizer Le tokenizer à utiliser
+     * @param commande La commande à traiter
+     * @return <code>true</code> si la transaction a réussi, <code>false</code> sinon
      * @throws BibliothequeException S'il y a une erreur
      */
-    private static void utiliserReservation(final StringTokenizer tokenizer) throws BibliothequeException {
+    private static boolean utiliserReservation(final Commande commande) throws BibliothequeException {
         try {
-            Bibliotheque.gestionnaireBibliotheque.beginTransaction();
-            final String idReservation = Bibliotheque.readString(tokenizer);
-            final ReservationDTO reservationDTO = (ReservationDTO) Bibliotheque.gestionnaireBibliotheque.getReservationFacade().get(
-                Bibliotheque.gestionnaireBibliotheque.getSession(),
+            Bibliotheque.getGestionnaireBibliotheque().beginTransaction();
+            final String idReservation = commande.getIdReservation();
+            final ReservationDTO reservationDTO = (ReservationDTO) Bibliotheque.getGestionnaireBibliotheque().getReservationFacade().get(
+                Bibliotheque.getGestionnaireBibliotheque().getSession(),
                 idReservation);
 
             if(reservationDTO == null) {
@@ -514,9 +939,10 @@ public final class Bibliotheque {
                     + idReservation
                     + " n'existe pas");
             }
-            Bibliotheque.gestionnaireBibliotheque.getReservationFacade().utiliser(Bibliotheque.gestionnaireBibliotheque.getSession(),
+            Bibliotheque.getGestionnaireBibliotheque().getReservationFacade().utiliser(Bibliotheque.getGestionnaireBibliotheque().getSession(),
                 reservationDTO);
-            Bibliotheque.gestionnaireBibliotheque.commitTransaction();
+            Bibliotheque.getGestionnaireBibliotheque().commitTransaction();
+            return true;
         } catch(
             InvalidHibernateSessionException
             | InvalidDTOException
@@ -526,98 +952,46 @@ public final class Bibliotheque {
             | ExistingReservationException
             | ExistingLoanException
             | InvalidLoanLimitException exception) {
-            Bibliotheque.LOGGER.error(" *** "
+            Bibliotheque.erreurTransaction(" *** "
                 + exception.getMessage());
-            Bibliotheque.gestionnaireBibliotheque.rollbackTransaction();
+            Bibliotheque.getGestionnaireBibliotheque().rollbackTransaction(exception);
+            return false;
         }
     }
 
     /**
      * Annule une réservation.
      *
-     * @param tokenizer Le tokenizer à utiliser
+     * @param commande La commande à traiter
+     * @return <code>true</code> si la transaction a réussi, <code>false</code> sinon
      * @throws BibliothequeException S'il y a une erreur
      */
-    public static void annulerReservation(final StringTokenizer tokenizer) throws BibliothequeException {
+    public static boolean annulerReservation(final Commande commande) throws BibliothequeException {
         try {
-            Bibliotheque.gestionnaireBibliotheque.beginTransaction();
-            final String idReservation = Bibliotheque.readString(tokenizer);
-            final ReservationDTO reservationDTO = (ReservationDTO) Bibliotheque.gestionnaireBibliotheque.getReservationFacade().get(
-                Bibliotheque.gestionnaireBibliotheque.getSession(),
+            Bibliotheque.getGestionnaireBibliotheque().beginTransaction();
+            final String idReservation = commande.getIdReservation();
+            final ReservationDTO reservationDTO = (ReservationDTO) Bibliotheque.getGestionnaireBibliotheque().getReservationFacade().get(
+                Bibliotheque.getGestionnaireBibliotheque().getSession(),
                 idReservation);
             if(reservationDTO == null) {
                 throw new MissingDTOException("La réservation "
                     + idReservation
                     + " n'existe pas");
             }
-            Bibliotheque.gestionnaireBibliotheque.getReservationFacade().annuler(Bibliotheque.gestionnaireBibliotheque.getSession(),
+            Bibliotheque.getGestionnaireBibliotheque().getReservationFacade().annuler(Bibliotheque.getGestionnaireBibliotheque().getSession(),
                 reservationDTO);
-            Bibliotheque.gestionnaireBibliotheque.commitTransaction();
+            Bibliotheque.getGestionnaireBibliotheque().commitTransaction();
+            return true;
         } catch(
             InvalidHibernateSessionException
             | InvalidPrimaryKeyException
             | InvalidDTOException
             | FacadeException
             | MissingDTOException exception) {
-            Bibliotheque.LOGGER.error(" *** "
+            Bibliotheque.erreurTransaction(" *** "
                 + exception.getMessage());
-            Bibliotheque.gestionnaireBibliotheque.rollbackTransaction();
-        }
-    }
-
-    /**
-     * Vérifie si la fin du traitement des transactions est atteinte.
-     *
-     * @param transaction La transaction à traiter
-     * @return <code>true</code> Si la fin du fichier est atteinte, <code>false</code> sinon
-     */
-    private static boolean finTransaction(final String transaction) {
-        boolean finDeFichier = transaction == null;
-        if(!finDeFichier) {
-            final StringTokenizer tokenizer = new StringTokenizer(transaction,
-                " ");
-            finDeFichier = !tokenizer.hasMoreTokens();
-            if(!finDeFichier) {
-                final String commande = tokenizer.nextToken();
-                finDeFichier = "exit".equals(commande);
-            }
-        }
-        return finDeFichier;
-    }
-
-    /**
-     * Lit une chaîne de caractères de la transaction.
-     *
-     * @param tokenizer La transaction à décoder
-     * @return La chaîne de caractères lue
-     * @throws BibliothequeException Si l'élément lu est manquant
-     */
-    private static String readString(final StringTokenizer tokenizer) throws BibliothequeException {
-        if(tokenizer.hasMoreElements()) {
-            return tokenizer.nextToken();
-        }
-        throw new BibliothequeException("Autre paramètre attendu");
-    }
-
-    /**
-     * Lit une date au format YYYY-MM-DD de la transaction.
-     *
-     * @param tokenizer La transaction à décoder
-     * @return La date lue
-     * @throws BibliothequeException Si l'élément lu est manquant ou n'est pas une date correctement formatée
-     */
-    private static Timestamp readDate(final StringTokenizer tokenizer) throws BibliothequeException {
-        if(tokenizer.hasMoreElements()) {
-            final String token = tokenizer.nextToken();
-            try {
-                return FormatteurDate.timestampValue(token);
-            } catch(ParseException parseException) {
-                throw new BibliothequeException("Date en format YYYY-MM-DD attendue à la place  de \""
-                    + token
-                    + "\"",
-                    parseException);
-            }
+            Bibliotheque.getGestionnaireBibliotheque().rollbackTransaction(exception);
+            return false;
         }
-        throw new BibliothequeException("Autre paramètre attendu");
     }
 }
@@ -0,0 +1,338 @@
+// Fichier BenchmarkIndex.java
+// Auteur : Team PayDay
+// Date de création : 2026-10-18
+
+package ca.qc.collegeahuntsic.bibliotheque.benchmark;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import ca.qc.collegeahuntsic.bibliotheque.exception.BibliothequeException;
+import ca.qc.collegeahuntsic.bibliotheque.util.BibliothequeCreateur;
+import ca.qc.collegeahuntsic.bibliothequeBackEnd.dto.LivreDTO;
+import ca.qc.collegeahuntsic.bibliothequeBackEnd.dto.MembreDTO;
+import ca.qc.collegeahuntsic.bibliothequeBackEnd.dto.PretDTO;
+import ca.qc.collegeahuntsic.bibliothequeBackEnd.dto.ReservationDTO;
+import ca.qc.collegeahuntsic.bibliothequeBackEnd.util.MigrationSchema;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.hibernate.CacheMode;
+import org.hibernate.Session;
+import org.hibernate.criterion.Restrictions;
+
+/**
+ * Benchmark des index des migrations <code>004-index</code> et <code>005-index-minuscules</code> sur les chemins d'accès fréquents des
+ * DAOs.
+ *
+ * Le benchmark remet d'abord les index dans l'état d'avant les migrations (scripts <code>005-index-minuscules-annulation</code> puis
+ * <code>004-index-annulation</code>), mesure les requêtes des DAOs, applique les migrations, puis mesure les mêmes requêtes avec les mêmes
+ * paramètres. Les requêtes sont exécutées sans le cache de
+ * second niveau ni le cache des requêtes, pour mesurer la base de données. Les scripts sont choisis selon la base de données de la
+ * connexion (<code>MySQL</code> ou <code>Oracle</code>).
+ *
+ * La base de données doit déjà contenir un catalogue, par exemple celui laissé par {@link BibliothequeBenchmark} : les index ne font une
+ * différence qu'à partir de quelques milliers de lignes. Le benchmark modifie le schéma ; il ne doit pas être lancé sur une base de
+ * production.
+ *
+ * Paramètres :
+ * 0 - nombre d'exécutions mesurées par requête et par état (défaut : 1000)
+ * 1 - nombre d'exécutions d'échauffement par requête et par état (défaut : 100)
+ *
+ * @author Team PayDay
+ */
+public final class BenchmarkIndex {
+    private static final Log LOGGER = LogFactory.getLog(BenchmarkIndex.class);
+
+    private static final int ITERATIONS_PAR_DEFAUT = 1000;
+
+    private static final int ECHAUFFEMENT_PAR_DEFAUT = 100;
+
+    private static final int TAILLE_ECHANTILLON = 1000;
+
+    private static final long GRAINE = 42L;
+
+    private static final long DUREE_RETARD = 14L * 24L * 60L * 60L * 1000L;
+
+    private static final String[] MIGRATIONS = new String[] {"/004-index-",
+        "/005-index-minuscules-"};
+
+    private static final String[] ANNULATIONS = new String[] {"/005-index-minuscules-annulation-",
+        "/004-index-annulation-"};
+
+    private static final String EXTENSION = ".sql";
+
+    private static final String PRETS_ACTIFS_LIVRE = "pretsActifsLivre";
+
+    private static final String PRETS_ACTIFS_MEMBRE = "pretsActifsMembre";
+
+    private static final String PRETS_EN_RETARD = "pretsEnRetard";
+
+    private static final String RESERVATIONS_LIVRE = "reservationsLivre";
+
+    private static final String LIVRES_TITRE = "livresTitre";
+
+    private static final String MEMBRES_NOM = "membresNom";
+
+    private final BibliothequeCreateur gestionnaireBibliotheque;
+
+    private final List<Object[]> livres;
+
+    private final List<Object[]> membres;
+
+    private final Map<String, MesureOperation> mesures;
+
+    /**
+     * Crée le benchmark.
+     *
+     * @throws BibliothequeException Si le contexte Spring ne peut être créé
+     */
+    private BenchmarkIndex() throws BibliothequeException {
+        super();
+        this.gestionnaireBibliotheque = new BibliothequeCreateur();
+        this.livres = new ArrayList<>();
+        this.membres = new ArrayList<>();
+        this.mesures = new LinkedHashMap<>();
+    }
+
+    /**
+     * Lance le benchmark.
+     *
+     * @param arguments Les arguments du main
+     * @throws Exception Si une erreur survient
+     */
+    public static void main(final String[] arguments) throws Exception {
+        final int iterations = arguments.length > 0 ? Integer.parseInt(arguments[0]) : BenchmarkIndex.ITERATIONS_PAR_DEFAUT;
+        final int echauffement = arguments.length > 1 ? Integer.parseInt(arguments[1]) : BenchmarkIndex.ECHAUFFEMENT_PAR_DEFAUT;
+
+        final BenchmarkIndex benchmark = new BenchmarkIndex();
+        try {
+            final String baseDeDonnees = benchmark.echantillonner();
+            for(String annulation : BenchmarkIndex.ANNULATIONS) {
+                benchmark.executerScript(annulation
+                    + baseDeDonnees
+                    + BenchmarkIndex.EXTENSION,
+                    true);
+            }
+            final Map<String, MesureOperation> avant = benchmark.mesurer(iterations,
+                echauffement);
+            for(String migration : BenchmarkIndex.MIGRATIONS) {
+                benchmark.executerScript(migration
+                    + baseDeDonnees
+                    + BenchmarkIndex.EXTENSION,
+                    false);
+            }
+            final Map<String, MesureOperation> apres = benchmark.mesurer(iterations,
+                echauffement);
+            BenchmarkIndex.journaliser(baseDeDonnees,
+                avant,
+                apres);
+        } catch(Exception exception) {
+            benchmark.gestionnaireBibliotheque.rollbackTransaction();
+            BenchmarkIndex.LOGGER.error(" *** "
+                + exception.getMessage());
+            throw exception;
+        }
+    }
+
+    /**
+     * Lit un échantillon des livres et des membres de la base de données, qui servira de paramètres aux requêtes mesurées.
+     *
+     * @return Le nom de la base de données, <code>MySQL</code> ou <code>Oracle</code>
+     * @throws Exception Si la lecture échoue ou si la base de données est vide
+     */
+    @SuppressWarnings("unchecked")
+    private String echantillonner() throws Exception {
+        this.gestionnaireBibliotheque.beginTransaction();
+        final Session session = this.gestionnaireBibliotheque.getSession();
+        final String baseDeDonnees = this.gestionnaireBibliotheque.getConnection().getMetaData().getDatabaseProductName();
+        this.livres.addAll(session.createQuery("select livre.idLivre, livre.titre from LivreDTO livre")
+            .setMaxResults(BenchmarkIndex.TAILLE_ECHANTILLON)
+            .list());
+        this.membres.addAll(session.createQuery("select membre.idMembre, membre.nom from MembreDTO membre")
+            .setMaxResults(BenchmarkIndex.TAILLE_ECHANTILLON)
+            .list());
+        this.gestionnaireBibliotheque.commitTransaction();
+        if(this.livres.isEmpty()
+            || this.membres.isEmpty()) {
+            throw new BibliothequeException("La base de données doit contenir des livres et des membres");
+        }
+        BenchmarkIndex.LOGGER.info("=== "
+            + baseDeDonnees
+            + " : échantillon de "
+            + this.livres.size()
+            + " livres et "
+            + this.membres.size()
+            + " membres ===");
+        return baseDeDonnees;
+    }
+
+    /**
+     * Exécute un script de migration, une instruction à la fois. Les instructions d'un script sont séparées par des points-virgules ; les
+     * lignes qui commencent par <code>--</code> sont des commentaires.
+     *
+     * @param script Le nom de la ressource du script
+     * @param ignorerErreurs Si une instruction en erreur est journalisée et ignorée, par exemple pour supprimer un index absent
+     * @throws Exception Si le script est introuvable ou si une instruction échoue
+     */
+    private void executerScript(String script,
+        boolean ignorerErreurs) throws Exception {
+        final List<String> instructions = MigrationSchema.lireInstructions(script);
+        this.gestionnaireBibliotheque.beginTransaction();
+        final Connection connection = this.gestionnaireBibliotheque.getConnection();
+        try(
+            Statement statement = connection.createStatement()) {
+            for(String instruction : instructions) {
+                try {
+                    statement.execute(instruction);
+                    BenchmarkIndex.LOGGER.info(instruction);
+                } catch(SQLException sqlException) {
+                    if(!ignorerErreurs) {
+                        throw sqlException;
+                    }
+                    BenchmarkIndex.LOGGER.info(instruction
+                        + " (ignorée : "
+                        + sqlException.getMessage()
+                        + ")");
+                }
+            }
+        }
+        this.gestionnaireBibliotheque.commitTransaction();
+    }
+
+    /**
+     * Mesure chaque requête. Chaque requête est exécutée avec les mêmes paramètres d'un état à l'autre.
+     *
+     * @param iterations Le nombre d'exécutions mesurées par requête
+     * @param echauffement Le nombre d'exécutions d'échauffement par requête
+     * @return Les mesures, par requête
+     * @throws Exception Si une requête échoue
+     */
+    private Map<String, MesureOperation> mesurer(int iterations,
+        int echauffement) throws Exception {
+        this.mesures.clear();
+        for(String requete : new String[] {BenchmarkIndex.PRETS_ACTIFS_LIVRE,
+            BenchmarkIndex.PRETS_ACTIFS_MEMBRE,
+            BenchmarkIndex.PRETS_EN_RETARD,
+            BenchmarkIndex.RESERVATIONS_LIVRE,
+            BenchmarkIndex.LIVRES_TITRE,
+            BenchmarkIndex.MEMBRES_NOM}) {
+            final MesureOperation mesure = new MesureOperation(requete);
+            final Random random = new Random(BenchmarkIndex.GRAINE);
+            this.gestionnaireBibliotheque.beginTransaction();
+            final Session session = this.gestionnaireBibliotheque.getSession();
+            session.setCacheMode(CacheMode.IGNORE);
+            for(int iteration = 0 ; iteration < echauffement
+                + iterations ; iteration++) {
+                if(iteration == echauffement) {
+                    mesure.reinitialiser();
+                }
+                mesure.demarrer();
+                executerRequete(session,
+                    requete,
+                    random);
+                mesure.arreter();
+                session.clear();
+            }
+            this.gestionnaireBibliotheque.commitTransaction();
+            this.mesures.put(requete,
+                mesure);
+        }
+        return new LinkedHashMap<>(this.mesures);
+    }
+
+    /**
+     * Exécute une requête avec des paramètres tirés de l'échantillon.
+     *
+     * @param session La session Hibernate
+     * @param requete Le nom de la requête
+     * @param random Le générateur des paramètres
+     */
+    private void executerRequete(Session session,
+        String requete,
+        Random random) {
+        final Object[] livre = this.livres.get(random.nextInt(this.livres.size()));
+        final Object[] membre = this.membres.get(random.nextInt(this.membres.size()));
+        switch(requete) {
+            case PRETS_ACTIFS_LIVRE:
+                session.getNamedQuery(PretDTO.FIND_ACTIVE_BY_LIVRE_QUERY_NAME)
+                    .setParameter(0,
+                        livre[0])
+                    .list();
+                break;
+            case PRETS_ACTIFS_MEMBRE:
+                session.getNamedQuery(PretDTO.COUNT_ACTIVE_BY_MEMBRE_QUERY_NAME)
+                    .setParameter(0,
+                        membre[0])
+                    .uniqueResult();
+                break;
+            case PRETS_EN_RETARD:
+                session.createCriteria(PretDTO.class)
+                    .add(Restrictions.isNull(PretDTO.DATE_RETOUR_COLUMN_NAME))
+                    .add(Restrictions.lt(PretDTO.DATE_PRET_COLUMN_NAME,
+                        new Timestamp(System.currentTimeMillis()
+                            - BenchmarkIndex.DUREE_RETARD)))
+                    .list();
+                break;
+            case RESERVATIONS_LIVRE:
+                session.getNamedQuery(ReservationDTO.FIND_BY_LIVRE_QUERY_NAME)
+                    .setCacheable(false)
+                    .setParameter(0,
+                        livre[0])
+                    .list();
+                break;
+            case LIVRES_TITRE:
+                session.getNamedQuery(LivreDTO.FIND_BY_TITRE_QUERY_NAME)
+                    .setCacheable(false)
+                    .setParameter(0,
+                        livre[1])
+                    .list();
+                break;
+            default:
+                session.getNamedQuery(MembreDTO.FIND_BY_NOM_QUERY_NAME)
+                    .setCacheable(false)
+                    .setParameter(0,
+                        membre[1])
+                    .list();
+                break;
+        }
+    }
+
+    /**
+     * Journalise les mesures avant et après les migrations, et le rapport des latences médianes.
+     *
+     * @param baseDeDonnees Le nom de la base de données
+     * @param avant Les mesures avant les migrations
+     * @param apres Les mesures après les migrations
+     */
+    private static void journaliser(String baseDeDonnees,
+        Map<String, MesureOperation> avant,
+        Map<String, MesureOperation> apres) {
+        BenchmarkIndex.LOGGER.info("=== "
+            + baseDeDonnees
+            + " sans les index des migrations 004 et 005 (latences en µs) ===");
+        for(MesureOperation mesure : avant.values()) {
+            BenchmarkIndex.LOGGER.info(mesure.toString());
+        }
+        BenchmarkIndex.LOGGER.info("=== "
+            + baseDeDonnees
+            + " avec les index des migrations 004 et 005 (latences en µs) ===");
+        for(MesureOperation mesure : apres.values()) {
+            BenchmarkIndex.LOGGER.info(mesure.toString());
+        }
+        BenchmarkIndex.LOGGER.info("=== Gain sur la latence médiane ===");
+        for(Map.Entry<String, MesureOperation> entree : avant.entrySet()) {
+            final double medianeAvant = entree.getValue().getLatences().getPercentile(50.0);
+            final double medianeApres = apres.get(entree.getKey()).getLatences().getPercentile(50.0);
+            BenchmarkIndex.LOGGER.info(String.format("%-20s x%.1f",
+                entree.getKey(),
+                Double.valueOf(medianeApres == 0.0 ? 0.0 : medianeAvant
+                    / medianeApres)));
+        }
+    }
+}
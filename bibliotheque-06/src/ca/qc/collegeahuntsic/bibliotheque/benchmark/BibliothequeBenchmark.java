@@ -0,0 +1,490 @@
+// Fichier BibliothequeBenchmark.java
+// Auteur : Team PayDay
+// Date de création : 2026-10-18
+
+package ca.qc.collegeahuntsic.bibliotheque.benchmark;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import ca.qc.collegeahuntsic.bibliotheque.exception.BibliothequeException;
+import ca.qc.collegeahuntsic.bibliotheque.util.BibliothequeCreateur;
+import ca.qc.collegeahuntsic.bibliothequeBackEnd.dto.LivreDTO;
+import ca.qc.collegeahuntsic.bibliothequeBackEnd.dto.MembreDTO;
+import ca.qc.collegeahuntsic.bibliothequeBackEnd.dto.PretDTO;
+import ca.qc.collegeahuntsic.bibliothequeBackEnd.dto.ReservationDTO;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+/**
+ * Benchmark des couches façade, service et DAO de la bibliothèque.
+ *
+ * Le benchmark passe par le vrai contexte Spring (voir {@link BibliothequeCreateur}) et mesure, pour chaque taille de catalogue, la
+ * latence (p50, p99, max), le débit et l'allocation mémoire de chaque opération métier. Le catalogue est agrandi d'une taille à l'autre ;
+ * la base de données doit donc être vide (voir <code>MySQL.sql</code> ou <code>Oracle.sql</code>) au lancement. La durée du démarrage du
+ * contexte Spring, pendant lequel Hibernate traduit les requêtes nommées des DAOs, est journalisée avant les mesures.
+ *
+ * Paramètres :
+ * 0 - tailles de catalogue séparées par des virgules (défaut : 1000,100000,1000000)
+ * 1 - nombre d'itérations mesurées par taille (défaut : 1000)
+ * 2 - nombre d'itérations d'échauffement par taille (défaut : 100)
+ *
+ * @author Team PayDay
+ */
+public final class BibliothequeBenchmark {
+    private static final Log LOGGER = LogFactory.getLog(BibliothequeBenchmark.class);
+
+    private static final String TAILLES_PAR_DEFAUT = "1000,100000,1000000";
+
+    private static final int ITERATIONS_PAR_DEFAUT = 1000;
+
+    private static final int ECHAUFFEMENT_PAR_DEFAUT = 100;
+
+    private static final int TAILLE_LOT_CHARGEMENT = 1000;
+
+    private static final int LIVRES_PAR_MEMBRE = 10;
+
+    private static final int MEMBRES_MINIMUM = 3;
+
+    private static final String LIMITE_PRET = "10";
+
+    private static final long GRAINE = 42L;
+
+    private static final long NANOSECONDES_PAR_MILLISECONDE = 1000000L;
+
+    private static final String INSCRIRE = "inscrire";
+
+    private static final String DESINSCRIRE = "desinscrire";
+
+    private static final String ACQUERIR = "acquerir";
+
+    private static final String VENDRE = "vendre";
+
+    private static final String COMMENCER = "commencer";
+
+    private static final String RENOUVELER = "renouveler";
+
+    private static final String TERMINER = "terminer";
+
+    private static final String PLACER = "placer";
+
+    private static final String UTILISER = "utiliser";
+
+    private static final String ANNULER = "annuler";
+
+    private final BibliothequeCreateur gestionnaireBibliotheque;
+
+    private final List<String> idLivres;
+
+    private final List<String> idMembres;
+
+    private final Map<String, MesureOperation> mesures;
+
+    private final Random random;
+
+    private long compteur;
+
+    /**
+     * Crée le benchmark.
+     *
+     * @throws BibliothequeException Si le contexte Spring ne peut être créé
+     */
+    private BibliothequeBenchmark() throws BibliothequeException {
+        super();
+        this.gestionnaireBibliotheque = new BibliothequeCreateur();
+        this.idLivres = new ArrayList<>();
+        this.idMembres = new ArrayList<>();
+        this.mesures = new LinkedHashMap<>();
+        this.random = new Random(BibliothequeBenchmark.GRAINE);
+        for(String operation : new String[] {BibliothequeBenchmark.INSCRIRE,
+            BibliothequeBenchmark.DESINSCRIRE,
+            BibliothequeBenchmark.ACQUERIR,
+            BibliothequeBenchmark.VENDRE,
+            BibliothequeBenchmark.COMMENCER,
+            BibliothequeBenchmark.RENOUVELER,
+            BibliothequeBenchmark.TERMINER,
+            BibliothequeBenchmark.PLACER,
+            BibliothequeBenchmark.UTILISER,
+            BibliothequeBenchmark.ANNULER}) {
+            this.mesures.put(operation,
+                new MesureOperation(operation));
+        }
+    }
+
+    /**
+     * Lance le benchmark.
+     *
+     * @param arguments Les arguments du main
+     * @throws Exception Si une erreur survient
+     */
+    public static void main(final String[] arguments) throws Exception {
+        final String tailles = arguments.length > 0 ? arguments[0] : BibliothequeBenchmark.TAILLES_PAR_DEFAUT;
+        final int iterations = arguments.length > 1 ? Integer.parseInt(arguments[1]) : BibliothequeBenchmark.ITERATIONS_PAR_DEFAUT;
+        final int echauffement = arguments.length > 2 ? Integer.parseInt(arguments[2]) : BibliothequeBenchmark.ECHAUFFEMENT_PAR_DEFAUT;
+
+        final long debutDemarrage = System.nanoTime();
+        final BibliothequeBenchmark benchmark = new BibliothequeBenchmark();
+        BibliothequeBenchmark.LOGGER.info("=== Démarrage du contexte Spring et de la SessionFactory, requêtes nommées comprises : "
+            + (System.nanoTime()
+                - debutDemarrage)
+                / BibliothequeBenchmark.NANOSECONDES_PAR_MILLISECONDE
+            + " ms ===");
+        try {
+            for(String taille : tailles.split(",")) {
+                benchmark.executer(Integer.parseInt(taille.trim()),
+                    iterations,
+                    echauffement);
+            }
+        } catch(Exception exception) {
+            benchmark.gestionnaireBibliotheque.rollbackTransaction();
+            BibliothequeBenchmark.LOGGER.error(" *** "
+                + exception.getMessage());
+            throw exception;
+        }
+    }
+
+    /**
+     * Exécute le benchmark pour une taille de catalogue.
+     *
+     * @param tailleCatalogue Le nombre de livres voulu dans le catalogue
+     * @param iterations Le nombre d'itérations mesurées
+     * @param echauffement Le nombre d'itérations d'échauffement
+     * @throws Exception Si une opération échoue
+     */
+    private void executer(int tailleCatalogue,
+        int iterations,
+        int echauffement) throws Exception {
+        charger(tailleCatalogue);
+        for(int iteration = 0 ; iteration < echauffement ; iteration++) {
+            executerIteration();
+        }
+        for(MesureOperation mesure : this.mesures.values()) {
+            mesure.reinitialiser();
+        }
+        for(int iteration = 0 ; iteration < iterations ; iteration++) {
+            executerIteration();
+        }
+        BibliothequeBenchmark.LOGGER.info("=== Catalogue de "
+            + this.idLivres.size()
+            + " livres, "
+            + this.idMembres.size()
+            + " membres (latences en µs) ===");
+        for(MesureOperation mesure : this.mesures.values()) {
+            BibliothequeBenchmark.LOGGER.info(mesure.toString());
+        }
+    }
+
+    /**
+     * Agrandit le catalogue et la liste des membres jusqu'à la taille voulue. Les insertions sont faites par lots pour garder la session
+     * Hibernate petite.
+     *
+     * @param tailleCatalogue Le nombre de livres voulu dans le catalogue
+     * @throws Exception Si une insertion échoue
+     */
+    private void charger(int tailleCatalogue) throws Exception {
+        final int nombreMembres = Math.max(BibliothequeBenchmark.MEMBRES_MINIMUM,
+            tailleCatalogue
+                / BibliothequeBenchmark.LIVRES_PAR_MEMBRE);
+        while(this.idMembres.size() < nombreMembres
+            || this.idLivres.size() < tailleCatalogue) {
+            this.gestionnaireBibliotheque.beginTransaction();
+            for(int index = 0 ; index < BibliothequeBenchmark.TAILLE_LOT_CHARGEMENT ; index++) {
+                if(this.idMembres.size() < nombreMembres) {
+                    this.idMembres.add(inscrireMembre().getIdMembre());
+                }
+                if(this.idLivres.size() < tailleCatalogue) {
+                    this.idLivres.add(acquerirLivre().getIdLivre());
+                }
+            }
+            this.gestionnaireBibliotheque.getSession().flush();
+            this.gestionnaireBibliotheque.getSession().clear();
+            this.gestionnaireBibliotheque.commitTransaction();
+        }
+    }
+
+    /**
+     * Exécute une itération du scénario : un cycle complet de prêt, de réservation, d'acquisition et d'inscription. Le scénario remet la
+     * base de données dans son état initial pour que chaque itération travaille sur les mêmes volumes.
+     *
+     * @throws Exception Si une opération échoue
+     */
+    private void executerIteration() throws Exception {
+        final String idLivre = this.idLivres.get(this.random.nextInt(this.idLivres.size()));
+        final int premier = this.random.nextInt(this.idMembres.size());
+        final String idEmprunteur = this.idMembres.get(premier);
+        final String idReserveur = this.idMembres.get((premier + 1)
+            % this.idMembres.size());
+        final String idAnnuleur = this.idMembres.get((premier + 2)
+            % this.idMembres.size());
+
+        final String idPret = commencer(idEmprunteur,
+            idLivre);
+        renouveler(idPret);
+        final String idReservation = placer(idReserveur,
+            idLivre);
+        annuler(placer(idAnnuleur,
+            idLivre));
+        terminer(idPret);
+        utiliser(idReservation);
+        terminerPretDe(idReserveur,
+            idLivre);
+
+        vendre(acquerir());
+        desinscrire(inscrire());
+    }
+
+    /**
+     * Mesure un prêt.
+     *
+     * @param idMembre L'ID du membre
+     * @param idLivre L'ID du livre
+     * @return L'ID du prêt créé
+     * @throws Exception Si l'opération échoue
+     */
+    private String commencer(String idMembre,
+        String idLivre) throws Exception {
+        final MesureOperation mesure = this.mesures.get(BibliothequeBenchmark.COMMENCER);
+        mesure.demarrer();
+        this.gestionnaireBibliotheque.beginTransaction();
+        final PretDTO pretDTO = new PretDTO();
+        pretDTO.setMembreDTO((MembreDTO) this.gestionnaireBibliotheque.getMembreFacade().get(this.gestionnaireBibliotheque.getSession(),
+            idMembre));
+        pretDTO.setLivreDTO((LivreDTO) this.gestionnaireBibliotheque.getLivreFacade().get(this.gestionnaireBibliotheque.getSession(),
+            idLivre));
+        this.gestionnaireBibliotheque.getPretFacade().commencer(this.gestionnaireBibliotheque.getSession(),
+            pretDTO);
+        this.gestionnaireBibliotheque.commitTransaction();
+        mesure.arreter();
+        return pretDTO.getIdPret();
+    }
+
+    /**
+     * Mesure un renouvellement.
+     *
+     * @param idPret L'ID du prêt
+     * @throws Exception Si l'opération échoue
+     */
+    private void renouveler(String idPret) throws Exception {
+        final MesureOperation mesure = this.mesures.get(BibliothequeBenchmark.RENOUVELER);
+        mesure.demarrer();
+        this.gestionnaireBibliotheque.beginTransaction();
+        final PretDTO pretDTO = (PretDTO) this.gestionnaireBibliotheque.getPretFacade().get(this.gestionnaireBibliotheque.getSession(),
+            idPret);
+        this.gestionnaireBibliotheque.getPretFacade().renouveler(this.gestionnaireBibliotheque.getSession(),
+            pretDTO);
+        this.gestionnaireBibliotheque.commitTransaction();
+        mesure.arreter();
+    }
+
+    /**
+     * Mesure un retour.
+     *
+     * @param idPret L'ID du prêt
+     * @throws Exception Si l'opération échoue
+     */
+    private void terminer(String idPret) throws Exception {
+        final MesureOperation mesure = this.mesures.get(BibliothequeBenchmark.TERMINER);
+        mesure.demarrer();
+        this.gestionnaireBibliotheque.beginTransaction();
+        final PretDTO pretDTO = (PretDTO) this.gestionnaireBibliotheque.getPretFacade().get(this.gestionnaireBibliotheque.getSession(),
+            idPret);
+        this.gestionnaireBibliotheque.getPretFacade().terminer(this.gestionnaireBibliotheque.getSession(),
+            pretDTO);
+        this.gestionnaireBibliotheque.commitTransaction();
+        mesure.arreter();
+    }
+
+    /**
+     * Termine, sans le mesurer, le prêt créé par l'utilisation d'une réservation.
+     *
+     * @param idMembre L'ID du membre
+     * @param idLivre L'ID du livre
+     * @throws Exception Si l'opération échoue
+     */
+    private void terminerPretDe(String idMembre,
+        String idLivre) throws Exception {
+        this.gestionnaireBibliotheque.beginTransaction();
+        // Les copies du cache de proximité n'ont pas de collections : les prêts sont lus sur le membre géré par la session
+        final MembreDTO membreDTO = (MembreDTO) this.gestionnaireBibliotheque.getSession().get(MembreDTO.class,
+            idMembre);
+        for(PretDTO pretDTO : membreDTO.getPrets()) {
+            if(idLivre.equals(pretDTO.getLivreDTO().getIdLivre())) {
+                this.gestionnaireBibliotheque.getPretFacade().terminer(this.gestionnaireBibliotheque.getSession(),
+                    pretDTO);
+            }
+        }
+        this.gestionnaireBibliotheque.commitTransaction();
+    }
+
+    /**
+     * Mesure une réservation.
+     *
+     * @param idMembre L'ID du membre
+     * @param idLivre L'ID du livre
+     * @return L'ID de la réservation créée
+     * @throws Exception Si l'opération échoue
+     */
+    private String placer(String idMembre,
+        String idLivre) throws Exception {
+        final MesureOperation mesure = this.mesures.get(BibliothequeBenchmark.PLACER);
+        mesure.demarrer();
+        this.gestionnaireBibliotheque.beginTransaction();
+        final ReservationDTO reservationDTO = new ReservationDTO();
+        reservationDTO.setMembreDTO((MembreDTO) this.gestionnaireBibliotheque.getMembreFacade().get(this.gestionnaireBibliotheque.getSession(),
+            idMembre));
+        reservationDTO.setLivreDTO((LivreDTO) this.gestionnaireBibliotheque.getLivreFacade().get(this.gestionnaireBibliotheque.getSession(),
+            idLivre));
+        this.gestionnaireBibliotheque.getReservationFacade().placer(this.gestionnaireBibliotheque.getSession(),
+            reservationDTO);
+        this.gestionnaireBibliotheque.commitTransaction();
+        mesure.arreter();
+        return reservationDTO.getIdReservation();
+    }
+
+    /**
+     * Mesure l'utilisation d'une réservation.
+     *
+     * @param idReservation L'ID de la réservation
+     * @throws Exception Si l'opération échoue
+     */
+    private void utiliser(String idReservation) throws Exception {
+        final MesureOperation mesure = this.mesures.get(BibliothequeBenchmark.UTILISER);
+        mesure.demarrer();
+        this.gestionnaireBibliotheque.beginTransaction();
+        final ReservationDTO reservationDTO = (ReservationDTO) this.gestionnaireBibliotheque.getReservationFacade().get(
+            this.gestionnaireBibliotheque.getSession(),
+            idReservation);
+        this.gestionnaireBibliotheque.getReservationFacade().utiliser(this.gestionnaireBibliotheque.getSession(),
+            reservationDTO);
+        this.gestionnaireBibliotheque.commitTransaction();
+        mesure.arreter();
+    }
+
+    /**
+     * Mesure l'annulation d'une réservation.
+     *
+     * @param idReservation L'ID de la réservation
+     * @throws Exception Si l'opération échoue
+     */
+    private void annuler(String idReservation) throws Exception {
+        final MesureOperation mesure = this.mesures.get(BibliothequeBenchmark.ANNULER);
+        mesure.demarrer();
+        this.gestionnaireBibliotheque.beginTransaction();
+        final ReservationDTO reservationDTO = (ReservationDTO) this.gestionnaireBibliotheque.getReservationFacade().get(
+            this.gestionnaireBibliotheque.getSession(),
+            idReservation);
+        this.gestionnaireBibliotheque.getReservationFacade().annuler(this.gestionnaireBibliotheque.getSession(),
+            reservationDTO);
+        this.gestionnaireBibliotheque.commitTransaction();
+        mesure.arreter();
+    }
+
+    /**
+     * Mesure une acquisition.
+     *
+     * @return L'ID du livre acquis
+     * @throws Exception Si l'opération échoue
+     */
+    private String acquerir() throws Exception {
+        final MesureOperation mesure = this.mesures.get(BibliothequeBenchmark.ACQUERIR);
+        mesure.demarrer();
+        this.gestionnaireBibliotheque.beginTransaction();
+        final LivreDTO livreDTO = acquerirLivre();
+        this.gestionnaireBibliotheque.commitTransaction();
+        mesure.arreter();
+        return livreDTO.getIdLivre();
+    }
+
+    /**
+     * Mesure une vente.
+     *
+     * @param idLivre L'ID du livre
+     * @throws Exception Si l'opération échoue
+     */
+    private void vendre(String idLivre) throws Exception {
+        final MesureOperation mesure = this.mesures.get(BibliothequeBenchmark.VENDRE);
+        mesure.demarrer();
+        this.gestionnaireBibliotheque.beginTransaction();
+        final LivreDTO livreDTO = (LivreDTO) this.gestionnaireBibliotheque.getLivreFacade().get(this.gestionnaireBibliotheque.getSession(),
+            idLivre);
+        this.gestionnaireBibliotheque.getLivreFacade().vendre(this.gestionnaireBibliotheque.getSession(),
+            livreDTO);
+        this.gestionnaireBibliotheque.commitTransaction();
+        mesure.arreter();
+    }
+
+    /**
+     * Mesure une inscription.
+     *
+     * @return L'ID du membre inscrit
+     * @throws Exception Si l'opération échoue
+     */
+    private String inscrire() throws Exception {
+        final MesureOperation mesure = this.mesures.get(BibliothequeBenchmark.INSCRIRE);
+        mesure.demarrer();
+        this.gestionnaireBibliotheque.beginTransaction();
+        final MembreDTO membreDTO = inscrireMembre();
+        this.gestionnaireBibliotheque.commitTransaction();
+        mesure.arreter();
+        return membreDTO.getIdMembre();
+    }
+
+    /**
+     * Mesure une désinscription.
+     *
+     * @param idMembre L'ID du membre
+     * @throws Exception Si l'opération échoue
+     */
+    private void desinscrire(String idMembre) throws Exception {
+        final MesureOperation mesure = this.mesures.get(BibliothequeBenchmark.DESINSCRIRE);
+        mesure.demarrer();
+        this.gestionnaireBibliotheque.beginTransaction();
+        final MembreDTO membreDTO = (MembreDTO) this.gestionnaireBibliotheque.getMembreFacade().get(this.gestionnaireBibliotheque.getSession(),
+            idMembre);
+        this.gestionnaireBibliotheque.getMembreFacade().desinscrire(this.gestionnaireBibliotheque.getSession(),
+            membreDTO);
+        this.gestionnaireBibliotheque.commitTransaction();
+        mesure.arreter();
+    }
+
+    /**
+     * Acquiert un livre dans la transaction courante.
+     *
+     * @return Le livre acquis
+     * @throws Exception Si l'opération échoue
+     */
+    private LivreDTO acquerirLivre() throws Exception {
+        this.compteur++;
+        final LivreDTO livreDTO = new LivreDTO();
+        livreDTO.setTitre("Livre-"
+            + this.compteur);
+        livreDTO.setAuteur("Auteur-"
+            + this.compteur
+            % BibliothequeBenchmark.TAILLE_LOT_CHARGEMENT);
+        livreDTO.setDateAcquisition(new Timestamp(System.currentTimeMillis()));
+        this.gestionnaireBibliotheque.getLivreFacade().acquerir(this.gestionnaireBibliotheque.getSession(),
+            livreDTO);
+        return livreDTO;
+    }
+
+    /**
+     * Inscrit un membre dans la transaction courante.
+     *
+     * @return Le membre inscrit
+     * @throws Exception Si l'opération échoue
+     */
+    private MembreDTO inscrireMembre() throws Exception {
+        this.compteur++;
+        final MembreDTO membreDTO = new MembreDTO();
+        membreDTO.setNom("M"
+            + this.compteur);
+        membreDTO.setTelephone("5140000000");
+        membreDTO.setLimitePret(BibliothequeBenchmark.LIMITE_PRET);
+        this.gestionnaireBibliotheque.getMembreFacade().inscrire(this.gestionnaireBibliotheque.getSession(),
+            membreDTO);
+        return membreDTO;
+    }
+}
@@ -0,0 +1,529 @@
+// Fichier GenerateurTransactions.java
+// Auteur : Team PayDay
+// Date de création : 2026-10-18
+
+package ca.qc.collegeahuntsic.bibliotheque.benchmark;
+
+import java.io.BufferedWriter;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Random;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+/**
+ * Générateur de fichiers de transactions synthétiques au format de <code>bibliotheque.dat</code>.
+ *
+ * Le générateur tient un modèle simplifié de la base de données (membres, livres, prêts et réservations actifs) pour produire des ID
+ * plausibles : les ID générés supposent une base de données vide au départ. Les membres et les livres sont choisis selon une loi de Zipf
+ * pour reproduire les membres et les livres « chauds ». Le modèle n'est qu'approximatif, une partie des lignes sera donc refusée par les
+ * règles métier, comme dans les vrais fichiers.
+ *
+ * Paramètres :
+ * 0 - fichier à produire
+ * 1 - nombre de lignes
+ * 2 - exposant de Zipf (défaut : 1.0 ; 0 donne une distribution uniforme)
+ * 3 - mélange des opérations, par exemple <code>preter=30,retourner=25</code> (défaut : voir {@link #MELANGE_PAR_DEFAUT})
+ * 4 - graine du générateur aléatoire (défaut : 42)
+ *
+ * @author Team PayDay
+ */
+public final class GenerateurTransactions {
+    /**
+     * Mélange des opérations utilisé par défaut (poids relatifs).
+     */
+    public static final String MELANGE_PAR_DEFAUT = "inscrire=3,acquerir=5,preter=30,renouveler=10,retourner=25,reserver=12,utiliser=8,annuler=7";
+
+    private static final Log LOGGER = LogFactory.getLog(GenerateurTransactions.class);
+
+    private static final String INSCRIRE = "inscrire";
+
+    private static final String ACQUERIR = "acquerir";
+
+    private static final String PRETER = "preter";
+
+    private static final String RENOUVELER = "renouveler";
+
+    private static final String RETOURNER = "retourner";
+
+    private static final String RESERVER = "reserver";
+
+    private static final String UTILISER = "utiliser";
+
+    private static final String ANNULER = "annuler";
+
+    private static final double EXPOSANT_PAR_DEFAUT = 1.0;
+
+    private static final long GRAINE_PAR_DEFAUT = 42L;
+
+    private static final int MEMBRES_INITIAUX = 100;
+
+    private static final int LIVRES_INITIAUX = 1000;
+
+    private static final int LIMITE_PRET_MAXIMUM = 10;
+
+    private static final int CAPACITE_INITIALE = 1024;
+
+    private static final int LIGNES_PAR_RAPPORT = 1000000;
+
+    private final Random random;
+
+    private final double exposant;
+
+    private final String[] operations;
+
+    private final int[] poidsCumules;
+
+    private int nombreMembres;
+
+    private int nombreLivres;
+
+    private int nombrePrets;
+
+    private int nombreReservations;
+
+    private int[] limitesPret;
+
+    private int[] pretsParMembre;
+
+    private int[] pretActifParLivre;
+
+    private int[] premiereReservationParLivre;
+
+    private int[] membreParPret;
+
+    private int[] livreParPret;
+
+    private int[] membreParReservation;
+
+    private int[] livreParReservation;
+
+    private int[] pretsActifs;
+
+    private int nombrePretsActifs;
+
+    private int[] positionPretActif;
+
+    private int[] reservationsActives;
+
+    private int nombreReservationsActives;
+
+    private int[] positionReservationActive;
+
+    /**
+     * Crée le générateur.
+     *
+     * @param exposant L'exposant de la loi de Zipf
+     * @param melange Le mélange des opérations
+     * @param graine La graine du générateur aléatoire
+     */
+    private GenerateurTransactions(double exposant,
+        String melange,
+        long graine) {
+        super();
+        this.random = new Random(graine);
+        this.exposant = exposant;
+        final Map<String, Integer> poids = GenerateurTransactions.lireMelange(melange);
+        this.operations = poids.keySet().toArray(new String[poids.size()]);
+        this.poidsCumules = new int[this.operations.length];
+        int cumul = 0;
+        for(int index = 0 ; index < this.operations.length ; index++) {
+            cumul += poids.get(this.operations[index]).intValue();
+            this.poidsCumules[index] = cumul;
+        }
+        this.limitesPret = new int[GenerateurTransactions.CAPACITE_INITIALE];
+        this.pretsParMembre = new int[GenerateurTransactions.CAPACITE_INITIALE];
+        this.pretActifParLivre = new int[GenerateurTransactions.CAPACITE_INITIALE];
+        this.premiereReservationParLivre = new int[GenerateurTransactions.CAPACITE_INITIALE];
+        this.membreParPret = new int[GenerateurTransactions.CAPACITE_INITIALE];
+        this.livreParPret = new int[GenerateurTransactions.CAPACITE_INITIALE];
+        this.membreParReservation = new int[GenerateurTransactions.CAPACITE_INITIALE];
+        this.livreParReservation = new int[GenerateurTransactions.CAPACITE_INITIALE];
+        this.pretsActifs = new int[GenerateurTransactions.CAPACITE_INITIALE];
+        this.positionPretActif = new int[GenerateurTransactions.CAPACITE_INITIALE];
+        this.reservationsActives = new int[GenerateurTransactions.CAPACITE_INITIALE];
+        this.positionReservationActive = new int[GenerateurTransactions.CAPACITE_INITIALE];
+    }
+
+    /**
+     * Génère un fichier de transactions.
+     *
+     * @param arguments Les arguments du main
+     * @throws Exception Si une erreur survient
+     */
+    public static void main(final String[] arguments) throws Exception {
+        if(arguments.length < 2) {
+            GenerateurTransactions.LOGGER.info("Usage: java GenerateurTransactions <fichier> <nombre-lignes> [exposant-zipf] [melange] [graine]");
+            return;
+        }
+        final long nombreLignes = Long.parseLong(arguments[1]);
+        final double exposant = arguments.length > 2 ? Double.parseDouble(arguments[2]) : GenerateurTransactions.EXPOSANT_PAR_DEFAUT;
+        final String melange = arguments.length > 3 ? arguments[3] : GenerateurTransactions.MELANGE_PAR_DEFAUT;
+        final long graine = arguments.length > 4 ? Long.parseLong(arguments[4]) : GenerateurTransactions.GRAINE_PAR_DEFAUT;
+
+        final GenerateurTransactions generateur = new GenerateurTransactions(exposant,
+            melange,
+            graine);
+        try(
+            Writer writer = new BufferedWriter(new OutputStreamWriter(new FileOutputStream(arguments[0]),
+                StandardCharsets.UTF_8))) {
+            generateur.generer(writer,
+                nombreLignes);
+        }
+    }
+
+    /**
+     * Écrit les lignes de transactions. Le fichier commence par un jeu de membres et de livres pour que les premiers prêts aient un
+     * sens.
+     *
+     * @param writer Le flux de sortie
+     * @param nombreLignes Le nombre de lignes à écrire
+     * @throws IOException S'il y a une erreur d'écriture
+     */
+    private void generer(Writer writer,
+        long nombreLignes) throws IOException {
+        final StringBuilder ligne = new StringBuilder();
+        long lignes = 0L;
+        while(lignes < nombreLignes
+            && (this.nombreMembres < GenerateurTransactions.MEMBRES_INITIAUX || this.nombreLivres < GenerateurTransactions.LIVRES_INITIAUX)) {
+            ligne.setLength(0);
+            if(this.nombreMembres < GenerateurTransactions.MEMBRES_INITIAUX) {
+                inscrire(ligne);
+            } else {
+                acquerir(ligne);
+            }
+            writer.append(ligne).append('\n');
+            lignes++;
+        }
+        while(lignes < nombreLignes) {
+            ligne.setLength(0);
+            genererOperation(ligne);
+            writer.append(ligne).append('\n');
+            lignes++;
+            if(lignes
+                % GenerateurTransactions.LIGNES_PAR_RAPPORT == 0) {
+                GenerateurTransactions.LOGGER.info(lignes
+                    + " lignes générées");
+            }
+        }
+        writer.append("exit\n");
+    }
+
+    /**
+     * Tire une opération selon le mélange et écrit la ligne correspondante. Une opération qui n'a pas de cible (par exemple un retour sans
+     * prêt actif) est remplacée par un prêt.
+     *
+     * @param ligne La ligne à remplir
+     */
+    private void genererOperation(StringBuilder ligne) {
+        final int tirage = this.random.nextInt(this.poidsCumules[this.poidsCumules.length - 1]);
+        int index = 0;
+        while(this.poidsCumules[index] <= tirage) {
+            index++;
+        }
+        switch(this.operations[index]) {
+            case INSCRIRE:
+                inscrire(ligne);
+                break;
+            case ACQUERIR:
+                acquerir(ligne);
+                break;
+            case RENOUVELER:
+            case RETOURNER:
+                if(this.nombrePretsActifs == 0) {
+                    preter(ligne);
+                } else if(GenerateurTransactions.RENOUVELER.equals(this.operations[index])) {
+                    renouveler(ligne);
+                } else {
+                    retourner(ligne);
+                }
+                break;
+            case RESERVER:
+                reserver(ligne);
+                break;
+            case UTILISER:
+            case ANNULER:
+                if(this.nombreReservationsActives == 0) {
+                    reserver(ligne);
+                } else if(GenerateurTransactions.UTILISER.equals(this.operations[index])) {
+                    utiliser(ligne);
+                } else {
+                    annuler(ligne);
+                }
+                break;
+            default:
+                preter(ligne);
+        }
+    }
+
+    /**
+     * Écrit une inscription.
+     *
+     * @param ligne La ligne à remplir
+     */
+    private void inscrire(StringBuilder ligne) {
+        this.nombreMembres++;
+        final int limitePret = 1 + this.random.nextInt(GenerateurTransactions.LIMITE_PRET_MAXIMUM);
+        this.limitesPret = GenerateurTransactions.agrandir(this.limitesPret,
+            this.nombreMembres);
+        this.pretsParMembre = GenerateurTransactions.agrandir(this.pretsParMembre,
+            this.nombreMembres);
+        this.limitesPret[this.nombreMembres] = limitePret;
+        ligne.append(GenerateurTransactions.INSCRIRE).append(" M").append(this.nombreMembres).append(" 514")
+            .append(1000000 + this.random.nextInt(9000000)).append(' ').append(limitePret);
+    }
+
+    /**
+     * Écrit une acquisition.
+     *
+     * @param ligne La ligne à remplir
+     */
+    private void acquerir(StringBuilder ligne) {
+        this.nombreLivres++;
+        this.pretActifParLivre = GenerateurTransactions.agrandir(this.pretActifParLivre,
+            this.nombreLivres);
+        this.premiereReservationParLivre = GenerateurTransactions.agrandir(this.premiereReservationParLivre,
+            this.nombreLivres);
+        ligne.append(GenerateurTransactions.ACQUERIR).append(" Livre_").append(this.nombreLivres).append(" Auteur_")
+            .append(this.random.nextInt(this.nombreLivres) + 1).append(" 2016-").append(String.format("%02d-%02d",
+                Integer.valueOf(1 + this.random.nextInt(12)),
+                Integer.valueOf(1 + this.random.nextInt(28))));
+    }
+
+    /**
+     * Écrit un prêt et le comptabilise si le modèle prévoit qu'il réussira.
+     *
+     * @param ligne La ligne à remplir
+     */
+    private void preter(StringBuilder ligne) {
+        final int idMembre = tirerZipf(this.nombreMembres);
+        final int idLivre = tirerZipf(this.nombreLivres);
+        ligne.append(GenerateurTransactions.PRETER).append(' ').append(idMembre).append(' ').append(idLivre);
+        if(this.pretActifParLivre[idLivre] == 0
+            && this.premiereReservationParLivre[idLivre] == 0
+            && this.pretsParMembre[idMembre] < this.limitesPret[idMembre]) {
+            ajouterPret(idMembre,
+                idLivre);
+        }
+    }
+
+    /**
+     * Écrit un renouvellement d'un prêt actif.
+     *
+     * @param ligne La ligne à remplir
+     */
+    private void renouveler(StringBuilder ligne) {
+        final int idPret = this.pretsActifs[this.random.nextInt(this.nombrePretsActifs)];
+        ligne.append(GenerateurTransactions.RENOUVELER).append(' ').append(idPret);
+    }
+
+    /**
+     * Écrit le retour d'un prêt actif.
+     *
+     * @param ligne La ligne à remplir
+     */
+    private void retourner(StringBuilder ligne) {
+        final int idPret = this.pretsActifs[this.random.nextInt(this.nombrePretsActifs)];
+        ligne.append(GenerateurTransactions.RETOURNER).append(' ').append(idPret);
+        retirerPret(idPret);
+    }
+
+    /**
+     * Écrit une réservation et la comptabilise si le modèle prévoit qu'elle réussira.
+     *
+     * @param ligne La ligne à remplir
+     */
+    private void reserver(StringBuilder ligne) {
+        final int idMembre = tirerZipf(this.nombreMembres);
+        int idLivre = tirerZipf(this.nombreLivres);
+        if(this.nombrePretsActifs > 0
+            && this.pretActifParLivre[idLivre] == 0) {
+            idLivre = this.livreParPret[this.pretsActifs[this.random.nextInt(this.nombrePretsActifs)]];
+        }
+        ligne.append(GenerateurTransactions.RESERVER).append(' ').append(idMembre).append(' ').append(idLivre);
+        final int idPret = this.pretActifParLivre[idLivre];
+        if(idPret != 0
+            && this.membreParPret[idPret] != idMembre
+            && this.premiereReservationParLivre[idLivre] == 0) {
+            this.nombreReservations++;
+            final int idReservation = this.nombreReservations;
+            this.membreParReservation = GenerateurTransactions.agrandir(this.membreParReservation,
+                idReservation);
+            this.livreParReservation = GenerateurTransactions.agrandir(this.livreParReservation,
+                idReservation);
+            this.positionReservationActive = GenerateurTransactions.agrandir(this.positionReservationActive,
+                idReservation);
+            this.reservationsActives = GenerateurTransactions.agrandir(this.reservationsActives,
+                this.nombreReservationsActives);
+            this.membreParReservation[idReservation] = idMembre;
+            this.livreParReservation[idReservation] = idLivre;
+            this.premiereReservationParLivre[idLivre] = idReservation;
+            this.positionReservationActive[idReservation] = this.nombreReservationsActives;
+            this.reservationsActives[this.nombreReservationsActives] = idReservation;
+            this.nombreReservationsActives++;
+        }
+    }
+
+    /**
+     * Écrit l'utilisation d'une réservation active.
+     *
+     * @param ligne La ligne à remplir
+     */
+    private void utiliser(StringBuilder ligne) {
+        final int idReservation = this.reservationsActives[this.random.nextInt(this.nombreReservationsActives)];
+        ligne.append(GenerateurTransactions.UTILISER).append(' ').append(idReservation);
+        final int idMembre = this.membreParReservation[idReservation];
+        final int idLivre = this.livreParReservation[idReservation];
+        if(this.pretActifParLivre[idLivre] == 0
+            && this.pretsParMembre[idMembre] < this.limitesPret[idMembre]) {
+            retirerReservation(idReservation);
+            ajouterPret(idMembre,
+                idLivre);
+        }
+    }
+
+    /**
+     * Écrit l'annulation d'une réservation active.
+     *
+     * @param ligne La ligne à remplir
+     */
+    private void annuler(StringBuilder ligne) {
+        final int idReservation = this.reservationsActives[this.random.nextInt(this.nombreReservationsActives)];
+        ligne.append(GenerateurTransactions.ANNULER).append(' ').append(idReservation);
+        retirerReservation(idReservation);
+    }
+
+    /**
+     * Ajoute un prêt actif au modèle.
+     *
+     * @param idMembre L'ID du membre
+     * @param idLivre L'ID du livre
+     */
+    private void ajouterPret(int idMembre,
+        int idLivre) {
+        this.nombrePrets++;
+        final int idPret = this.nombrePrets;
+        this.membreParPret = GenerateurTransactions.agrandir(this.membreParPret,
+            idPret);
+        this.livreParPret = GenerateurTransactions.agrandir(this.livreParPret,
+            idPret);
+        this.positionPretActif = GenerateurTransactions.agrandir(this.positionPretActif,
+            idPret);
+        this.pretsActifs = GenerateurTransactions.agrandir(this.pretsActifs,
+            this.nombrePretsActifs);
+        this.membreParPret[idPret] = idMembre;
+        this.livreParPret[idPret] = idLivre;
+        this.pretActifParLivre[idLivre] = idPret;
+        this.pretsParMembre[idMembre]++;
+        this.positionPretActif[idPret] = this.nombrePretsActifs;
+        this.pretsActifs[this.nombrePretsActifs] = idPret;
+        this.nombrePretsActifs++;
+    }
+
+    /**
+     * Retire un prêt actif du modèle.
+     *
+     * @param idPret L'ID du prêt
+     */
+    private void retirerPret(int idPret) {
+        this.pretActifParLivre[this.livreParPret[idPret]] = 0;
+        this.pretsParMembre[this.membreParPret[idPret]]--;
+        final int position = this.positionPretActif[idPret];
+        final int dernier = this.pretsActifs[this.nombrePretsActifs - 1];
+        this.pretsActifs[position] = dernier;
+        this.positionPretActif[dernier] = position;
+        this.nombrePretsActifs--;
+    }
+
+    /**
+     * Retire une réservation active du modèle.
+     *
+     * @param idReservation L'ID de la réservation
+     */
+    private void retirerReservation(int idReservation) {
+        final int idLivre = this.livreParReservation[idReservation];
+        if(this.premiereReservationParLivre[idLivre] == idReservation) {
+            this.premiereReservationParLivre[idLivre] = 0;
+        }
+        final int position = this.positionReservationActive[idReservation];
+        final int dernier = this.reservationsActives[this.nombreReservationsActives - 1];
+        this.reservationsActives[position] = dernier;
+        this.positionReservationActive[dernier] = position;
+        this.nombreReservationsActives--;
+    }
+
+    /**
+     * Tire un ID entre <code>1</code> et <code>nombre</code> selon une loi de Zipf approchée par l'inverse de sa fonction de répartition
+     * continue. Les petits ID sont les plus fréquents.
+     *
+     * @param nombre Le plus grand ID possible
+     * @return L'ID tiré
+     */
+    private int tirerZipf(int nombre) {
+        final double uniforme = this.random.nextDouble();
+        final double rang;
+        if(this.exposant == 0.0) {
+            rang = 1.0
+                + uniforme
+                * nombre;
+        } else if(this.exposant == 1.0) {
+            rang = Math.pow(nombre + 1.0,
+                uniforme);
+        } else {
+            final double puissance = 1.0 - this.exposant;
+            rang = Math.pow((Math.pow(nombre + 1.0,
+                puissance) - 1.0)
+                * uniforme
+                + 1.0,
+                1.0 / puissance);
+        }
+        return Math.max(1,
+            Math.min(nombre,
+                (int) rang));
+    }
+
+    /**
+     * Lit un mélange d'opérations de la forme <code>operation=poids,operation=poids</code>.
+     *
+     * @param melange Le mélange à lire
+     * @return Les poids par opération
+     */
+    private static Map<String, Integer> lireMelange(String melange) {
+        final Map<String, Integer> poids = new LinkedHashMap<>();
+        for(String element : melange.split(",")) {
+            final String[] parties = element.split("=");
+            final int valeur = Integer.parseInt(parties[1].trim());
+            if(valeur > 0) {
+                poids.put(parties[0].trim(),
+                    Integer.valueOf(valeur));
+            }
+        }
+        if(poids.isEmpty()) {
+            throw new IllegalArgumentException("Le mélange d'opérations ne peut être vide");
+        }
+        return poids;
+    }
+
+    /**
+     * Agrandit un tableau pour qu'il puisse contenir l'index donné.
+     *
+     * @param tableau Le tableau à agrandir
+     * @param index L'index qui doit être valide
+     * @return Le tableau, agrandi au besoin
+     */
+    private static int[] agrandir(int[] tableau,
+        int index) {
+        if(index < tableau.length) {
+            return tableau;
+        }
+        return Arrays.copyOf(tableau,
+            Math.max(index + 1,
+                tableau.length * 2));
+    }
+}
@@ -0,0 +1,152 @@
+// Fichier MesureOperation.java
+// Auteur : Team PayDay
+// Date de création : 2026-10-18
+
+package ca.qc.collegeahuntsic.bibliotheque.benchmark;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import ca.qc.collegeahuntsic.bibliothequeBackEnd.util.HistogrammeLatence;
+
+/**
+ * Mesures (latence et allocation) d'une opération du benchmark.
+ *
+ * Une mesure s'utilise en encadrant l'opération par {@link #demarrer()} et {@link #arreter()}. Les mesures ne sont pas partagées entre
+ * threads.
+ *
+ * @author Team PayDay
+ */
+public class MesureOperation {
+    private static final double NANOSECONDES_PAR_SECONDE = 1000000000.0;
+
+    private static final double NANOSECONDES_PAR_MICROSECONDE = 1000.0;
+
+    private static final ThreadMXBean THREAD_MX_BEAN = ManagementFactory.getThreadMXBean();
+
+    private final String nom;
+
+    private final HistogrammeLatence latences;
+
+    private long octetsAlloues;
+
+    private long debut;
+
+    private long allocationDebut;
+
+    /**
+     * Crée la mesure d'une opération.
+     *
+     * @param nom Le nom de l'opération
+     */
+    public MesureOperation(String nom) {
+        super();
+        this.nom = nom;
+        this.latences = new HistogrammeLatence();
+    }
+
+    // Region Getters and Setters
+    /**
+     * Getter de la variable d'instance <code>this.nom</code>.
+     *
+     * @return La variable d'instance <code>this.nom</code>
+     */
+    public String getNom() {
+        return this.nom;
+    }
+
+    /**
+     * Getter de la variable d'instance <code>this.latences</code>.
+     *
+     * @return La variable d'instance <code>this.latences</code>
+     */
+    public HistogrammeLatence getLatences() {
+        return this.latences;
+    }
+    // EndRegion Getters and Setters
+
+    /**
+     * Démarre la mesure d'une exécution de l'opération.
+     */
+    public void demarrer() {
+        this.allocationDebut = MesureOperation.octetsAllouesParThread();
+        this.debut = System.nanoTime();
+    }
+
+    /**
+     * Termine la mesure d'une exécution de l'opération démarrée par {@link #demarrer()}.
+     */
+    public void arreter() {
+        final long fin = System.nanoTime();
+        final long allocationFin = MesureOperation.octetsAllouesParThread();
+        this.latences.enregistrer(fin
+            - this.debut);
+        if(allocationFin >= 0
+            && this.allocationDebut >= 0) {
+            this.octetsAlloues += allocationFin
+                - this.allocationDebut;
+        }
+    }
+
+    /**
+     * Vide la mesure, par exemple à la fin de l'échauffement.
+     */
+    public void reinitialiser() {
+        this.latences.reinitialiser();
+        this.octetsAlloues = 0L;
+    }
+
+    /**
+     * Calcule le débit de l'opération.
+     *
+     * @return Le nombre d'opérations par seconde
+     */
+    public double getOperationsParSeconde() {
+        final double moyenne = this.latences.getMoyenne();
+        return moyenne == 0.0 ? 0.0 : MesureOperation.NANOSECONDES_PAR_SECONDE
+            / moyenne;
+    }
+
+    /**
+     * Calcule le nombre moyen d'octets alloués par exécution de l'opération.
+     *
+     * @return Le nombre d'octets par opération ; <code>-1</code> si la JVM ne permet pas la mesure
+     */
+    public long getOctetsParOperation() {
+        if(MesureOperation.octetsAllouesParThread() < 0) {
+            return -1L;
+        }
+        final long nombre = this.latences.getNombre();
+        return nombre == 0 ? 0L : this.octetsAlloues
+            / nombre;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String toString() {
+        return String.format("%-12s n=%-8d ops/s=%-10.1f p50=%-10.1f p99=%-10.1f max=%-10.1f B/op=%d",
+            getNom(),
+            Long.valueOf(this.latences.getNombre()),
+            Double.valueOf(getOperationsParSeconde()),
+            Double.valueOf(this.latences.getPercentile(50.0)
+                / MesureOperation.NANOSECONDES_PAR_MICROSECONDE),
+            Double.valueOf(this.latences.getPercentile(99.0)
+                / MesureOperation.NANOSECONDES_PAR_MICROSECONDE),
+            Double.valueOf(this.latences.getMaximum()
+                / MesureOperation.NANOSECONDES_PAR_MICROSECONDE),
+            Long.valueOf(getOctetsParOperation()));
+    }
+
+    /**
+     * Lit le nombre d'octets alloués par le thread courant, si la JVM le permet.
+     *
+     * @return Le nombre d'octets alloués ; <code>-1</code> sinon
+     */
+    private static long octetsAllouesParThread() {
+        if(MesureOperation.THREAD_MX_BEAN instanceof com.sun.management.ThreadMXBean) {
+            return ((com.sun.management.ThreadMXBean) MesureOperation.THREAD_MX_BEAN).getThreadAllocatedBytes(Thread.currentThread().getId());
+        }
+        return -1L;
+    }
+}
@@ -0,0 +1,186 @@
+// Fichier StatistiquesReplay.java
+// Auteur : Team PayDay
+// Date de création : 2026-10-18
+
+package ca.qc.collegeahuntsic.bibliotheque.benchmark;
+
+import java.util.Map;
+import java.util.TreeMap;
+import ca.qc.collegeahuntsic.bibliothequeBackEnd.util.HistogrammeLatence;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+/**
+ * Statistiques du rejeu d'un fichier de transactions : débit, latence par commande et taux d'erreur.
+ *
+ * Un rapport d'intervalle est journalisé toutes les <code>intervalle</code> millisecondes pour suivre l'évolution dans le temps, puis un
+ * rapport final donne les cumuls par commande. Les statistiques peuvent être alimentées par plusieurs threads.
+ *
+ * @author Team PayDay
+ */
+public class StatistiquesReplay {
+    private static final Log LOGGER = LogFactory.getLog(StatistiquesReplay.class);
+
+    private static final long INTERVALLE_PAR_DEFAUT = 10000L;
+
+    private static final double NANOSECONDES_PAR_MICROSECONDE = 1000.0;
+
+    private static final double MILLISECONDES_PAR_SECONDE = 1000.0;
+
+    private static final double CENT = 100.0;
+
+    private final long intervalle;
+
+    private final Map<String, HistogrammeLatence> latences;
+
+    private final Map<String, long[]> erreurs;
+
+    private final HistogrammeLatence latencesIntervalle;
+
+    private final long debut;
+
+    private long debutIntervalle;
+
+    private long erreursIntervalle;
+
+    private long nombreTotal;
+
+    private long erreursTotal;
+
+    /**
+     * Crée les statistiques avec un rapport toutes les 10 secondes.
+     */
+    public StatistiquesReplay() {
+        this(StatistiquesReplay.INTERVALLE_PAR_DEFAUT);
+    }
+
+    /**
+     * Crée les statistiques.
+     *
+     * @param intervalle Le délai entre deux rapports d'intervalle, en millisecondes
+     */
+    public StatistiquesReplay(long intervalle) {
+        super();
+        this.intervalle = intervalle;
+        this.latences = new TreeMap<>();
+        this.erreurs = new TreeMap<>();
+        this.latencesIntervalle = new HistogrammeLatence();
+        this.debut = System.currentTimeMillis();
+        this.debutIntervalle = this.debut;
+    }
+
+    /**
+     * Enregistre l'exécution d'une commande et journalise un rapport d'intervalle si le délai est écoulé.
+     *
+     * @param commande Le nom de la commande
+     * @param duree La durée de l'exécution, en nanosecondes
+     * @param succes <code>true</code> si la commande a réussi, <code>false</code> sinon
+     */
+    public synchronized void enregistrer(String commande,
+        long duree,
+        boolean succes) {
+        HistogrammeLatence histogramme = this.latences.get(commande);
+        if(histogramme == null) {
+            histogramme = new HistogrammeLatence();
+            this.latences.put(commande,
+                histogramme);
+            this.erreurs.put(commande,
+                new long[1]);
+        }
+        histogramme.enregistrer(duree);
+        this.latencesIntervalle.enregistrer(duree);
+        this.nombreTotal++;
+        if(!succes) {
+            this.erreurs.get(commande)[0]++;
+            this.erreursIntervalle++;
+            this.erreursTotal++;
+        }
+        final long maintenant = System.currentTimeMillis();
+        if(maintenant
+            - this.debutIntervalle >= this.intervalle) {
+            journaliserIntervalle(maintenant);
+        }
+    }
+
+    /**
+     * Journalise le rapport final.
+     */
+    public synchronized void journaliserRapport() {
+        final long maintenant = System.currentTimeMillis();
+        if(this.latencesIntervalle.getNombre() > 0) {
+            journaliserIntervalle(maintenant);
+        }
+        final double secondes = Math.max(1L,
+            maintenant
+                - this.debut)
+            / StatistiquesReplay.MILLISECONDES_PAR_SECONDE;
+        StatistiquesReplay.LOGGER.info(String.format("=== Rejeu : %d commandes en %.1f s (%.1f commandes/s), %d erreurs (%.2f %%) ===",
+            Long.valueOf(this.nombreTotal),
+            Double.valueOf(secondes),
+            Double.valueOf(this.nombreTotal
+                / secondes),
+            Long.valueOf(this.erreursTotal),
+            Double.valueOf(StatistiquesReplay.pourcentage(this.erreursTotal,
+                this.nombreTotal))));
+        for(Map.Entry<String, HistogrammeLatence> entree : this.latences.entrySet()) {
+            final HistogrammeLatence histogramme = entree.getValue();
+            final long nombreErreurs = this.erreurs.get(entree.getKey())[0];
+            StatistiquesReplay.LOGGER.info(String.format("%-12s n=%-10d erreurs=%-8d (%.2f %%) p50=%-10.1f p99=%-10.1f max=%.1f µs",
+                entree.getKey(),
+                Long.valueOf(histogramme.getNombre()),
+                Long.valueOf(nombreErreurs),
+                Double.valueOf(StatistiquesReplay.pourcentage(nombreErreurs,
+                    histogramme.getNombre())),
+                Double.valueOf(histogramme.getPercentile(50.0)
+                    / StatistiquesReplay.NANOSECONDES_PAR_MICROSECONDE),
+                Double.valueOf(histogramme.getPercentile(99.0)
+                    / StatistiquesReplay.NANOSECONDES_PAR_MICROSECONDE),
+                Double.valueOf(histogramme.getMaximum()
+                    / StatistiquesReplay.NANOSECONDES_PAR_MICROSECONDE)));
+        }
+    }
+
+    /**
+     * Journalise le rapport de l'intervalle courant et en démarre un nouveau.
+     *
+     * @param maintenant L'heure courante, en millisecondes
+     */
+    private void journaliserIntervalle(long maintenant) {
+        final long nombre = this.latencesIntervalle.getNombre();
+        final double secondes = Math.max(1L,
+            maintenant
+                - this.debutIntervalle)
+            / StatistiquesReplay.MILLISECONDES_PAR_SECONDE;
+        StatistiquesReplay.LOGGER.info(String.format("[+%ds] %d commandes (%.1f/s), erreurs %.2f %%, p50=%.1f p99=%.1f max=%.1f µs",
+            Long.valueOf((maintenant - this.debut)
+                / 1000L),
+            Long.valueOf(nombre),
+            Double.valueOf(nombre
+                / secondes),
+            Double.valueOf(StatistiquesReplay.pourcentage(this.erreursIntervalle,
+                nombre)),
+            Double.valueOf(this.latencesIntervalle.getPercentile(50.0)
+                / StatistiquesReplay.NANOSECONDES_PAR_MICROSECONDE),
+            Double.valueOf(this.latencesIntervalle.getPercentile(99.0)
+                / StatistiquesReplay.NANOSECONDES_PAR_MICROSECONDE),
+            Double.valueOf(this.latencesIntervalle.getMaximum()
+                / StatistiquesReplay.NANOSECONDES_PAR_MICROSECONDE)));
+        this.latencesIntervalle.reinitialiser();
+        this.erreursIntervalle = 0L;
+        this.debutIntervalle = maintenant;
+    }
+
+    /**
+     * Calcule un pourcentage.
+     *
+     * @param partie La partie
+     * @param total Le total
+     * @return Le pourcentage ; <code>0</code> si le total est nul
+     */
+    private static double pourcentage(long partie,
+        long total) {
+        return total == 0 ? 0.0 : StatistiquesReplay.CENT
+            * partie
+            / total;
+    }
+}
@@ -0,0 +1,91 @@
+// Fichier MotifRejet.java
+// Auteur : Team PayDay
+// Date de création : 2026-10-18
+
+package ca.qc.collegeahuntsic.bibliotheque.simulation;
+
+/**
+ * Motifs de rejet d'une transaction par le {@link SimulateurBibliotheque}, avec l'exception que lèverait l'exécution réelle.
+ *
+ * @author Team PayDay
+ */
+public enum MotifRejet {
+    /**
+     * Le membre n'existe pas (<code>MissingDTOException</code>).
+     */
+    MEMBRE_INEXISTANT("membre inexistant"),
+
+    /**
+     * Le livre n'existe pas (<code>MissingDTOException</code>).
+     */
+    LIVRE_INEXISTANT("livre inexistant"),
+
+    /**
+     * Le prêt n'existe pas (<code>MissingDTOException</code>).
+     */
+    PRET_INEXISTANT("prêt inexistant"),
+
+    /**
+     * La réservation n'existe pas (<code>MissingDTOException</code>).
+     */
+    RESERVATION_INEXISTANTE("réservation inexistante"),
+
+    /**
+     * Le membre ou le livre a un prêt en cours, ou le livre est déjà prêté au membre (<code>ExistingLoanException</code>).
+     */
+    PRET_EN_COURS("prêt en cours"),
+
+    /**
+     * Le membre a atteint sa limite de prêt (<code>InvalidLoanLimitException</code>).
+     */
+    LIMITE_PRET_ATTEINTE("limite de prêt atteinte"),
+
+    /**
+     * Le membre ou le livre a une réservation, ou la réservation n'est pas la première du livre
+     * (<code>ExistingReservationException</code>).
+     */
+    RESERVATION_EN_COURS("réservation en cours"),
+
+    /**
+     * Le livre n'est pas prêté, ou pas au membre (<code>MissingLoanException</code>).
+     */
+    LIVRE_NON_PRETE("livre non prêté"),
+
+    /**
+     * Le prêt a déjà été retourné (<code>MissingLoanException</code>).
+     */
+    PRET_DEJA_RETOURNE("prêt déjà retourné"),
+
+    /**
+     * Une contrainte du schéma serait violée : longueur d'une chaîne, limite de prêt hors de 1 à 10, téléphone non numérique ou clef
+     * étrangère d'un prêt terminé (<code>FacadeException</code>).
+     */
+    CONTRAINTE_SCHEMA("contrainte du schéma"),
+
+    /**
+     * La transaction n'est pas reconnue.
+     */
+    TRANSACTION_INCONNUE("transaction non reconnue");
+
+    private final String description;
+
+    /**
+     * Crée un motif de rejet.
+     *
+     * @param description La description du motif
+     */
+    MotifRejet(String description) {
+        this.description = description;
+    }
+
+    // Region Getters and Setters
+    /**
+     * Getter de la variable d'instance <code>this.description</code>.
+     *
+     * @return La variable d'instance <code>this.description</code>
+     */
+    public String getDescription() {
+        return this.description;
+    }
+    // EndRegion Getters and Setters
+}
@@ -0,0 +1,130 @@
+// Fichier RapportSimulation.java
+// Auteur : Team PayDay
+// Date de création : 2026-10-18
+
+package ca.qc.collegeahuntsic.bibliotheque.simulation;
+
+import java.io.IOException;
+import java.io.Writer;
+import ca.qc.collegeahuntsic.bibliotheque.transaction.Commande;
+import ca.qc.collegeahuntsic.bibliotheque.transaction.TypeCommande;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+/**
+ * Rapport des rejets d'une simulation : le nombre de transactions acceptées et rejetées par type, le nombre de rejets par motif et, au
+ * choix, la liste détaillée des lignes rejetées.
+ *
+ * Les lignes rejetées sont écrites dans le fichier du rapport s'il y en a un ; sinon, seules les premières sont journalisées.
+ *
+ * @author Team PayDay
+ */
+public class RapportSimulation {
+    private static final Log LOGGER = LogFactory.getLog(RapportSimulation.class);
+
+    private static final int REJETS_JOURNALISES = 100;
+
+    private final Writer detail;
+
+    private final long[] acceptees;
+
+    private final long[] rejetees;
+
+    private final long[] rejetsParMotif;
+
+    private long nombreRejets;
+
+    /**
+     * Crée le rapport.
+     *
+     * @param detail Le fichier où écrire les lignes rejetées ; <code>null</code> pour ne journaliser que les premières
+     */
+    public RapportSimulation(Writer detail) {
+        super();
+        this.detail = detail;
+        this.acceptees = new long[TypeCommande.values().length];
+        this.rejetees = new long[TypeCommande.values().length];
+        this.rejetsParMotif = new long[MotifRejet.values().length];
+    }
+
+    /**
+     * Retourne le nombre de transactions rejetées.
+     *
+     * @return Le nombre de rejets
+     */
+    public long getNombreRejets() {
+        return this.nombreRejets;
+    }
+
+    /**
+     * Enregistre le résultat de la simulation d'une transaction.
+     *
+     * @param commande La commande de la transaction
+     * @param motifRejet Le motif du rejet ; <code>null</code> si la transaction est acceptée
+     * @throws IOException Si le fichier du rapport ne peut être écrit
+     */
+    public void enregistrer(Commande commande,
+        MotifRejet motifRejet) throws IOException {
+        if(motifRejet == null) {
+            this.acceptees[commande.getType().ordinal()]++;
+            return;
+        }
+        this.rejetees[commande.getType().ordinal()]++;
+        this.rejetsParMotif[motifRejet.ordinal()]++;
+        this.nombreRejets++;
+        final String ligne = "Ligne "
+            + commande.getNumeroLigne()
+            + " : "
+            + commande
+            + " : "
+            + motifRejet.getDescription();
+        if(this.detail != null) {
+            this.detail.write(ligne);
+            this.detail.write(System.lineSeparator());
+        } else if(this.nombreRejets <= RapportSimulation.REJETS_JOURNALISES) {
+            RapportSimulation.LOGGER.info(ligne);
+        }
+    }
+
+    /**
+     * Journalise le rapport.
+     *
+     * @param duree La durée de la simulation, en nanosecondes
+     */
+    public void journaliser(long duree) {
+        long total = 0L;
+        RapportSimulation.LOGGER.info(String.format("%-12s %12s %12s",
+            "transaction",
+            "acceptées",
+            "rejetées"));
+        for(TypeCommande typeCommande : TypeCommande.values()) {
+            final int index = typeCommande.ordinal();
+            total += this.acceptees[index]
+                + this.rejetees[index];
+            if(this.acceptees[index]
+                + this.rejetees[index] > 0L) {
+                RapportSimulation.LOGGER.info(String.format("%-12s %12d %12d",
+                    typeCommande == TypeCommande.INCONNUE ? "(inconnue)" : typeCommande.getMotClef(),
+                    Long.valueOf(this.acceptees[index]),
+                    Long.valueOf(this.rejetees[index])));
+            }
+        }
+        for(MotifRejet motifRejet : MotifRejet.values()) {
+            if(this.rejetsParMotif[motifRejet.ordinal()] > 0L) {
+                RapportSimulation.LOGGER.info(String.format("  %-26s %12d",
+                    motifRejet.getDescription(),
+                    Long.valueOf(this.rejetsParMotif[motifRejet.ordinal()])));
+            }
+        }
+        if(this.detail == null
+            && this.nombreRejets > RapportSimulation.REJETS_JOURNALISES) {
+            RapportSimulation.LOGGER.info("  ("
+                + (this.nombreRejets - RapportSimulation.REJETS_JOURNALISES)
+                + " autres lignes rejetées non détaillées)");
+        }
+        RapportSimulation.LOGGER.info(String.format("%d transactions simulées, %d rejetées, en %.1f s",
+            Long.valueOf(total),
+            Long.valueOf(this.nombreRejets),
+            Double.valueOf(duree / 1e9)));
+    }
+}
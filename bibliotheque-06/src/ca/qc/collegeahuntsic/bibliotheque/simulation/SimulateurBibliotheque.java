@@ -0,0 +1,849 @@
+// Fichier SimulateurBibliotheque.java
+// Auteur : Team PayDay
+// Date de création : 2026-10-18
+
+package ca.qc.collegeahuntsic.bibliotheque.simulation;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Arrays;
+import ca.qc.collegeahuntsic.bibliotheque.transaction.Commande;
+
+/**
+ * Simulateur des règles métier de la bibliothèque, pour valider un fichier de transactions sans le rejouer sur la base de données.
+ *
+ * L'état des membres, des livres, des prêts et des réservations est chargé une seule fois avec JDBC, puis tenu en mémoire dans des
+ * tableaux de types primitifs indexés par des {@link TableIndex}. Chaque transaction est vérifiée dans le même ordre que
+ * <code>MembreService</code>, <code>LivreService</code>, <code>PretService</code> et <code>ReservationService</code>, y compris leurs
+ * particularités (un renouvellement réactive un prêt retourné, l'utilisation d'une réservation ne compare le nombre de prêts à la limite
+ * qu'avec <code>==</code>), puis appliquée à l'état si elle est acceptée. Les contraintes du schéma que les services ne vérifient pas
+ * (longueurs, limite de prêt de 1 à 10, clefs étrangères des prêts terminés) sont aussi simulées.
+ *
+ * Les ID des entités créées sont attribués à partir de la valeur courante de la source du générateur d'ID par blocs (la table
+ * <code>*_sequence</code> sous MySQL, la séquence sous Oracle), qui est le premier ID d'une exécution réelle lancée sur le même état, et
+ * un ID est consommé même quand l'insertion est rejetée par le schéma, comme avec le générateur.
+ *
+ * @author Team PayDay
+ */
+public class SimulateurBibliotheque {
+    private static final int LONGUEUR_NOM_MAXIMALE = 10;
+
+    private static final int LONGUEUR_TITRE_MAXIMALE = 50;
+
+    private static final int LIMITE_PRET_MAXIMALE = 10;
+
+    private static final int TAILLE_LOT_LECTURE = 1000;
+
+    private static final int CAPACITE_INITIALE = 1024;
+
+    private static final int AUCUN = -1;
+
+    private static final long VALEUR_INVALIDE = -1L;
+
+    private static final int CHIFFRES_MAXIMUM = 18;
+
+    private static final String MEMBRES_REQUEST = "SELECT idMembre, limitePret "
+        + "FROM membre";
+
+    private static final String LIVRES_REQUEST = "SELECT idLivre "
+        + "FROM livre";
+
+    private static final String PRETS_REQUEST = "SELECT idPret, idMembre, idLivre, dateRetour "
+        + "FROM pret "
+        + "ORDER BY datePret, idPret";
+
+    private static final String RESERVATIONS_REQUEST = "SELECT idReservation, idMembre, idLivre "
+        + "FROM reservation "
+        + "ORDER BY dateReservation, idReservation";
+
+    private static final String SEQUENCE_MYSQL_REQUEST = "SELECT next_val "
+        + "FROM ";
+
+    // Les séquences sont NOCACHE : LAST_NUMBER est la prochaine valeur de la séquence
+    private static final String SEQUENCE_ORACLE_REQUEST = "SELECT last_number "
+        + "FROM user_sequences "
+        + "WHERE sequence_name = ";
+
+    private static final String ORACLE = "Oracle";
+
+    private final TableIndex membres;
+
+    private final TableIndex livres;
+
+    private final TableIndex prets;
+
+    private final TableIndex reservations;
+
+    private int nombreMembres;
+
+    private int[] limitePretMembre;
+
+    private int[] pretsActifsMembre;
+
+    private int[] pretsMembre;
+
+    private int[] reservationsMembre;
+
+    private int nombreLivres;
+
+    private int[] pretsActifsLivre;
+
+    private int[] pretsLivre;
+
+    private int[] emprunteurLivre;
+
+    private int[] premiereReservationLivre;
+
+    private int[] derniereReservationLivre;
+
+    private int nombrePrets;
+
+    private int[] membrePret;
+
+    private int[] livrePret;
+
+    private boolean[] pretActif;
+
+    private int nombreReservations;
+
+    private int[] membreReservation;
+
+    private int[] livreReservation;
+
+    private int[] reservationSuivante;
+
+    private int[] reservationPrecedente;
+
+    private long prochainIdMembre;
+
+    private long prochainIdLivre;
+
+    private long prochainIdPret;
+
+    private long prochainIdReservation;
+
+    /**
+     * Crée un simulateur dont l'état est vide.
+     */
+    public SimulateurBibliotheque() {
+        super();
+        this.membres = new TableIndex();
+        this.livres = new TableIndex();
+        this.prets = new TableIndex();
+        this.reservations = new TableIndex();
+        final int capacite = SimulateurBibliotheque.CAPACITE_INITIALE;
+        this.limitePretMembre = new int[capacite];
+        this.pretsActifsMembre = new int[capacite];
+        this.pretsMembre = new int[capacite];
+        this.reservationsMembre = new int[capacite];
+        this.pretsActifsLivre = new int[capacite];
+        this.pretsLivre = new int[capacite];
+        this.emprunteurLivre = new int[capacite];
+        this.premiereReservationLivre = new int[capacite];
+        this.derniereReservationLivre = new int[capacite];
+        this.membrePret = new int[capacite];
+        this.livrePret = new int[capacite];
+        this.pretActif = new boolean[capacite];
+        this.membreReservation = new int[capacite];
+        this.livreReservation = new int[capacite];
+        this.reservationSuivante = new int[capacite];
+        this.reservationPrecedente = new int[capacite];
+        this.prochainIdMembre = 1L;
+        this.prochainIdLivre = 1L;
+        this.prochainIdPret = 1L;
+        this.prochainIdReservation = 1L;
+    }
+
+    /**
+     * Retourne le nombre de membres de l'état simulé.
+     *
+     * @return Le nombre de membres
+     */
+    public int getNombreMembres() {
+        return this.membres.getTaille();
+    }
+
+    /**
+     * Retourne le nombre de livres de l'état simulé.
+     *
+     * @return Le nombre de livres
+     */
+    public int getNombreLivres() {
+        return this.livres.getTaille();
+    }
+
+    /**
+     * Retourne le nombre de prêts, en cours ou terminés, de l'état simulé.
+     *
+     * @return Le nombre de prêts
+     */
+    public int getNombrePrets() {
+        return this.prets.getTaille();
+    }
+
+    /**
+     * Retourne le nombre de réservations de l'état simulé.
+     *
+     * @return Le nombre de réservations
+     */
+    public int getNombreReservations() {
+        return this.reservations.getTaille();
+    }
+
+    /**
+     * Charge l'état de la base de données. Les prêts sont chargés par date de prêt et les réservations par date de réservation, comme les
+     * collections des DTO. Les prochains ID sont lus dans les sources du générateur d'ID par blocs.
+     *
+     * @param connection La connexion à la base de données
+     * @throws SQLException S'il y a une erreur avec la base de données
+     */
+    public void charger(Connection connection) throws SQLException {
+        try(
+            Statement statement = connection.createStatement()) {
+            statement.setFetchSize(SimulateurBibliotheque.TAILLE_LOT_LECTURE);
+            try(
+                ResultSet resultSet = statement.executeQuery(SimulateurBibliotheque.MEMBRES_REQUEST)) {
+                while(resultSet.next()) {
+                    ajouterMembre(resultSet.getLong(1),
+                        resultSet.getInt(2));
+                }
+            }
+            try(
+                ResultSet resultSet = statement.executeQuery(SimulateurBibliotheque.LIVRES_REQUEST)) {
+                while(resultSet.next()) {
+                    ajouterLivre(resultSet.getLong(1));
+                }
+            }
+            try(
+                ResultSet resultSet = statement.executeQuery(SimulateurBibliotheque.PRETS_REQUEST)) {
+                while(resultSet.next()) {
+                    final long idPret = resultSet.getLong(1);
+                    final int membre = this.membres.get(resultSet.getLong(2));
+                    final int livre = this.livres.get(resultSet.getLong(3));
+                    resultSet.getTimestamp(4);
+                    final boolean actif = resultSet.wasNull();
+                    if(membre != TableIndex.ABSENT
+                        && livre != TableIndex.ABSENT) {
+                        ajouterPret(idPret,
+                            membre,
+                            livre,
+                            actif);
+                    }
+                }
+            }
+            try(
+                ResultSet resultSet = statement.executeQuery(SimulateurBibliotheque.RESERVATIONS_REQUEST)) {
+                while(resultSet.next()) {
+                    final long idReservation = resultSet.getLong(1);
+                    final int membre = this.membres.get(resultSet.getLong(2));
+                    final int livre = this.livres.get(resultSet.getLong(3));
+                    if(membre != TableIndex.ABSENT
+                        && livre != TableIndex.ABSENT) {
+                        ajouterReservation(idReservation,
+                            membre,
+                            livre);
+                    }
+                }
+            }
+            final boolean oracle = SimulateurBibliotheque.ORACLE.equals(connection.getMetaData().getDatabaseProductName());
+            this.prochainIdMembre = SimulateurBibliotheque.lireProchainId(statement,
+                oracle,
+                "membre_sequence");
+            this.prochainIdLivre = SimulateurBibliotheque.lireProchainId(statement,
+                oracle,
+                "livre_sequence");
+            this.prochainIdPret = SimulateurBibliotheque.lireProchainId(statement,
+                oracle,
+                "pret_sequence");
+            this.prochainIdReservation = SimulateurBibliotheque.lireProchainId(statement,
+                oracle,
+                "reservation_sequence");
+        }
+    }
+
+    /**
+     * Lit le prochain ID que le générateur d'ID par blocs attribuera. L'optimiseur <code>pooled</code> commence chaque exécution par un
+     * nouveau bloc dont le premier ID est la valeur courante de la source, puis attribue les ID suivants un à un.
+     *
+     * @param statement L'énoncé à utiliser
+     * @param oracle <code>true</code> si la source est une séquence Oracle, <code>false</code> si c'est une table MySQL
+     * @param sequence Le nom de la source
+     * @return Le prochain ID
+     * @throws SQLException S'il y a une erreur avec la base de données ou si la source n'existe pas
+     */
+    private static long lireProchainId(Statement statement,
+        boolean oracle,
+        String sequence) throws SQLException {
+        String requete = SimulateurBibliotheque.SEQUENCE_MYSQL_REQUEST
+            + sequence;
+        if(oracle) {
+            requete = SimulateurBibliotheque.SEQUENCE_ORACLE_REQUEST
+                + "'"
+                + sequence.toUpperCase()
+                + "'";
+        }
+        try(
+            ResultSet resultSet = statement.executeQuery(requete)) {
+            if(!resultSet.next()) {
+                throw new SQLException("La source d'ID "
+                    + sequence
+                    + " n'existe pas");
+            }
+            return resultSet.getLong(1);
+        }
+    }
+
+    /**
+     * Simule une transaction et l'applique à l'état si elle est acceptée.
+     *
+     * @param commande La commande de la transaction
+     * @return Le motif du rejet ; <code>null</code> si la transaction est acceptée
+     */
+    public MotifRejet simuler(Commande commande) {
+        switch(commande.getType()) {
+            case AIDE:
+            case COMMENTAIRE:
+                return null;
+            case INSCRIRE:
+                return inscrire(commande);
+            case DESINSCRIRE:
+                return desinscrire(SimulateurBibliotheque.valeurNumerique(commande.getIdMembre()));
+            case ACQUERIR:
+                return acquerir(commande);
+            case VENDRE:
+                return vendre(SimulateurBibliotheque.valeurNumerique(commande.getIdLivre()));
+            case PRETER:
+                return preter(SimulateurBibliotheque.valeurNumerique(commande.getIdMembre()),
+                    SimulateurBibliotheque.valeurNumerique(commande.getIdLivre()));
+            case RENOUVELER:
+                return renouveler(SimulateurBibliotheque.valeurNumerique(commande.getIdPret()));
+            case RETOURNER:
+                return retourner(SimulateurBibliotheque.valeurNumerique(commande.getIdPret()));
+            case RESERVER:
+                return reserver(SimulateurBibliotheque.valeurNumerique(commande.getIdMembre()),
+                    SimulateurBibliotheque.valeurNumerique(commande.getIdLivre()));
+            case UTILISER:
+                return utiliser(SimulateurBibliotheque.valeurNumerique(commande.getIdReservation()));
+            case ANNULER:
+                return annuler(SimulateurBibliotheque.valeurNumerique(commande.getIdReservation()));
+            default:
+                return MotifRejet.TRANSACTION_INCONNUE;
+        }
+    }
+
+    /**
+     * Simule <code>MembreService.inscrire</code>.
+     *
+     * @param commande La commande
+     * @return Le motif du rejet ; <code>null</code> si la transaction est acceptée
+     */
+    private MotifRejet inscrire(Commande commande) {
+        final long idMembre = this.prochainIdMembre++;
+        final long limitePret = SimulateurBibliotheque.valeurNumerique(commande.getLimitePret());
+        if(commande.getNom().length() > SimulateurBibliotheque.LONGUEUR_NOM_MAXIMALE
+            || limitePret < 1
+            || limitePret > SimulateurBibliotheque.LIMITE_PRET_MAXIMALE
+            || !SimulateurBibliotheque.isNumerique(commande.getTelephone())) {
+            return MotifRejet.CONTRAINTE_SCHEMA;
+        }
+        ajouterMembre(idMembre,
+            (int) limitePret);
+        return null;
+    }
+
+    /**
+     * Simule <code>MembreService.desinscrire</code>.
+     *
+     * @param idMembre L'ID du membre
+     * @return Le motif du rejet ; <code>null</code> si la transaction est acceptée
+     */
+    private MotifRejet desinscrire(long idMembre) {
+        final int membre = this.membres.get(idMembre);
+        if(membre == TableIndex.ABSENT) {
+            return MotifRejet.MEMBRE_INEXISTANT;
+        }
+        if(this.pretsActifsMembre[membre] > 0) {
+            return MotifRejet.PRET_EN_COURS;
+        }
+        if(this.reservationsMembre[membre] > 0) {
+            return MotifRejet.RESERVATION_EN_COURS;
+        }
+        if(this.pretsMembre[membre] > 0) {
+            return MotifRejet.CONTRAINTE_SCHEMA;
+        }
+        this.membres.remove(idMembre);
+        return null;
+    }
+
+    /**
+     * Simule <code>LivreService.acquerir</code>.
+     *
+     * @param commande La commande
+     * @return Le motif du rejet ; <code>null</code> si la transaction est acceptée
+     */
+    private MotifRejet acquerir(Commande commande) {
+        final long idLivre = this.prochainIdLivre++;
+        if(commande.getTitre().length() > SimulateurBibliotheque.LONGUEUR_TITRE_MAXIMALE
+            || commande.getAuteur().length() > SimulateurBibliotheque.LONGUEUR_TITRE_MAXIMALE) {
+            return MotifRejet.CONTRAINTE_SCHEMA;
+        }
+        ajouterLivre(idLivre);
+        return null;
+    }
+
+    /**
+     * Simule <code>LivreService.vendre</code>.
+     *
+     * @param idLivre L'ID du livre
+     * @return Le motif du rejet ; <code>null</code> si la transaction est acceptée
+     */
+    private MotifRejet vendre(long idLivre) {
+        final int livre = this.livres.get(idLivre);
+        if(livre == TableIndex.ABSENT) {
+            return MotifRejet.LIVRE_INEXISTANT;
+        }
+        if(this.pretsActifsLivre[livre] > 0) {
+            return MotifRejet.PRET_EN_COURS;
+        }
+        if(this.premiereReservationLivre[livre] != SimulateurBibliotheque.AUCUN) {
+            return MotifRejet.RESERVATION_EN_COURS;
+        }
+        if(this.pretsLivre[livre] > 0) {
+            return MotifRejet.CONTRAINTE_SCHEMA;
+        }
+        this.livres.remove(idLivre);
+        return null;
+    }
+
+    /**
+     * Simule <code>PretService.commencer</code>.
+     *
+     * @param idMembre L'ID du membre
+     * @param idLivre L'ID du livre
+     * @return Le motif du rejet ; <code>null</code> si la transaction est acceptée
+     */
+    private MotifRejet preter(long idMembre,
+        long idLivre) {
+        final int membre = this.membres.get(idMembre);
+        if(membre == TableIndex.ABSENT) {
+            return MotifRejet.MEMBRE_INEXISTANT;
+        }
+        final int livre = this.livres.get(idLivre);
+        if(livre == TableIndex.ABSENT) {
+            return MotifRejet.LIVRE_INEXISTANT;
+        }
+        if(this.pretsActifsLivre[livre] > 0) {
+            return MotifRejet.PRET_EN_COURS;
+        }
+        if(this.pretsActifsMembre[membre] >= this.limitePretMembre[membre]) {
+            return MotifRejet.LIMITE_PRET_ATTEINTE;
+        }
+        if(this.premiereReservationLivre[livre] != SimulateurBibliotheque.AUCUN) {
+            return MotifRejet.RESERVATION_EN_COURS;
+        }
+        ajouterPret(this.prochainIdPret++,
+            membre,
+            livre,
+            true);
+        return null;
+    }
+
+    /**
+     * Simule <code>PretService.renouveler</code>. Comme le service, un renouvellement accepté réactive le prêt s'il avait été retourné.
+     *
+     * @param idPret L'ID du prêt
+     * @return Le motif du rejet ; <code>null</code> si la transaction est acceptée
+     */
+    private MotifRejet renouveler(long idPret) {
+        final int pret = this.prets.get(idPret);
+        if(pret == TableIndex.ABSENT) {
+            return MotifRejet.PRET_INEXISTANT;
+        }
+        final int membre = this.membrePret[pret];
+        final int livre = this.livrePret[pret];
+        if(this.pretsActifsMembre[membre] == 0
+            || !isPrete(livre,
+                membre)) {
+            return MotifRejet.LIVRE_NON_PRETE;
+        }
+        if(this.premiereReservationLivre[livre] != SimulateurBibliotheque.AUCUN) {
+            return MotifRejet.RESERVATION_EN_COURS;
+        }
+        if(!this.pretActif[pret]) {
+            activerPret(pret);
+        }
+        return null;
+    }
+
+    /**
+     * Simule <code>PretService.terminer</code>.
+     *
+     * @param idPret L'ID du prêt
+     * @return Le motif du rejet ; <code>null</code> si la transaction est acceptée
+     */
+    private MotifRejet retourner(long idPret) {
+        final int pret = this.prets.get(idPret);
+        if(pret == TableIndex.ABSENT) {
+            return MotifRejet.PRET_INEXISTANT;
+        }
+        if(!this.pretActif[pret]) {
+            return MotifRejet.PRET_DEJA_RETOURNE;
+        }
+        desactiverPret(pret);
+        return null;
+    }
+
+    /**
+     * Simule <code>ReservationService.placer</code>.
+     *
+     * @param idMembre L'ID du membre
+     * @param idLivre L'ID du livre
+     * @return Le motif du rejet ; <code>null</code> si la transaction est acceptée
+     */
+    private MotifRejet reserver(long idMembre,
+        long idLivre) {
+        final int membre = this.membres.get(idMembre);
+        if(membre == TableIndex.ABSENT) {
+            return MotifRejet.MEMBRE_INEXISTANT;
+        }
+        final int livre = this.livres.get(idLivre);
+        if(livre == TableIndex.ABSENT) {
+            return MotifRejet.LIVRE_INEXISTANT;
+        }
+        if(this.pretsActifsLivre[livre] == 0) {
+            return MotifRejet.LIVRE_NON_PRETE;
+        }
+        if(this.emprunteurLivre[livre] == membre) {
+            return MotifRejet.PRET_EN_COURS;
+        }
+        for(int reservation = this.premiereReservationLivre[livre] ; reservation != SimulateurBibliotheque.AUCUN ; reservation = this.reservationSuivante[reservation]) {
+            if(this.membreReservation[reservation] == membre) {
+                return MotifRejet.RESERVATION_EN_COURS;
+            }
+        }
+        ajouterReservation(this.prochainIdReservation++,
+            membre,
+            livre);
+        return null;
+    }
+
+    /**
+     * Simule <code>ReservationService.utiliser</code>.
+     *
+     * @param idReservation L'ID de la réservation
+     * @return Le motif du rejet ; <code>null</code> si la transaction est acceptée
+     */
+    private MotifRejet utiliser(long idReservation) {
+        final int reservation = this.reservations.get(idReservation);
+        if(reservation == TableIndex.ABSENT) {
+            return MotifRejet.RESERVATION_INEXISTANTE;
+        }
+        final int membre = this.membreReservation[reservation];
+        final int livre = this.livreReservation[reservation];
+        if(this.premiereReservationLivre[livre] != reservation
+            || this.pretsActifsLivre[livre] > 0) {
+            return MotifRejet.RESERVATION_EN_COURS;
+        }
+        if(this.pretsActifsMembre[membre] == this.limitePretMembre[membre]) {
+            return MotifRejet.LIMITE_PRET_ATTEINTE;
+        }
+        ajouterPret(this.prochainIdPret++,
+            membre,
+            livre,
+            true);
+        retirerReservation(idReservation,
+            reservation);
+        return null;
+    }
+
+    /**
+     * Simule <code>ReservationService.annuler</code>.
+     *
+     * @param idReservation L'ID de la réservation
+     * @return Le motif du rejet ; <code>null</code> si la transaction est acceptée
+     */
+    private MotifRejet annuler(long idReservation) {
+        final int reservation = this.reservations.get(idReservation);
+        if(reservation == TableIndex.ABSENT) {
+            return MotifRejet.RESERVATION_INEXISTANTE;
+        }
+        retirerReservation(idReservation,
+            reservation);
+        return null;
+    }
+
+    /**
+     * Ajoute un membre à l'état.
+     *
+     * @param idMembre L'ID du membre
+     * @param limitePret La limite de prêt du membre
+     */
+    private void ajouterMembre(long idMembre,
+        int limitePret) {
+        final int membre = this.nombreMembres++;
+        if(membre == this.limitePretMembre.length) {
+            final int capacite = 2 * membre;
+            this.limitePretMembre = Arrays.copyOf(this.limitePretMembre,
+                capacite);
+            this.pretsActifsMembre = Arrays.copyOf(this.pretsActifsMembre,
+                capacite);
+            this.pretsMembre = Arrays.copyOf(this.pretsMembre,
+                capacite);
+            this.reservationsMembre = Arrays.copyOf(this.reservationsMembre,
+                capacite);
+        }
+        this.limitePretMembre[membre] = limitePret;
+        this.membres.put(idMembre,
+            membre);
+    }
+
+    /**
+     * Ajoute un livre à l'état.
+     *
+     * @param idLivre L'ID du livre
+     */
+    private void ajouterLivre(long idLivre) {
+        final int livre = this.nombreLivres++;
+        if(livre == this.pretsActifsLivre.length) {
+            final int capacite = 2 * livre;
+            this.pretsActifsLivre = Arrays.copyOf(this.pretsActifsLivre,
+                capacite);
+            this.pretsLivre = Arrays.copyOf(this.pretsLivre,
+                capacite);
+            this.emprunteurLivre = Arrays.copyOf(this.emprunteurLivre,
+                capacite);
+            this.premiereReservationLivre = Arrays.copyOf(this.premiereReservationLivre,
+                capacite);
+            this.derniereReservationLivre = Arrays.copyOf(this.derniereReservationLivre,
+                capacite);
+        }
+        this.emprunteurLivre[livre] = SimulateurBibliotheque.AUCUN;
+        this.premiereReservationLivre[livre] = SimulateurBibliotheque.AUCUN;
+        this.derniereReservationLivre[livre] = SimulateurBibliotheque.AUCUN;
+        this.livres.put(idLivre,
+            livre);
+    }
+
+    /**
+     * Ajoute un prêt à l'état.
+     *
+     * @param idPret L'ID du prêt
+     * @param membre L'indice du membre
+     * @param livre L'indice du livre
+     * @param actif <code>true</code> si le prêt est en cours, <code>false</code> s'il a été retourné
+     */
+    private void ajouterPret(long idPret,
+        int membre,
+        int livre,
+        boolean actif) {
+        final int pret = this.nombrePrets++;
+        if(pret == this.membrePret.length) {
+            final int capacite = 2 * pret;
+            this.membrePret = Arrays.copyOf(this.membrePret,
+                capacite);
+            this.livrePret = Arrays.copyOf(this.livrePret,
+                capacite);
+            this.pretActif = Arrays.copyOf(this.pretActif,
+                capacite);
+        }
+        this.membrePret[pret] = membre;
+        this.livrePret[pret] = livre;
+        this.pretsMembre[membre]++;
+        this.pretsLivre[livre]++;
+        this.prets.put(idPret,
+            pret);
+        if(actif) {
+            activerPret(pret);
+        }
+    }
+
+    /**
+     * Met un prêt en cours. Le premier prêt en cours d'un livre désigne son emprunteur.
+     *
+     * @param pret L'indice du prêt
+     */
+    private void activerPret(int pret) {
+        final int membre = this.membrePret[pret];
+        final int livre = this.livrePret[pret];
+        this.pretActif[pret] = true;
+        this.pretsActifsMembre[membre]++;
+        if(this.pretsActifsLivre[livre]++ == 0) {
+            this.emprunteurLivre[livre] = membre;
+        }
+    }
+
+    /**
+     * Termine un prêt en cours.
+     *
+     * @param pret L'indice du prêt
+     */
+    private void desactiverPret(int pret) {
+        final int membre = this.membrePret[pret];
+        final int livre = this.livrePret[pret];
+        this.pretActif[pret] = false;
+        this.pretsActifsMembre[membre]--;
+        if(--this.pretsActifsLivre[livre] == 0) {
+            this.emprunteurLivre[livre] = SimulateurBibliotheque.AUCUN;
+        } else if(this.emprunteurLivre[livre] == membre) {
+            // Cas rare d'un livre prêté plusieurs fois à la suite d'un renouvellement : l'emprunteur est celui d'un autre prêt en cours
+            this.emprunteurLivre[livre] = this.membrePret[chercherPretActif(livre,
+                SimulateurBibliotheque.AUCUN)];
+        }
+    }
+
+    /**
+     * Indique si un livre est prêté à un membre.
+     *
+     * @param livre L'indice du livre
+     * @param membre L'indice du membre
+     * @return <code>true</code> si le livre a un prêt en cours pour le membre, <code>false</code> sinon
+     */
+    private boolean isPrete(int livre,
+        int membre) {
+        if(this.pretsActifsLivre[livre] == 0) {
+            return false;
+        }
+        if(this.emprunteurLivre[livre] == membre) {
+            return true;
+        }
+        return this.pretsActifsLivre[livre] > 1
+            && chercherPretActif(livre,
+                membre) != SimulateurBibliotheque.AUCUN;
+    }
+
+    /**
+     * Cherche un prêt en cours d'un livre en parcourant tous les prêts. N'est utilisée que lorsqu'un livre a plusieurs prêts en cours.
+     *
+     * @param livre L'indice du livre
+     * @param membre L'indice du membre ; {@link #AUCUN} pour n'importe quel membre
+     * @return L'indice du prêt ; {@link #AUCUN} s'il n'y en a pas
+     */
+    private int chercherPretActif(int livre,
+        int membre) {
+        for(int pret = 0 ; pret < this.nombrePrets ; pret++) {
+            if(this.pretActif[pret]
+                && this.livrePret[pret] == livre
+                && (membre == SimulateurBibliotheque.AUCUN
+                    || this.membrePret[pret] == membre)) {
+                return pret;
+            }
+        }
+        return SimulateurBibliotheque.AUCUN;
+    }
+
+    /**
+     * Ajoute une réservation à la fin de la file des réservations du livre.
+     *
+     * @param idReservation L'ID de la réservation
+     * @param membre L'indice du membre
+     * @param livre L'indice du livre
+     */
+    private void ajouterReservation(long idReservation,
+        int membre,
+        int livre) {
+        final int reservation = this.nombreReservations++;
+        if(reservation == this.membreReservation.length) {
+            final int capacite = 2 * reservation;
+            this.membreReservation = Arrays.copyOf(this.membreReservation,
+                capacite);
+            this.livreReservation = Arrays.copyOf(this.livreReservation,
+                capacite);
+            this.reservationSuivante = Arrays.copyOf(this.reservationSuivante,
+                capacite);
+            this.reservationPrecedente = Arrays.copyOf(this.reservationPrecedente,
+                capacite);
+        }
+        this.membreReservation[reservation] = membre;
+        this.livreReservation[reservation] = livre;
+        this.reservationSuivante[reservation] = SimulateurBibliotheque.AUCUN;
+        this.reservationPrecedente[reservation] = this.derniereReservationLivre[livre];
+        if(this.derniereReservationLivre[livre] == SimulateurBibliotheque.AUCUN) {
+            this.premiereReservationLivre[livre] = reservation;
+        } else {
+            this.reservationSuivante[this.derniereReservationLivre[livre]] = reservation;
+        }
+        this.derniereReservationLivre[livre] = reservation;
+        this.reservationsMembre[membre]++;
+        this.reservations.put(idReservation,
+            reservation);
+    }
+
+    /**
+     * Retire une réservation de l'état.
+     *
+     * @param idReservation L'ID de la réservation
+     * @param reservation L'indice de la réservation
+     */
+    private void retirerReservation(long idReservation,
+        int reservation) {
+        final int livre = this.livreReservation[reservation];
+        final int precedente = this.reservationPrecedente[reservation];
+        final int suivante = this.reservationSuivante[reservation];
+        if(precedente == SimulateurBibliotheque.AUCUN) {
+            this.premiereReservationLivre[livre] = suivante;
+        } else {
+            this.reservationSuivante[precedente] = suivante;
+        }
+        if(suivante == SimulateurBibliotheque.AUCUN) {
+            this.derniereReservationLivre[livre] = precedente;
+        } else {
+            this.reservationPrecedente[suivante] = precedente;
+        }
+        this.reservationsMembre[this.membreReservation[reservation]]--;
+        this.reservations.remove(idReservation);
+    }
+
+    /**
+     * Indique si un téléphone peut être enregistré dans la colonne numérique du schéma.
+     *
+     * @param telephone Le téléphone
+     * @return <code>true</code> si le téléphone n'est fait que de chiffres, <code>false</code> sinon
+     */
+    private static boolean isNumerique(String telephone) {
+        if(telephone.isEmpty()) {
+            return false;
+        }
+        for(int index = 0 ; index < telephone.length() ; index++) {
+            if(!Character.isDigit(telephone.charAt(index))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Décode un ID ou une limite de prêt tel qu'il apparaît dans le fichier de transactions. Comme la base de données, les zéros de tête
+     * sont ignorés ; une valeur non numérique ou trop grande ne correspond à aucune entité.
+     *
+     * @param valeur La valeur lue
+     * @return Le nombre ; {@link #VALEUR_INVALIDE} si la valeur n'est pas un nombre valide
+     */
+    private static long valeurNumerique(String valeur) {
+        int debut = 0;
+        while(debut < valeur.length()
+            - 1
+            && valeur.charAt(debut) == '0') {
+            debut++;
+        }
+        if(valeur.isEmpty()
+            || valeur.length()
+                - debut > SimulateurBibliotheque.CHIFFRES_MAXIMUM) {
+            return SimulateurBibliotheque.VALEUR_INVALIDE;
+        }
+        long nombre = 0L;
+        for(int index = debut ; index < valeur.length() ; index++) {
+            final char chiffre = valeur.charAt(index);
+            if(chiffre < '0'
+                || chiffre > '9') {
+                return SimulateurBibliotheque.VALEUR_INVALIDE;
+            }
+            nombre = nombre
+                * 10L
+                + chiffre
+                - '0';
+        }
+        return nombre;
+    }
+}
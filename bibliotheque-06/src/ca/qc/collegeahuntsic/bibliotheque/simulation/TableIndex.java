@@ -0,0 +1,175 @@
+// Fichier TableIndex.java
+// Auteur : Team PayDay
+// Date de création : 2026-10-18
+
+package ca.qc.collegeahuntsic.bibliotheque.simulation;
+
+import java.util.Arrays;
+
+/**
+ * Table de hachage qui associe un ID à l'indice d'une entité dans les tableaux du {@link SimulateurBibliotheque}.
+ *
+ * Les clefs et les valeurs sont rangées dans des tableaux de types primitifs, avec un adressage ouvert à sondage linéaire : une entrée
+ * occupe 12 octets, sans objet ni boxing, ce qui permet de charger des millions d'entités.
+ *
+ * @author Team PayDay
+ */
+class TableIndex {
+    /**
+     * La valeur retournée pour un ID absent.
+     */
+    static final int ABSENT = -1;
+
+    private static final int CAPACITE_MINIMALE = 16;
+
+    private static final long MULTIPLICATEUR = 0x9E3779B97F4A7C15L;
+
+    private long[] clefs;
+
+    private int[] valeurs;
+
+    private int taille;
+
+    private int decalage;
+
+    /**
+     * Crée une table vide.
+     */
+    TableIndex() {
+        super();
+        allouer(TableIndex.CAPACITE_MINIMALE);
+    }
+
+    /**
+     * Retourne le nombre d'ID de la table.
+     *
+     * @return Le nombre d'ID
+     */
+    int getTaille() {
+        return this.taille;
+    }
+
+    /**
+     * Retourne l'indice associé à un ID.
+     *
+     * @param clef L'ID
+     * @return L'indice ; {@link #ABSENT} si l'ID n'est pas dans la table
+     */
+    int get(long clef) {
+        int position = position(clef);
+        while(this.valeurs[position] != TableIndex.ABSENT) {
+            if(this.clefs[position] == clef) {
+                return this.valeurs[position];
+            }
+            position = position + 1
+                & this.clefs.length
+                    - 1;
+        }
+        return TableIndex.ABSENT;
+    }
+
+    /**
+     * Associe un indice à un ID.
+     *
+     * @param clef L'ID
+     * @param valeur L'indice, positif ou nul
+     */
+    void put(long clef,
+        int valeur) {
+        if(2 * (this.taille + 1) > this.clefs.length) {
+            redimensionner();
+        }
+        int position = position(clef);
+        while(this.valeurs[position] != TableIndex.ABSENT) {
+            if(this.clefs[position] == clef) {
+                this.valeurs[position] = valeur;
+                return;
+            }
+            position = position + 1
+                & this.clefs.length
+                    - 1;
+        }
+        this.clefs[position] = clef;
+        this.valeurs[position] = valeur;
+        this.taille++;
+    }
+
+    /**
+     * Retire un ID de la table. Les entrées suivantes de la même suite sont recompactées, de sorte que la table n'accumule pas d'entrées
+     * supprimées.
+     *
+     * @param clef L'ID
+     */
+    void remove(long clef) {
+        final int masque = this.clefs.length - 1;
+        int position = position(clef);
+        while(this.valeurs[position] != TableIndex.ABSENT
+            && this.clefs[position] != clef) {
+            position = position + 1
+                & masque;
+        }
+        if(this.valeurs[position] == TableIndex.ABSENT) {
+            return;
+        }
+        int libre = position;
+        int suivante = libre + 1
+            & masque;
+        while(this.valeurs[suivante] != TableIndex.ABSENT) {
+            final int ideale = position(this.clefs[suivante]);
+            // L'entrée peut combler le trou si sa position idéale ne se trouve pas entre le trou et elle
+            if((suivante
+                - ideale
+                & masque) >= (suivante
+                    - libre
+                    & masque)) {
+                this.clefs[libre] = this.clefs[suivante];
+                this.valeurs[libre] = this.valeurs[suivante];
+                libre = suivante;
+            }
+            suivante = suivante + 1
+                & masque;
+        }
+        this.valeurs[libre] = TableIndex.ABSENT;
+        this.taille--;
+    }
+
+    /**
+     * Calcule la position idéale d'un ID.
+     *
+     * @param clef L'ID
+     * @return La position
+     */
+    private int position(long clef) {
+        return (int) (clef
+            * TableIndex.MULTIPLICATEUR >>> this.decalage);
+    }
+
+    /**
+     * Alloue des tableaux vides.
+     *
+     * @param capacite La capacité, une puissance de deux
+     */
+    private void allouer(int capacite) {
+        this.clefs = new long[capacite];
+        this.valeurs = new int[capacite];
+        Arrays.fill(this.valeurs,
+            TableIndex.ABSENT);
+        this.decalage = Long.numberOfLeadingZeros(capacite - 1);
+        this.taille = 0;
+    }
+
+    /**
+     * Double la capacité de la table.
+     */
+    private void redimensionner() {
+        final long[] anciennesClefs = this.clefs;
+        final int[] anciennesValeurs = this.valeurs;
+        allouer(2 * anciennesClefs.length);
+        for(int index = 0 ; index < anciennesClefs.length ; index++) {
+            if(anciennesValeurs[index] != TableIndex.ABSENT) {
+                put(anciennesClefs[index],
+                    anciennesValeurs[index]);
+            }
+        }
+    }
+}
@@ -0,0 +1,11 @@
+// Fichier package-info.java
+// Auteur : Team PayDay
+// Date de création : 2026-10-18
+
+/**
+ * Provides the dry-run simulation classes used with the bibliothèque.
+ *
+ * @author Team PayDay
+ */
+
+package ca.qc.collegeahuntsic.bibliotheque.simulation;
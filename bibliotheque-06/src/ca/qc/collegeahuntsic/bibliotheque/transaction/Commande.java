@@ -0,0 +1,361 @@
+// Fichier Commande.java
+// Auteur : Team PayDay
+// Date de création : 2026-10-18
+
+package ca.qc.collegeahuntsic.bibliotheque.transaction;
+
+import java.util.Calendar;
+import java.util.GregorianCalendar;
+
+/**
+ * Commande décodée d'un fichier de transactions.
+ *
+ * Les identifiants et la limite de prêt sont conservés tels qu'ils apparaissent dans le fichier : comme avant le décodage en commandes,
+ * une valeur non numérique est rejetée par la transaction elle-même, qui échoue sans interrompre le traitement des suivantes. La date
+ * d'acquisition est exprimée en millisecondes, comme un {@link java.sql.Timestamp} ; seuls les arguments utilisés par le type de la
+ * commande sont renseignés.
+ *
+ * @author Team PayDay
+ */
+public class Commande {
+    private TypeCommande type;
+
+    private String texte;
+
+    private String idMembre;
+
+    private String idLivre;
+
+    private String idPret;
+
+    private String idReservation;
+
+    private String nom;
+
+    private String telephone;
+
+    private String limitePret;
+
+    private String titre;
+
+    private String auteur;
+
+    private long dateAcquisition;
+
+    private long numeroLigne;
+
+    private long position = -1L;
+
+    /**
+     * Crée une commande.
+     *
+     * @param type Le type de la commande
+     */
+    public Commande(TypeCommande type) {
+        super();
+        setType(type);
+    }
+
+    // Region Getters and Setters
+    /**
+     * Getter de la variable d'instance <code>this.type</code>.
+     *
+     * @return La variable d'instance <code>this.type</code>
+     */
+    public TypeCommande getType() {
+        return this.type;
+    }
+
+    /**
+     * Setter de la variable d'instance <code>this.type</code>.
+     *
+     * @param type La valeur à utiliser pour la variable d'instance <code>this.type</code>
+     */
+    public void setType(TypeCommande type) {
+        this.type = type;
+    }
+
+    /**
+     * Getter de la variable d'instance <code>this.texte</code>.
+     *
+     * @return Le texte d'origine de la commande ; <code>null</code> si le lecteur ne l'a pas conservé
+     */
+    public String getTexte() {
+        return this.texte;
+    }
+
+    /**
+     * Setter de la variable d'instance <code>this.texte</code>.
+     *
+     * @param texte La valeur à utiliser pour la variable d'instance <code>this.texte</code>
+     */
+    public void setTexte(String texte) {
+        this.texte = texte;
+    }
+
+    /**
+     * Getter de la variable d'instance <code>this.idMembre</code>.
+     *
+     * @return La variable d'instance <code>this.idMembre</code>
+     */
+    public String getIdMembre() {
+        return this.idMembre;
+    }
+
+    /**
+     * Setter de la variable d'instance <code>this.idMembre</code>.
+     *
+     * @param idMembre La valeur à utiliser pour la variable d'instance <code>this.idMembre</code>
+     */
+    public void setIdMembre(String idMembre) {
+        this.idMembre = idMembre;
+    }
+
+    /**
+     * Getter de la variable d'instance <code>this.idLivre</code>.
+     *
+     * @return La variable d'instance <code>this.idLivre</code>
+     */
+    public String getIdLivre() {
+        return this.idLivre;
+    }
+
+    /**
+     * Setter de la variable d'instance <code>this.idLivre</code>.
+     *
+     * @param idLivre La valeur à utiliser pour la variable d'instance <code>this.idLivre</code>
+     */
+    public void setIdLivre(String idLivre) {
+        this.idLivre = idLivre;
+    }
+
+    /**
+     * Getter de la variable d'instance <code>this.idPret</code>.
+     *
+     * @return La variable d'instance <code>this.idPret</code>
+     */
+    public String getIdPret() {
+        return this.idPret;
+    }
+
+    /**
+     * Setter de la variable d'instance <code>this.idPret</code>.
+     *
+     * @param idPret La valeur à utiliser pour la variable d'instance <code>this.idPret</code>
+     */
+    public void setIdPret(String idPret) {
+        this.idPret = idPret;
+    }
+
+    /**
+     * Getter de la variable d'instance <code>this.idReservation</code>.
+     *
+     * @return La variable d'instance <code>this.idReservation</code>
+     */
+    public String getIdReservation() {
+        return this.idReservation;
+    }
+
+    /**
+     * Setter de la variable d'instance <code>this.idReservation</code>.
+     *
+     * @param idReservation La valeur à utiliser pour la variable d'instance <code>this.idReservation</code>
+     */
+    public void setIdReservation(String idReservation) {
+        this.idReservation = idReservation;
+    }
+
+    /**
+     * Getter de la variable d'instance <code>this.nom</code>.
+     *
+     * @return La variable d'instance <code>this.nom</code>
+     */
+    public String getNom() {
+        return this.nom;
+    }
+
+    /**
+     * Setter de la variable d'instance <code>this.nom</code>.
+     *
+     * @param nom La valeur à utiliser pour la variable d'instance <code>this.nom</code>
+     */
+    public void setNom(String nom) {
+        this.nom = nom;
+    }
+
+    /**
+     * Getter de la variable d'instance <code>this.telephone</code>.
+     *
+     * @return La variable d'instance <code>this.telephone</code>
+     */
+    public String getTelephone() {
+        return this.telephone;
+    }
+
+    /**
+     * Setter de la variable d'instance <code>this.telephone</code>.
+     *
+     * @param telephone La valeur à utiliser pour la variable d'instance <code>this.telephone</code>
+     */
+    public void setTelephone(String telephone) {
+        this.telephone = telephone;
+    }
+
+    /**
+     * Getter de la variable d'instance <code>this.limitePret</code>.
+     *
+     * @return La variable d'instance <code>this.limitePret</code>
+     */
+    public String getLimitePret() {
+        return this.limitePret;
+    }
+
+    /**
+     * Setter de la variable d'instance <code>this.limitePret</code>.
+     *
+     * @param limitePret La valeur à utiliser pour la variable d'instance <code>this.limitePret</code>
+     */
+    public void setLimitePret(String limitePret) {
+        this.limitePret = limitePret;
+    }
+
+    /**
+     * Getter de la variable d'instance <code>this.titre</code>.
+     *
+     * @return La variable d'instance <code>this.titre</code>
+     */
+    public String getTitre() {
+        return this.titre;
+    }
+
+    /**
+     * Setter de la variable d'instance <code>this.titre</code>.
+     *
+     * @param titre La valeur à utiliser pour la variable d'instance <code>this.titre</code>
+     */
+    public void setTitre(String titre) {
+        this.titre = titre;
+    }
+
+    /**
+     * Getter de la variable d'instance <code>this.auteur</code>.
+     *
+     * @return La variable d'instance <code>this.auteur</code>
+     */
+    public String getAuteur() {
+        return this.auteur;
+    }
+
+    /**
+     * Setter de la variable d'instance <code>this.auteur</code>.
+     *
+     * @param auteur La valeur à utiliser pour la variable d'instance <code>this.auteur</code>
+     */
+    public void setAuteur(String auteur) {
+        this.auteur = auteur;
+    }
+
+    /**
+     * Getter de la variable d'instance <code>this.dateAcquisition</code>.
+     *
+     * @return La variable d'instance <code>this.dateAcquisition</code>, en millisecondes
+     */
+    public long getDateAcquisition() {
+        return this.dateAcquisition;
+    }
+
+    /**
+     * Setter de la variable d'instance <code>this.dateAcquisition</code>.
+     *
+     * @param dateAcquisition La valeur à utiliser pour la variable d'instance <code>this.dateAcquisition</code>, en millisecondes
+     */
+    public void setDateAcquisition(long dateAcquisition) {
+        this.dateAcquisition = dateAcquisition;
+    }
+
+    /**
+     * Getter de la variable d'instance <code>this.numeroLigne</code>.
+     *
+     * @return Le numéro de la ligne de la commande dans le fichier de transactions
+     */
+    public long getNumeroLigne() {
+        return this.numeroLigne;
+    }
+
+    /**
+     * Setter de la variable d'instance <code>this.numeroLigne</code>.
+     *
+     * @param numeroLigne La valeur à utiliser pour la variable d'instance <code>this.numeroLigne</code>
+     */
+    public void setNumeroLigne(long numeroLigne) {
+        this.numeroLigne = numeroLigne;
+    }
+
+    /**
+     * Getter de la variable d'instance <code>this.position</code>.
+     *
+     * @return La position dans le fichier du début de la ligne qui suit la commande, en octets ; <code>-1</code> si le lecteur ne la
+     *         connaît pas
+     */
+    public long getPosition() {
+        return this.position;
+    }
+
+    /**
+     * Setter de la variable d'instance <code>this.position</code>.
+     *
+     * @param position La valeur à utiliser pour la variable d'instance <code>this.position</code>
+     */
+    public void setPosition(long position) {
+        this.position = position;
+    }
+    // EndRegion Getters and Setters
+
+    /**
+     * Retourne le texte d'origine de la commande, ou le reconstruit si le lecteur ne l'a pas conservé.
+     *
+     * {@inheritDoc}
+     */
+    @Override
+    public String toString() {
+        if(getTexte() != null) {
+            return getTexte();
+        }
+        final StringBuilder texteCommande = new StringBuilder(getType().getMotClef());
+        switch(getType()) {
+            case INSCRIRE:
+                texteCommande.append(' ').append(getNom()).append(' ').append(getTelephone()).append(' ').append(getLimitePret());
+                break;
+            case DESINSCRIRE:
+                texteCommande.append(' ').append(getIdMembre());
+                break;
+            case ACQUERIR:
+                final Calendar calendrier = new GregorianCalendar();
+                calendrier.setTimeInMillis(getDateAcquisition());
+                texteCommande.append(' ').append(getTitre()).append(' ').append(getAuteur()).append(' ').append(String.format("%04d-%02d-%02d",
+                    Integer.valueOf(calendrier.get(Calendar.YEAR)),
+                    Integer.valueOf(calendrier.get(Calendar.MONTH)
+                        + 1),
+                    Integer.valueOf(calendrier.get(Calendar.DAY_OF_MONTH))));
+                break;
+            case VENDRE:
+                texteCommande.append(' ').append(getIdLivre());
+                break;
+            case PRETER:
+            case RESERVER:
+                texteCommande.append(' ').append(getIdMembre()).append(' ').append(getIdLivre());
+                break;
+            case RENOUVELER:
+            case RETOURNER:
+                texteCommande.append(' ').append(getIdPret());
+                break;
+            case UTILISER:
+            case ANNULER:
+                texteCommande.append(' ').append(getIdReservation());
+                break;
+            default:
+                break;
+        }
+        return texteCommande.toString();
+    }
+}
@@ -0,0 +1,399 @@
+// Fichier CompilateurTransactions.java
+// Auteur : Team PayDay
+// Date de création : 2026-10-18
+
+package ca.qc.collegeahuntsic.bibliotheque.transaction;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.GregorianCalendar;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import ca.qc.collegeahuntsic.bibliotheque.exception.BibliothequeException;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+/**
+ * Compilateur des fichiers de transactions texte en fichiers binaires, au format décrit par {@link FormatBinaire}, lus par
+ * {@link LecteurTransactionsBinaire}.
+ *
+ * Le fichier source est lu deux fois : une première fois pour construire la table des chaînes, une seconde fois pour écrire les
+ * enregistrements. Une ligne mal formée est compilée en un enregistrement d'erreur qui termine le fichier : l'exécution du fichier compilé
+ * s'arrête donc au même endroit, avec le même message, que celle du fichier source.
+ *
+ * Paramètres :
+ * 0 - fichier de transactions source
+ * 1 - fichier compilé à produire
+ *
+ * @author Team PayDay
+ */
+public final class CompilateurTransactions {
+    private static final Log LOGGER = LogFactory.getLog(CompilateurTransactions.class);
+
+    private static final int TAILLE_TAMPON = 64 * 1024;
+
+    private static final int CAPACITE_ENREGISTREMENT = 64;
+
+    private final Map<String, Integer> indices;
+
+    private final List<String> chaines;
+
+    private final ByteArrayOutputStream enregistrement;
+
+    private final Calendar calendrierLocal;
+
+    private final Calendar calendrierUtc;
+
+    /**
+     * Crée le compilateur.
+     */
+    private CompilateurTransactions() {
+        super();
+        this.indices = new HashMap<>();
+        this.chaines = new ArrayList<>();
+        this.enregistrement = new ByteArrayOutputStream(CompilateurTransactions.CAPACITE_ENREGISTREMENT);
+        this.calendrierLocal = new GregorianCalendar();
+        this.calendrierUtc = FormatBinaire.creerCalendrierUtc();
+    }
+
+    /**
+     * Compile un fichier de transactions.
+     *
+     * @param arguments Les arguments du main
+     * @throws Exception Si une erreur survient
+     */
+    public static void main(final String[] arguments) throws Exception {
+        if(arguments.length < 2) {
+            CompilateurTransactions.LOGGER.info("Usage: java CompilateurTransactions <fichier-transactions> <fichier-compile>");
+            return;
+        }
+        CompilateurTransactions.compiler(Paths.get(arguments[0]),
+            Paths.get(arguments[1]));
+    }
+
+    /**
+     * Compile un fichier de transactions.
+     *
+     * @param source Le fichier de transactions texte
+     * @param destination Le fichier compilé
+     * @return Le nombre d'enregistrements écrits
+     * @throws IOException Si un des fichiers ne peut être lu ou écrit
+     */
+    public static long compiler(Path source,
+        Path destination) throws IOException {
+        final long debut = System.nanoTime();
+        final CompilateurTransactions compilateur = new CompilateurTransactions();
+        compilateur.construireTable(source);
+        final long nombreEnregistrements;
+        try(
+            OutputStream sortie = new BufferedOutputStream(Files.newOutputStream(destination),
+                CompilateurTransactions.TAILLE_TAMPON)) {
+            compilateur.ecrireEntete(sortie);
+            nombreEnregistrements = compilateur.ecrireEnregistrements(source,
+                sortie);
+        }
+        CompilateurTransactions.LOGGER.info(source
+            + " compilé en "
+            + destination
+            + " : "
+            + nombreEnregistrements
+            + " enregistrements, "
+            + compilateur.chaines.size()
+            + " chaînes, "
+            + Files.size(source)
+            + " -> "
+            + Files.size(destination)
+            + " octets en "
+            + (System.nanoTime()
+                - debut)
+                / 1000000L
+            + " ms");
+        return nombreEnregistrements;
+    }
+
+    /**
+     * Construit la table des chaînes à partir des commandes du fichier source.
+     *
+     * @param source Le fichier de transactions texte
+     * @throws IOException Si le fichier ne peut être lu
+     */
+    private void construireTable(Path source) throws IOException {
+        try(
+            LecteurTransactionsMappe lecteur = new LecteurTransactionsMappe(source)) {
+            Commande commande = lecteur.lire();
+            while(commande != null) {
+                switch(commande.getType()) {
+                    case INSCRIRE:
+                        indexer(commande.getNom());
+                        indexer(commande.getTelephone());
+                        indexerValeur(commande.getLimitePret());
+                        break;
+                    case DESINSCRIRE:
+                        indexerValeur(commande.getIdMembre());
+                        break;
+                    case ACQUERIR:
+                        indexer(commande.getTitre());
+                        indexer(commande.getAuteur());
+                        break;
+                    case VENDRE:
+                        indexerValeur(commande.getIdLivre());
+                        break;
+                    case PRETER:
+                    case RESERVER:
+                        indexerValeur(commande.getIdMembre());
+                        indexerValeur(commande.getIdLivre());
+                        break;
+                    case RENOUVELER:
+                    case RETOURNER:
+                        indexerValeur(commande.getIdPret());
+                        break;
+                    case UTILISER:
+                    case ANNULER:
+                        indexerValeur(commande.getIdReservation());
+                        break;
+                    default:
+                        break;
+                }
+                commande = lecteur.lire();
+            }
+        } catch(BibliothequeException bibliothequeException) {
+            // La ligne mal formée sera compilée en enregistrement d'erreur par la seconde lecture
+            return;
+        }
+    }
+
+    /**
+     * Ajoute une chaîne à la table si elle n'y est pas déjà.
+     *
+     * @param chaine La chaîne
+     */
+    private void indexer(String chaine) {
+        if(!this.indices.containsKey(chaine)) {
+            this.indices.put(chaine,
+                Integer.valueOf(this.chaines.size()));
+            this.chaines.add(chaine);
+        }
+    }
+
+    /**
+     * Ajoute une valeur numérique à la table si elle ne peut être codée comme un nombre.
+     *
+     * @param valeur La valeur
+     */
+    private void indexerValeur(String valeur) {
+        if(FormatBinaire.nombreCanonique(valeur) == FormatBinaire.NON_CANONIQUE) {
+            indexer(valeur);
+        }
+    }
+
+    /**
+     * Écrit l'en-tête, la version et la table des chaînes.
+     *
+     * @param sortie Le fichier compilé
+     * @throws IOException Si le fichier ne peut être écrit
+     */
+    private void ecrireEntete(OutputStream sortie) throws IOException {
+        sortie.write(FormatBinaire.ENTETE);
+        sortie.write(FormatBinaire.VERSION);
+        CompilateurTransactions.ecrireVarint(sortie,
+            this.chaines.size());
+        for(String chaine : this.chaines) {
+            CompilateurTransactions.ecrireTexte(sortie,
+                chaine);
+        }
+    }
+
+    /**
+     * Écrit un enregistrement par commande du fichier source.
+     *
+     * @param source Le fichier de transactions texte
+     * @param sortie Le fichier compilé
+     * @return Le nombre d'enregistrements écrits
+     * @throws IOException Si un des fichiers ne peut être lu ou écrit
+     */
+    private long ecrireEnregistrements(Path source,
+        OutputStream sortie) throws IOException {
+        long nombreEnregistrements = 0L;
+        try(
+            LecteurTransactionsMappe lecteur = new LecteurTransactionsMappe(source)) {
+            Commande commande = lecteur.lire();
+            while(commande != null) {
+                encoder(commande);
+                ecrireEnregistrement(sortie);
+                nombreEnregistrements++;
+                commande = lecteur.lire();
+            }
+        } catch(BibliothequeException bibliothequeException) {
+            this.enregistrement.reset();
+            this.enregistrement.write(FormatBinaire.CODE_ERREUR);
+            CompilateurTransactions.ecrireTexte(this.enregistrement,
+                bibliothequeException.getMessage());
+            ecrireEnregistrement(sortie);
+            nombreEnregistrements++;
+        }
+        return nombreEnregistrements;
+    }
+
+    /**
+     * Encode une commande dans le tampon de l'enregistrement.
+     *
+     * @param commande La commande
+     * @throws IOException Si la commande ne peut être encodée
+     */
+    private void encoder(Commande commande) throws IOException {
+        final OutputStream tampon = this.enregistrement;
+        this.enregistrement.reset();
+        tampon.write(commande.getType().getCode());
+        switch(commande.getType()) {
+            case INSCRIRE:
+                ecrireIndice(tampon,
+                    commande.getNom());
+                ecrireIndice(tampon,
+                    commande.getTelephone());
+                ecrireValeur(tampon,
+                    commande.getLimitePret());
+                break;
+            case DESINSCRIRE:
+                ecrireValeur(tampon,
+                    commande.getIdMembre());
+                break;
+            case ACQUERIR:
+                ecrireIndice(tampon,
+                    commande.getTitre());
+                ecrireIndice(tampon,
+                    commande.getAuteur());
+                CompilateurTransactions.ecrireNombre(tampon,
+                    FormatBinaire.jourEpoque(commande.getDateAcquisition(),
+                        this.calendrierLocal,
+                        this.calendrierUtc));
+                break;
+            case VENDRE:
+                ecrireValeur(tampon,
+                    commande.getIdLivre());
+                break;
+            case PRETER:
+            case RESERVER:
+                ecrireValeur(tampon,
+                    commande.getIdMembre());
+                ecrireValeur(tampon,
+                    commande.getIdLivre());
+                break;
+            case RENOUVELER:
+            case RETOURNER:
+                ecrireValeur(tampon,
+                    commande.getIdPret());
+                break;
+            case UTILISER:
+            case ANNULER:
+                ecrireValeur(tampon,
+                    commande.getIdReservation());
+                break;
+            case COMMENTAIRE:
+            case INCONNUE:
+                CompilateurTransactions.ecrireTexte(tampon,
+                    commande.getTexte());
+                break;
+            default:
+                break;
+        }
+    }
+
+    /**
+     * Écrit le tampon de l'enregistrement précédé de sa longueur.
+     *
+     * @param sortie Le fichier compilé
+     * @throws IOException Si le fichier ne peut être écrit
+     */
+    private void ecrireEnregistrement(OutputStream sortie) throws IOException {
+        CompilateurTransactions.ecrireVarint(sortie,
+            this.enregistrement.size());
+        this.enregistrement.writeTo(sortie);
+    }
+
+    /**
+     * Écrit l'indice d'une chaîne de la table.
+     *
+     * @param sortie Le flux
+     * @param chaine La chaîne
+     * @throws IOException Si le flux ne peut être écrit
+     */
+    private void ecrireIndice(OutputStream sortie,
+        String chaine) throws IOException {
+        CompilateurTransactions.ecrireVarint(sortie,
+            this.indices.get(chaine).intValue());
+    }
+
+    /**
+     * Écrit une valeur numérique : un nombre canonique, ou l'indice de la valeur dans la table.
+     *
+     * @param sortie Le flux
+     * @param valeur La valeur
+     * @throws IOException Si le flux ne peut être écrit
+     */
+    private void ecrireValeur(OutputStream sortie,
+        String valeur) throws IOException {
+        final long nombre = FormatBinaire.nombreCanonique(valeur);
+        if(nombre == FormatBinaire.NON_CANONIQUE) {
+            CompilateurTransactions.ecrireVarint(sortie,
+                (long) this.indices.get(valeur).intValue() << 1
+                    | 1L);
+        } else {
+            CompilateurTransactions.ecrireVarint(sortie,
+                nombre << 1);
+        }
+    }
+
+    /**
+     * Écrit un nombre signé en varint zigzag.
+     *
+     * @param sortie Le flux
+     * @param nombre Le nombre
+     * @throws IOException Si le flux ne peut être écrit
+     */
+    private static void ecrireNombre(OutputStream sortie,
+        long nombre) throws IOException {
+        CompilateurTransactions.ecrireVarint(sortie,
+            nombre << 1
+                ^ nombre >> 63);
+    }
+
+    /**
+     * Écrit une chaîne UTF-8 précédée de sa longueur.
+     *
+     * @param sortie Le flux
+     * @param texte La chaîne
+     * @throws IOException Si le flux ne peut être écrit
+     */
+    private static void ecrireTexte(OutputStream sortie,
+        String texte) throws IOException {
+        final byte[] octets = texte.getBytes(FormatBinaire.CHARSET);
+        CompilateurTransactions.ecrireVarint(sortie,
+            octets.length);
+        sortie.write(octets);
+    }
+
+    /**
+     * Écrit un nombre non signé en varint : 7 bits par octet, le bit de poids fort indiquant qu'un autre octet suit.
+     *
+     * @param sortie Le flux
+     * @param nombre Le nombre, traité comme non signé
+     * @throws IOException Si le flux ne peut être écrit
+     */
+    private static void ecrireVarint(OutputStream sortie,
+        long nombre) throws IOException {
+        long reste = nombre;
+        while((reste & ~0x7FL) != 0L) {
+            sortie.write((int) (reste & 0x7FL | 0x80L));
+            reste >>>= 7;
+        }
+        sortie.write((int) reste);
+    }
+}
@@ -0,0 +1,139 @@
+// Fichier CompteursEtape.java
+// Auteur : Team PayDay
+// Date de création : 2026-10-18
+
+package ca.qc.collegeahuntsic.bibliotheque.transaction;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Compteurs d'une étape du {@link PipelineTransactions}.
+ *
+ * Le temps d'attente en entrée mesure le temps passé à attendre l'étape précédente (file vide) ; le temps d'attente en sortie mesure le
+ * temps passé à attendre l'étape suivante (file pleine). Les compteurs sont mis à jour par le thread de l'étape et peuvent être lus par
+ * n'importe quel thread.
+ *
+ * @author Team PayDay
+ */
+public class CompteursEtape {
+    private static final double NANOSECONDES_PAR_MILLISECONDE = 1000000.0;
+
+    private final String nom;
+
+    private final AtomicLong nombre;
+
+    private final AtomicLong attenteEntree;
+
+    private final AtomicLong attenteSortie;
+
+    private final AtomicLong profondeurMaximale;
+
+    /**
+     * Crée les compteurs d'une étape.
+     *
+     * @param nom Le nom de l'étape
+     */
+    public CompteursEtape(String nom) {
+        super();
+        this.nom = nom;
+        this.nombre = new AtomicLong();
+        this.attenteEntree = new AtomicLong();
+        this.attenteSortie = new AtomicLong();
+        this.profondeurMaximale = new AtomicLong();
+    }
+
+    // Region Getters and Setters
+    /**
+     * Getter de la variable d'instance <code>this.nom</code>.
+     *
+     * @return La variable d'instance <code>this.nom</code>
+     */
+    public String getNom() {
+        return this.nom;
+    }
+
+    /**
+     * Retourne le nombre de commandes traitées par l'étape.
+     *
+     * @return Le nombre de commandes
+     */
+    public long getNombre() {
+        return this.nombre.get();
+    }
+
+    /**
+     * Retourne le temps passé à attendre l'étape précédente.
+     *
+     * @return Le temps d'attente, en nanosecondes
+     */
+    public long getAttenteEntree() {
+        return this.attenteEntree.get();
+    }
+
+    /**
+     * Retourne le temps passé à attendre l'étape suivante.
+     *
+     * @return Le temps d'attente, en nanosecondes
+     */
+    public long getAttenteSortie() {
+        return this.attenteSortie.get();
+    }
+
+    /**
+     * Retourne la plus grande profondeur observée de la file de sortie de l'étape.
+     *
+     * @return La profondeur maximale
+     */
+    public long getProfondeurMaximale() {
+        return this.profondeurMaximale.get();
+    }
+    // EndRegion Getters and Setters
+
+    /**
+     * Comptabilise une commande traitée.
+     */
+    void incrementerNombre() {
+        this.nombre.incrementAndGet();
+    }
+
+    /**
+     * Comptabilise une attente de l'étape précédente.
+     *
+     * @param duree La durée de l'attente, en nanosecondes
+     */
+    void ajouterAttenteEntree(long duree) {
+        this.attenteEntree.addAndGet(duree);
+    }
+
+    /**
+     * Comptabilise une attente de l'étape suivante et la profondeur de la file de sortie.
+     *
+     * @param duree La durée de l'attente, en nanosecondes
+     * @param profondeur La profondeur de la file de sortie après l'ajout
+     */
+    void ajouterAttenteSortie(long duree,
+        int profondeur) {
+        this.attenteSortie.addAndGet(duree);
+        long maximum = this.profondeurMaximale.get();
+        while(profondeur > maximum
+            && !this.profondeurMaximale.compareAndSet(maximum,
+                profondeur)) {
+            maximum = this.profondeurMaximale.get();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String toString() {
+        return String.format("%-10s n=%-10d attente entrée=%-10.1f attente sortie=%-10.1f ms profondeur max=%d",
+            getNom(),
+            Long.valueOf(getNombre()),
+            Double.valueOf(getAttenteEntree()
+                / CompteursEtape.NANOSECONDES_PAR_MILLISECONDE),
+            Double.valueOf(getAttenteSortie()
+                / CompteursEtape.NANOSECONDES_PAR_MILLISECONDE),
+            Long.valueOf(getProfondeurMaximale()));
+    }
+}
@@ -0,0 +1,25 @@
+// Fichier ExecuteurTransaction.java
+// Auteur : Team PayDay
+// Date de création : 2026-10-18
+
+package ca.qc.collegeahuntsic.bibliotheque.transaction;
+
+import ca.qc.collegeahuntsic.bibliotheque.exception.BibliothequeException;
+
+/**
+ * Exécute une transaction de la bibliothèque.
+ *
+ * Les implémentations doivent pouvoir être appelées par plusieurs threads à la fois ; chaque thread utilise alors sa propre session.
+ *
+ * @author Team PayDay
+ */
+public interface ExecuteurTransaction {
+    /**
+     * Exécute une transaction.
+     *
+     * @param commande La commande de la transaction
+     * @return <code>true</code> si la transaction a réussi, <code>false</code> sinon
+     * @throws BibliothequeException S'il y a une erreur qui doit interrompre le traitement
+     */
+    boolean executer(Commande commande) throws BibliothequeException;
+}
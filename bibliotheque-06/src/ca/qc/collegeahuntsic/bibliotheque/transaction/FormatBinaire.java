@@ -0,0 +1,145 @@
+// Fichier FormatBinaire.java
+// Auteur : Team PayDay
+// Date de création : 2026-10-18
+
+package ca.qc.collegeahuntsic.bibliotheque.transaction;
+
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.Calendar;
+import java.util.GregorianCalendar;
+import java.util.TimeZone;
+
+/**
+ * Constantes et conversions du format des fichiers de transactions compilés.
+ *
+ * Un fichier compilé commence par l'en-tête <code>BIBT</code>, la version du format et la table des chaînes (nombre de chaînes, puis
+ * chaque chaîne précédée de sa longueur en octets UTF-8). Viennent ensuite les enregistrements, un par ligne du fichier source, chacun
+ * précédé de sa longueur : l'opcode de la commande ({@link TypeCommande#getCode()}), puis ses arguments. Les chaînes (nom, téléphone,
+ * titre, auteur) sont des indices varint dans la table des chaînes, la date d'acquisition un nombre de jours depuis le 1970-01-01 et le
+ * texte des commentaires et des commandes non reconnues une chaîne UTF-8 précédée de sa longueur. Les ID et la limite de prêt sont des
+ * varints dont le bit de poids faible indique le codage : <code>0</code> pour un nombre décimal canonique, dans les bits restants,
+ * <code>1</code> pour une valeur conservée telle quelle (zéros de tête, valeur non numérique, ...), dont les bits restants sont l'indice
+ * dans la table des chaînes.
+ * L'enregistrement {@link #CODE_ERREUR} contient le message d'une ligne qui n'a pu être compilée.
+ *
+ * @author Team PayDay
+ */
+final class FormatBinaire {
+    /**
+     * L'en-tête des fichiers compilés.
+     */
+    static final byte[] ENTETE = {'B', 'I', 'B', 'T'};
+
+    /**
+     * La version du format.
+     */
+    static final int VERSION = 2;
+
+    /**
+     * L'opcode de l'enregistrement d'une ligne qui n'a pu être compilée.
+     */
+    static final int CODE_ERREUR = 0xFF;
+
+    /**
+     * L'encodage des chaînes.
+     */
+    static final Charset CHARSET = StandardCharsets.UTF_8;
+
+    /**
+     * La valeur retournée par {@link #nombreCanonique(String)} pour une valeur qui n'est pas un nombre décimal canonique.
+     */
+    static final long NON_CANONIQUE = -1L;
+
+    private static final int CHIFFRES_MAXIMUM = 18;
+
+    private static final long MILLISECONDES_PAR_JOUR = 24L * 60L * 60L * 1000L;
+
+    private static final TimeZone UTC = TimeZone.getTimeZone("UTC");
+
+    /**
+     * Constructeur privé pour empêcher toute instanciation.
+     */
+    private FormatBinaire() {
+        super();
+    }
+
+    /**
+     * Crée le calendrier UTC utilisé par les conversions de dates.
+     *
+     * @return Le calendrier
+     */
+    static Calendar creerCalendrierUtc() {
+        return new GregorianCalendar(FormatBinaire.UTC);
+    }
+
+    /**
+     * Décode une valeur numérique d'une commande si elle s'écrit exactement comme le nombre qu'elle représente, c'est-à-dire sans signe,
+     * sans zéro de tête et en au plus 18 chiffres.
+     *
+     * @param valeur La valeur
+     * @return Le nombre ; {@link #NON_CANONIQUE} si la valeur doit être conservée telle quelle
+     */
+    static long nombreCanonique(String valeur) {
+        final int longueur = valeur.length();
+        if(longueur == 0
+            || longueur > FormatBinaire.CHIFFRES_MAXIMUM
+            || longueur > 1
+                && valeur.charAt(0) == '0') {
+            return FormatBinaire.NON_CANONIQUE;
+        }
+        long nombre = 0L;
+        for(int index = 0 ; index < longueur ; index++) {
+            final char chiffre = valeur.charAt(index);
+            if(chiffre < '0'
+                || chiffre > '9') {
+                return FormatBinaire.NON_CANONIQUE;
+            }
+            nombre = nombre
+                * 10L
+                + chiffre
+                - '0';
+        }
+        return nombre;
+    }
+
+    /**
+     * Convertit une date en nombre de jours depuis le 1970-01-01.
+     *
+     * @param date La date, en millisecondes, à minuit dans le fuseau horaire local
+     * @param calendrierLocal Un calendrier du fuseau horaire local
+     * @param calendrierUtc Un calendrier UTC
+     * @return Le nombre de jours
+     */
+    static long jourEpoque(long date,
+        Calendar calendrierLocal,
+        Calendar calendrierUtc) {
+        calendrierLocal.setTimeInMillis(date);
+        calendrierUtc.clear();
+        calendrierUtc.set(calendrierLocal.get(Calendar.YEAR),
+            calendrierLocal.get(Calendar.MONTH),
+            calendrierLocal.get(Calendar.DAY_OF_MONTH));
+        return calendrierUtc.getTimeInMillis()
+            / FormatBinaire.MILLISECONDES_PAR_JOUR;
+    }
+
+    /**
+     * Convertit un nombre de jours depuis le 1970-01-01 en date.
+     *
+     * @param jour Le nombre de jours
+     * @param calendrierLocal Un calendrier du fuseau horaire local
+     * @param calendrierUtc Un calendrier UTC
+     * @return La date, en millisecondes, à minuit dans le fuseau horaire local
+     */
+    static long date(long jour,
+        Calendar calendrierLocal,
+        Calendar calendrierUtc) {
+        calendrierUtc.setTimeInMillis(jour
+            * FormatBinaire.MILLISECONDES_PAR_JOUR);
+        calendrierLocal.clear();
+        calendrierLocal.set(calendrierUtc.get(Calendar.YEAR),
+            calendrierUtc.get(Calendar.MONTH),
+            calendrierUtc.get(Calendar.DAY_OF_MONTH));
+        return calendrierLocal.getTimeInMillis();
+    }
+}
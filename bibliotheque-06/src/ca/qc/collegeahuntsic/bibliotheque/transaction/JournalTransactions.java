@@ -0,0 +1,23 @@
+// Fichier JournalTransactions.java
+// Auteur : Team PayDay
+// Date de création : 2026-10-18
+
+package ca.qc.collegeahuntsic.bibliotheque.transaction;
+
+/**
+ * Journalise les transactions exécutées par le {@link PipelineTransactions}.
+ *
+ * @author Team PayDay
+ */
+public interface JournalTransactions {
+    /**
+     * Journalise une transaction exécutée, suivie de ses lignes d'erreur.
+     *
+     * @param commande La commande de la transaction
+     * @param succes <code>true</code> si la transaction a réussi, <code>false</code> sinon
+     * @param erreur Les lignes d'erreur de la transaction ; <code>null</code> s'il n'y en a pas
+     */
+    void journaliser(Commande commande,
+        boolean succes,
+        String erreur);
+}
@@ -0,0 +1,42 @@
+// Fichier LecteurTransactions.java
+// Auteur : Team PayDay
+// Date de création : 2026-10-18
+
+package ca.qc.collegeahuntsic.bibliotheque.transaction;
+
+import java.io.Closeable;
+import ca.qc.collegeahuntsic.bibliotheque.exception.BibliothequeException;
+
+/**
+ * Lecteur des commandes d'un fichier de transactions.
+ *
+ * La lecture s'arrête à la fin du fichier, à la première ligne vide ou à la commande <code>exit</code>. Un lecteur n'est utilisé que par un
+ * seul thread. Chaque commande lue porte son numéro de ligne et, si le lecteur la connaît, la position de la ligne suivante, ce qui permet
+ * de reprendre la lecture après la dernière commande commitée.
+ *
+ * @author Team PayDay
+ */
+public interface LecteurTransactions extends Closeable {
+    /**
+     * Lit et décode la commande suivante.
+     *
+     * @return La commande ; <code>null</code> à la fin des transactions
+     * @throws BibliothequeException Si la lecture échoue ou si la commande est mal formée
+     */
+    Commande lire() throws BibliothequeException;
+
+    /**
+     * Retourne le numéro de la dernière ligne lue.
+     *
+     * @return Le numéro de ligne, à partir de <code>1</code>
+     */
+    long getNumeroLigne();
+
+    /**
+     * Reprend la lecture juste après un point de reprise. Doit être appelée avant la première lecture.
+     *
+     * @param pointReprise Le point de reprise
+     * @throws BibliothequeException Si le point de reprise ne correspond pas au fichier
+     */
+    void reprendre(PointReprise pointReprise) throws BibliothequeException;
+}
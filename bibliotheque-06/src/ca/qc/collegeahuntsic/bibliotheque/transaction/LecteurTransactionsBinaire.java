@@ -0,0 +1,393 @@
+// Fichier LecteurTransactionsBinaire.java
+// Auteur : Team PayDay
+// Date de création : 2026-10-18
+
+package ca.qc.collegeahuntsic.bibliotheque.transaction;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Calendar;
+import java.util.GregorianCalendar;
+import ca.qc.collegeahuntsic.bibliotheque.exception.BibliothequeException;
+
+/**
+ * Lecteur des fichiers de transactions compilés par {@link CompilateurTransactions}.
+ *
+ * Les commandes sont décodées directement à partir des opcodes et des varints, sans découpage en jetons ni analyse de dates ; la table des
+ * chaînes est chargée à l'ouverture, de sorte que les titres et les auteurs répétés sont partagés. Chaque enregistrement correspond à une
+ * ligne du fichier source : les numéros de ligne des commandes, et donc des messages d'erreur, sont ceux du fichier source.
+ *
+ * @author Team PayDay
+ */
+public class LecteurTransactionsBinaire implements LecteurTransactions {
+    private static final int TAILLE_TAMPON = 64 * 1024;
+
+    private static final int TAILLE_VARINT_MAXIMALE = 10;
+
+    private final FileChannel fileChannel;
+
+    private final long taille;
+
+    private final Calendar calendrierLocal;
+
+    private final Calendar calendrierUtc;
+
+    private final String[] chaines;
+
+    private final long debutEnregistrements;
+
+    private ByteBuffer tampon;
+
+    private long debutTampon;
+
+    private long numeroLigne;
+
+    private boolean termine;
+
+    /**
+     * Ouvre le fichier compilé et charge sa table des chaînes.
+     *
+     * @param fichier Le chemin du fichier
+     * @throws IOException Si le fichier ne peut être ouvert ou n'est pas un fichier compilé valide
+     */
+    public LecteurTransactionsBinaire(Path fichier) throws IOException {
+        super();
+        this.fileChannel = FileChannel.open(fichier,
+            StandardOpenOption.READ);
+        this.taille = this.fileChannel.size();
+        this.calendrierLocal = new GregorianCalendar();
+        this.calendrierUtc = FormatBinaire.creerCalendrierUtc();
+        this.tampon = ByteBuffer.allocate(LecteurTransactionsBinaire.TAILLE_TAMPON);
+        this.tampon.limit(0);
+        try {
+            remplir(FormatBinaire.ENTETE.length
+                + 1);
+            final byte[] entete = new byte[FormatBinaire.ENTETE.length];
+            if(this.tampon.remaining() < entete.length
+                + 1) {
+                throw new IOException(fichier
+                    + " n'est pas un fichier de transactions compilé");
+            }
+            this.tampon.get(entete);
+            if(!Arrays.equals(entete,
+                FormatBinaire.ENTETE)) {
+                throw new IOException(fichier
+                    + " n'est pas un fichier de transactions compilé");
+            }
+            final int version = this.tampon.get();
+            if(version != FormatBinaire.VERSION) {
+                throw new IOException(fichier
+                    + " : version "
+                    + version
+                    + " du format compilé non supportée");
+            }
+            remplir(LecteurTransactionsBinaire.TAILLE_VARINT_MAXIMALE);
+            this.chaines = new String[(int) lireVarint()];
+            for(int index = 0 ; index < this.chaines.length ; index++) {
+                this.chaines[index] = lireTexte();
+            }
+        } catch(BibliothequeException bibliothequeException) {
+            this.fileChannel.close();
+            throw new IOException(bibliothequeException.getMessage(),
+                bibliothequeException);
+        } catch(IOException ioException) {
+            this.fileChannel.close();
+            throw ioException;
+        }
+        this.debutEnregistrements = getPosition();
+    }
+
+    /**
+     * Indique si un fichier est un fichier de transactions compilé.
+     *
+     * @param fichier Le chemin du fichier
+     * @return <code>true</code> si le fichier commence par l'en-tête des fichiers compilés, <code>false</code> sinon
+     * @throws IOException Si le fichier ne peut être lu
+     */
+    public static boolean isCompile(Path fichier) throws IOException {
+        try(
+            FileChannel canal = FileChannel.open(fichier,
+                StandardOpenOption.READ)) {
+            final ByteBuffer entete = ByteBuffer.allocate(FormatBinaire.ENTETE.length);
+            while(entete.hasRemaining()
+                && canal.read(entete) > 0) {
+                // Lecture de l'en-tête
+            }
+            return !entete.hasRemaining()
+                && Arrays.equals(entete.array(),
+                    FormatBinaire.ENTETE);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Commande lire() throws BibliothequeException {
+        if(this.termine
+            || getPosition() >= this.taille) {
+            return null;
+        }
+        remplir(LecteurTransactionsBinaire.TAILLE_VARINT_MAXIMALE);
+        final int longueur = (int) lireVarint();
+        remplir(longueur);
+        if(this.tampon.remaining() < longueur) {
+            throw erreur("enregistrement tronqué");
+        }
+        final long finEnregistrement = getPosition()
+            + longueur;
+        this.numeroLigne++;
+        final int code = this.tampon.get() & 0xFF;
+        if(code == FormatBinaire.CODE_ERREUR) {
+            this.termine = true;
+            throw new BibliothequeException(lireTexte());
+        }
+        final TypeCommande typeCommande = TypeCommande.valueOfCode(code);
+        if(typeCommande == null) {
+            throw erreur("opcode "
+                + code
+                + " inconnu");
+        }
+        final Commande commande = new Commande(typeCommande);
+        commande.setNumeroLigne(this.numeroLigne);
+        switch(typeCommande) {
+            case INSCRIRE:
+                commande.setNom(lireChaine());
+                commande.setTelephone(lireChaine());
+                commande.setLimitePret(lireValeur());
+                break;
+            case DESINSCRIRE:
+                commande.setIdMembre(lireValeur());
+                break;
+            case ACQUERIR:
+                commande.setTitre(lireChaine());
+                commande.setAuteur(lireChaine());
+                commande.setDateAcquisition(FormatBinaire.date(lireNombre(),
+                    this.calendrierLocal,
+                    this.calendrierUtc));
+                break;
+            case VENDRE:
+                commande.setIdLivre(lireValeur());
+                break;
+            case PRETER:
+            case RESERVER:
+                commande.setIdMembre(lireValeur());
+                commande.setIdLivre(lireValeur());
+                break;
+            case RENOUVELER:
+            case RETOURNER:
+                commande.setIdPret(lireValeur());
+                break;
+            case UTILISER:
+            case ANNULER:
+                commande.setIdReservation(lireValeur());
+                break;
+            case COMMENTAIRE:
+            case INCONNUE:
+                commande.setTexte(lireTexte());
+                break;
+            default:
+                break;
+        }
+        if(getPosition() > finEnregistrement) {
+            throw erreur("enregistrement mal formé");
+        }
+        this.tampon.position((int) (finEnregistrement
+            - this.debutTampon));
+        commande.setPosition(finEnregistrement);
+        return commande;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long getNumeroLigne() {
+        return this.numeroLigne;
+    }
+
+    /**
+     * Retourne la position dans le fichier du début de l'enregistrement suivant.
+     *
+     * @return La position, en octets
+     */
+    public long getPosition() {
+        return this.debutTampon
+            + this.tampon.position();
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * La lecture reprend directement à la position enregistrée, qui doit être le début d'un enregistrement.
+     */
+    @Override
+    public void reprendre(PointReprise pointReprise) throws BibliothequeException {
+        if(pointReprise.getPosition() < this.debutEnregistrements
+            || pointReprise.getPosition() > this.taille) {
+            throw new BibliothequeException("Le point de reprise ("
+                + pointReprise
+                + ") ne correspond pas à un enregistrement du fichier");
+        }
+        this.debutTampon = pointReprise.getPosition();
+        this.tampon.clear();
+        this.tampon.limit(0);
+        this.numeroLigne = pointReprise.getNumeroLigne();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void close() throws IOException {
+        this.fileChannel.close();
+    }
+
+    /**
+     * Remplit le tampon pour qu'il contienne au moins le nombre d'octets demandé, ou jusqu'à la fin du fichier. Le tampon est agrandi si
+     * nécessaire.
+     *
+     * @param nombreOctets Le nombre d'octets demandé
+     * @throws BibliothequeException Si le fichier ne peut être lu
+     */
+    private void remplir(int nombreOctets) throws BibliothequeException {
+        if(this.tampon.remaining() >= nombreOctets) {
+            return;
+        }
+        this.debutTampon += this.tampon.position();
+        if(nombreOctets > this.tampon.capacity()) {
+            final ByteBuffer agrandi = ByteBuffer.allocate(Math.max(nombreOctets,
+                2 * this.tampon.capacity()));
+            agrandi.put(this.tampon);
+            this.tampon = agrandi;
+        } else {
+            this.tampon.compact();
+        }
+        try {
+            int lus = 0;
+            while(this.tampon.hasRemaining()
+                && lus >= 0) {
+                lus = this.fileChannel.read(this.tampon,
+                    this.debutTampon
+                        + this.tampon.position());
+            }
+        } catch(IOException ioException) {
+            throw new BibliothequeException(ioException);
+        } finally {
+            this.tampon.flip();
+        }
+    }
+
+    /**
+     * Lit un nombre non signé en varint.
+     *
+     * @return Le nombre
+     * @throws BibliothequeException Si le varint est tronqué ou trop long
+     */
+    private long lireVarint() throws BibliothequeException {
+        long nombre = 0L;
+        for(int decalage = 0 ; decalage < 64 ; decalage += 7) {
+            if(!this.tampon.hasRemaining()) {
+                throw erreur("enregistrement tronqué");
+            }
+            final byte octet = this.tampon.get();
+            nombre |= (octet & 0x7FL) << decalage;
+            if(octet >= 0) {
+                return nombre;
+            }
+        }
+        throw erreur("varint trop long");
+    }
+
+    /**
+     * Lit un nombre signé en varint zigzag.
+     *
+     * @return Le nombre
+     * @throws BibliothequeException Si le varint est tronqué ou trop long
+     */
+    private long lireNombre() throws BibliothequeException {
+        final long nombre = lireVarint();
+        return nombre >>> 1
+            ^ -(nombre & 1L);
+    }
+
+    /**
+     * Lit une valeur numérique : un nombre canonique, ou l'indice d'une valeur conservée telle quelle dans la table.
+     *
+     * @return La valeur
+     * @throws BibliothequeException Si le varint est tronqué ou si l'indice n'existe pas dans la table
+     */
+    private String lireValeur() throws BibliothequeException {
+        final long valeur = lireVarint();
+        if((valeur & 1L) == 0L) {
+            return String.valueOf(valeur >>> 1);
+        }
+        return chaine(valeur >>> 1);
+    }
+
+    /**
+     * Lit l'indice d'une chaîne et retourne la chaîne de la table.
+     *
+     * @return La chaîne
+     * @throws BibliothequeException Si l'indice n'existe pas dans la table
+     */
+    private String lireChaine() throws BibliothequeException {
+        return chaine(lireVarint());
+    }
+
+    /**
+     * Retourne une chaîne de la table.
+     *
+     * @param indice L'indice de la chaîne
+     * @return La chaîne
+     * @throws BibliothequeException Si l'indice n'existe pas dans la table
+     */
+    private String chaine(long indice) throws BibliothequeException {
+        if(indice >= this.chaines.length) {
+            throw erreur("chaîne "
+                + indice
+                + " absente de la table");
+        }
+        return this.chaines[(int) indice];
+    }
+
+    /**
+     * Lit une chaîne UTF-8 précédée de sa longueur.
+     *
+     * @return La chaîne
+     * @throws BibliothequeException Si la chaîne est tronquée
+     */
+    private String lireTexte() throws BibliothequeException {
+        remplir(LecteurTransactionsBinaire.TAILLE_VARINT_MAXIMALE);
+        final int longueur = (int) lireVarint();
+        remplir(longueur);
+        if(this.tampon.remaining() < longueur) {
+            throw erreur("chaîne tronquée");
+        }
+        final String texte = new String(this.tampon.array(),
+            this.tampon.arrayOffset()
+                + this.tampon.position(),
+            longueur,
+            FormatBinaire.CHARSET);
+        this.tampon.position(this.tampon.position()
+            + longueur);
+        return texte;
+    }
+
+    /**
+     * Crée l'erreur d'un fichier compilé mal formé.
+     *
+     * @param description La description de l'erreur
+     * @return L'erreur
+     */
+    private BibliothequeException erreur(String description) {
+        return new BibliothequeException("Enregistrement "
+            + getNumeroLigne()
+            + " du fichier compilé : "
+            + description);
+    }
+}
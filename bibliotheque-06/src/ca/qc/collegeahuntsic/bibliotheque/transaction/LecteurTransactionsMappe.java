@@ -0,0 +1,460 @@
+// Fichier LecteurTransactionsMappe.java
+// Auteur : Team PayDay
+// Date de création : 2026-10-18
+
+package ca.qc.collegeahuntsic.bibliotheque.transaction;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Calendar;
+import java.util.GregorianCalendar;
+import ca.qc.collegeahuntsic.bibliotheque.exception.BibliothequeException;
+
+/**
+ * Lecteur de transactions qui décode les commandes directement dans une projection en mémoire du fichier.
+ *
+ * Le fichier est projeté par fenêtres de 64 Mo avec un {@link MappedByteBuffer}. Les lignes ne sont pas copiées : le mot clef est reconnu
+ * en comparant les octets, les dates sont décodées sur place et seuls les autres arguments (nom, titre, identifiants, ...) deviennent des
+ * {@link String}. Le texte d'origine n'est conservé que pour les commentaires et les commandes non reconnues.
+ *
+ * @author Team PayDay
+ */
+public class LecteurTransactionsMappe implements LecteurTransactions {
+    private static final long TAILLE_FENETRE = 64L * 1024L * 1024L;
+
+    private static final int TAILLE_TAMPON = 256;
+
+    private static final byte ESPACE = ' ';
+
+    private static final byte FIN_LIGNE = '\n';
+
+    private static final byte RETOUR_CHARIOT = '\r';
+
+    private static final byte TIRET = '-';
+
+    private static final byte[] FIN = TypeCommande.MOT_CLEF_FIN.getBytes(StandardCharsets.US_ASCII);
+
+    private static final TypeCommande[] TYPES = TypeCommande.values();
+
+    private final FileChannel fileChannel;
+
+    private final long taille;
+
+    private final Charset charset;
+
+    private final Calendar calendrier;
+
+    private MappedByteBuffer fenetre;
+
+    private long debutFenetre;
+
+    private long position;
+
+    private long numeroLigne;
+
+    private boolean termine;
+
+    private byte[] tampon;
+
+    private final int[] champsDate;
+
+    private int curseur;
+
+    private int finLigne;
+
+    private int debutJeton;
+
+    private int finJeton;
+
+    /**
+     * Ouvre le fichier de transactions.
+     *
+     * @param fichier Le chemin du fichier
+     * @throws IOException Si le fichier ne peut être ouvert
+     */
+    public LecteurTransactionsMappe(Path fichier) throws IOException {
+        super();
+        this.fileChannel = FileChannel.open(fichier,
+            StandardOpenOption.READ);
+        this.taille = this.fileChannel.size();
+        this.charset = Charset.defaultCharset();
+        this.calendrier = new GregorianCalendar();
+        this.calendrier.setLenient(false);
+        this.tampon = new byte[LecteurTransactionsMappe.TAILLE_TAMPON];
+        this.champsDate = new int[3];
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Commande lire() throws BibliothequeException {
+        if(this.termine
+            || this.position >= this.taille) {
+            return null;
+        }
+        final int debutLigne = localiserLigne();
+        this.numeroLigne++;
+        this.curseur = debutLigne;
+        if(!jetonSuivant()
+            || isJeton(LecteurTransactionsMappe.FIN)) {
+            this.termine = true;
+            return null;
+        }
+        final Commande commande = new Commande(reconnaitre());
+        commande.setNumeroLigne(this.numeroLigne);
+        commande.setPosition(this.position);
+        switch(commande.getType()) {
+            case INSCRIRE:
+                commande.setNom(lireChaine());
+                commande.setTelephone(lireChaine());
+                commande.setLimitePret(lireChaine());
+                break;
+            case DESINSCRIRE:
+                commande.setIdMembre(lireChaine());
+                break;
+            case ACQUERIR:
+                commande.setTitre(lireChaine());
+                commande.setAuteur(lireChaine());
+                commande.setDateAcquisition(lireDate());
+                break;
+            case VENDRE:
+                commande.setIdLivre(lireChaine());
+                break;
+            case PRETER:
+            case RESERVER:
+                commande.setIdMembre(lireChaine());
+                commande.setIdLivre(lireChaine());
+                break;
+            case RENOUVELER:
+            case RETOURNER:
+                commande.setIdPret(lireChaine());
+                break;
+            case UTILISER:
+            case ANNULER:
+                commande.setIdReservation(lireChaine());
+                break;
+            case COMMENTAIRE:
+            case INCONNUE:
+                commande.setTexte(chaine(debutLigne,
+                    this.finLigne));
+                break;
+            default:
+                break;
+        }
+        return commande;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long getNumeroLigne() {
+        return this.numeroLigne;
+    }
+
+    /**
+     * Retourne la position dans le fichier du début de la ligne suivante.
+     *
+     * @return La position, en octets
+     */
+    public long getPosition() {
+        return this.position;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * La lecture reprend directement à la position enregistrée, qui doit être le début d'une ligne du fichier.
+     */
+    @Override
+    public void reprendre(PointReprise pointReprise) throws BibliothequeException {
+        final long positionReprise = pointReprise.getPosition();
+        if(positionReprise < 0L
+            || positionReprise > this.taille
+            || positionReprise > 0L
+                && octet(positionReprise
+                    - 1) != LecteurTransactionsMappe.FIN_LIGNE
+                && positionReprise < this.taille) {
+            throw new BibliothequeException("Le point de reprise ("
+                + pointReprise
+                + ") ne correspond pas à un début de ligne du fichier");
+        }
+        this.position = positionReprise;
+        this.numeroLigne = pointReprise.getNumeroLigne();
+        this.fenetre = null;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void close() throws IOException {
+        this.fenetre = null;
+        this.fileChannel.close();
+    }
+
+    /**
+     * Localise la ligne qui commence à la position courante, en déplaçant la fenêtre si la ligne n'y est pas entière, et avance la position
+     * au début de la ligne suivante.
+     *
+     * @return L'indice du début de la ligne dans la fenêtre ; <code>this.finLigne</code> reçoit l'indice de sa fin, sans le saut de ligne
+     * @throws BibliothequeException Si le fichier ne peut être projeté ou si une ligne dépasse la taille d'une fenêtre
+     */
+    private int localiserLigne() throws BibliothequeException {
+        if(this.fenetre == null
+            || this.position
+                - this.debutFenetre >= this.fenetre.limit()) {
+            projeter(this.position);
+        }
+        while(true) {
+            final int debutLigne = (int) (this.position
+                - this.debutFenetre);
+            final int limite = this.fenetre.limit();
+            int index = debutLigne;
+            while(index < limite
+                && this.fenetre.get(index) != LecteurTransactionsMappe.FIN_LIGNE) {
+                index++;
+            }
+            if(index < limite
+                || this.debutFenetre
+                    + limite >= this.taille) {
+                this.position = this.debutFenetre
+                    + Math.min(index
+                        + 1,
+                        limite);
+                this.finLigne = index;
+                if(this.finLigne > debutLigne
+                    && this.fenetre.get(this.finLigne
+                        - 1) == LecteurTransactionsMappe.RETOUR_CHARIOT) {
+                    this.finLigne--;
+                }
+                return debutLigne;
+            }
+            if(debutLigne == 0) {
+                throw new BibliothequeException("Ligne "
+                    + (this.numeroLigne + 1)
+                    + " : la ligne dépasse "
+                    + LecteurTransactionsMappe.TAILLE_FENETRE
+                    + " octets");
+            }
+            projeter(this.position);
+        }
+    }
+
+    /**
+     * Lit un octet du fichier sans déplacer la fenêtre.
+     *
+     * @param positionOctet La position de l'octet dans le fichier
+     * @return L'octet
+     * @throws BibliothequeException Si le fichier ne peut être lu
+     */
+    private byte octet(long positionOctet) throws BibliothequeException {
+        try {
+            final ByteBuffer octet = ByteBuffer.allocate(1);
+            this.fileChannel.read(octet,
+                positionOctet);
+            return octet.get(0);
+        } catch(IOException ioException) {
+            throw new BibliothequeException(ioException);
+        }
+    }
+
+    /**
+     * Projette une fenêtre du fichier.
+     *
+     * @param debut La position du début de la fenêtre dans le fichier
+     * @throws BibliothequeException Si le fichier ne peut être projeté
+     */
+    private void projeter(long debut) throws BibliothequeException {
+        try {
+            this.fenetre = this.fileChannel.map(FileChannel.MapMode.READ_ONLY,
+                debut,
+                Math.min(LecteurTransactionsMappe.TAILLE_FENETRE,
+                    this.taille
+                        - debut));
+            this.debutFenetre = debut;
+        } catch(IOException ioException) {
+            throw new BibliothequeException(ioException);
+        }
+    }
+
+    /**
+     * Avance au jeton suivant de la ligne.
+     *
+     * @return <code>true</code> si un jeton a été trouvé, <code>false</code> à la fin de la ligne
+     */
+    private boolean jetonSuivant() {
+        while(this.curseur < this.finLigne
+            && this.fenetre.get(this.curseur) == LecteurTransactionsMappe.ESPACE) {
+            this.curseur++;
+        }
+        if(this.curseur == this.finLigne) {
+            return false;
+        }
+        this.debutJeton = this.curseur;
+        while(this.curseur < this.finLigne
+            && this.fenetre.get(this.curseur) != LecteurTransactionsMappe.ESPACE) {
+            this.curseur++;
+        }
+        this.finJeton = this.curseur;
+        return true;
+    }
+
+    /**
+     * Avance au jeton suivant, qui doit exister.
+     *
+     * @throws BibliothequeException Si la ligne ne contient plus de jeton
+     */
+    private void jetonRequis() throws BibliothequeException {
+        if(!jetonSuivant()) {
+            throw new BibliothequeException("Ligne "
+                + getNumeroLigne()
+                + " : autre paramètre attendu");
+        }
+    }
+
+    /**
+     * Compare le jeton courant à un mot clef.
+     *
+     * @param motClef Le mot clef en ASCII
+     * @return <code>true</code> si le jeton est le mot clef, <code>false</code> sinon
+     */
+    private boolean isJeton(byte[] motClef) {
+        if(this.finJeton
+            - this.debutJeton != motClef.length) {
+            return false;
+        }
+        for(int index = 0 ; index < motClef.length ; index++) {
+            if(this.fenetre.get(this.debutJeton
+                + index) != motClef[index]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Reconnaît le type de la commande à partir du jeton courant.
+     *
+     * @return Le type de la commande ; {@link TypeCommande#INCONNUE} si le mot clef n'est pas reconnu
+     */
+    private TypeCommande reconnaitre() {
+        for(TypeCommande typeCommande : LecteurTransactionsMappe.TYPES) {
+            if(typeCommande != TypeCommande.INCONNUE
+                && isJeton(typeCommande.getOctets())) {
+                return typeCommande;
+            }
+        }
+        return TypeCommande.INCONNUE;
+    }
+
+    /**
+     * Lit le jeton suivant comme une chaîne de caractères.
+     *
+     * @return La chaîne de caractères lue
+     * @throws BibliothequeException Si le jeton est manquant
+     */
+    private String lireChaine() throws BibliothequeException {
+        jetonRequis();
+        return chaine(this.debutJeton,
+            this.finJeton);
+    }
+
+    /**
+     * Lit le jeton suivant comme une date au format <code>yyyy-MM-dd</code>.
+     *
+     * @return La date lue, en millisecondes
+     * @throws BibliothequeException Si le jeton est manquant ou n'est pas une date valide
+     */
+    private long lireDate() throws BibliothequeException {
+        jetonRequis();
+        final int[] champs = this.champsDate;
+        champs[0] = 0;
+        champs[1] = 0;
+        champs[2] = 0;
+        int champ = 0;
+        int chiffres = 0;
+        for(int index = this.debutJeton ; index < this.finJeton ; index++) {
+            final byte octet = this.fenetre.get(index);
+            if(octet == LecteurTransactionsMappe.TIRET
+                && chiffres > 0
+                && champ < 2) {
+                champ++;
+                chiffres = 0;
+            } else if(octet >= '0'
+                && octet <= '9'
+                && chiffres < 9) {
+                champs[champ] = champs[champ]
+                    * 10
+                    + octet
+                    - '0';
+                chiffres++;
+            } else {
+                throw erreurJeton("date en format YYYY-MM-DD attendue");
+            }
+        }
+        if(champ != 2
+            || chiffres == 0) {
+            throw erreurJeton("date en format YYYY-MM-DD attendue");
+        }
+        this.calendrier.clear();
+        this.calendrier.set(champs[0],
+            champs[1]
+                - 1,
+            champs[2]);
+        try {
+            return this.calendrier.getTimeInMillis();
+        } catch(IllegalArgumentException illegalArgumentException) {
+            throw erreurJeton("date en format YYYY-MM-DD attendue");
+        }
+    }
+
+    /**
+     * Décode une partie de la fenêtre en chaîne de caractères.
+     *
+     * @param debut L'indice du premier octet
+     * @param fin L'indice qui suit le dernier octet
+     * @return La chaîne de caractères
+     */
+    private String chaine(int debut,
+        int fin) {
+        final int longueur = fin
+            - debut;
+        if(longueur > this.tampon.length) {
+            this.tampon = new byte[Math.max(longueur,
+                2 * this.tampon.length)];
+        }
+        for(int index = 0 ; index < longueur ; index++) {
+            this.tampon[index] = this.fenetre.get(debut
+                + index);
+        }
+        return new String(this.tampon,
+            0,
+            longueur,
+            this.charset);
+    }
+
+    /**
+     * Crée l'erreur d'un jeton mal formé.
+     *
+     * @param attendu La description de la valeur attendue
+     * @return L'erreur
+     */
+    private BibliothequeException erreurJeton(String attendu) {
+        return new BibliothequeException("Ligne "
+            + getNumeroLigne()
+            + " : "
+            + attendu
+            + " à la place de \""
+            + chaine(this.debutJeton,
+                this.finJeton)
+            + "\"");
+    }
+}
@@ -0,0 +1,173 @@
+// Fichier LecteurTransactionsTexte.java
+// Auteur : Team PayDay
+// Date de création : 2026-10-18
+
+package ca.qc.collegeahuntsic.bibliotheque.transaction;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.text.ParseException;
+import java.util.StringTokenizer;
+import ca.qc.collegeahuntsic.bibliotheque.exception.BibliothequeException;
+import ca.qc.collegeahuntsic.bibliotheque.util.FormatteurDate;
+
+/**
+ * Lecteur de transactions ligne par ligne à partir d'un flux quelconque, par exemple une ressource du classpath.
+ *
+ * Le texte d'origine de chaque ligne est conservé dans la commande. Le flux n'étant pas positionnable, la position des lignes n'est pas
+ * connue et la reprise relit les lignes déjà traitées sans les décoder.
+ *
+ * @author Team PayDay
+ */
+public class LecteurTransactionsTexte implements LecteurTransactions {
+    private final BufferedReader reader;
+
+    private long numeroLigne;
+
+    /**
+     * Crée le lecteur.
+     *
+     * @param inputStream Le flux du fichier de transactions
+     */
+    public LecteurTransactionsTexte(InputStream inputStream) {
+        super();
+        this.reader = new BufferedReader(new InputStreamReader(inputStream));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Commande lire() throws BibliothequeException {
+        final String ligne;
+        try {
+            ligne = this.reader.readLine();
+        } catch(IOException ioException) {
+            throw new BibliothequeException(ioException);
+        }
+        if(ligne == null) {
+            return null;
+        }
+        this.numeroLigne++;
+        final StringTokenizer tokenizer = new StringTokenizer(ligne,
+            " ");
+        if(!tokenizer.hasMoreTokens()) {
+            return null;
+        }
+        final String motClef = tokenizer.nextToken();
+        if(TypeCommande.MOT_CLEF_FIN.equals(motClef)) {
+            return null;
+        }
+        final Commande commande = new Commande(TypeCommande.valueOfMotClef(motClef));
+        commande.setTexte(ligne);
+        commande.setNumeroLigne(this.numeroLigne);
+        switch(commande.getType()) {
+            case INSCRIRE:
+                commande.setNom(readString(tokenizer));
+                commande.setTelephone(readString(tokenizer));
+                commande.setLimitePret(readString(tokenizer));
+                break;
+            case DESINSCRIRE:
+                commande.setIdMembre(readString(tokenizer));
+                break;
+            case ACQUERIR:
+                commande.setTitre(readString(tokenizer));
+                commande.setAuteur(readString(tokenizer));
+                commande.setDateAcquisition(readDate(tokenizer));
+                break;
+            case VENDRE:
+                commande.setIdLivre(readString(tokenizer));
+                break;
+            case PRETER:
+            case RESERVER:
+                commande.setIdMembre(readString(tokenizer));
+                commande.setIdLivre(readString(tokenizer));
+                break;
+            case RENOUVELER:
+            case RETOURNER:
+                commande.setIdPret(readString(tokenizer));
+                break;
+            case UTILISER:
+            case ANNULER:
+                commande.setIdReservation(readString(tokenizer));
+                break;
+            default:
+                break;
+        }
+        return commande;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long getNumeroLigne() {
+        return this.numeroLigne;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void reprendre(PointReprise pointReprise) throws BibliothequeException {
+        try {
+            while(this.numeroLigne < pointReprise.getNumeroLigne()) {
+                if(this.reader.readLine() == null) {
+                    throw new BibliothequeException("Le point de reprise ("
+                        + pointReprise
+                        + ") dépasse la fin du fichier");
+                }
+                this.numeroLigne++;
+            }
+        } catch(IOException ioException) {
+            throw new BibliothequeException(ioException);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void close() throws IOException {
+        this.reader.close();
+    }
+
+    /**
+     * Lit une chaîne de caractères de la transaction.
+     *
+     * @param tokenizer La transaction à décoder
+     * @return La chaîne de caractères lue
+     * @throws BibliothequeException Si l'élément lu est manquant
+     */
+    private String readString(final StringTokenizer tokenizer) throws BibliothequeException {
+        if(tokenizer.hasMoreElements()) {
+            return tokenizer.nextToken();
+        }
+        throw new BibliothequeException("Ligne "
+            + getNumeroLigne()
+            + " : autre paramètre attendu");
+    }
+
+    /**
+     * Lit une date au format YYYY-MM-DD de la transaction.
+     *
+     * @param tokenizer La transaction à décoder
+     * @return La date lue, en millisecondes
+     * @throws BibliothequeException Si l'élément lu est manquant ou n'est pas une date correctement formatée
+     */
+    private long readDate(final StringTokenizer tokenizer) throws BibliothequeException {
+        final String token = readString(tokenizer);
+        try {
+            return FormatteurDate.timestampValue(token).getTime();
+        } catch(ParseException parseException) {
+            throw new BibliothequeException("Ligne "
+                + getNumeroLigne()
+                + " : date en format YYYY-MM-DD attendue à la place de \""
+                + token
+                + "\"",
+                parseException);
+        }
+    }
+}
@@ -0,0 +1,667 @@
+// Fichier OrdonnanceurParallele.java
+// Auteur : Team PayDay
+// Date de création : 2026-10-18
+
+package ca.qc.collegeahuntsic.bibliotheque.transaction;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import ca.qc.collegeahuntsic.bibliotheque.exception.BibliothequeException;
+import ca.qc.collegeahuntsic.bibliotheque.util.BibliothequeCreateur;
+import ca.qc.collegeahuntsic.bibliothequeBackEnd.dto.DTO;
+import ca.qc.collegeahuntsic.bibliothequeBackEnd.dto.PretDTO;
+import ca.qc.collegeahuntsic.bibliothequeBackEnd.dto.ReservationDTO;
+import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.dao.InvalidHibernateSessionException;
+import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.dao.InvalidPrimaryKeyException;
+import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.facade.FacadeException;
+import ca.qc.collegeahuntsic.bibliothequeBackEnd.facade.interfaces.IFacade;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+/**
+ * Exécute les transactions d'un fichier en parallèle tout en conservant l'ordre des transactions qui touchent les mêmes entités.
+ *
+ * Chaque transaction soumise reçoit un ensemble de clefs de conflit (<code>membre:&lt;id&gt;</code>, <code>livre:&lt;id&gt;</code>) et
+ * attend la fin de la dernière transaction soumise avec chacune de ses clefs. Les prêts et les réservations sont ramenés au membre et au
+ * livre qu'ils concernent. Les créations d'une même table partagent la clef <code>creation:&lt;table&gt;</code> et s'exécutent donc dans
+ * l'ordre du fichier : les identifiants sont générés à l'enregistrement, et un fichier de transactions désigne les entités qu'il crée par
+ * leur rang de création. Une référence à une entité dont l'existence n'est pas connue attend la fin des créations en cours de sa table
+ * avant d'en vérifier l'existence, pour ne pas être devancée par sa création ; une référence qui ne peut être vérifiée n'a aucune clef, la
+ * transaction échouant d'elle-même comme en exécution séquentielle.
+ *
+ * L'état final de la base de données, identifiants générés compris, est donc le même que celui d'une exécution séquentielle. Chaque
+ * transaction est commitée individuellement ; le regroupement en lots ne s'applique pas à ce mode. Après une erreur fatale, les
+ * transactions qui n'ont pas encore démarré sont abandonnées.
+ *
+ * @author Team PayDay
+ */
+public class OrdonnanceurParallele {
+    private static final Log LOGGER = LogFactory.getLog(OrdonnanceurParallele.class);
+
+    private static final int FENETRE_PAR_DEFAUT = 10000;
+
+    private static final int TAILLE_CACHE = 100000;
+
+    private static final String CLEF_MEMBRE = "membre:";
+
+    private static final String CLEF_LIVRE = "livre:";
+
+    private static final String CLEF_CREATION = "creation:";
+
+    private static final String TABLE_MEMBRE = "membre";
+
+    private static final String TABLE_LIVRE = "livre";
+
+    private static final String TABLE_PRET = "pret";
+
+    private static final String TABLE_RESERVATION = "reservation";
+
+    private static final String[] AUCUNE_CLEF = new String[0];
+
+    private final BibliothequeCreateur gestionnaireBibliotheque;
+
+    private final ExecuteurTransaction executeur;
+
+    private final ExecutorService executorService;
+
+    private final Semaphore fenetre;
+
+    private final Object verrou;
+
+    private final Map<String, Noeud> derniers;
+
+    private final Set<Noeud> enCours;
+
+    private final Map<String, Integer> creations;
+
+    private final Set<String> membres;
+
+    private final Set<String> livres;
+
+    private final Map<String, String[]> prets;
+
+    private final Map<String, String[]> reservations;
+
+    private Exception erreur;
+
+    private long nombreTransactions;
+
+    private long nombreAttentes;
+
+    /**
+     * Crée l'ordonnanceur avec une fenêtre de 10 000 transactions en cours.
+     *
+     * @param nombreThreads Le nombre de transactions exécutées en même temps
+     * @param gestionnaireBibliotheque Le gestionnaire utilisé pour retrouver le membre et le livre des prêts et des réservations ; il doit
+     *        commiter chaque transaction individuellement
+     * @param executeur L'exécuteur des transactions
+     */
+    public OrdonnanceurParallele(int nombreThreads,
+        BibliothequeCreateur gestionnaireBibliotheque,
+        ExecuteurTransaction executeur) {
+        this(nombreThreads,
+            OrdonnanceurParallele.FENETRE_PAR_DEFAUT,
+            gestionnaireBibliotheque,
+            executeur);
+    }
+
+    /**
+     * Crée l'ordonnanceur.
+     *
+     * @param nombreThreads Le nombre de transactions exécutées en même temps
+     * @param fenetre Le nombre maximal de transactions soumises et non terminées ; la soumission bloque au-delà
+     * @param gestionnaireBibliotheque Le gestionnaire utilisé pour retrouver le membre et le livre des prêts et des réservations ; il doit
+     *        commiter chaque transaction individuellement
+     * @param executeur L'exécuteur des transactions
+     */
+    public OrdonnanceurParallele(int nombreThreads,
+        int fenetre,
+        BibliothequeCreateur gestionnaireBibliotheque,
+        ExecuteurTransaction executeur) {
+        super();
+        this.gestionnaireBibliotheque = gestionnaireBibliotheque;
+        this.executeur = executeur;
+        this.executorService = Executors.newFixedThreadPool(nombreThreads);
+        this.fenetre = new Semaphore(fenetre);
+        this.verrou = new Object();
+        this.derniers = new HashMap<>();
+        this.enCours = new LinkedHashSet<>();
+        this.creations = new HashMap<>();
+        this.membres = new HashSet<>();
+        this.livres = new HashSet<>();
+        this.prets = OrdonnanceurParallele.creerCache();
+        this.reservations = OrdonnanceurParallele.creerCache();
+    }
+
+    /**
+     * Soumet une transaction. La transaction démarre dès que les transactions dont elle dépend sont terminées.
+     *
+     * @param commande La commande de la transaction
+     * @throws BibliothequeException Si une transaction précédente a échoué de façon fatale ou s'il y a une erreur avec la base de données
+     */
+    public void soumettre(Commande commande) throws BibliothequeException {
+        verifierErreur();
+        final String[] clefs = calculerClefs(commande);
+        try {
+            this.fenetre.acquire();
+        } catch(InterruptedException interruptedException) {
+            Thread.currentThread().interrupt();
+            throw new BibliothequeException(interruptedException);
+        }
+        final Noeud noeud = new Noeud(commande,
+            clefs,
+            OrdonnanceurParallele.getTableCreee(commande));
+        boolean pret;
+        synchronized(this.verrou) {
+            for(String clef : clefs) {
+                noeud.attendre(this.derniers.get(clef));
+                this.derniers.put(clef,
+                    noeud);
+            }
+            if(noeud.table != null) {
+                final Integer nombre = this.creations.get(noeud.table);
+                this.creations.put(noeud.table,
+                    Integer.valueOf(nombre == null ? 1 : nombre.intValue()
+                        + 1));
+            }
+            this.enCours.add(noeud);
+            this.nombreTransactions++;
+            if(noeud.dependances > 0) {
+                this.nombreAttentes++;
+            }
+            pret = noeud.dependances == 0;
+        }
+        if(pret) {
+            this.executorService.execute(noeud);
+        }
+    }
+
+    /**
+     * Attend la fin de toutes les transactions soumises et arrête les threads.
+     *
+     * @throws BibliothequeException Si une transaction a échoué de façon fatale
+     */
+    public void terminer() throws BibliothequeException {
+        try {
+            synchronized(this.verrou) {
+                while(!this.enCours.isEmpty()) {
+                    this.verrou.wait();
+                }
+            }
+            this.executorService.shutdown();
+            this.executorService.awaitTermination(Long.MAX_VALUE,
+                TimeUnit.MILLISECONDS);
+        } catch(InterruptedException interruptedException) {
+            Thread.currentThread().interrupt();
+            throw new BibliothequeException(interruptedException);
+        } finally {
+            this.executorService.shutdownNow();
+        }
+        OrdonnanceurParallele.LOGGER.info(this.nombreTransactions
+            + " transactions ordonnancées, dont "
+            + this.nombreAttentes
+            + " en attente d'une transaction en conflit");
+        verifierErreur();
+    }
+
+    /**
+     * Lance l'erreur fatale d'une transaction, s'il y en a une.
+     *
+     * @throws BibliothequeException Si une transaction a échoué de façon fatale
+     */
+    private void verifierErreur() throws BibliothequeException {
+        synchronized(this.verrou) {
+            if(this.erreur instanceof BibliothequeException) {
+                throw (BibliothequeException) this.erreur;
+            }
+            if(this.erreur != null) {
+                throw new BibliothequeException(this.erreur);
+            }
+        }
+    }
+
+    /**
+     * Calcule les clefs de conflit d'une transaction. Une transaction qui crée une entité reçoit en plus la clef des créations de sa table.
+     *
+     * @param commande La commande de la transaction
+     * @return Les clefs de la transaction
+     * @throws BibliothequeException S'il y a une erreur avec la base de données
+     */
+    private String[] calculerClefs(Commande commande) throws BibliothequeException {
+        final List<String> clefs = new ArrayList<>(4);
+        switch(commande.getType()) {
+            case DESINSCRIRE:
+                ajouterMembre(clefs,
+                    commande.getIdMembre());
+                break;
+            case VENDRE:
+                ajouterLivre(clefs,
+                    commande.getIdLivre());
+                break;
+            case PRETER:
+                ajouterMembre(clefs,
+                    commande.getIdMembre());
+                ajouterLivre(clefs,
+                    commande.getIdLivre());
+                break;
+            case RESERVER:
+                ajouterMembre(clefs,
+                    commande.getIdMembre());
+                ajouterLivre(clefs,
+                    commande.getIdLivre());
+                break;
+            case RENOUVELER:
+            case RETOURNER:
+                ajouterAssociation(clefs,
+                    commande.getIdPret(),
+                    this.prets,
+                    this.gestionnaireBibliotheque.getPretFacade(),
+                    OrdonnanceurParallele.TABLE_PRET);
+                break;
+            case UTILISER:
+                ajouterAssociation(clefs,
+                    commande.getIdReservation(),
+                    this.reservations,
+                    this.gestionnaireBibliotheque.getReservationFacade(),
+                    OrdonnanceurParallele.TABLE_RESERVATION);
+                break;
+            case ANNULER:
+                ajouterAssociation(clefs,
+                    commande.getIdReservation(),
+                    this.reservations,
+                    this.gestionnaireBibliotheque.getReservationFacade(),
+                    OrdonnanceurParallele.TABLE_RESERVATION);
+                break;
+            default:
+                // Les autres transactions ne touchent à aucune entité existante
+                break;
+        }
+        final String table = OrdonnanceurParallele.getTableCreee(commande);
+        if(table != null) {
+            clefs.add(OrdonnanceurParallele.CLEF_CREATION
+                + table);
+        }
+        return clefs.toArray(new String[clefs.size()]);
+    }
+
+    /**
+     * Retourne la table dans laquelle une transaction crée une entité.
+     *
+     * @param commande La commande de la transaction
+     * @return La table ; <code>null</code> si la transaction ne crée rien
+     */
+    private static String getTableCreee(Commande commande) {
+        switch(commande.getType()) {
+            case INSCRIRE:
+                return OrdonnanceurParallele.TABLE_MEMBRE;
+            case ACQUERIR:
+                return OrdonnanceurParallele.TABLE_LIVRE;
+            case PRETER:
+            case UTILISER:
+                return OrdonnanceurParallele.TABLE_PRET;
+            case RESERVER:
+                return OrdonnanceurParallele.TABLE_RESERVATION;
+            default:
+                return null;
+        }
+    }
+
+    /**
+     * Ajoute la clef d'un membre.
+     *
+     * @param clefs Les clefs de la transaction
+     * @param idMembre L'identifiant du membre
+     * @throws BibliothequeException S'il y a une erreur avec la base de données
+     */
+    private void ajouterMembre(List<String> clefs,
+        String idMembre) throws BibliothequeException {
+        ajouterEntite(clefs,
+            idMembre,
+            this.membres,
+            this.gestionnaireBibliotheque.getMembreFacade(),
+            OrdonnanceurParallele.CLEF_MEMBRE,
+            OrdonnanceurParallele.TABLE_MEMBRE);
+    }
+
+    /**
+     * Ajoute la clef d'un livre.
+     *
+     * @param clefs Les clefs de la transaction
+     * @param idLivre L'identifiant du livre
+     * @throws BibliothequeException S'il y a une erreur avec la base de données
+     */
+    private void ajouterLivre(List<String> clefs,
+        String idLivre) throws BibliothequeException {
+        ajouterEntite(clefs,
+            idLivre,
+            this.livres,
+            this.gestionnaireBibliotheque.getLivreFacade(),
+            OrdonnanceurParallele.CLEF_LIVRE,
+            OrdonnanceurParallele.TABLE_LIVRE);
+    }
+
+    /**
+     * Ajoute la clef d'un membre ou d'un livre. Si l'existence de l'entité n'est pas connue, l'ordonnanceur attend la fin des créations en
+     * cours de sa table et vérifie son existence. Une entité n'est connue que tant qu'une transaction qui la touche est en cours.
+     *
+     * @param clefs Les clefs de la transaction
+     * @param id L'identifiant de l'entité
+     * @param connus Les identifiants des entités dont l'existence est connue
+     * @param facade La façade de l'entité
+     * @param prefixe Le préfixe de la clef de l'entité
+     * @param table La table de l'entité
+     * @throws BibliothequeException S'il y a une erreur avec la base de données
+     */
+    private void ajouterEntite(List<String> clefs,
+        String id,
+        Set<String> connus,
+        IFacade facade,
+        String prefixe,
+        String table) throws BibliothequeException {
+        final String clef = OrdonnanceurParallele.normaliser(id);
+        boolean connu;
+        synchronized(this.verrou) {
+            connu = connus.contains(clef);
+        }
+        if(!connu) {
+            attendreCreations(table);
+            if(chercher(facade,
+                id) != null) {
+                synchronized(this.verrou) {
+                    connus.add(clef);
+                }
+            }
+        }
+        clefs.add(prefixe
+            + clef);
+    }
+
+    /**
+     * Ajoute les clefs du membre et du livre d'un prêt ou d'une réservation. Si l'association n'est pas encore connue, l'ordonnanceur attend
+     * la fin des créations en cours de sa table et la lit dans la base de données ; une association inexistante n'a aucune clef, la
+     * transaction échouant comme en exécution séquentielle.
+     *
+     * @param clefs Les clefs de la transaction
+     * @param id L'identifiant du prêt ou de la réservation
+     * @param connues Le membre et le livre des associations connues
+     * @param facade La façade de l'association
+     * @param table La table de l'association
+     * @throws BibliothequeException S'il y a une erreur avec la base de données
+     */
+    private void ajouterAssociation(List<String> clefs,
+        String id,
+        Map<String, String[]> connues,
+        IFacade facade,
+        String table) throws BibliothequeException {
+        final String clef = OrdonnanceurParallele.normaliser(id);
+        String[] ids = connues.get(clef);
+        if(ids == null) {
+            attendreCreations(table);
+            ids = chercher(facade,
+                id);
+            if(ids != null) {
+                connues.put(clef,
+                    ids);
+            }
+        }
+        if(ids != null) {
+            clefs.add(OrdonnanceurParallele.CLEF_MEMBRE
+                + ids[0]);
+            clefs.add(OrdonnanceurParallele.CLEF_LIVRE
+                + ids[1]);
+        }
+    }
+
+    /**
+     * Attend la fin des créations soumises dans une table. Les créations ne pouvant être soumises pendant l'attente, celle-ci est bornée par
+     * la fenêtre.
+     *
+     * @param table La table
+     * @throws BibliothequeException Si l'attente est interrompue
+     */
+    private void attendreCreations(String table) throws BibliothequeException {
+        synchronized(this.verrou) {
+            try {
+                while(this.creations.containsKey(table)) {
+                    this.verrou.wait();
+                }
+            } catch(InterruptedException interruptedException) {
+                Thread.currentThread().interrupt();
+                throw new BibliothequeException(interruptedException);
+            }
+        }
+    }
+
+    /**
+     * Cherche une entité dans la base de données. Une recherche qui échoue, par exemple pour un identifiant que la base de données refuse,
+     * est traitée comme une entité inexistante : la transaction qui y fait référence échouera seule lors de son exécution.
+     *
+     * @param facade La façade de l'entité
+     * @param id L'identifiant de l'entité
+     * @return Le membre et le livre d'un prêt ou d'une réservation, un tableau vide pour une autre entité ; <code>null</code> si l'entité
+     *         n'existe pas ou ne peut être cherchée
+     * @throws BibliothequeException S'il y a une erreur avec la transaction
+     */
+    private String[] chercher(IFacade facade,
+        String id) throws BibliothequeException {
+        this.gestionnaireBibliotheque.beginTransaction();
+        try {
+            final DTO dto = facade.get(this.gestionnaireBibliotheque.getSession(),
+                id);
+            String[] ids = null;
+            if(dto instanceof PretDTO) {
+                final PretDTO pretDTO = (PretDTO) dto;
+                ids = new String[] {pretDTO.getMembreDTO().getIdMembre(),
+                    pretDTO.getLivreDTO().getIdLivre()};
+            } else if(dto instanceof ReservationDTO) {
+                final ReservationDTO reservationDTO = (ReservationDTO) dto;
+                ids = new String[] {reservationDTO.getMembreDTO().getIdMembre(),
+                    reservationDTO.getLivreDTO().getIdLivre()};
+            } else if(dto != null) {
+                ids = OrdonnanceurParallele.AUCUNE_CLEF;
+            }
+            this.gestionnaireBibliotheque.commitTransaction();
+            return ids;
+        } catch(
+            InvalidHibernateSessionException
+            | InvalidPrimaryKeyException
+            | FacadeException exception) {
+            OrdonnanceurParallele.LOGGER.debug("Recherche de "
+                + id
+                + " impossible : "
+                + exception.getMessage());
+            this.gestionnaireBibliotheque.rollbackTransaction(exception);
+            return null;
+        }
+    }
+
+    /**
+     * Termine un noeud et démarre les noeuds qui n'attendaient plus que lui.
+     *
+     * @param noeud Le noeud terminé
+     * @param exception L'erreur fatale du noeud ; <code>null</code> s'il n'y en a pas
+     */
+    private void terminer(Noeud noeud,
+        Exception exception) {
+        final List<Noeud> disponibles = new ArrayList<>();
+        synchronized(this.verrou) {
+            if(exception != null
+                && this.erreur == null) {
+                this.erreur = exception;
+            }
+            noeud.termine = true;
+            this.enCours.remove(noeud);
+            for(String clef : noeud.clefs) {
+                if(this.derniers.get(clef) == noeud) {
+                    // Plus aucune transaction en cours ne touche l'entité : son existence sera vérifiée de nouveau au besoin
+                    this.derniers.remove(clef);
+                    oublier(clef);
+                }
+            }
+            if(noeud.table != null) {
+                final int nombre = this.creations.get(noeud.table).intValue()
+                    - 1;
+                if(nombre == 0) {
+                    this.creations.remove(noeud.table);
+                } else {
+                    this.creations.put(noeud.table,
+                        Integer.valueOf(nombre));
+                }
+            }
+            for(Noeud successeur : noeud.successeurs) {
+                successeur.dependances--;
+                if(successeur.dependances == 0) {
+                    disponibles.add(successeur);
+                }
+            }
+            this.verrou.notifyAll();
+        }
+        for(Noeud disponible : disponibles) {
+            this.executorService.execute(disponible);
+        }
+        this.fenetre.release();
+    }
+
+    /**
+     * Oublie l'existence du membre ou du livre d'une clef. Doit être appelée avec le verrou de l'ordonnanceur.
+     *
+     * @param clef La clef
+     */
+    private void oublier(String clef) {
+        if(clef.startsWith(OrdonnanceurParallele.CLEF_MEMBRE)) {
+            this.membres.remove(clef.substring(OrdonnanceurParallele.CLEF_MEMBRE.length()));
+        } else if(clef.startsWith(OrdonnanceurParallele.CLEF_LIVRE)) {
+            this.livres.remove(clef.substring(OrdonnanceurParallele.CLEF_LIVRE.length()));
+        }
+    }
+
+    /**
+     * Normalise un identifiant lu dans le fichier de transactions : les zéros de tête d'un identifiant numérique sont retirés, puisque la
+     * base de données les ignore.
+     *
+     * @param id L'identifiant
+     * @return L'identifiant normalisé
+     */
+    private static String normaliser(String id) {
+        int debut = 0;
+        while(debut < id.length()
+            - 1
+            && id.charAt(debut) == '0') {
+            debut++;
+        }
+        for(int index = debut ; index < id.length() ; index++) {
+            if(id.charAt(index) < '0'
+                || id.charAt(index) > '9') {
+                return id;
+            }
+        }
+        return id.substring(debut);
+    }
+
+    /**
+     * Crée un cache borné des associations connues ; les plus anciennes sont oubliées et seront relues au besoin.
+     *
+     * @return Le cache
+     */
+    private static Map<String, String[]> creerCache() {
+        return new LinkedHashMap<String, String[]>() {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, String[]> eldest) {
+                return size() > OrdonnanceurParallele.TAILLE_CACHE;
+            }
+        };
+    }
+
+    /**
+     * Transaction soumise et ses dépendances.
+     *
+     * @author Team PayDay
+     */
+    private final class Noeud implements Runnable {
+        private final Commande commande;
+
+        private final String[] clefs;
+
+        private final String table;
+
+        private final List<Noeud> successeurs;
+
+        private int dependances;
+
+        private boolean termine;
+
+        /**
+         * Crée le noeud d'une transaction.
+         *
+         * @param commande La commande de la transaction
+         * @param clefs Les clefs de la transaction
+         * @param table La table dans laquelle la transaction crée une entité ; <code>null</code> si elle ne crée rien
+         */
+        Noeud(Commande commande,
+            String[] clefs,
+            String table) {
+            super();
+            this.commande = commande;
+            this.clefs = clefs;
+            this.table = table;
+            this.successeurs = new ArrayList<>(2);
+        }
+
+        /**
+         * Fait attendre ce noeud après un prédécesseur qui n'est pas encore terminé. Doit être appelée avec le verrou de l'ordonnanceur.
+         *
+         * @param predecesseur Le prédécesseur ; peut être <code>null</code>
+         */
+        void attendre(Noeud predecesseur) {
+            if(predecesseur == null
+                || predecesseur.termine) {
+                return;
+            }
+            final int taille = predecesseur.successeurs.size();
+            // Les dépendances d'un noeud sont ajoutées d'un bloc ; un doublon ne peut donc être que le dernier successeur
+            if(taille > 0
+                && predecesseur.successeurs.get(taille
+                    - 1) == this) {
+                return;
+            }
+            predecesseur.successeurs.add(this);
+            this.dependances++;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void run() {
+            Exception erreurNoeud = null;
+            try {
+                boolean abandonne;
+                synchronized(OrdonnanceurParallele.this.verrou) {
+                    abandonne = OrdonnanceurParallele.this.erreur != null;
+                }
+                if(!abandonne) {
+                    OrdonnanceurParallele.this.executeur.executer(this.commande);
+                }
+            } catch(
+                BibliothequeException
+                | RuntimeException exception) {
+                erreurNoeud = exception;
+            } finally {
+                terminer(this,
+                    erreurNoeud);
+            }
+        }
+    }
+}
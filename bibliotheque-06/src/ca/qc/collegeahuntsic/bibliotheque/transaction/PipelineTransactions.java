@@ -0,0 +1,399 @@
+// Fichier PipelineTransactions.java
+// Auteur : Team PayDay
+// Date de création : 2026-10-18
+
+package ca.qc.collegeahuntsic.bibliotheque.transaction;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import ca.qc.collegeahuntsic.bibliotheque.exception.BibliothequeException;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+/**
+ * Traite un fichier de transactions en trois étapes reliées par des files bornées : la lecture et le décodage, l'exécution et la
+ * journalisation.
+ *
+ * La lecture et la journalisation ont chacune leur thread ; l'exécution a lieu dans le thread appelant, qui garde ainsi sa session. Une file
+ * pleine bloque l'étape qui la remplit, ce qui limite la mémoire utilisée quand la base de données est l'étape la plus lente, et
+ * l'exécution n'attend jamais l'écriture du journal tant que sa file de sortie n'est pas pleine. Chaque étape tient des
+ * {@link CompteursEtape}.
+ *
+ * Les lignes d'erreur d'une transaction exécutée par le pipeline sont différées avec {@link #differerErreur(String)} et transmises au
+ * journal avec son résultat, qui les écrit après l'écho de la transaction.
+ *
+ * Une erreur de lecture arrête la lecture : les commandes déjà lues sont exécutées, puis l'erreur est relancée. Une erreur d'exécution
+ * arrête la lecture et est relancée une fois le journal vidé. La lecture est arrêtée par un indicateur et non par une interruption, qui
+ * fermerait le {@link java.nio.channels.FileChannel} du lecteur.
+ *
+ * @author Team PayDay
+ */
+public class PipelineTransactions {
+    private static final Log LOGGER = LogFactory.getLog(PipelineTransactions.class);
+
+    private static final int CAPACITE_PAR_DEFAUT = 1024;
+
+    private static final Commande FIN = new Commande(TypeCommande.INCONNUE);
+
+    private static final Resultat FIN_JOURNAL = new Resultat(PipelineTransactions.FIN,
+        false,
+        null);
+
+    private static final ThreadLocal<StringBuilder> ERREURS = new ThreadLocal<>();
+
+    private final LecteurTransactions lecteur;
+
+    private final ExecuteurTransaction executeur;
+
+    private final JournalTransactions journal;
+
+    private final BlockingQueue<Commande> fileExecution;
+
+    private final BlockingQueue<Resultat> fileJournal;
+
+    private final CompteursEtape compteursLecture;
+
+    private final CompteursEtape compteursExecution;
+
+    private final CompteursEtape compteursJournal;
+
+    private volatile Exception erreurLecture;
+
+    private volatile RuntimeException erreurJournal;
+
+    private volatile boolean arrete;
+
+    /**
+     * Crée le pipeline avec des files de 1024 commandes.
+     *
+     * @param lecteur Le lecteur du fichier de transactions
+     * @param executeur L'exécuteur des transactions
+     * @param journal Le journal des transactions
+     */
+    public PipelineTransactions(LecteurTransactions lecteur,
+        ExecuteurTransaction executeur,
+        JournalTransactions journal) {
+        this(lecteur,
+            executeur,
+            journal,
+            PipelineTransactions.CAPACITE_PAR_DEFAUT);
+    }
+
+    /**
+     * Crée le pipeline.
+     *
+     * @param lecteur Le lecteur du fichier de transactions
+     * @param executeur L'exécuteur des transactions
+     * @param journal Le journal des transactions
+     * @param capacite La capacité de chacune des files
+     */
+    public PipelineTransactions(LecteurTransactions lecteur,
+        ExecuteurTransaction executeur,
+        JournalTransactions journal,
+        int capacite) {
+        super();
+        this.lecteur = lecteur;
+        this.executeur = executeur;
+        this.journal = journal;
+        this.fileExecution = new ArrayBlockingQueue<>(capacite);
+        this.fileJournal = new ArrayBlockingQueue<>(capacite);
+        this.compteursLecture = new CompteursEtape("lecture");
+        this.compteursExecution = new CompteursEtape("exécution");
+        this.compteursJournal = new CompteursEtape("journal");
+    }
+
+    // Region Getters and Setters
+    /**
+     * Getter de la variable d'instance <code>this.compteursLecture</code>.
+     *
+     * @return La variable d'instance <code>this.compteursLecture</code>
+     */
+    public CompteursEtape getCompteursLecture() {
+        return this.compteursLecture;
+    }
+
+    /**
+     * Getter de la variable d'instance <code>this.compteursExecution</code>.
+     *
+     * @return La variable d'instance <code>this.compteursExecution</code>
+     */
+    public CompteursEtape getCompteursExecution() {
+        return this.compteursExecution;
+    }
+
+    /**
+     * Getter de la variable d'instance <code>this.compteursJournal</code>.
+     *
+     * @return La variable d'instance <code>this.compteursJournal</code>
+     */
+    public CompteursEtape getCompteursJournal() {
+        return this.compteursJournal;
+    }
+    // EndRegion Getters and Setters
+
+    /**
+     * Retourne le nombre de commandes en attente d'exécution.
+     *
+     * @return La profondeur de la file d'exécution
+     */
+    public int getProfondeurExecution() {
+        return this.fileExecution.size();
+    }
+
+    /**
+     * Retourne le nombre de résultats en attente de journalisation.
+     *
+     * @return La profondeur de la file du journal
+     */
+    public int getProfondeurJournal() {
+        return this.fileJournal.size();
+    }
+
+    /**
+     * Diffère une ligne d'erreur de la transaction en cours d'exécution jusqu'à sa journalisation.
+     *
+     * @param ligne La ligne d'erreur
+     * @return <code>true</code> si la ligne est différée, <code>false</code> si le thread courant n'est pas l'étape d'exécution d'un
+     *         pipeline ; l'appelant journalise alors la ligne lui-même
+     */
+    public static boolean differerErreur(String ligne) {
+        final StringBuilder erreurs = PipelineTransactions.ERREURS.get();
+        if(erreurs == null) {
+            return false;
+        }
+        if(erreurs.length() > 0) {
+            erreurs.append('\n');
+        }
+        erreurs.append(ligne);
+        return true;
+    }
+
+    /**
+     * Traite toutes les transactions du lecteur.
+     *
+     * @throws BibliothequeException Si la lecture ou l'exécution d'une transaction échoue
+     */
+    public void executer() throws BibliothequeException {
+        final Thread threadLecture = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                lire();
+            }
+        },
+            "bibliotheque-lecture");
+        final Thread threadJournal = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                journaliser();
+            }
+        },
+            "bibliotheque-journal");
+        threadLecture.setDaemon(true);
+        threadJournal.setDaemon(true);
+        threadLecture.start();
+        threadJournal.start();
+        BibliothequeException erreurExecution = null;
+        try {
+            executerCommandes();
+        } catch(BibliothequeException bibliothequeException) {
+            erreurExecution = bibliothequeException;
+        } finally {
+            // Sans effet si la lecture est terminée ; sinon, l'arrête après une erreur d'exécution. Vider la file libère la place de la
+            // commande que la lecture est peut-être en train de transmettre, après quoi elle voit l'indicateur
+            this.arrete = true;
+            this.fileExecution.clear();
+            try {
+                transmettre(this.fileJournal,
+                    PipelineTransactions.FIN_JOURNAL,
+                    this.compteursExecution);
+                threadJournal.join();
+                threadLecture.join();
+            } catch(InterruptedException interruptedException) {
+                Thread.currentThread().interrupt();
+                throw new BibliothequeException(interruptedException);
+            }
+            PipelineTransactions.LOGGER.info(this.compteursLecture);
+            PipelineTransactions.LOGGER.info(this.compteursExecution);
+            PipelineTransactions.LOGGER.info(this.compteursJournal);
+        }
+        if(erreurExecution != null) {
+            throw erreurExecution;
+        }
+        if(this.erreurLecture instanceof BibliothequeException) {
+            throw (BibliothequeException) this.erreurLecture;
+        }
+        if(this.erreurLecture != null) {
+            throw new BibliothequeException(this.erreurLecture);
+        }
+        if(this.erreurJournal != null) {
+            throw new BibliothequeException(this.erreurJournal);
+        }
+    }
+
+    /**
+     * Étape de lecture : décode les commandes et les transmet à l'exécution.
+     */
+    private void lire() {
+        try {
+            Commande commande = this.lecteur.lire();
+            while(commande != null
+                && !this.arrete) {
+                transmettre(this.fileExecution,
+                    commande,
+                    this.compteursLecture);
+                this.compteursLecture.incrementerNombre();
+                commande = this.arrete ? null : this.lecteur.lire();
+            }
+        } catch(InterruptedException interruptedException) {
+            Thread.currentThread().interrupt();
+            return;
+        } catch(
+            BibliothequeException
+            | RuntimeException exception) {
+            this.erreurLecture = exception;
+        }
+        if(this.arrete) {
+            // L'exécution a échoué ; la lecture s'arrête sans signaler la fin
+            return;
+        }
+        try {
+            transmettre(this.fileExecution,
+                PipelineTransactions.FIN,
+                this.compteursLecture);
+        } catch(InterruptedException interruptedException) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Étape d'exécution : exécute les commandes lues et transmet leur résultat au journal, avec les lignes d'erreur différées pendant leur
+     * exécution.
+     *
+     * @throws BibliothequeException Si l'exécution d'une transaction échoue
+     */
+    private void executerCommandes() throws BibliothequeException {
+        final StringBuilder erreurs = new StringBuilder();
+        PipelineTransactions.ERREURS.set(erreurs);
+        try {
+            Commande commande = recevoir(this.fileExecution,
+                this.compteursExecution);
+            while(commande != PipelineTransactions.FIN) {
+                erreurs.setLength(0);
+                final boolean succes = this.executeur.executer(commande);
+                this.compteursExecution.incrementerNombre();
+                transmettre(this.fileJournal,
+                    new Resultat(commande,
+                        succes,
+                        erreurs.length() == 0 ? null : erreurs.toString()),
+                    this.compteursExecution);
+                commande = recevoir(this.fileExecution,
+                    this.compteursExecution);
+            }
+        } catch(InterruptedException interruptedException) {
+            Thread.currentThread().interrupt();
+            throw new BibliothequeException(interruptedException);
+        } finally {
+            PipelineTransactions.ERREURS.remove();
+        }
+    }
+
+    /**
+     * Étape de journalisation : journalise les résultats jusqu'à la fin de l'exécution.
+     */
+    private void journaliser() {
+        try {
+            Resultat resultat = recevoir(this.fileJournal,
+                this.compteursJournal);
+            while(resultat != PipelineTransactions.FIN_JOURNAL) {
+                try {
+                    this.journal.journaliser(resultat.commande,
+                        resultat.succes,
+                        resultat.erreur);
+                } catch(RuntimeException runtimeException) {
+                    if(this.erreurJournal == null) {
+                        this.erreurJournal = runtimeException;
+                    }
+                }
+                this.compteursJournal.incrementerNombre();
+                resultat = recevoir(this.fileJournal,
+                    this.compteursJournal);
+            }
+        } catch(InterruptedException interruptedException) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Ajoute un élément à une file en comptabilisant l'attente si la file est pleine.
+     *
+     * @param <T> Le type des éléments de la file
+     * @param file La file
+     * @param element L'élément
+     * @param compteurs Les compteurs de l'étape qui remplit la file
+     * @throws InterruptedException Si l'attente est interrompue
+     */
+    private static <T> void transmettre(BlockingQueue<T> file,
+        T element,
+        CompteursEtape compteurs) throws InterruptedException {
+        if(!file.offer(element)) {
+            final long debut = System.nanoTime();
+            file.put(element);
+            compteurs.ajouterAttenteSortie(System.nanoTime()
+                - debut,
+                file.size());
+        } else {
+            compteurs.ajouterAttenteSortie(0L,
+                file.size());
+        }
+    }
+
+    /**
+     * Retire un élément d'une file en comptabilisant l'attente si la file est vide.
+     *
+     * @param <T> Le type des éléments de la file
+     * @param file La file
+     * @param compteurs Les compteurs de l'étape qui vide la file
+     * @return L'élément
+     * @throws InterruptedException Si l'attente est interrompue
+     */
+    private static <T> T recevoir(BlockingQueue<T> file,
+        CompteursEtape compteurs) throws InterruptedException {
+        T element = file.poll();
+        if(element == null) {
+            final long debut = System.nanoTime();
+            element = file.take();
+            compteurs.ajouterAttenteEntree(System.nanoTime()
+                - debut);
+        }
+        return element;
+    }
+
+    /**
+     * Résultat d'une transaction en attente de journalisation.
+     *
+     * @author Team PayDay
+     */
+    private static final class Resultat {
+        private final Commande commande;
+
+        private final boolean succes;
+
+        private final String erreur;
+
+        /**
+         * Crée le résultat d'une transaction.
+         *
+         * @param commande La commande de la transaction
+         * @param succes <code>true</code> si la transaction a réussi, <code>false</code> sinon
+         * @param erreur Les lignes d'erreur de la transaction ; <code>null</code> s'il n'y en a pas
+         */
+        Resultat(Commande commande,
+            boolean succes,
+            String erreur) {
+            super();
+            this.commande = commande;
+            this.succes = succes;
+            this.erreur = erreur;
+        }
+    }
+}
@@ -0,0 +1,61 @@
+// Fichier PointReprise.java
+// Auteur : Team PayDay
+// Date de création : 2026-10-18
+
+package ca.qc.collegeahuntsic.bibliotheque.transaction;
+
+/**
+ * Point de reprise d'un fichier de transactions : la position et le numéro de la ligne qui suit la dernière commande commitée.
+ *
+ * @author Team PayDay
+ */
+public class PointReprise {
+    private final long position;
+
+    private final long numeroLigne;
+
+    /**
+     * Crée le point de reprise.
+     *
+     * @param position La position dans le fichier du début de la ligne suivante, en octets ; <code>-1</code> si le lecteur ne la connaît pas
+     * @param numeroLigne Le numéro de la dernière ligne traitée
+     */
+    public PointReprise(long position,
+        long numeroLigne) {
+        super();
+        this.position = position;
+        this.numeroLigne = numeroLigne;
+    }
+
+    // Region Getters and Setters
+    /**
+     * Getter de la variable d'instance <code>this.position</code>.
+     *
+     * @return La variable d'instance <code>this.position</code>
+     */
+    public long getPosition() {
+        return this.position;
+    }
+
+    /**
+     * Getter de la variable d'instance <code>this.numeroLigne</code>.
+     *
+     * @return La variable d'instance <code>this.numeroLigne</code>
+     */
+    public long getNumeroLigne() {
+        return this.numeroLigne;
+    }
+    // EndRegion Getters and Setters
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String toString() {
+        return "ligne "
+            + getNumeroLigne()
+            + (getPosition() < 0L ? "" : " (octet "
+                + getPosition()
+                + ")");
+    }
+}
@@ -0,0 +1,185 @@
+// Fichier TypeCommande.java
+// Auteur : Team PayDay
+// Date de création : 2026-10-18
+
+package ca.qc.collegeahuntsic.bibliotheque.transaction;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Types des commandes d'un fichier de transactions.
+ *
+ * Le code d'un type est son opcode dans les fichiers de transactions compilés : il ne doit jamais changer.
+ *
+ * @author Team PayDay
+ */
+public enum TypeCommande {
+    /**
+     * <code>aide</code>.
+     */
+    AIDE(0,
+        "aide"),
+
+    /**
+     * <code>inscrire &lt;nom&gt; &lt;telephone&gt; &lt;limitePret&gt;</code>.
+     */
+    INSCRIRE(1,
+        "inscrire"),
+
+    /**
+     * <code>desinscrire &lt;idMembre&gt;</code>.
+     */
+    DESINSCRIRE(2,
+        "desinscrire"),
+
+    /**
+     * <code>acquerir &lt;titre&gt; &lt;auteur&gt; &lt;dateAcquisition&gt;</code>.
+     */
+    ACQUERIR(3,
+        "acquerir"),
+
+    /**
+     * <code>vendre &lt;idLivre&gt;</code>.
+     */
+    VENDRE(4,
+        "vendre"),
+
+    /**
+     * <code>preter &lt;idMembre&gt; &lt;idLivre&gt;</code>.
+     */
+    PRETER(5,
+        "preter"),
+
+    /**
+     * <code>renouveler &lt;idPret&gt;</code>.
+     */
+    RENOUVELER(6,
+        "renouveler"),
+
+    /**
+     * <code>retourner &lt;idPret&gt;</code>.
+     */
+    RETOURNER(7,
+        "retourner"),
+
+    /**
+     * <code>reserver &lt;idMembre&gt; &lt;idLivre&gt;</code>.
+     */
+    RESERVER(8,
+        "reserver"),
+
+    /**
+     * <code>utiliser &lt;idReservation&gt;</code>.
+     */
+    UTILISER(9,
+        "utiliser"),
+
+    /**
+     * <code>annuler &lt;idReservation&gt;</code>.
+     */
+    ANNULER(10,
+        "annuler"),
+
+    /**
+     * <code>-- &lt;commentaire&gt;</code>.
+     */
+    COMMENTAIRE(11,
+        "--"),
+
+    /**
+     * Commande non reconnue.
+     */
+    INCONNUE(12,
+        "");
+
+    /**
+     * Le mot clef qui termine un fichier de transactions.
+     */
+    public static final String MOT_CLEF_FIN = "exit";
+
+    private static final TypeCommande[] TYPES_PAR_CODE = new TypeCommande[TypeCommande.values().length];
+
+    static {
+        for(TypeCommande typeCommande : TypeCommande.values()) {
+            TypeCommande.TYPES_PAR_CODE[typeCommande.getCode()] = typeCommande;
+        }
+    }
+
+    private final int code;
+
+    private final String motClef;
+
+    private final byte[] octets;
+
+    /**
+     * Crée un type de commande.
+     *
+     * @param code Le code de la commande
+     * @param motClef Le mot clef de la commande
+     */
+    TypeCommande(int code,
+        String motClef) {
+        this.code = code;
+        this.motClef = motClef;
+        this.octets = motClef.getBytes(StandardCharsets.US_ASCII);
+    }
+
+    // Region Getters and Setters
+    /**
+     * Getter de la variable d'instance <code>this.code</code>.
+     *
+     * @return La variable d'instance <code>this.code</code>
+     */
+    public int getCode() {
+        return this.code;
+    }
+
+    /**
+     * Getter de la variable d'instance <code>this.motClef</code>.
+     *
+     * @return La variable d'instance <code>this.motClef</code>
+     */
+    public String getMotClef() {
+        return this.motClef;
+    }
+
+    /**
+     * Getter de la variable d'instance <code>this.octets</code>.
+     *
+     * @return Le mot clef en ASCII ; le tableau ne doit pas être modifié
+     */
+    byte[] getOctets() {
+        return this.octets;
+    }
+    // EndRegion Getters and Setters
+
+    /**
+     * Retourne le type de commande d'un mot clef.
+     *
+     * @param motClef Le mot clef
+     * @return Le type de commande ; {@link #INCONNUE} si le mot clef n'est pas reconnu
+     */
+    public static TypeCommande valueOfMotClef(String motClef) {
+        for(TypeCommande typeCommande : TypeCommande.values()) {
+            if(typeCommande != TypeCommande.INCONNUE
+                && typeCommande.getMotClef().equals(motClef)) {
+                return typeCommande;
+            }
+        }
+        return TypeCommande.INCONNUE;
+    }
+
+    /**
+     * Retourne le type de commande d'un code.
+     *
+     * @param code Le code
+     * @return Le type de commande ; <code>null</code> si le code n'est pas connu
+     */
+    public static TypeCommande valueOfCode(int code) {
+        if(code < 0
+            || code >= TypeCommande.TYPES_PAR_CODE.length) {
+            return null;
+        }
+        return TypeCommande.TYPES_PAR_CODE[code];
+    }
+}
@@ -4,11 +4,27 @@
 
 package ca.qc.collegeahuntsic.bibliotheque.util;
 
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Savepoint;
+import javax.sql.DataSource;
 import ca.qc.collegeahuntsic.bibliotheque.exception.BibliothequeException;
+import ca.qc.collegeahuntsic.bibliotheque.transaction.PointReprise;
+import ca.qc.collegeahuntsic.bibliothequeBackEnd.exception.util.MigrationException;
 import ca.qc.collegeahuntsic.bibliothequeBackEnd.facade.interfaces.ILivreFacade;
 import ca.qc.collegeahuntsic.bibliothequeBackEnd.facade.interfaces.IMembreFacade;
 import ca.qc.collegeahuntsic.bibliothequeBackEnd.facade.interfaces.IPretFacade;
 import ca.qc.collegeahuntsic.bibliothequeBackEnd.facade.interfaces.IReservationFacade;
+import ca.qc.collegeahuntsic.bibliothequeBackEnd.util.CacheNegatif;
+import ca.qc.collegeahuntsic.bibliothequeBackEnd.util.CacheProximite;
+import ca.qc.collegeahuntsic.bibliothequeBackEnd.util.IntercepteurLatence;
+import ca.qc.collegeahuntsic.bibliothequeBackEnd.util.IntercepteurRequetes;
+import ca.qc.collegeahuntsic.bibliothequeBackEnd.util.MigrationSchema;
+import ca.qc.collegeahuntsic.bibliothequeBackEnd.util.StatistiquesCache;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
 import org.hibernate.HibernateException;
 import org.hibernate.Session;
 import org.hibernate.SessionFactory;
@@ -24,6 +40,8 @@ import org.springframework.context.support.ClassPathXmlApplicationContext;
  */
 public class BibliothequeCreateur {
 
+    private static final Log LOGGER = LogFactory.getLog(BibliothequeCreateur.class);
+
     private static final String APPLICATION_CONTEXT_JDBC_FILENAME = "testApplicationContext-jdbc-Oracle.xml";
 
     private static final String APPLICATION_CONTEXT_DTO_FILENAME = "applicationContext-dto-Oracle.xml";
@@ -45,6 +63,8 @@ public class BibliothequeCreateur {
 
     private static final String SESSION_FACTORY_NAME = "sessionFactory";
 
+    private static final String DATA_SOURCE_NAME = "dataSource";
+
     private static final String LIVRE_FACADE_NAME = "livreFacade";
 
     private static final String MEMBRE_FACADE_NAME = "membreFacade";
@@ -53,14 +73,63 @@ public class BibliothequeCreateur {
 
     private static final String RESERVATION_FACADE_NAME = "reservationFacade";
 
+    private static final String INTERCEPTEUR_LATENCE_NAME = "intercepteurLatence";
+
+    private static final String INTERCEPTEUR_REQUETES_NAME = "intercepteurRequetes";
+
+    private static final String STATISTIQUES_CACHE_NAME = "statistiquesCache";
+
+    private static final String CACHE_PROXIMITE_NAME = "cacheProximite";
+
+    private static final String CACHE_NEGATIF_NAME = "cacheNegatif";
+
+    private static final String MIGRATION_SCHEMA_NAME = "migrationSchema";
+
+    private static final int NETTOYAGE_PAR_DEFAUT = 100;
+
+    private static final String LIRE_REPRISE_REQUEST = "SELECT octet, ligne "
+        + "FROM reprise "
+        + "WHERE fichier = ?";
+
+    private static final String MODIFIER_REPRISE_REQUEST = "UPDATE reprise "
+        + "SET octet = ?, ligne = ? "
+        + "WHERE fichier = ?";
+
+    private static final String AJOUTER_REPRISE_REQUEST = "INSERT INTO reprise (octet, ligne, fichier) "
+        + "VALUES (?, ?, ?)";
+
     private static final ApplicationContext APPLICATION_CONTEXT = new ClassPathXmlApplicationContext(BibliothequeCreateur.APPLICATION_CONTEXT_FILENAMES);
 
     private SessionFactory sessionFactory;
 
+    private DataSource dataSource;
+
+    private Connection connection;
+
     private Session session;
 
     private Transaction transaction;
 
+    private Savepoint savepoint;
+
+    private int tailleLot;
+
+    private long delaiLot;
+
+    private int intervalleNettoyage;
+
+    private int commandesLot;
+
+    private int commandesNettoyage;
+
+    private long debutLot;
+
+    private String fichierReprise;
+
+    private PointReprise pointReprise;
+
+    private PointReprise pointRepriseEnregistre;
+
     private ILivreFacade livreFacade;
 
     private IMembreFacade membreFacade;
@@ -70,21 +139,41 @@ public class BibliothequeCreateur {
     private IReservationFacade reservationFacade;
 
     /**
-     * Crée le système transactionnel nécessaire à l'application bibliothèque.
+     * Crée le système transactionnel nécessaire à l'application bibliothèque. À la première création, les migrations du schéma qui n'ont
+     * pas encore été appliquées à la base de données le sont.
      *
      * @throws BibliothequeException S'il y a une erreur avec la base de données
      */
     public BibliothequeCreateur() throws BibliothequeException {
+        this(true);
+    }
+
+    /**
+     * Crée le système transactionnel nécessaire à l'application bibliothèque.
+     *
+     * @param migrer <code>true</code> pour appliquer les migrations du schéma qui ne l'ont pas encore été, <code>false</code> pour utiliser
+     *        le schéma tel quel, par exemple pour une simulation qui ne doit pas modifier la base de données
+     * @throws BibliothequeException S'il y a une erreur avec la base de données
+     */
+    public BibliothequeCreateur(boolean migrer) throws BibliothequeException {
         super();
         try {
+            if(migrer) {
+                BibliothequeCreateur.getMigrationSchema().migrer();
+            }
             setSessionFactory((SessionFactory) BibliothequeCreateur.APPLICATION_CONTEXT.getBean(BibliothequeCreateur.SESSION_FACTORY_NAME));
+            setDataSource((DataSource) BibliothequeCreateur.APPLICATION_CONTEXT.getBean(BibliothequeCreateur.DATA_SOURCE_NAME));
             setLivreFacade((ILivreFacade) BibliothequeCreateur.APPLICATION_CONTEXT.getBean(BibliothequeCreateur.LIVRE_FACADE_NAME));
             setMembreFacade((IMembreFacade) BibliothequeCreateur.APPLICATION_CONTEXT.getBean(BibliothequeCreateur.MEMBRE_FACADE_NAME));
             setPretFacade((IPretFacade) BibliothequeCreateur.APPLICATION_CONTEXT.getBean(BibliothequeCreateur.PRET_FACADE_NAME));
             setReservationFacade((IReservationFacade) BibliothequeCreateur.APPLICATION_CONTEXT.getBean(BibliothequeCreateur.RESERVATION_FACADE_NAME));
-
-        } catch(BeansException beansException) {
-            throw new BibliothequeException(beansException);
+            configurerLot(1,
+                0L,
+                BibliothequeCreateur.NETTOYAGE_PAR_DEFAUT);
+        } catch(
+            BeansException
+            | MigrationException exception) {
+            throw new BibliothequeException(exception);
         }
     }
 
@@ -108,6 +197,43 @@ public class BibliothequeCreateur {
         this.sessionFactory = sessionFactory;
     }
 
+    /**
+     * Getter de la variable d'instance <code>this.dataSource</code>.
+     *
+     * @return La variable d'instance <code>this.dataSource</code>
+     */
+    private DataSource getDataSource() {
+        return this.dataSource;
+    }
+
+    /**
+     * Setter de la variable d'instance <code>this.dataSource</code>.
+     *
+     * @param dataSource La valeur à utiliser pour la variable d'instance <code>this.dataSource</code>
+     */
+    private void setDataSource(DataSource dataSource) {
+        this.dataSource = dataSource;
+    }
+
+    /**
+     * Getter de la variable d'instance <code>this.connection</code>. La connexion est celle de la session courante : les requêtes JDBC
+     * qui l'utilisent font partie de sa transaction.
+     *
+     * @return La variable d'instance <code>this.connection</code>
+     */
+    public Connection getConnection() {
+        return this.connection;
+    }
+
+    /**
+     * Setter de la variable d'instance <code>this.connection</code>.
+     *
+     * @param connection La valeur à utiliser pour la variable d'instance <code>this.connection</code>
+     */
+    private void setConnection(Connection connection) {
+        this.connection = connection;
+    }
+
     /**
      * Setter de la variable d'instance <code>this.membreFacade</code>.
      *
@@ -217,22 +343,26 @@ public class BibliothequeCreateur {
     }
 
     /**
-     * Ouvre une session.
+     * Ouvre une session sur une connexion de la source de données. La connexion appartient au gestionnaire, qui la ferme avec la session.
      *
      * @return La session Hibernate
      * @throws BibliothequeException S'il y a une erreur
      */
     private Session openSession() throws BibliothequeException {
         try {
-            setSession(getSessionFactory().openSession());
-        } catch(HibernateException hibernateException) {
-            throw new BibliothequeException(hibernateException);
+            setConnection(getDataSource().getConnection());
+            setSession(getSessionFactory().openSession(getConnection()));
+        } catch(
+            HibernateException
+            | SQLException exception) {
+            fermerConnection();
+            throw new BibliothequeException(exception);
         }
         return getSession();
     }
 
     /**
-     * Ferme une session.
+     * Ferme une session et sa connexion.
      *
      * @throws BibliothequeException S'il y a une erreur
      */
@@ -241,47 +371,480 @@ public class BibliothequeCreateur {
             getSession().close();
         } catch(HibernateException hibernateException) {
             throw new BibliothequeException(hibernateException);
+        } finally {
+            fermerConnection();
         }
     }
 
     /**
-     * Démarre une transaction.
+     * Rend la connexion de la session à la source de données.
+     *
+     * @throws BibliothequeException S'il y a une erreur
+     */
+    private void fermerConnection() throws BibliothequeException {
+        if(getConnection() == null) {
+            return;
+        }
+        try {
+            getConnection().close();
+        } catch(SQLException sqlException) {
+            throw new BibliothequeException(sqlException);
+        } finally {
+            setConnection(null);
+        }
+    }
+
+    /**
+     * Retourne l'intercepteur qui mesure la latence des méthodes des DAOs, des services et des façades.
+     *
+     * @return L'intercepteur de latence
+     * @throws BibliothequeException Si l'intercepteur n'est pas défini dans le contexte Spring
+     */
+    public static IntercepteurLatence getIntercepteurLatence() throws BibliothequeException {
+        try {
+            return (IntercepteurLatence) BibliothequeCreateur.APPLICATION_CONTEXT.getBean(BibliothequeCreateur.INTERCEPTEUR_LATENCE_NAME);
+        } catch(BeansException beansException) {
+            throw new BibliothequeException(beansException);
+        }
+    }
+
+    /**
+     * Retourne l'intercepteur qui compte les requêtes SQL de chaque appel de service.
+     *
+     * @return L'intercepteur de requêtes
+     * @throws BibliothequeException Si l'intercepteur n'est pas défini dans le contexte Spring
+     */
+    public static IntercepteurRequetes getIntercepteurRequetes() throws BibliothequeException {
+        try {
+            return (IntercepteurRequetes) BibliothequeCreateur.APPLICATION_CONTEXT.getBean(BibliothequeCreateur.INTERCEPTEUR_REQUETES_NAME);
+        } catch(BeansException beansException) {
+            throw new BibliothequeException(beansException);
+        }
+    }
+
+    /**
+     * Retourne les statistiques par région du cache de second niveau.
+     *
+     * @return Les statistiques du cache
+     * @throws BibliothequeException Si les statistiques ne sont pas définies dans le contexte Spring
+     */
+    public static StatistiquesCache getStatistiquesCache() throws BibliothequeException {
+        try {
+            return (StatistiquesCache) BibliothequeCreateur.APPLICATION_CONTEXT.getBean(BibliothequeCreateur.STATISTIQUES_CACHE_NAME);
+        } catch(BeansException beansException) {
+            throw new BibliothequeException(beansException);
+        }
+    }
+
+    /**
+     * Retourne le cache de proximité des façades.
+     *
+     * @return Le cache de proximité
+     * @throws BibliothequeException Si le cache n'est pas défini dans le contexte Spring
+     */
+    public static CacheProximite getCacheProximite() throws BibliothequeException {
+        try {
+            return (CacheProximite) BibliothequeCreateur.APPLICATION_CONTEXT.getBean(BibliothequeCreateur.CACHE_PROXIMITE_NAME);
+        } catch(BeansException beansException) {
+            throw new BibliothequeException(beansException);
+        }
+    }
+
+    /**
+     * Retourne le cache des clefs primaires connues pour ne pas exister.
+     *
+     * @return Le cache négatif
+     * @throws BibliothequeException Si le cache n'est pas défini dans le contexte Spring
+     */
+    public static CacheNegatif getCacheNegatif() throws BibliothequeException {
+        try {
+            return (CacheNegatif) BibliothequeCreateur.APPLICATION_CONTEXT.getBean(BibliothequeCreateur.CACHE_NEGATIF_NAME);
+        } catch(BeansException beansException) {
+            throw new BibliothequeException(beansException);
+        }
+    }
+
+    /**
+     * Retourne le gestionnaire des migrations du schéma de la base de données.
+     *
+     * @return Le gestionnaire des migrations
+     * @throws BibliothequeException Si le gestionnaire n'est pas défini dans le contexte Spring
+     */
+    public static MigrationSchema getMigrationSchema() throws BibliothequeException {
+        try {
+            return (MigrationSchema) BibliothequeCreateur.APPLICATION_CONTEXT.getBean(BibliothequeCreateur.MIGRATION_SCHEMA_NAME);
+        } catch(BeansException beansException) {
+            throw new BibliothequeException(beansException);
+        }
+    }
+
+    /**
+     * Configure le regroupement des commandes en lots. Avec une taille de <code>1</code> et sans délai, chaque commande est exécutée dans sa
+     * propre transaction. Sinon, les commandes sont regroupées dans une même transaction jusqu'à ce que <code>tailleLot</code> commandes
+     * aient été traitées ou que <code>delaiLot</code> millisecondes se soient écoulées ; chaque commande est alors encadrée par un savepoint
+     * JDBC, de sorte que l'échec d'une commande n'annule que cette commande.
+     *
+     * @param tailleLot Le nombre maximal de commandes par transaction
+     * @param delaiLot La durée maximale d'une transaction, en millisecondes ; <code>0</code> pour ne pas limiter la durée
+     * @param intervalleNettoyage Le nombre de commandes entre deux vidages du cache de premier niveau de la session
+     */
+    public void configurerLot(int tailleLot,
+        long delaiLot,
+        int intervalleNettoyage) {
+        this.tailleLot = Math.max(1,
+            tailleLot);
+        this.delaiLot = Math.max(0L,
+            delaiLot);
+        this.intervalleNettoyage = Math.max(1,
+            intervalleNettoyage);
+    }
+
+    /**
+     * Indique si les commandes sont regroupées en lots.
+     *
+     * @return <code>true</code> si les commandes sont regroupées en lots, <code>false</code> sinon
+     */
+    public boolean isModeLot() {
+        return this.tailleLot > 1
+            || this.delaiLot > 0L;
+    }
+
+    /**
+     * Active l'enregistrement du point de reprise d'un fichier de transactions. Le point de reprise est enregistré dans la table
+     * <code>reprise</code> par chaque commit, dans la même transaction que les commandes qu'il couvre : il ne peut donc jamais désigner une
+     * commande annulée ni précéder une commande commitée, et une reprise n'applique jamais deux fois la même commande.
+     *
+     * @param fichier Le nom du fichier de transactions
+     */
+    public void activerReprise(String fichier) {
+        this.fichierReprise = fichier;
+    }
+
+    /**
+     * Lit le point de reprise enregistré pour le fichier de transactions, sur une connexion distincte.
+     *
+     * @return Le point de reprise ; <code>null</code> si aucune commande du fichier n'a été commitée
+     * @throws BibliothequeException S'il y a une erreur avec la base de données
+     */
+    public PointReprise chargerReprise() throws BibliothequeException {
+        try(
+            Connection connectionReprise = getDataSource().getConnection();
+            PreparedStatement lireReprise = connectionReprise.prepareStatement(BibliothequeCreateur.LIRE_REPRISE_REQUEST)) {
+            lireReprise.setString(1,
+                this.fichierReprise);
+            try(
+                ResultSet resultSet = lireReprise.executeQuery()) {
+                if(resultSet.next()) {
+                    this.pointRepriseEnregistre = new PointReprise(resultSet.getLong(1),
+                        resultSet.getLong(2));
+                }
+            }
+            return this.pointRepriseEnregistre;
+        } catch(SQLException sqlException) {
+            throw new BibliothequeException(sqlException);
+        }
+    }
+
+    /**
+     * Avance le point de reprise à la commande qui va être exécutée. Il sera enregistré par le prochain commit ; en mode lot, les commandes
+     * annulées par leur savepoint sont ainsi couvertes par le commit du lot.
+     *
+     * @param position La position dans le fichier du début de la ligne qui suit la commande ; <code>-1</code> si elle est inconnue
+     * @param numeroLigne Le numéro de la ligne de la commande
+     */
+    public void avancerReprise(long position,
+        long numeroLigne) {
+        if(this.fichierReprise != null) {
+            this.pointReprise = new PointReprise(position,
+                numeroLigne);
+        }
+    }
+
+    /**
+     * Démarre une transaction. En mode lot, la transaction du lot n'est démarrée qu'à la première commande et un savepoint est posé avant
+     * chaque commande.
      *
      * @throws BibliothequeException S'il y a une erreur
      */
     public void beginTransaction() throws BibliothequeException {
         try {
-            setTransaction(openSession().beginTransaction());
-        } catch(HibernateException hibernateException) {
-            throw new BibliothequeException(hibernateException);
+            if(!isModeLot()) {
+                setTransaction(openSession().beginTransaction());
+                return;
+            }
+            if(!isTransactionActive()) {
+                setTransaction(openSession().beginTransaction());
+                this.commandesLot = 0;
+                this.commandesNettoyage = 0;
+                this.debutLot = System.currentTimeMillis();
+            }
+            this.savepoint = getConnection().setSavepoint();
+        } catch(
+            HibernateException
+            | SQLException exception) {
+            throw new BibliothequeException(exception);
         }
     }
 
     /**
-     * Commit une transaction.
+     * Commit une transaction. En mode lot, les modifications de la commande sont envoyées à la base de données, son savepoint est libéré et
+     * la transaction du lot n'est réellement commitée que lorsque le lot est plein ou que son délai est écoulé. Si la reprise est activée, le
+     * point de reprise est enregistré par le commit réel. Si l'envoi des modifications ou le commit échoue, toute la transaction, y compris
+     * les commandes déjà réussies du lot, est annulée, journalisée et l'exception est relancée pour arrêter le traitement.
      *
      * @throws BibliothequeException S'il y a une erreur
      */
     public void commitTransaction() throws BibliothequeException {
         try {
-            getTransaction().commit();
-            closeSession();
-        } catch(HibernateException hibernateException) {
-            throw new BibliothequeException(hibernateException);
+            if(!isModeLot()) {
+                enregistrerReprise();
+                getTransaction().commit();
+                closeSession();
+                return;
+            }
+            getSession().flush();
+            getConnection().releaseSavepoint(this.savepoint);
+            this.savepoint = null;
+            this.commandesNettoyage++;
+            if(this.commandesNettoyage >= this.intervalleNettoyage) {
+                getSession().clear();
+                this.commandesNettoyage = 0;
+            }
+            terminerCommande();
+        } catch(
+            HibernateException
+            | SQLException exception) {
+            abandonnerLot(exception);
         }
     }
 
     /**
-     * Rollback une transaction.
+     * Rollback une transaction dont la cause de l'échec est inconnue. En mode lot, la commande courante est annulée et la session est
+     * remplacée.
      *
      * @throws BibliothequeException S'il y a une erreur
+     * @see #rollbackTransaction(Throwable)
      */
     public void rollbackTransaction() throws BibliothequeException {
+        rollbackTransaction(null);
+    }
+
+    /**
+     * Rollback une transaction, s'il y en a une en cours. En mode lot, seule la commande courante est annulée en revenant à son savepoint :
+     * les commandes déjà réussies du lot sont conservées et seront commitées avec lui. Le cache de premier niveau de la session est vidé
+     * puisqu'il peut contenir des modifications annulées ; si la cause de l'échec vient d'Hibernate ou de la base de données, ou est
+     * inconnue, la session n'est plus utilisable et est remplacée par une nouvelle session sur la même connexion, qui poursuit la
+     * transaction du lot. Si le lot ne peut être conservé, il est annulé, l'annulation est journalisée et l'exception est relancée pour
+     * arrêter le traitement. Le cache de proximité des façades et le cache négatif sont vidés dans tous les cas, puisque les lectures de la
+     * transaction ont pu y copier des modifications annulées.
+     *
+     * @param cause L'exception qui a fait échouer la commande ; <code>null</code> si elle est inconnue
+     * @throws BibliothequeException Si le lot a dû être annulé ou s'il y a une erreur
+     */
+    public void rollbackTransaction(Throwable cause) throws BibliothequeException {
+        if(!isTransactionActive()) {
+            return;
+        }
+        if(!isModeLot()) {
+            annulerTransaction();
+            return;
+        }
+        if(this.savepoint == null) {
+            // Aucune commande n'est en cours : le lot ne contient que des commandes terminées
+            return;
+        }
+        try {
+            BibliothequeCreateur.getCacheProximite().vider();
+            BibliothequeCreateur.getCacheNegatif().vider();
+            getConnection().rollback(this.savepoint);
+            this.savepoint = null;
+            if(BibliothequeCreateur.isErreurSession(cause)) {
+                renouvelerSession();
+            } else {
+                getSession().clear();
+            }
+            this.commandesNettoyage = 0;
+        } catch(
+            HibernateException
+            | SQLException exception) {
+            abandonnerLot(exception);
+        }
+        terminerCommande();
+    }
+
+    /**
+     * Commit le lot en cours, s'il y en a un. Doit être appelée à la fin du traitement pour ne pas perdre les dernières commandes d'un lot
+     * incomplet. Un lot abandonné n'est plus en cours et n'est donc jamais commité.
+     *
+     * @throws BibliothequeException S'il y a une erreur
+     */
+    public void terminerLot() throws BibliothequeException {
+        if(!isTransactionActive()) {
+            return;
+        }
         try {
-            getTransaction().rollback();
+            if(this.savepoint != null) {
+                getConnection().rollback(this.savepoint);
+                this.savepoint = null;
+            }
+            enregistrerReprise();
+            getTransaction().commit();
             closeSession();
+        } catch(
+            HibernateException
+            | SQLException exception) {
+            abandonnerLot(exception);
+        }
+    }
+
+    /**
+     * Indique si une transaction, ou un lot, est en cours.
+     *
+     * @return <code>true</code> si une transaction est active, <code>false</code> sinon
+     */
+    private boolean isTransactionActive() {
+        return getTransaction() != null
+            && getTransaction().isActive();
+    }
+
+    /**
+     * Comptabilise une commande du lot et commit le lot s'il est plein ou si son délai est écoulé.
+     *
+     * @throws BibliothequeException S'il y a une erreur
+     */
+    private void terminerCommande() throws BibliothequeException {
+        this.commandesLot++;
+        if(this.commandesLot >= this.tailleLot
+            || this.delaiLot > 0L
+                && System.currentTimeMillis()
+                    - this.debutLot >= this.delaiLot) {
+            try {
+                enregistrerReprise();
+                getTransaction().commit();
+                closeSession();
+            } catch(
+                HibernateException
+                | SQLException exception) {
+                abandonnerLot(exception);
+            }
+        }
+    }
+
+    /**
+     * Remplace la session du lot, devenue inutilisable après une exception d'Hibernate ou de la base de données, par une nouvelle session
+     * ouverte sur la même connexion. La transaction JDBC de la connexion n'est ni commitée ni annulée : la nouvelle session la poursuit,
+     * avec les commandes déjà réussies du lot.
+     *
+     * @throws HibernateException Si la session ne peut être remplacée
+     */
+    private void renouvelerSession() {
+        getSession().close();
+        setSession(getSessionFactory().openSession(getConnection()));
+        setTransaction(getSession().beginTransaction());
+    }
+
+    /**
+     * Abandonne la transaction en cours lorsqu'elle ne peut plus être conservée : elle est annulée et l'exception est relancée pour arrêter
+     * le traitement. En mode lot, l'annulation est journalisée avec le nombre de commandes perdues, qui restent après le point de reprise et
+     * seront appliquées par une reprise.
+     *
+     * @param cause L'exception qui empêche de conserver la transaction
+     * @throws BibliothequeException Dans tous les cas
+     */
+    private void abandonnerLot(Exception cause) throws BibliothequeException {
+        if(isModeLot()) {
+            BibliothequeCreateur.LOGGER.error("Lot annulé : les "
+                + this.commandesLot
+                + " commandes déjà traitées du lot ne sont pas commitées");
+        }
+        try {
+            annulerTransaction();
+        } catch(BibliothequeException bibliothequeException) {
+            BibliothequeCreateur.LOGGER.error(bibliothequeException.getMessage());
+        }
+        throw new BibliothequeException(cause);
+    }
+
+    /**
+     * Annule toute la transaction en cours et ferme sa session, qui n'est plus utilisable après une exception d'Hibernate ou de la base de
+     * données. Les commandes annulées ne sont pas couvertes par le point de reprise.
+     *
+     * @throws BibliothequeException S'il y a une erreur
+     */
+    private void annulerTransaction() throws BibliothequeException {
+        this.savepoint = null;
+        this.pointReprise = this.pointRepriseEnregistre;
+        BibliothequeCreateur.getCacheProximite().vider();
+        BibliothequeCreateur.getCacheNegatif().vider();
+        try {
+            if(isTransactionActive()) {
+                getTransaction().rollback();
+            }
         } catch(HibernateException hibernateException) {
             throw new BibliothequeException(hibernateException);
+        } finally {
+            setTransaction(null);
+            if(getSession() != null
+                && getSession().isOpen()) {
+                closeSession();
+            }
+        }
+    }
+
+    /**
+     * Indique si l'échec d'une commande rend la session inutilisable, c'est-à-dire si sa cause est inconnue ou vient d'Hibernate ou de la
+     * base de données.
+     *
+     * @param cause L'exception qui a fait échouer la commande ; <code>null</code> si elle est inconnue
+     * @return <code>true</code> si la session doit être abandonnée, <code>false</code> sinon
+     */
+    private static boolean isErreurSession(Throwable cause) {
+        if(cause == null) {
+            return true;
+        }
+        for(Throwable throwable = cause ; throwable != null ; throwable = throwable.getCause()) {
+            if(throwable instanceof HibernateException
+                || throwable instanceof SQLException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Enregistre le point de reprise dans la transaction courante, juste avant son commit, s'il a avancé depuis le dernier enregistrement.
+     * La ligne du fichier est créée par son premier enregistrement.
+     *
+     * @throws SQLException S'il y a une erreur avec la base de données
+     */
+    private void enregistrerReprise() throws SQLException {
+        if(this.pointReprise == null
+            || this.pointReprise == this.pointRepriseEnregistre) {
+            return;
+        }
+        if(executerReprise(BibliothequeCreateur.MODIFIER_REPRISE_REQUEST) == 0) {
+            executerReprise(BibliothequeCreateur.AJOUTER_REPRISE_REQUEST);
+        }
+        this.pointRepriseEnregistre = this.pointReprise;
+    }
+
+    /**
+     * Exécute la requête d'enregistrement du point de reprise.
+     *
+     * @param requete La requête, dont les paramètres sont la position, le numéro de ligne et le nom du fichier
+     * @return Le nombre de lignes modifiées
+     * @throws SQLException S'il y a une erreur avec la base de données
+     */
+    private int executerReprise(String requete) throws SQLException {
+        try(
+            PreparedStatement enregistrerReprise = getConnection().prepareStatement(requete)) {
+            enregistrerReprise.setLong(1,
+                this.pointReprise.getPosition());
+            enregistrerReprise.setLong(2,
+                this.pointReprise.getNumeroLigne());
+            enregistrerReprise.setString(3,
+                this.fichierReprise);
+            return enregistrerReprise.executeUpdate();
         }
     }
 }